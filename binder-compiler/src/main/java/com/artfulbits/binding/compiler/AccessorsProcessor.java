@@ -0,0 +1,585 @@
+package com.artfulbits.binding.compiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor that generates {@code <Type>$$Accessors} classes for types marked by {@code
+ * com.artfulbits.binding.annotations.Bindable}.
+ * <p/>
+ * Generated class registers in {@code Accessors} direct calls of all non-private getters, setters and fields of the
+ * type, and provides typed {@code Property} subclasses and {@code Selector} factories. Processor does not depend on
+ * the library binaries, it knows only names of the classes.
+ */
+@SuppressWarnings("unused")
+public class AccessorsProcessor extends AbstractProcessor {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Annotation that marks types for processing. */
+  public static final String BINDABLE = "com.artfulbits.binding.annotations.Bindable";
+  /** Suffix of the generated classes. Should be in sync with {@code Accessors.SUFFIX}. */
+  public static final String SUFFIX = "$$Accessors";
+  /** Library package with reflection classes. */
+  private static final String REFLECTION = "com.artfulbits.binding.reflection";
+  /** Library root package. */
+  private static final String BINDING = "com.artfulbits.binding";
+  /** Known getter prefixes, in sync with Property class. */
+  private static final String[] GETTERS = new String[]{"get", "is", "has"};
+  /** Known setter prefix. */
+  private static final String SETTER = "set";
+  /** Suffix of the factory methods for properties named as java keywords, e.g. {@code isNew()} - {@code new_()}. */
+  private static final String ESCAPE = "_";
+
+  /* [ MEMBERS ] =================================================================================================== */
+
+  /** Types utilities. */
+  private Types mTypes;
+  /** Elements utilities. */
+  private Elements mElements;
+  /** Generated files writer. */
+  private Filer mFiler;
+  /** Compiler messages output. */
+  private Messager mMessager;
+
+  /* [ OVERRIDES ] ================================================================================================= */
+
+  @Override
+  public synchronized void init(final ProcessingEnvironment env) {
+    super.init(env);
+
+    mTypes = env.getTypeUtils();
+    mElements = env.getElementUtils();
+    mFiler = env.getFiler();
+    mMessager = env.getMessager();
+  }
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(BINDABLE);
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment env) {
+    final TypeElement bindable = mElements.getTypeElement(BINDABLE);
+    if (null == bindable) return false;
+
+    for (final Element e : env.getElementsAnnotatedWith(bindable)) {
+      if (e.getKind() != ElementKind.CLASS) {
+        error(e, "@Bindable is applicable only to classes.");
+        continue;
+      }
+
+      final TypeElement type = (TypeElement) e;
+
+      if (type.getModifiers().contains(Modifier.PRIVATE)) {
+        error(e, "@Bindable class cannot be private.");
+        continue;
+      }
+
+      try {
+        generate(type);
+      } catch (final IOException ex) {
+        error(e, "Cannot generate accessors: " + ex.getMessage());
+      }
+    }
+
+    return true;
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Generate accessors class for type. */
+  private void generate(final TypeElement type) throws IOException {
+    final PackageElement pkg = mElements.getPackageOf(type);
+    final String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    final String binaryName = mElements.getBinaryName(type).toString();
+    final String simpleName = (packageName.isEmpty() ? binaryName :
+        binaryName.substring(packageName.length() + 1)) + SUFFIX;
+    final String owner = erasure(type.asType());
+
+    final List<VariableElement> fields = new ArrayList<>();
+    final List<ExecutableElement> methods = new ArrayList<>();
+    final Map<String, Pair> properties = new LinkedHashMap<>();
+
+    for (final VariableElement f : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (isAccessible(f)) {
+        fields.add(f);
+      }
+    }
+
+    for (final ExecutableElement m : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      if (!isAccessible(m)) continue;
+
+      if (isGetter(m)) {
+        methods.add(m);
+        pair(properties, propertyName(m)).getter = m;
+      } else if (isSetter(m)) {
+        methods.add(m);
+        pair(properties, propertyName(m)).setters.add(m);
+      }
+    }
+
+    // fields are properties too, if no getter/setter with the same name
+    for (final VariableElement f : fields) {
+      final String name = f.getSimpleName().toString();
+
+      if (!properties.containsKey(name)) {
+        pair(properties, name).field = f;
+      }
+    }
+
+    final StringBuilder sb = new StringBuilder(4 * 1024);
+
+    if (!packageName.isEmpty()) {
+      sb.append("package ").append(packageName).append(";\n\n");
+    }
+
+    sb.append("import ").append(BINDING).append(".BooleanSelector;\n");
+    sb.append("import ").append(BINDING).append(".IntSelector;\n");
+    sb.append("import ").append(BINDING).append(".Selector;\n");
+    sb.append("import ").append(REFLECTION).append(".Accessor;\n");
+    sb.append("import ").append(REFLECTION).append(".Accessors;\n");
+    sb.append("import ").append(REFLECTION).append(".BooleanAccessor;\n");
+    sb.append("import ").append(REFLECTION).append(".BooleanProperty;\n");
+    sb.append("import ").append(REFLECTION).append(".IntAccessor;\n");
+    sb.append("import ").append(REFLECTION).append(".IntProperty;\n");
+    sb.append("import ").append(REFLECTION).append(".Property;\n\n");
+
+    sb.append("/** Generated by binder-compiler for {@link ").append(owner).append("}. Do not modify! */\n");
+    sb.append("@SuppressWarnings({\"unused\", \"unchecked\", \"rawtypes\"})\n");
+    sb.append("public final class ").append(simpleName).append(" {\n");
+
+    // registration of accessors
+    sb.append("  static {\n");
+    for (final VariableElement f : fields) {
+      writeFieldAccessor(sb, owner, f);
+    }
+    for (final ExecutableElement m : methods) {
+      writeMethodAccessor(sb, owner, m);
+    }
+    sb.append("  }\n\n");
+
+    sb.append("  /** hidden constructor. */\n");
+    sb.append("  private ").append(simpleName).append("() {\n");
+    sb.append("    throw new AssertionError();\n");
+    sb.append("  }\n");
+
+    // typed properties and selectors
+    for (final Map.Entry<String, Pair> p : properties.entrySet()) {
+      writeProperty(sb, owner, p.getKey(), p.getValue());
+    }
+
+    sb.append("}\n");
+
+    final String fileName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    final Writer writer = mFiler.createSourceFile(fileName, type).openWriter();
+
+    try {
+      writer.write(sb.toString());
+    } finally {
+      writer.close();
+    }
+  }
+
+  /** Compose accessor registration for field. */
+  private void writeFieldAccessor(final StringBuilder sb, final String owner, final VariableElement f) {
+    final String name = f.getSimpleName().toString();
+    final boolean isFinal = f.getModifiers().contains(Modifier.FINAL);
+
+    final String primitive = primitive(f.asType());
+
+    // final field is read only, setters lookup does not resolve it
+    sb.append("    Accessors.").append(isFinal ? "registerReadOnly(" : "register(").append(owner).append(".class, \"")
+        .append(name).append("\", ");
+
+    // int and boolean fields are accessed without boxing
+    if (null != primitive) {
+      final String receiver = "((" + owner + ") receiver)." + name;
+
+      writePrimitiveAccessor(sb, primitive, receiver, isFinal ? null : receiver + " = value");
+      return;
+    }
+
+    sb.append("new Accessor() {\n");
+    sb.append("      @Override\n");
+    sb.append("      public Object invoke(final Object receiver, final Object... args) {\n");
+
+    if (!isFinal) {
+      sb.append("        if (null != args && args.length > 0) {\n");
+      sb.append("          return ((").append(owner).append(") receiver).").append(name)
+          .append(" = (").append(boxed(f.asType())).append(") args[0];\n");
+      sb.append("        }\n\n");
+    }
+
+    sb.append("        return ((").append(owner).append(") receiver).").append(name).append(";\n");
+    sb.append("      }\n");
+    sb.append("    });\n");
+  }
+
+  /** Compose accessor registration for getter or setter. */
+  private void writeMethodAccessor(final StringBuilder sb, final String owner, final ExecutableElement m) {
+    final String name = m.getSimpleName().toString();
+    final boolean isGetter = m.getParameters().isEmpty();
+
+    sb.append("    Accessors.register(").append(owner).append(".class, \"").append(name).append("\", ");
+
+    if (isGetter) {
+      sb.append("new Class<?>[0]");
+    } else {
+      sb.append("new Class<?>[]{").append(erasure(m.getParameters().get(0).asType())).append(".class}");
+    }
+
+    sb.append(", ");
+
+    // int and boolean getters/setters are called without boxing
+    final String primitive = primitive(isGetter ? m.getReturnType() : m.getParameters().get(0).asType());
+
+    if (null != primitive) {
+      final String call = "((" + owner + ") receiver)." + name;
+
+      writePrimitiveAccessor(sb, primitive, isGetter ? call + "()" : null, isGetter ? null : call + "(value)");
+      return;
+    }
+
+    sb.append("new Accessor() {\n");
+    sb.append("      @Override\n");
+    sb.append("      public Object invoke(final Object receiver, final Object... args) {\n");
+
+    if (isGetter) {
+      sb.append("        return ((").append(owner).append(") receiver).").append(name).append("();\n");
+    } else {
+      final String call = "((" + owner + ") receiver)." + name +
+          "((" + boxed(m.getParameters().get(0).asType()) + ") args[0])";
+
+      if (m.getReturnType().getKind() == TypeKind.VOID) {
+        sb.append("        ").append(call).append(";\n");
+        sb.append("        return args[0];\n");
+      } else {
+        sb.append("        return ").append(call).append(";\n");
+      }
+    }
+
+    sb.append("      }\n");
+    sb.append("    });\n");
+  }
+
+  /**
+   * Compose primitive accessor instance. Only supported directions are generated: read only accessor extends {@code
+   * <Primitive>Accessor.Getter}, write only - {@code <Primitive>Accessor.Setter}.
+   *
+   * @param sb        output.
+   * @param primitive name of the primitive type: "Int" or "Boolean".
+   * @param get       expression that reads the value, {@code null} - write only accessor.
+   * @param set       statement that writes the {@code value}, {@code null} - read only accessor.
+   */
+  private static void writePrimitiveAccessor(final StringBuilder sb, final String primitive,
+                                             final String get, final String set) {
+    final String type = primitive.toLowerCase(Locale.US);
+    final String kind = (null == set) ? ".Getter" : (null == get) ? ".Setter" : "";
+
+    sb.append("new ").append(primitive).append("Accessor").append(kind).append("() {\n");
+
+    if (null != get) {
+      sb.append("      @Override\n");
+      sb.append("      public ").append(type).append(" get").append(primitive).append("(final Object receiver) {\n");
+      sb.append("        return ").append(get).append(";\n");
+      sb.append("      }\n");
+    }
+
+    if (null != get && null != set) {
+      sb.append("\n");
+    }
+
+    if (null != set) {
+      sb.append("      @Override\n");
+      sb.append("      public void set").append(primitive).append("(final Object receiver, final ").append(type)
+          .append(" value) {\n");
+      sb.append("        ").append(set).append(";\n");
+      sb.append("      }\n");
+    }
+
+    sb.append("    });\n");
+  }
+
+  /** Compose typed property class and its factories. */
+  private void writeProperty(final StringBuilder sb, final String owner, final String name, final Pair p) {
+    final TypeMirror type = p.type();
+    final ExecutableElement setter = p.setter(mTypes, type);
+    final String boxed = boxed(type);
+    final String className = capitalize(name) + "Property";
+    final String factory = SourceVersion.isName(name) ? name : name + ESCAPE;
+    final boolean isPrimitive = type.getKind().isPrimitive() ||
+        (null != setter && setter.getParameters().get(0).asType().getKind().isPrimitive());
+    final String primitive = primitive(type);
+    final String base = (null == primitive) ? "Property<" + boxed + ">" : primitive + "Property";
+    final String selector = (null == primitive) ? "Selector<I, " + boxed + ">" : primitive + "Selector<I>";
+
+    final String getName = (null != p.getter) ? p.getter.getSimpleName().toString() :
+        (null != p.field) ? name : "";
+    final String setName = (null != setter) ? setter.getSimpleName().toString() :
+        (null != p.field && !p.field.getModifiers().contains(Modifier.FINAL)) ? name : "";
+
+    if (!p.setters.isEmpty() && null == setter) {
+      warning(p.setters.get(0), "Setter is not compatible with type of the property '" + name + "', skipped.");
+    }
+
+    // factory of property
+    sb.append("\n  /** Property '").append(name).append("' with direct access. */\n");
+    sb.append("  public static ").append(base).append(" ").append(factory).append("() {\n");
+    sb.append("    return new ").append(className).append("();\n");
+    sb.append("  }\n");
+
+    // factory of selector
+    sb.append("\n  /** Selector of property '").append(name)
+        .append("'. Instance can be a model or a selector of model. */\n");
+    sb.append("  public static <I> ").append(selector).append(" ").append(factory).append("(final I instance) {\n");
+    sb.append("    return new ").append((null == primitive) ? "Selector" : primitive + "Selector")
+        .append("<>(instance, ").append(factory).append("());\n");
+    sb.append("  }\n");
+
+    // typed property
+    sb.append("\n  /** Typed property '").append(name).append("'. */\n");
+    sb.append("  public static final class ").append(className).append(" extends ").append(base).append(" {\n");
+    sb.append("    public ").append(className).append("() {\n");
+
+    if (null == primitive) {
+      sb.append("      super((Class) ").append(boxed).append(".class, \"").append(getName).append("\", \"")
+          .append(setName).append("\");\n");
+    } else {
+      sb.append("      super(\"").append(getName).append("\", \"").append(setName).append("\");\n");
+    }
+
+    sb.append("    }\n");
+
+    if (!getName.isEmpty()) {
+      final String get = (null != p.getter) ? getName + "()" : getName;
+
+      sb.append("\n    @Override\n");
+      sb.append("    public ").append(boxed).append(" get(final Object instance) {\n");
+      sb.append("      return ((").append(owner).append(") instance).").append(get).append(";\n");
+      sb.append("    }\n");
+    }
+
+    if (!setName.isEmpty()) {
+      sb.append("\n    @Override\n");
+      sb.append("    public boolean set(final Object instance, final ").append(boxed).append(" value) {\n");
+
+      if (isPrimitive) {
+        sb.append("      if (null == value) return false;\n\n");
+      }
+
+      if (null != setter) {
+        sb.append("      ((").append(owner).append(") instance).").append(setName).append("(value);\n");
+      } else {
+        sb.append("      ((").append(owner).append(") instance).").append(setName).append(" = value;\n");
+      }
+
+      sb.append("      return true;\n");
+      sb.append("    }\n");
+    }
+
+    // primitive access without boxing
+    if (null != primitive) {
+      final String primitiveType = primitive.toLowerCase(Locale.US);
+
+      if (!getName.isEmpty()) {
+        final String get = (null != p.getter) ? getName + "()" : getName;
+
+        sb.append("\n    @Override\n");
+        sb.append("    public ").append(primitiveType).append(" get").append(primitive)
+            .append("(final Object instance) {\n");
+        sb.append("      return ((").append(owner).append(") instance).").append(get).append(";\n");
+        sb.append("    }\n");
+      }
+
+      if (!setName.isEmpty()) {
+        sb.append("\n    @Override\n");
+        sb.append("    public boolean set").append(primitive).append("(final Object instance, final ")
+            .append(primitiveType).append(" value) {\n");
+
+        if (null != setter) {
+          sb.append("      ((").append(owner).append(") instance).").append(setName).append("(value);\n");
+        } else {
+          sb.append("      ((").append(owner).append(") instance).").append(setName).append(" = value;\n");
+        }
+
+        sb.append("      return true;\n");
+        sb.append("    }\n");
+      }
+    }
+
+    sb.append("\n    @Override\n");
+    sb.append("    public void resolve(final Object instance) {\n");
+    sb.append("      // direct access, nothing to resolve\n");
+    sb.append("    }\n");
+    sb.append("  }\n");
+  }
+
+  /** Get or create properties pair. */
+  private static Pair pair(final Map<String, Pair> properties, final String name) {
+    Pair p = properties.get(name);
+
+    if (null == p) {
+      properties.put(name, p = new Pair());
+    }
+
+    return p;
+  }
+
+  /** Is element accessible from generated class in the same package. */
+  private static boolean isAccessible(final Element e) {
+    final Set<Modifier> modifiers = e.getModifiers();
+
+    return !modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.STATIC);
+  }
+
+  /** Is method a getter: known prefix, no parameters and returns a value. */
+  private static boolean isGetter(final ExecutableElement m) {
+    if (!m.getParameters().isEmpty() || m.getReturnType().getKind() == TypeKind.VOID) return false;
+    if (!m.getTypeParameters().isEmpty()) return false;
+
+    return null != prefixOf(m.getSimpleName().toString(), GETTERS);
+  }
+
+  /** Is method a setter: known prefix and exactly one parameter. */
+  private static boolean isSetter(final ExecutableElement m) {
+    if (1 != m.getParameters().size() || !m.getTypeParameters().isEmpty()) return false;
+
+    return null != prefixOf(m.getSimpleName().toString(), new String[]{SETTER});
+  }
+
+  /** Extract property name from getter or setter name. */
+  private static String propertyName(final ExecutableElement m) {
+    final String name = m.getSimpleName().toString();
+    final String prefix = prefixOf(name, m.getParameters().isEmpty() ? GETTERS : new String[]{SETTER});
+
+    return decapitalize(name.substring(prefix.length()));
+  }
+
+  /** Find prefix of the name, next after prefix char should be in upper case. */
+  private static String prefixOf(final String name, final String[] prefixes) {
+    for (final String prefix : prefixes) {
+      if (name.length() > prefix.length() && name.startsWith(prefix) &&
+          Character.isUpperCase(name.charAt(prefix.length()))) {
+        return prefix;
+      }
+    }
+
+    return null;
+  }
+
+  /** Compose type name without generics. */
+  private String erasure(final TypeMirror type) {
+    return mTypes.erasure(type).toString();
+  }
+
+  /** Compose boxed type name without generics. */
+  private String boxed(final TypeMirror type) {
+    if (type.getKind().isPrimitive()) {
+      return mTypes.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+    }
+
+    return erasure(type);
+  }
+
+  /** Get name of the specialized primitive type: "Int", "Boolean" or {@code null} for all other types. */
+  private static String primitive(final TypeMirror type) {
+    switch (type.getKind()) {
+      case INT:
+        return "Int";
+      case BOOLEAN:
+        return "Boolean";
+      default:
+        return null;
+    }
+  }
+
+  /** Make first letter upper case. */
+  private static String capitalize(final String name) {
+    return name.substring(0, 1).toUpperCase(Locale.US) + name.substring(1);
+  }
+
+  /** Make first letter lower case. */
+  private static String decapitalize(final String name) {
+    return name.substring(0, 1).toLowerCase(Locale.US) + name.substring(1);
+  }
+
+  /** Report error. */
+  private void error(final Element e, final String message) {
+    mMessager.printMessage(Diagnostic.Kind.ERROR, message, e);
+  }
+
+  /** Report warning. */
+  private void warning(final Element e, final String message) {
+    mMessager.printMessage(Diagnostic.Kind.WARNING, message, e);
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Getter, setters and field that define one property. */
+  private static final class Pair {
+    /** Getter method. */
+    ExecutableElement getter;
+    /** Setter methods, overloads with different types of parameter. */
+    final List<ExecutableElement> setters = new ArrayList<>();
+    /** Field, used only when no getter and setter exists. */
+    VariableElement field;
+
+    /** Property data type. */
+    TypeMirror type() {
+      if (null != getter) return getter.getReturnType();
+      if (!setters.isEmpty()) return setters.get(0).getParameters().get(0).asType();
+
+      return field.asType();
+    }
+
+    /**
+     * Find setter that accepts values of the property type. Generated code calls members of the raw owner type, so
+     * types are compared after erasure.
+     *
+     * @return compatible setter, otherwise {@code null} - property is read only.
+     */
+    ExecutableElement setter(final Types types, final TypeMirror type) {
+      final TypeMirror value = types.erasure(type);
+
+      for (final ExecutableElement setter : setters) {
+        if (types.isAssignable(value, types.erasure(setter.getParameters().get(0).asType()))) return setter;
+      }
+
+      return null;
+    }
+  }
+}
@@ -0,0 +1,252 @@
+package com.artfulbits.binding.compiler;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests of the {@link AccessorsProcessor}. Sample models are compiled with processor, generated code is compiled
+ * in the same pass against stubs of the library classes from test resources.
+ */
+public class AccessorsProcessorTests {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** UTF-8 charset. */
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+  /** Stubs of the library classes used by generated code. */
+  private static final String[] LIBRARY = new String[]{
+      "com/artfulbits/binding/annotations/Bindable.java",
+      "com/artfulbits/binding/Selector.java",
+      "com/artfulbits/binding/IntSelector.java",
+      "com/artfulbits/binding/BooleanSelector.java",
+      "com/artfulbits/binding/reflection/Accessor.java",
+      "com/artfulbits/binding/reflection/Accessors.java",
+      "com/artfulbits/binding/reflection/IntAccessor.java",
+      "com/artfulbits/binding/reflection/BooleanAccessor.java",
+      "com/artfulbits/binding/reflection/Property.java",
+      "com/artfulbits/binding/reflection/IntProperty.java",
+      "com/artfulbits/binding/reflection/BooleanProperty.java",
+  };
+
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_Pojo() throws Exception {
+    final Result r = compile("p.Pojo", "package p;\n" +
+        "@com.artfulbits.binding.annotations.Bindable\n" +
+        "public class Pojo {\n" +
+        "  public String fieldStr;\n" +
+        "  public int fieldInt;\n" +
+        "  public final long fieldId = 1L;\n" +
+        "  public final boolean fieldFlag = true;\n" +
+        "  private int mAge;\n" +
+        "  public int getAge() { return mAge; }\n" +
+        "  public Pojo setAge(final int age) { mAge = age; return this; }\n" +
+        "  public boolean isAdult() { return mAge >= 18; }\n" +
+        "  public String getName() { return null; }\n" +
+        "  public void setName(final String name) { }\n" +
+        "}\n");
+
+    r.assertSuccess();
+
+    // only supported directions are generated, no stubs
+    assertFalse(r.generated, r.generated.contains("UnsupportedOperationException"));
+    assertTrue(r.generated.contains("\"getAge\", new Class<?>[0], new IntAccessor.Getter()"));
+    assertTrue(r.generated.contains("\"setAge\", new Class<?>[]{int.class}, new IntAccessor.Setter()"));
+    assertTrue(r.generated.contains("\"isAdult\", new Class<?>[0], new BooleanAccessor.Getter()"));
+    assertTrue(r.generated.contains("register(p.Pojo.class, \"fieldInt\", new IntAccessor()"));
+
+    // final fields are read only
+    assertTrue(r.generated.contains("registerReadOnly(p.Pojo.class, \"fieldId\", new Accessor()"));
+    assertTrue(r.generated.contains("registerReadOnly(p.Pojo.class, \"fieldFlag\", new BooleanAccessor.Getter()"));
+    assertTrue(r.generated.contains("super((Class) java.lang.Long.class, \"fieldId\", \"\")"));
+  }
+
+  @Test
+  public void test_01_Keywords() throws Exception {
+    final Result r = compile("p.Item", "package p;\n" +
+        "@com.artfulbits.binding.annotations.Bindable\n" +
+        "public class Item {\n" +
+        "  public boolean isNew() { return true; }\n" +
+        "  public void setNew(final boolean value) { }\n" +
+        "  public int getTrue() { return 1; }\n" +
+        "}\n");
+
+    r.assertSuccess();
+
+    assertTrue(r.generated.contains("public static BooleanProperty new_()"));
+    assertTrue(r.generated.contains("public static <I> BooleanSelector<I> new_(final I instance)"));
+    assertTrue(r.generated.contains("public static IntProperty true_()"));
+    assertTrue(r.generated.contains("public static final class NewProperty extends BooleanProperty"));
+  }
+
+  @Test
+  public void test_02_Setter_IncompatibleType() throws Exception {
+    final Result r = compile("p.Item", "package p;\n" +
+        "@com.artfulbits.binding.annotations.Bindable\n" +
+        "public class Item {\n" +
+        "  public Object getCount() { return null; }\n" +
+        "  public void setCount(final int count) { }\n" +
+        "}\n");
+
+    r.assertSuccess();
+
+    // setter is registered as accessor, but typed property is read only
+    assertTrue(r.generated.contains("\"setCount\", new Class<?>[]{int.class}, new IntAccessor.Setter()"));
+    assertTrue(r.generated.contains("super((Class) java.lang.Object.class, \"getCount\", \"\")"));
+    assertFalse(r.generated.contains("((p.Item) instance).setCount("));
+    assertTrue(r.warnings.toString(), r.warnings.get(0).contains("Setter is not compatible"));
+  }
+
+  @Test
+  public void test_03_Setter_Overloads() throws Exception {
+    final Result r = compile("p.Item", "package p;\n" +
+        "@com.artfulbits.binding.annotations.Bindable\n" +
+        "public class Item<T extends CharSequence> {\n" +
+        "  public int getCount() { return 0; }\n" +
+        "  public void setCount(final String count) { }\n" +
+        "  public void setCount(final long count) { }\n" +
+        "  public Integer getBoxed() { return 0; }\n" +
+        "  public void setBoxed(final int value) { }\n" +
+        "  public T getText() { return null; }\n" +
+        "  public void setText(final T text) { }\n" +
+        "}\n");
+
+    r.assertSuccess();
+
+    // int value widened to long
+    assertTrue(r.generated.contains("super(\"getCount\", \"setCount\")"));
+
+    // null can not be unboxed
+    assertTrue(r.generated.contains("super((Class) java.lang.Integer.class, \"getBoxed\", \"setBoxed\")"));
+    assertTrue(r.generated.contains("if (null == value) return false;"));
+
+    // generic members are called via raw type
+    assertTrue(r.generated.contains("super((Class) java.lang.CharSequence.class, \"getText\", \"setText\")"));
+  }
+
+  @Test
+  public void test_04_Errors() throws Exception {
+    final Result r = compile("p.Item", "package p;\n" +
+        "@com.artfulbits.binding.annotations.Bindable\n" +
+        "public interface Item {\n" +
+        "}\n");
+
+    assertEquals(1, r.errors.size());
+    assertTrue(r.errors.get(0), r.errors.get(0).contains("@Bindable is applicable only to classes."));
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Compile model with processor and library stubs. */
+  private static Result compile(final String className, final String code) throws IOException {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    assertNotNull("Tests require JDK", compiler);
+
+    final File output = Files.createTempDirectory("classes").toFile();
+    final File generated = Files.createTempDirectory("generated").toFile();
+
+    final List<JavaFileObject> sources = new ArrayList<>();
+    for (final String name : LIBRARY) {
+      sources.add(new Source(name, read("/library/" + name)));
+    }
+    sources.add(new Source(className.replace('.', '/') + ".java", code));
+
+    final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    final List<String> options = Arrays.asList("-d", output.getPath(), "-s", generated.getPath(), "-Xlint:-options");
+
+    final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, sources);
+    task.setProcessors(Collections.singletonList(new AccessorsProcessor()));
+
+    final Result r = new Result();
+    r.isSuccess = task.call();
+
+    for (final Diagnostic<? extends JavaFileObject> d : diagnostics.getDiagnostics()) {
+      if (Diagnostic.Kind.ERROR == d.getKind()) {
+        r.errors.add(d.getMessage(Locale.US));
+      } else if (Diagnostic.Kind.WARNING == d.getKind()) {
+        r.warnings.add(d.getMessage(Locale.US));
+      }
+    }
+
+    final File file = new File(generated, className.replace('.', '/') + AccessorsProcessor.SUFFIX + ".java");
+    r.generated = file.exists() ? new String(Files.readAllBytes(file.toPath()), UTF8) : "";
+
+    return r;
+  }
+
+  /** Read test resource. */
+  private static String read(final String name) throws IOException {
+    final InputStream in = AccessorsProcessorTests.class.getResourceAsStream(name);
+    assertNotNull("Resource not found: " + name, in);
+
+    try {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[4 * 1024];
+
+      for (int read; (read = in.read(buffer)) > 0; ) {
+        out.write(buffer, 0, read);
+      }
+
+      return new String(out.toByteArray(), UTF8);
+    } finally {
+      in.close();
+    }
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Source code kept in memory. */
+  private static final class Source extends SimpleJavaFileObject {
+    private final String mCode;
+
+    public Source(final String path, final String code) {
+      super(URI.create("string:///" + path), Kind.SOURCE);
+
+      mCode = code;
+    }
+
+    @Override
+    public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+      return mCode;
+    }
+  }
+
+  /** Compilation result. */
+  private static final class Result {
+    /** Is compilation succeeded. */
+    boolean isSuccess;
+    /** Compiler errors. */
+    final List<String> errors = new ArrayList<>();
+    /** Compiler and processor warnings. */
+    final List<String> warnings = new ArrayList<>();
+    /** Generated accessors source code. */
+    String generated;
+
+    /** Generated code compiled without errors. */
+    void assertSuccess() {
+      assertTrue(errors + "\n" + generated, isSuccess);
+      assertFalse("no generated code", generated.isEmpty());
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.artfulbits.binding;
+
+import com.artfulbits.binding.reflection.BooleanProperty;
+
+/** Stub of the library class, only API used by generated code. */
+public class BooleanSelector<I> extends Selector<I, Boolean> {
+  public BooleanSelector(final I instance, final BooleanProperty property) {
+    super(instance, property);
+  }
+}
@@ -0,0 +1,10 @@
+package com.artfulbits.binding;
+
+import com.artfulbits.binding.reflection.IntProperty;
+
+/** Stub of the library class, only API used by generated code. */
+public class IntSelector<I> extends Selector<I, Integer> {
+  public IntSelector(final I instance, final IntProperty property) {
+    super(instance, property);
+  }
+}
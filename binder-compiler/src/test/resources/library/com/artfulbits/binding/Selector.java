@@ -0,0 +1,9 @@
+package com.artfulbits.binding;
+
+import com.artfulbits.binding.reflection.Property;
+
+/** Stub of the library class, only API used by generated code. */
+public class Selector<I, V> {
+  public Selector(final I instance, final Property<V> property) {
+  }
+}
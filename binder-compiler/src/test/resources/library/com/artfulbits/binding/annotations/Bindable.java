@@ -0,0 +1,5 @@
+package com.artfulbits.binding.annotations;
+
+/** Stub of the library class, only API used by generated code. */
+public @interface Bindable {
+}
@@ -0,0 +1,6 @@
+package com.artfulbits.binding.reflection;
+
+/** Stub of the library class, only API used by generated code. */
+public interface Accessor {
+  Object invoke(final Object receiver, final Object... args);
+}
@@ -0,0 +1,13 @@
+package com.artfulbits.binding.reflection;
+
+/** Stub of the library class, only API used by generated code. */
+public final class Accessors {
+  public static void register(final Class<?> owner, final String name, final Accessor a) {
+  }
+
+  public static void registerReadOnly(final Class<?> owner, final String name, final Accessor a) {
+  }
+
+  public static void register(final Class<?> owner, final String name, final Class<?>[] params, final Accessor a) {
+  }
+}
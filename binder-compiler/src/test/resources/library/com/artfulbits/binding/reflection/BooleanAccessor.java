@@ -0,0 +1,26 @@
+package com.artfulbits.binding.reflection;
+
+/** Stub of the library class, only API used by generated code. */
+public abstract class BooleanAccessor implements Accessor {
+  public abstract boolean getBoolean(final Object receiver);
+
+  public abstract void setBoolean(final Object receiver, final boolean value);
+
+  @Override
+  public Object invoke(final Object receiver, final Object... args) {
+    return null;
+  }
+
+  public abstract static class Getter extends BooleanAccessor {
+    @Override
+    public final void setBoolean(final Object receiver, final boolean value) {
+    }
+  }
+
+  public abstract static class Setter extends BooleanAccessor {
+    @Override
+    public final boolean getBoolean(final Object receiver) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.artfulbits.binding.reflection;
+
+/** Stub of the library class, only API used by generated code. */
+public class BooleanProperty extends Property<Boolean> {
+  public BooleanProperty(final String getName, final String setName) {
+    super(Boolean.class, getName, setName);
+  }
+
+  public boolean getBoolean(final Object instance) {
+    return false;
+  }
+
+  public boolean setBoolean(final Object instance, final boolean value) {
+    return false;
+  }
+}
@@ -0,0 +1,26 @@
+package com.artfulbits.binding.reflection;
+
+/** Stub of the library class, only API used by generated code. */
+public abstract class IntAccessor implements Accessor {
+  public abstract int getInt(final Object receiver);
+
+  public abstract void setInt(final Object receiver, final int value);
+
+  @Override
+  public Object invoke(final Object receiver, final Object... args) {
+    return null;
+  }
+
+  public abstract static class Getter extends IntAccessor {
+    @Override
+    public final void setInt(final Object receiver, final int value) {
+    }
+  }
+
+  public abstract static class Setter extends IntAccessor {
+    @Override
+    public final int getInt(final Object receiver) {
+      return 0;
+    }
+  }
+}
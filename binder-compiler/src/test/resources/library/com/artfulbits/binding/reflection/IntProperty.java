@@ -0,0 +1,16 @@
+package com.artfulbits.binding.reflection;
+
+/** Stub of the library class, only API used by generated code. */
+public class IntProperty extends Property<Integer> {
+  public IntProperty(final String getName, final String setName) {
+    super(Integer.class, getName, setName);
+  }
+
+  public int getInt(final Object instance) {
+    return 0;
+  }
+
+  public boolean setInt(final Object instance, final int value) {
+    return false;
+  }
+}
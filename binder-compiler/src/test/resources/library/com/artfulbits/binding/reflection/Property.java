@@ -0,0 +1,18 @@
+package com.artfulbits.binding.reflection;
+
+/** Stub of the library class, only API used by generated code. */
+public class Property<T> {
+  public Property(final Class<T> type, final String getName, final String setName) {
+  }
+
+  public T get(final Object instance) {
+    return null;
+  }
+
+  public boolean set(final Object instance, final T value) {
+    return false;
+  }
+
+  public void resolve(final Object instance) {
+  }
+}
@@ -7,16 +7,24 @@ import android.support.annotation.Nullable;
 import com.artfulbits.binding.exceptions.ConfigurationError;
 import com.artfulbits.binding.exceptions.OneWayBindingError;
 import com.artfulbits.binding.exceptions.WrongConfigurationError;
+import com.artfulbits.binding.reflection.BooleanProperty;
+import com.artfulbits.binding.reflection.IntProperty;
 import com.artfulbits.binding.reflection.Property;
+import com.artfulbits.binding.toolbox.AsyncRule;
+import com.artfulbits.binding.toolbox.Copiers;
 import com.artfulbits.binding.toolbox.Molds;
+import com.artfulbits.binding.toolbox.NumberMold;
 import com.artfulbits.binding.toolbox.Ridges;
+import com.artfulbits.binding.toolbox.Rules;
 
-import org.hamcrest.CoreMatchers;
-import org.hamcrest.Matcher;
-
+import java.lang.ref.WeakReference;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Base class for all binding rules keeping.
@@ -29,6 +37,10 @@ public class Binder<TLeft, TRight> {
 
   /** Empty instance. Can be  used instead of NULL. */
   public static final Binder<Void, Void> EMPTY = new Binder<>();
+  /** Result of the exchange stage that does not require view update. */
+  /* package */ static final Object NOTHING = new Object();
+  /** Result of the exchange stage that is continued by asynchronous validation. */
+  /* package */ static final Object DEFERRED = new Object();
 
   /** PUSH and POP state flags. */
   private interface Flags {
@@ -60,16 +72,22 @@ public class Binder<TLeft, TRight> {
   private Listener mOnModel;
   /** Data type converter. */
   private Formatting<TLeft, TRight> mFormatting;
-  /** Data validation. */
-  private org.hamcrest.Matcher<TRight> mValidation;
+  /** Data validation, null - no validation. */
+  private Validation<TRight> mValidation;
+  /** Adapter of the validation rule for old style API. */
+  private org.hamcrest.Matcher<TRight> mMatcher;
+  /** Result of the last validation: {@link Validation#VALID} or failure code. Written by exchange threads. */
+  private volatile int mFailureCode;
   /** Value used in last evaluated/extracted/exchange operation. Model side. */
   private Ridge<TRight> mRidge;
+  /** Copy of the configured ridge in its initial state, source of the ridge for each target. */
+  private Ridge<TRight> mRidgeSnapshot;
   /** Callback that we raise on validation success. */
   private Success mOnSuccess;
   /** Callback that we raise on validation failure. */
   private Failure mOnFailure;
-  /** Status of last push/pop operation. */
-  private int mStatus;
+  /** Status of last push/pop operation. Written by exchange threads, read by main thread. */
+  private volatile int mStatus;
   /** reference on internal instance that redirects calls to Model and BindingManager. */
   private Notifications mModelNotify = new Notifications() {
     @Override
@@ -88,6 +106,14 @@ public class Binder<TLeft, TRight> {
   };
   /** Tags associated with current binder. */
   private Map<Integer, Object> mTags;
+  /** Identity of the latest asynchronous PUSH validation, older checks are outdated. */
+  private final AtomicLong mPushToken = new AtomicLong();
+  /** Identity of the latest asynchronous POP validation, older checks are outdated. */
+  private final AtomicLong mPopToken = new AtomicLong();
+  /** The latest scheduled asynchronous PUSH validation. */
+  private volatile AsyncCheck mPushCheck;
+  /** The latest scheduled asynchronous POP validation. */
+  private volatile AsyncCheck mPopCheck;
 
   /* ============================================================================================================== */
 
@@ -98,7 +124,7 @@ public class Binder<TLeft, TRight> {
     mManager = manager;
 
     // do self registration
-    mManager.getBindings().add(this);
+    mManager.attach(this);
 
     return this;
   }
@@ -123,6 +149,10 @@ public class Binder<TLeft, TRight> {
       onView(mOnView);
     }
 
+    if (null != mManager) {
+      mManager.notifyOnSelectorsChanged(this);
+    }
+
     return this;
   }
 
@@ -135,6 +165,10 @@ public class Binder<TLeft, TRight> {
       onModel(mOnModel);
     }
 
+    if (null != mManager) {
+      mManager.notifyOnSelectorsChanged(this);
+    }
+
     return this;
   }
 
@@ -146,18 +180,31 @@ public class Binder<TLeft, TRight> {
     return this;
   }
 
-  /** Attach to binder a validation expression. */
+  /** Attach to binder a validation expression. Hamcrest matcher is wrapped by adapter, prefer {@link Rules}. */
   @NonNull
   public Binder<TLeft, TRight> validate(@NonNull final org.hamcrest.Matcher<TRight> validator) {
-    mValidation = validator;
+    return validate(Rules.<TRight>from(validator));
+  }
+
+  /** Attach to binder a compiled validation rule. */
+  @NonNull
+  public Binder<TLeft, TRight> validate(@NonNull final Validation<TRight> validator) {
+    // no-op validation is elided from data exchange
+    mValidation = Rules.isNone(validator) ? null : validator;
+    mMatcher = null;
 
     return this;
   }
 
-  /** Set new instance of ridge strategy for binder. */
+  /**
+   * Set new instance of ridge strategy for binder. Binder shared between several targets creates copy of the ridge
+   * for each target, so ridge should be {@link Copiers.Structural}, have public {@code clone()} or be immutable.
+   * Other targets receive own default ridge, see {@link #loadState(State)}.
+   */
   @NonNull
   protected Binder<TLeft, TRight> ridge(@NonNull final Ridge<TRight> ridge) {
     mRidge = ridge;
+    mRidgeSnapshot = Copiers.copy(ridge);
 
     return this;
   }
@@ -242,11 +289,25 @@ public class Binder<TLeft, TRight> {
 
     mTags.put(id, value);
 
+    if (null != mManager) {
+      mManager.notifyOnTag(this, id);
+    }
+
     return this;
   }
 
   /* ============================================================================================================== */
 
+  /** Update status of last operation. Manager is notified when validation result changes. */
+  private void setStatus(final int status) {
+    final int old = mStatus;
+    mStatus = status;
+
+    if (null != mManager && (0 == old) != (0 == status)) {
+      mManager.notifyOnStatus(this);
+    }
+  }
+
   /** Notify manager that binder detects view side changes. */
   protected void onViewChanged() {
     if (null != mManager) {
@@ -307,27 +368,74 @@ public class Binder<TLeft, TRight> {
     return mFormatting;
   }
 
-  /** Resolve validator to instance that can be executed. */
+  /**
+   * Resolve validation rule to instance that can be executed. Data exchange validates values only by this rule.
+   * Default implementation honors overridden {@link #resolveValidation()}.
+   */
+  @NonNull
+  protected Validation<TRight> resolveRule() {
+    return Rules.from(resolveValidation());
+  }
+
+  /**
+   * Resolve validator to instance that can be executed.
+   *
+   * @deprecated override {@link #resolveRule()}, matcher is an adapter of the validation rule.
+   */
   @NonNull
+  @Deprecated
   protected org.hamcrest.Matcher<TRight> resolveValidation() {
     // by default we do not validating, excepted anything
-    if (null == mValidation) {
-      return (Matcher<TRight>) CoreMatchers.is(CoreMatchers.anything());
+    if (null == mMatcher) {
+      mMatcher = Rules.matcher(null == mValidation ? Rules.<TRight>none() : mValidation);
     }
 
-    return mValidation;
+    return mMatcher;
   }
 
-  /** Create instance of ridge for binders. */
+  /**
+   * Create instance of ridge for binders. Primitive properties on both sides (or primitive model with
+   * {@link NumberMold} formatting) get primitive ridge, {@link Versioned} model properties get ridge that compares
+   * version stamps.
+   */
   @NonNull
+  @SuppressWarnings("unchecked")
   protected Ridge<TRight> resolveRidge() {
     if (null == mRidge) {
-      mRidge = Ridges.simplest();
+      final Property<TLeft> view = resolveView();
+      final Property<TRight> model = resolveModel();
+
+      if (model instanceof IntProperty && (view instanceof IntProperty || mFormatting instanceof NumberMold)) {
+        mRidge = (Ridge<TRight>) Ridges.integers();
+      } else if (view instanceof BooleanProperty && model instanceof BooleanProperty) {
+        mRidge = (Ridge<TRight>) Ridges.booleans();
+      } else if (Versioned.class.isAssignableFrom(model.getDataType())) {
+        mRidge = Ridges.versioned();
+      } else {
+        mRidge = Ridges.simplest();
+      }
     }
 
     return mRidge;
   }
 
+  /**
+   * Is binder can exchange data without boxing: primitive properties and ridge, no formatting or {@link NumberMold}
+   * formatting of integers, no validation or primitive integer validation.
+   */
+  /* package */ boolean isPrimitive() {
+    final Ridge<TRight> ridge = resolveRidge();
+    final Validation<TRight> rule = resolveRule();
+
+    if (!Rules.isNone(rule) && !(rule instanceof Validation.Ints && ridge instanceof IntRidge)) return false;
+
+    if (null != mFormatting) {
+      return mFormatting instanceof NumberMold && ridge instanceof IntRidge;
+    }
+
+    return ridge instanceof IntRidge || ridge instanceof BooleanRidge;
+  }
+
   /**
    * Do data exchange in direction: View --> Model.
    * <p/>
@@ -335,39 +443,71 @@ public class Binder<TLeft, TRight> {
    * do model update, from higher level to lower'.
    */
   public void push() {
-    // validate instance state
-    if (null == mView) {
-      throw new WrongConfigurationError("View part is not defined.");
-    }
+    checkConfiguration();
 
-    if (null == mModel) {
-      throw new WrongConfigurationError("Model part is not defined.");
+    // one-way binding, skip without view and model access
+    if (!canPush()) return;
+
+    // primitive values exchange, without boxing
+    if (isPrimitive()) {
+      pushPrimitive();
+      return;
     }
 
     // get value from View
-    final TLeft lValue = mView.get();
+    pushToModel(mView.get());
+  }
+
+  /** PUSH stage that requires UI thread: extract value from View. */
+  /* package */ TLeft pushFromView() {
+    checkConfiguration();
 
+    return mView.get();
+  }
+
+  /** PUSH stage that can be executed in any thread: View value --> Formatter --> Validator --> Ridge --> Model. */
+  /* package */ void pushToModel(final TLeft lValue) {
+    pushToModel(lValue, null);
+  }
+
+  /**
+   * PUSH stage that can be executed in any thread.
+   *
+   * @param settled receiver of the exchange end, if exchange is continued by asynchronous validation.
+   * @return true - exchange is finished, false - exchange continues asynchronously and {@code settled} will be
+   * called.
+   */
+  /* package */ boolean pushToModel(final TLeft lValue, @Nullable final Settled settled) {
     // getter is not resolved,
     if (null == resolveView().getGetterName()) {
-      mStatus = (mStatus & Flags.MASK_POP) | Flags.STATUS_FAIL_PUSH | Flags.STATUS_FAIL_GET_PUSH;
+      setStatus((mStatus & Flags.MASK_POP) | Flags.STATUS_FAIL_PUSH | Flags.STATUS_FAIL_GET_PUSH);
       onValidationFailure();
-      return;
+      return true;
     }
 
-    // formatter, with respect to ONE-WAY binding
+    // formatter, with respect to ONE-WAY binding of legacy formatters
     final TRight rValue;
     try {
       rValue = resolveFormatting().toModel(lValue);
     } catch (final OneWayBindingError ignored) {
-      return;
+      return true;
     }
 
-    // validation
-    if (resolveValidation().matches(rValue)) {
-      mStatus &= Flags.MASK_POP; // save PUSH status, reset POP status
+    // expensive validation is executed asynchronously, exchange continues when result is known
+    if (isDeferred(rValue, true, settled)) return false;
+
+    pushValidated(rValue, isValid(rValue));
+    return true;
+  }
+
+  /** PUSH stage after validation: status, Ridge --> Model. */
+  private void pushValidated(final TRight rValue, final boolean isValid) {
+    // validation, skipped if not defined
+    if (isValid) {
+      setStatus(mStatus & Flags.MASK_POP); // save PUSH status, reset POP status
       onValidationSuccess();
     } else {
-      mStatus = (mStatus & Flags.MASK_POP) | Flags.STATUS_FAIL_PUSH;
+      setStatus((mStatus & Flags.MASK_POP) | Flags.STATUS_FAIL_PUSH);
       onValidationFailure();
       return;  // no other steps needed in pop
     }
@@ -387,56 +527,96 @@ public class Binder<TLeft, TRight> {
    * Data flow: Model --> Ridge --> Validator --> Formatter --> Is Changed --> View.<br/> Logic is: 'on data change
    * do pop of updates from lower level to upper'.
    */
+  @SuppressWarnings("unchecked")
   public void pop() {
-    // validate instance state
-    if (null == mView) {
-      throw new WrongConfigurationError("View part is not defined.");
+    checkConfiguration();
+
+    // one-way binding, skip without view and model access
+    if (!canPop()) return;
+
+    // primitive values exchange, without boxing
+    if (isPrimitive()) {
+      popPrimitive();
+      return;
     }
 
-    if (null == mModel) {
-      throw new WrongConfigurationError("Model part is not defined.");
+    final Object lValue = popFromModel();
+
+    if (NOTHING != lValue) {
+      popToView((TLeft) lValue);
     }
+  }
+
+  /**
+   * POP stage that can be executed in any thread: Model --> Ridge --> Validator --> Formatter.
+   *
+   * @return value for View or {@link #NOTHING} if view update is not needed.
+   */
+  /* package */ Object popFromModel() {
+    return popFromModel(null);
+  }
+
+  /**
+   * POP stage that can be executed in any thread.
+   *
+   * @param settled receiver of the exchange end, if exchange is continued by asynchronous validation.
+   * @return value for View, {@link #NOTHING} if view update is not needed or {@link #DEFERRED} if exchange continues
+   * asynchronously and {@code settled} will be called. Without receiver deferred exchange returns {@link #NOTHING}.
+   */
+  /* package */ Object popFromModel(@Nullable final Settled settled) {
+    checkConfiguration();
+
+    if (!canPop()) return NOTHING;
 
     // extract the value
     final TRight rValue = mModel.get();
 
     // getter is not resolved,
     if (null == resolveModel().getGetterName()) {
-      mStatus = (mStatus & Flags.MASK_POP) | Flags.STATUS_FAIL_PUSH | Flags.STATUS_FAIL_GET_POP;
+      setStatus((mStatus & Flags.MASK_POP) | Flags.STATUS_FAIL_PUSH | Flags.STATUS_FAIL_GET_POP);
       onValidationFailure();
-      return;
+      return NOTHING;
     }
 
     // is no changed?
-    if (!resolveRidge().isChanged(rValue)) return;
+    if (!resolveRidge().isChanged(rValue)) return NOTHING;
 
-    // update value in cache only for model
-    final TRight rClone = resolveRidge().clone(rValue);
+    // expensive validation is executed asynchronously, view is updated when result is known
+    if (isDeferred(rValue, false, settled)) return (null == settled) ? NOTHING : DEFERRED;
+
+    return popValidated(rValue, isValid(rValue));
+  }
 
-    // validation passed?
-    if (resolveValidation().matches(rClone)) {
-      mStatus &= Flags.MASK_PUSH; // save POP status, reset PUSH status
+  /** POP stage after validation: status, Ridge, Formatter. Ridge keeps only validated values. */
+  private Object popValidated(final TRight rValue, final boolean isValid) {
+    // validation passed? skipped if not defined
+    if (isValid) {
+      setStatus(mStatus & Flags.MASK_PUSH); // save POP status, reset PUSH status
       onValidationSuccess();
     } else {
-      mStatus = (mStatus & Flags.MASK_PUSH) | Flags.STATUS_FAIL_POP;
+      setStatus((mStatus & Flags.MASK_PUSH) | Flags.STATUS_FAIL_POP);
       onValidationFailure();
-      return; // no other steps needed in push
+      return NOTHING; // no other steps needed in push
     }
 
-    // do formatting with respect to ONE-WAY binding
-    final TLeft lValue;
+    // update value in cache only for model
+    final TRight rClone = resolveRidge().clone(rValue);
+
+    // do formatting with respect to ONE-WAY binding of legacy formatters
     try {
-      lValue = resolveFormatting().toView(rClone);
+      return resolveFormatting().toView(rClone);
     } catch (final OneWayBindingError ignored) {
-      return;
+      return NOTHING;
     }
+  }
 
-    // update View
+  /** POP stage that requires UI thread: update View. */
+  /* package */ void popToView(final TLeft lValue) {
     mView.set(lValue);
   }
 
-  /** Validate instance configuration. */
-  public void resolve() throws ConfigurationError {
+  /** Validate instance state. */
+  private void checkConfiguration() {
     if (null == mView) {
       throw new WrongConfigurationError("View part is not defined.");
     }
@@ -444,6 +624,198 @@ public class Binder<TLeft, TRight> {
     if (null == mModel) {
       throw new WrongConfigurationError("Model part is not defined.");
     }
+  }
+
+  /** Do data exchange in direction: View --> Model, for primitive properties. */
+  private void pushPrimitive() {
+    final Object view = mView.getRuntimeInstance();
+    final Object model = mModel.getRuntimeInstance();
+    final Ridge<TRight> ridge = resolveRidge();
+
+    if (ridge instanceof IntRidge) {
+      final int value = (mFormatting instanceof NumberMold)
+          ? ((NumberMold<?>) mFormatting).toInt((CharSequence) resolveView().get(view))
+          : ((IntProperty) resolveView()).getInt(view);
+      if (!isPushGetterResolved(isValidInt(value))) return;
+
+      final IntRidge r = (IntRidge) ridge;
+      if (r.isChanged(value)) {
+        ((IntProperty) resolveModel()).setInt(model, r.clone(value));
+      }
+    } else {
+      final boolean value = ((BooleanProperty) resolveView()).getBoolean(view);
+      if (!isPushGetterResolved(true)) return;
+
+      final BooleanRidge r = (BooleanRidge) ridge;
+      if (r.isChanged(value)) {
+        ((BooleanProperty) resolveModel()).setBoolean(model, r.clone(value));
+      }
+    }
+  }
+
+  /** Do data exchange in direction: Model --> View, for primitive properties. */
+  @SuppressWarnings("unchecked")
+  private void popPrimitive() {
+    final Object view = mView.getRuntimeInstance();
+    final Object model = mModel.getRuntimeInstance();
+    final Ridge<TRight> ridge = resolveRidge();
+
+    if (ridge instanceof IntRidge) {
+      final int value = ((IntProperty) resolveModel()).getInt(model);
+      if (!isPopGetterResolved()) return;
+
+      final IntRidge r = (IntRidge) ridge;
+      if (!r.isChanged(value)) return;
+
+      // ridge keeps only validated values, invalid value is validated again on next exchange
+      if (!isValidInt(value)) {
+        setStatus((mStatus & Flags.MASK_PUSH) | Flags.STATUS_FAIL_POP);
+        onValidationFailure();
+        return;
+      }
+
+      final int clone = r.clone(value);
+      onPopSuccess();
+
+      if (mFormatting instanceof NumberMold) {
+        resolveView().set(view, (TLeft) ((NumberMold<?>) mFormatting).toView((long) clone));
+      } else {
+        ((IntProperty) resolveView()).setInt(view, clone);
+      }
+    } else {
+      final boolean value = ((BooleanProperty) resolveModel()).getBoolean(model);
+      if (!isPopGetterResolved()) return;
+
+      final BooleanRidge r = (BooleanRidge) ridge;
+      if (!r.isChanged(value)) return;
+
+      final boolean clone = r.clone(value);
+      onPopSuccess();
+      ((BooleanProperty) resolveView()).setBoolean(view, clone);
+    }
+  }
+
+  /** Check that view getter is resolved and value is valid, update status. PUSH operation. */
+  private boolean isPushGetterResolved(final boolean isValid) {
+    if (null == resolveView().getGetterName()) {
+      setStatus((mStatus & Flags.MASK_POP) | Flags.STATUS_FAIL_PUSH | Flags.STATUS_FAIL_GET_PUSH);
+      onValidationFailure();
+      return false;
+    }
+
+    if (!isValid) {
+      setStatus((mStatus & Flags.MASK_POP) | Flags.STATUS_FAIL_PUSH);
+      onValidationFailure();
+      return false;
+    }
+
+    setStatus(mStatus & Flags.MASK_POP); // save PUSH status, reset POP status
+    onValidationSuccess();
+    return true;
+  }
+
+  /** Check that model getter is resolved, update status on failure. POP operation. */
+  private boolean isPopGetterResolved() {
+    if (null == resolveModel().getGetterName()) {
+      setStatus((mStatus & Flags.MASK_POP) | Flags.STATUS_FAIL_PUSH | Flags.STATUS_FAIL_GET_POP);
+      onValidationFailure();
+      return false;
+    }
+
+    return true;
+  }
+
+  /** Validate value, remember result code. */
+  private boolean isValid(final TRight value) {
+    mFailureCode = resolveRule().validate(value);
+
+    return Validation.VALID == mFailureCode;
+  }
+
+  /** Validate primitive value, remember result code. No validation - always valid, without boxing. */
+  @SuppressWarnings("unchecked")
+  private boolean isValidInt(final int value) {
+    final Validation<TRight> rule = resolveRule();
+
+    if (Rules.isNone(rule)) {
+      mFailureCode = Validation.VALID;
+    } else if (rule instanceof Validation.Ints) {
+      mFailureCode = ((Validation.Ints) rule).validateInt(value);
+    } else {
+      mFailureCode = rule.validate((TRight) Integer.valueOf(value));
+    }
+
+    return Validation.VALID == mFailureCode;
+  }
+
+  /**
+   * Schedule asynchronous validation if value result is not known yet. Any call outdates previous asynchronous
+   * validation of the same direction.
+   *
+   * @param settled receiver of the exchange end, called by {@link AsyncCheck}.
+   * @return true - validation is scheduled, exchange will be continued by {@link AsyncCheck}.
+   */
+  @SuppressWarnings("unchecked")
+  private boolean isDeferred(final TRight value, final boolean isPush, @Nullable final Settled settled) {
+    final Validation<TRight> validation = resolveRule();
+    if (!(validation instanceof AsyncRule)) return false;
+
+    final AsyncRule<TRight> rule = (AsyncRule<TRight>) validation;
+    final long token = cancelAsync(isPush);
+
+    if (AsyncRule.UNKNOWN != rule.cached(value)) return false;
+
+    final AsyncCheck check = new AsyncCheck(rule, token, value, isPush, settled);
+
+    if (isPush) {
+      mPushCheck = check;
+    } else {
+      mPopCheck = check;
+    }
+
+    if (null != settled) {
+      settled.onHandOver();
+    }
+
+    rule.getWorker().schedule(check, 0);
+
+    return true;
+  }
+
+  /**
+   * Cancel scheduled asynchronous validation of the direction, already started validation is outdated. Owner of the
+   * cancelled exchange is notified that exchange is finished.
+   *
+   * @return identity of the next asynchronous validation.
+   */
+  private long cancelAsync(final boolean isPush) {
+    final long token = (isPush ? mPushToken : mPopToken).incrementAndGet();
+    final AsyncCheck check = isPush ? mPushCheck : mPopCheck;
+
+    if (null != check) {
+      if (isPush) {
+        mPushCheck = null;
+      } else {
+        mPopCheck = null;
+      }
+
+      check.mRule.getWorker().cancel(check);
+      check.mRule.getMain().cancel(check);
+      check.settle();
+    }
+
+    return token;
+  }
+
+  /** Update status after POP validation. */
+  private void onPopSuccess() {
+    setStatus(mStatus & Flags.MASK_PUSH); // save POP status, reset PUSH status
+    onValidationSuccess();
+  }
+
+  /** Validate instance configuration. */
+  public void resolve() throws ConfigurationError {
+    checkConfiguration();
 
     Throwable exModel = null, exView = null;
 
@@ -473,6 +845,9 @@ public class Binder<TLeft, TRight> {
 
   /** Destroy all internal associations, cleanup. Optional. */
   public void destroy() {
+    cancelAsync(true);
+    cancelAsync(false);
+
     if (null != mOnModel) {
       mOnModel.detach(mModelNotify);
       mOnModel = null;
@@ -484,29 +859,139 @@ public class Binder<TLeft, TRight> {
     }
 
     if (null != mManager) {
-      mManager.getBindings().remove(this);
+      mManager.detach(this);
       mManager = null;
     }
   }
 
   /* ============================================================================================================== */
 
+  /** Drop cached instances of the view and model selectors chains. */
+  public void invalidate() {
+    if (null != mView) {
+      mView.invalidate();
+    }
+
+    if (null != mModel) {
+      mModel.invalidate();
+    }
+
+    if (null != mManager) {
+      mManager.notifyOnSelectorsChanged(this);
+    }
+  }
+
+  /**
+   * Store exchange state of the binder: ridge cache and resolved instances of the selectors chains. Allows to share
+   * one binder between several targets, for example recycled adapter rows, where each target keeps own state.
+   *
+   * @param state destination.
+   */
+  public void saveState(@NonNull final State state) {
+    state.mRidge = mRidge;
+
+    if (null != mView) {
+      if (!fits(state.mView, mView)) state.mView = new WeakReference<?>[mView.depth()];
+      mView.saveCache(state.mView);
+    }
+
+    if (null != mModel) {
+      if (!fits(state.mModel, mModel)) state.mModel = new WeakReference<?>[mModel.depth()];
+      mModel.saveCache(state.mModel);
+    }
+  }
+
+  /**
+   * Restore exchange state of the binder stored by {@link #saveState(State)}. Empty state receives own copy of the
+   * configured ridge strategy, or default one if configured ridge can not be copied, so ridge cache is not shared
+   * between targets.
+   *
+   * @param state source.
+   */
+  @SuppressWarnings("unchecked")
+  public void loadState(@NonNull final State state) {
+    if (null == state.mRidge && null != mRidgeSnapshot) {
+      state.mRidge = copyRidge();
+    }
+
+    mRidge = (Ridge<TRight>) state.mRidge;
+
+    if (null != mView) {
+      mView.loadCache(fits(state.mView, mView) ? state.mView : null);
+    }
+
+    if (null != mModel) {
+      mModel.loadCache(fits(state.mModel, mModel) ? state.mModel : null);
+    }
+  }
+
+  /**
+   * Create copy of the configured ridge for new target.
+   *
+   * @return copy of the ridge, {@code null} - ridge can not be copied, target will use default ridge.
+   */
+  @Nullable
+  private Ridge<TRight> copyRidge() {
+    final Ridge<TRight> ridge = Copiers.copy(mRidgeSnapshot);
+
+    // shared cache makes targets skip updates of each other, default ridge is resolved lazily per target
+    if (ridge == mRidgeSnapshot && !Copiers.isImmutable(ridge.getClass())) return null;
+
+    return ridge;
+  }
+
+  /** Is stored state created for the same selectors chain. */
+  private static boolean fits(@Nullable final WeakReference<?>[] cache, @NonNull final Selector<?, ?> selector) {
+    return null != cache && cache.length == selector.depth();
+  }
+
+  /** Get IDs of all assigned tags. */
+  @NonNull
+  /* package */ Set<Integer> getTagIds() {
+    return (null == mTags) ? Collections.<Integer>emptySet() : mTags.keySet();
+  }
+
   /** Is pop operation validation passed? */
   public boolean isPopOk() {
     return (mStatus & Flags.MASK_POP) == 0;
   }
 
+  /** Get result of the last validation: {@link Validation#VALID} or failure code, see {@link Rules}. */
+  public int getFailureCode() {
+    return mFailureCode;
+  }
+
   /** Is push operation validation passed? */
   public boolean isPushOk() {
     return (mStatus & Flags.MASK_PUSH) == 0;
   }
 
+  /** Is exchange in direction View --&gt; Model allowed by formatting? */
+  public boolean canPush() {
+    return Molds.canPush(mFormatting);
+  }
+
+  /** Is exchange in direction Model --&gt; View allowed by formatting? */
+  public boolean canPop() {
+    return Molds.canPop(mFormatting);
+  }
+
   /** Get reference on model instance. */
   @SuppressWarnings("unchecked")
   public <T> T getRuntimeModel() {
     return (T) mModel.getRuntimeInstance();
   }
 
+  /** Is runtime model instance changed only by selectors change or invalidation. */
+  /* package */ boolean isModelStable() {
+    return null != mModel && mModel.isStable();
+  }
+
+  /** Is runtime view instance changed only by selectors change or invalidation. */
+  /* package */ boolean isViewStable() {
+    return null != mView && mView.isStable();
+  }
+
   /** Get reference on view instance. */
   @SuppressWarnings("unchecked")
   public <T> T getRuntimeView() {
@@ -535,6 +1020,101 @@ public class Binder<TLeft, TRight> {
 
   /* ============================================================================================================== */
 
+  /**
+   * Asynchronous validation of the value: validation in worker thread, exchange continuation in main thread. Outdated
+   * checks are dropped on both steps.
+   */
+  private final class AsyncCheck implements Runnable {
+    /** Expensive rule. */
+    final AsyncRule<TRight> mRule;
+    /** Identity of the check. */
+    final long mToken;
+    /** Validated value. */
+    final TRight mValue;
+    /** Direction of the exchange. */
+    final boolean mIsPush;
+    /** Receiver of the exchange end, can be null. */
+    final Settled mSettled;
+    /** Is exchange end reported. */
+    final AtomicBoolean mIsSettled = new AtomicBoolean();
+    /** Result code, known after worker step. */
+    volatile int mCode = AsyncRule.UNKNOWN;
+
+    /* package */ AsyncCheck(@NonNull final AsyncRule<TRight> rule, final long token, final TRight value,
+                             final boolean isPush, @Nullable final Settled settled) {
+      mRule = rule;
+      mToken = token;
+      mValue = value;
+      mIsPush = isPush;
+      mSettled = settled;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void run() {
+      if (mToken != (mIsPush ? mPushToken : mPopToken).get()) return;
+
+      // worker thread: validate and return to main thread
+      if (AsyncRule.UNKNOWN == mCode) {
+        mCode = mRule.validate(mValue);
+        mRule.getMain().schedule(this, 0);
+        return;
+      }
+
+      // main thread: continue exchange
+      if (null != mSettled) {
+        mSettled.onHandOver();
+      }
+
+      try {
+        if (mIsPush) {
+          mPushCheck = null;
+          mFailureCode = mCode;
+          pushValidated(mValue, Validation.VALID == mCode);
+        } else {
+          mPopCheck = null;
+          mFailureCode = mCode;
+          final Object lValue = popValidated(mValue, Validation.VALID == mCode);
+
+          if (NOTHING != lValue) {
+            popToView((TLeft) lValue);
+          }
+        }
+      } finally {
+        settle();
+      }
+    }
+
+    /** Report exchange end, only once. */
+    /* package */ void settle() {
+      if (null != mSettled && mIsSettled.compareAndSet(false, true)) {
+        mSettled.onSettled();
+      }
+    }
+  }
+
+  /** Receiver of the end of exchange that is continued by asynchronous validation. */
+  /* package */ interface Settled {
+    /**
+     * Exchange moves to another thread. Called by the thread that leaves the exchange and by the thread that continues
+     * it, so ridge and other exchange state written before is visible to the continuation.
+     */
+    void onHandOver();
+
+    /** Exchange is finished or cancelled. */
+    void onSettled();
+  }
+
+  /** Exchange state of the binder for one target, see {@link #saveState(State)}. */
+  public static final class State {
+    /** Ridge cache. */
+    /* package */ Ridge<?> mRidge;
+    /** Resolved instances of the view selectors chain. */
+    /* package */ WeakReference<?>[] mView;
+    /** Resolved instances of the model selectors chain. */
+    /* package */ WeakReference<?>[] mModel;
+  }
+
   /** Implement this interface if you want to implement advanced ridge strategy. */
   public interface Ridge<T> {
     /** True - value updated, otherwise nothing to process. */
@@ -543,4 +1123,22 @@ public class Binder<TLeft, TRight> {
     /** Update value in cache. */
     T clone(final T value);
   }
+
+  /** Ridge strategy for {@code int} values, without boxing. */
+  public interface IntRidge extends Ridge<Integer> {
+    /** True - value updated, otherwise nothing to process. */
+    boolean isChanged(final int value);
+
+    /** Update value in cache. */
+    int clone(final int value);
+  }
+
+  /** Ridge strategy for {@code boolean} values, without boxing. */
+  public interface BooleanRidge extends Ridge<Boolean> {
+    /** True - value updated, otherwise nothing to process. */
+    boolean isChanged(final boolean value);
+
+    /** Update value in cache. */
+    boolean clone(final boolean value);
+  }
 }
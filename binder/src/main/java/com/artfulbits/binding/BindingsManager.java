@@ -2,22 +2,22 @@ package com.artfulbits.binding;
 
 import android.app.Activity;
 import android.app.Fragment;
-import android.os.Handler;
-import android.os.Message;
 import android.support.annotation.IdRes;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.os.Message;
 import android.support.annotation.UiThread;
-import android.util.Pair;
 import android.view.View;
 import android.widget.Adapter;
 
 import com.artfulbits.binding.exceptions.WrongConfigurationError;
+import com.artfulbits.binding.reflection.ClassCache;
 import com.artfulbits.binding.toolbox.Adapters;
+import com.artfulbits.binding.toolbox.Schedulers;
 import com.artfulbits.binding.toolbox.Views;
 import com.artfulbits.binding.ui.BindingAdapter;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
@@ -27,6 +27,9 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Manager class responsible for controlling integration of the binding library into corresponding fragment or activity.
  * It controls aspects:<br/> <ul> <li>context instance extracting;</li> <li>Binding defining and configuring;</li>
  * <li></li> </ul>
+ * <p/>
+ * Lookups {@link #getBindingsByModel(Object)} and {@link #getBindingsByView(Object)} compare runtime instances by
+ * identity, not by {@code equals()}: mutable models change own hash code on data exchange.
  */
 @SuppressWarnings("unused")
 public class BindingsManager {
@@ -43,7 +46,7 @@ public class BindingsManager {
     int ON_VIEW_CHANGED = 1;
     /** Detected Model change. */
     int ON_MODEL_CHANGED = 2;
-    /** Request unfreeze operation execution in UI thread. */
+    /** Request execution of all pending views updates in UI thread, after unfreeze. */
     int UNFREEZE = 4;
     /** Request validation success report delivery in UI thread. */
     int SUCCESS = 8;
@@ -53,53 +56,110 @@ public class BindingsManager {
     int LIFECYCLE_VALIDATION = 32;
     /** Do create binding. */
     int LIFECYCLE_BINDING = 64;
+    /** Deliver all coalesced changes and reports in UI thread. */
+    int DRAIN = 128;
   }
 
   /* [ MEMBERS ] ================================================================================================= */
 
+  /** Classes of managers that override deprecated {@link #onHandleMessage(Message)}. */
+  private static final ClassCache<Boolean> sLegacyHandlers = new ClassCache<>(new ClassCache.Factory<Boolean>() {
+    @NonNull
+    @Override
+    public Boolean create(@NonNull final Class<?> type) {
+      for (Class<?> c = type; BindingsManager.class != c; c = c.getSuperclass()) {
+        try {
+          c.getDeclaredMethod("onHandleMessage", Message.class);
+          return true;
+        } catch (final NoSuchMethodException ignored) {
+          // expected, method is not overridden on this level of hierarchy
+        }
+      }
+
+      return false;
+    }
+  });
+
+  /** Messages are delivered to deprecated {@link #onHandleMessage(Message)} override. */
+  private final boolean mIsLegacyHandler = sLegacyHandlers.get(getClass());
+
   /** Weak references on lifecycle listeners. */
   private final Map<Lifecycle, Void> mListeners = new WeakHashMap<>();
   /** Facade For all types of the Views. */
   private final Selector<?, ?> mFacade;
-  /** Collection of all defined binding rules. */
-  private final List<Binder<?, ?>> mRules = new LinkedList<>();
+  /** Indexed collection of all defined binding rules. */
+  private final BindingsRegistry mRules = new BindingsRegistry();
   /** Freeze counter. */
   private final AtomicInteger mFreezeCounter = new AtomicInteger(0);
-  /** Set of binding exchange transactions. We store order, binder and direction (boolean: true - pop, false - push). */
-  private final List<Pair<Binder<?, ?>, Integer>> mPending = new ArrayList<>();
-  /** Handler for forwarding processing to MAIN UI thread. */
-  private final Handler mDispatcher = new Handler(new Handler.Callback() {
+  /** Latest data exchange intent per binder, received in 'freeze mode'. */
+  private final FreezeJournal mJournal = new FreezeJournal();
+  /** Coalescing queue of binders changes and validation reports. */
+  private final DispatchQueue mQueue = new DispatchQueue();
+  /** Receiver of the drained changes, executed in MAIN UI thread. */
+  private final DispatchQueue.Sink mSink = new DispatchQueue.Sink() {
     @Override
-    public boolean handleMessage(final Message msg) {
-      return onHandleMessage(msg);
+    public void push(@NonNull final Binder<?, ?> binder) {
+      BindingsManager.this.push(binder);
     }
-  });
+
+    @Override
+    public void pop(@NonNull final Binder<?, ?> binder) {
+      BindingsManager.this.pop(binder);
+    }
+
+    @Override
+    public void result(@NonNull final Binder<?, ?> binder, final boolean success) {
+      // listener may be detached while report was pending
+      if (success && null != binder.getOnSuccess()) {
+        binder.getOnSuccess().onValidationSuccess(BindingsManager.this, binder);
+      } else if (!success && null != binder.getOnFailure()) {
+        binder.getOnFailure().onValidationFailure(BindingsManager.this, binder);
+      }
+    }
+
+    @Override
+    public void validation() {
+      for (Lifecycle lf : mListeners.keySet()) {
+        lf.onValidationResult(BindingsManager.this, isAllValid());
+      }
+    }
+  };
+  /** Scheduler for forwarding processing to MAIN UI thread. */
+  private volatile Scheduler mScheduler;
+  /** Split-thread executor of data exchange, {@code null} - exchange is executed in caller thread. */
+  private volatile Pipeline mPipeline;
 
   /* [ CONSTRUCTORS ] ============================================================================================= */
 
   /** Create bindings manager for activity instance. */
   protected BindingsManager(@NonNull final Activity activity) {
-    mFacade = Views.<View>root(activity);
+    this(Views.<View>root(activity), Schedulers.main());
   }
 
   /** Create bindings manager for native OS fragment. */
   protected BindingsManager(@NonNull final Fragment fragment) {
-    mFacade = Views.<View>root(fragment);
+    this(Views.<View>root(fragment), Schedulers.main());
   }
 
   /** Create bindings manager for 'support fragment'. */
   protected BindingsManager(@NonNull final android.support.v4.app.Fragment fragment) {
-    mFacade = Views.<View>root(fragment);
+    this(Views.<View>root(fragment), Schedulers.main());
   }
 
   /** Create bindings manager for view instance. */
   protected BindingsManager(@NonNull final View view) {
-    mFacade = Views.<View>root(view);
+    this(Views.<View>root(view), Schedulers.main());
   }
 
   /** Create bindings manager for adapter instance. */
   protected BindingsManager(@NonNull final BindingAdapter adapter) {
-    mFacade = Adapters.<Adapter>root(adapter);
+    this(Adapters.<Adapter>root(adapter), Schedulers.main());
+  }
+
+  /** Create bindings manager for custom facade with specified scheduler. Allows to run bindings without UI. */
+  protected BindingsManager(@NonNull final Selector<?, ?> facade, @NonNull final Scheduler scheduler) {
+    mFacade = facade;
+    mScheduler = scheduler;
   }
 
   /* [ STATIC HELPERS ] =========================================================================================== */
@@ -129,13 +189,38 @@ public class BindingsManager {
     return new BindingsManager(ba).register(listener);
   }
 
+  public static BindingsManager newInstance(@NonNull final Selector<?, ?> facade,
+                                            @NonNull final Scheduler scheduler,
+                                            @NonNull final Lifecycle listener) {
+    return new BindingsManager(facade, scheduler).register(listener);
+  }
+
   /* [ OVERRIDES ] ================================================================================================ */
 
-  /** UI THREAD! processing of messages in UI thread. */
-  protected boolean onHandleMessage(final Message msg) {
-    final Binder<?, ?> binder = (msg.obj instanceof Binder) ? (Binder<?, ?>) msg.obj : Binder.EMPTY;
+  /**
+   * UI THREAD! processing of messages in UI thread.
+   *
+   * @deprecated messages are not delivered via {@link android.os.Handler} anymore, override
+   * {@link #onHandleMessage(int, int, Object)}. Override of this method still receives all messages.
+   */
+  @Deprecated
+  protected boolean onHandleMessage(@NonNull final Message msg) {
+    return onHandleMessage(msg.what, msg.arg1, msg.obj);
+  }
 
-    switch (msg.what) {
+  /**
+   * UI THREAD! processing of messages in UI thread (or in thread of custom scheduler).
+   *
+   * @param what   message type, one of {@link Messages}.
+   * @param arg    message argument.
+   * @param obj    message object, usually binder instance.
+   * @return true - message processed, otherwise false.
+   */
+  @SuppressWarnings("unchecked")
+  protected boolean onHandleMessage(final int what, final int arg, final Object obj) {
+    final Binder<?, ?> binder = (obj instanceof Binder) ? (Binder<?, ?>) obj : Binder.EMPTY;
+
+    switch (what) {
       case Messages.ON_MODEL_CHANGED:
         pop(binder);
         return true;
@@ -145,10 +230,8 @@ public class BindingsManager {
         return true;
 
       case Messages.UNFREEZE:
-        if (DO_POP == msg.arg1) {
-          binder.pop();
-        } else {
-          binder.push();
+        for (final Map.Entry<Binder<?, ?>, Boolean> e : ((Map<Binder<?, ?>, Boolean>) obj).entrySet()) {
+          exchange(e.getKey(), e.getValue() ? DO_POP : DO_PUSH);
         }
         return true;
 
@@ -166,6 +249,13 @@ public class BindingsManager {
         }
         return true;
 
+      case Messages.DRAIN:
+        // requests raised during the drain are delivered by the next one
+        if (mQueue.drain(mSink)) {
+          scheduleDrain();
+        }
+        return true;
+
       case Messages.LIFECYCLE_VALIDATION:
         for (Lifecycle lf : mListeners.keySet()) {
           lf.onValidationResult(this, isAllValid());
@@ -178,81 +268,49 @@ public class BindingsManager {
 
   /* [ BINDING RULES DEFINING ] =================================================================================== */
 
-  /** Get list of all binding rules. */
+  /** Get list of all binding rules, in order of definition. Returned list is a snapshot. */
   public List<Binder<?, ?>> getBindings() {
-    return mRules;
+    return mRules.all();
   }
 
-  /** Get list of binder's that interact with specified model instance. */
+  /**
+   * Get list of binder's that interact with specified model instance. Instances are compared by identity. Runtime
+   * instances of the selectors without caching are resolved on each call, so lookup is proportional to the result
+   * only when chains of selectors have enabled caching, see {@link Selector#setCaching(boolean)}.
+   */
   public List<Binder<?, ?>> getBindingsByModel(@NonNull final Object model) {
-    final List<Binder<?, ?>> result = new LinkedList<>();
-
-    for (Binder<?, ?> b : mRules) {
-      if (model.equals(b.getRuntimeModel())) {
-        result.add(b);
-      }
-    }
-
-    return result;
+    return mRules.byModel(model);
   }
 
-  /** Get list of binder's that interact with specified view instance. */
+  /**
+   * Get list of binder's that interact with specified view instance. Instances are compared by identity. Runtime
+   * instances of the selectors without caching are resolved on each call, so lookup is proportional to the result
+   * only when chains of selectors have enabled caching, see {@link Selector#setCaching(boolean)}.
+   */
   public List<Binder<?, ?>> getBindingsByView(@NonNull final Object view) {
-    final List<Binder<?, ?>> result = new LinkedList<>();
-
-    for (Binder<?, ?> b : mRules) {
-      if (view.equals(b.getRuntimeView())) {
-        result.add(b);
-      }
-    }
-
-    return result;
+    return mRules.byView(view);
   }
 
   /** Get list of binder's that has specified tag ID. */
   public List<Binder<?, ?>> getBindingsByTag(@IdRes final int id) {
-    final List<Binder<?, ?>> result = new LinkedList<>();
-
-    for (Binder<?, ?> b : mRules) {
-      if (null != b.getTag(id)) {
-        result.add(b);
-      }
-    }
-
-    return result;
+    return mRules.byTag(id);
   }
 
   /** Is all rules successfully validated? */
   public boolean isAllValid() {
-    return getFailedBindings().size() == 0;
+    return mRules.isAllValid();
   }
 
   /** Get list of all successfully validated bindings. */
   public List<Binder<?, ?>> getSuccessBindings() {
-    final List<Binder<?, ?>> result = new LinkedList<>();
-
     // if POP or PUSH operation never performed, than we assume that they are in OK state
-    for (final Binder<?, ?> b : mRules) {
-      if (b.isPopOk() && b.isPushOk()) {
-        result.add(b);
-      }
-    }
-
-    return result;
+    return mRules.succeeded();
   }
 
   /** Get list of failed validated bindings. */
   public List<Binder<?, ?>> getFailedBindings() {
-    final List<Binder<?, ?>> result = new LinkedList<>();
-
     // at least one operation should be in failed state
-    for (final Binder<?, ?> b : mRules) {
-      if (!b.isPopOk() || !b.isPushOk()) {
-        result.add(b);
-      }
-    }
-
-    return result;
+    return mRules.failed();
   }
 
   /**
@@ -321,6 +379,9 @@ public class BindingsManager {
    * @param caller reference on method caller, allows to identify fragments and activities.
    */
   public void doStart(final Object caller) {
+    // views may be re-created while activity was stopped
+    invalidate();
+
     notifyOnCreateBinding();
   }
 
@@ -351,8 +412,10 @@ public class BindingsManager {
    * @param caller reference on method caller, allows to identify fragments and activities.
    */
   public void doStop(final Object caller) {
-    for (int i = mRules.size() - 1; i >= 0; i--) {
-      final Binder<?, ?> b = mRules.get(i);
+    final List<Binder<?, ?>> rules = mRules.all();
+
+    for (int i = rules.size() - 1; i >= 0; i--) {
+      final Binder<?, ?> b = rules.get(i);
 
       // self de-registration from Binding Manager happens
       b.destroy();
@@ -369,40 +432,102 @@ public class BindingsManager {
     // TODO: cleanup memory, drop reflection cache?!
   }
 
+  /** Drop cached instances of selectors chains for all bindings. */
+  public void invalidate() {
+    for (final Binder<?, ?> b : mRules.all()) {
+      // binder notifies registry, runtime instances will be indexed again
+      b.invalidate();
+    }
+  }
+
+  /* package */ void attach(@NonNull final Binder<?, ?> binder) {
+    mRules.add(binder);
+  }
+
+  /* package */ void detach(@NonNull final Binder<?, ?> binder) {
+    mRules.remove(binder);
+    mQueue.remove(binder);
+    mJournal.remove(binder);
+
+    final Pipeline pipeline = mPipeline;
+    if (null != pipeline) {
+      pipeline.remove(binder);
+    }
+  }
+
+  /* package */ void notifyOnSelectorsChanged(@NonNull final Binder<?, ?> binder) {
+    mRules.touch(binder);
+  }
+
+  /* package */ void notifyOnTag(@NonNull final Binder<?, ?> binder, @IdRes final int id) {
+    mRules.tag(binder, id);
+  }
+
+  /* package */ void notifyOnStatus(@NonNull final Binder<?, ?> binder) {
+    mRules.status(binder);
+  }
+
   /* package */ void notifyOnCreateBinding() {
-    final Message msg = mDispatcher.obtainMessage(Messages.LIFECYCLE_BINDING);
-    mDispatcher.sendMessage(msg);
+    dispatch(Messages.LIFECYCLE_BINDING, 0, null);
   }
 
   /* package */ void notifyOnViewChanged(@NonNull final Binder<?, ?> binder) {
-    final Message msg = mDispatcher.obtainMessage(Messages.ON_VIEW_CHANGED, binder);
-    mDispatcher.sendMessage(msg);
+    if (mQueue.offerPush(binder)) {
+      scheduleDrain();
+    }
   }
 
   /* package */ void notifyOnModelChanged(@NonNull final Binder<?, ?> binder) {
-    final Message msg = mDispatcher.obtainMessage(Messages.ON_MODEL_CHANGED, binder);
-    mDispatcher.sendMessage(msg);
+    if (mQueue.offerPop(binder)) {
+      scheduleDrain();
+    }
   }
 
   /* package */ void notifyOnValidation(@NonNull final Binder<?, ?> binder) {
-    final Message msg = mDispatcher.obtainMessage(Messages.LIFECYCLE_VALIDATION);
-    mDispatcher.sendMessage(msg);
+    if (mQueue.offerValidation()) {
+      scheduleDrain();
+    }
   }
 
   /* package */ void notifyOnSuccess(@NonNull final Binder<?, ?> binder) {
-    if (null != binder.getOnSuccess()) {
-      final Message msg = mDispatcher.obtainMessage(Messages.SUCCESS, binder);
-      mDispatcher.sendMessage(msg);
+    if (null != binder.getOnSuccess() && mQueue.offerResult(binder, true)) {
+      scheduleDrain();
     }
   }
 
   /* package */ void notifyOnFailure(@NonNull final Binder<?, ?> binder) {
-    if (null != binder.getOnFailure()) {
-      final Message msg = mDispatcher.obtainMessage(Messages.FAILURE, binder);
-      mDispatcher.sendMessage(msg);
+    if (null != binder.getOnFailure() && mQueue.offerResult(binder, false)) {
+      scheduleDrain();
     }
   }
 
+  /** Post one message that delivers all coalesced changes in UI thread. */
+  private void scheduleDrain() {
+    dispatch(Messages.DRAIN, 0, null);
+  }
+
+  /** Execute data exchange in caller thread or in pipeline, if pipeline mode enabled. */
+  private void exchange(@NonNull final Binder<?, ?> binder, final int direction) {
+    final Pipeline pipeline = mPipeline;
+
+    if (null != pipeline) {
+      if (DO_POP == direction) {
+        pipeline.pop(binder);
+      } else {
+        pipeline.push(binder);
+      }
+    } else if (DO_POP == direction) {
+      binder.pop();
+    } else {
+      binder.push();
+    }
+  }
+
+  /** Forward message processing to scheduler. */
+  private void dispatch(final int what, final int arg, final Object obj) {
+    mScheduler.schedule(new Event(what, arg, obj), 0);
+  }
+
 	/* [ PUSH AND POP ] ============================================================================================= */
 
   /**
@@ -413,7 +538,7 @@ public class BindingsManager {
    * @return this instance.
    */
   public BindingsManager push() {
-    return push(mRules);
+    return push(mRules.all());
   }
 
   /**
@@ -448,10 +573,13 @@ public class BindingsManager {
    * @return this instance.
    */
   public BindingsManager push(@NonNull final Binder<?, ?> binder) {
+    // one-way binder, nothing to journal or execute
+    if (!binder.canPush()) return this;
+
     if (isFrozen()) {
-      mPending.add(new Pair<Binder<?, ?>, Integer>(binder, DO_PUSH));
+      mJournal.push(binder);
     } else {
-      binder.push();
+      exchange(binder, DO_PUSH);
     }
 
     return this;
@@ -480,7 +608,7 @@ public class BindingsManager {
    * @return this instance.
    */
   public BindingsManager pop() {
-    return pop(mRules);
+    return pop(mRules.all());
   }
 
   /**
@@ -505,10 +633,13 @@ public class BindingsManager {
    * @return this instance.
    */
   public BindingsManager pop(@NonNull final Binder<?, ?> binder) {
+    // one-way binder, nothing to journal or execute
+    if (!binder.canPop()) return this;
+
     if (isFrozen()) {
-      mPending.add(new Pair<Binder<?, ?>, Integer>(binder, DO_POP));
+      mJournal.pop(binder);
     } else {
-      binder.pop();
+      exchange(binder, DO_POP);
     }
 
     return this;
@@ -523,9 +654,85 @@ public class BindingsManager {
     return mFreezeCounter.get() > 0;
   }
 
-  /** Get number of pending POP/PUSH actions. */
+  /** Get quantity of change notifications and validation reports received from binders. */
+  public long getDispatchRequested() {
+    return mQueue.getRequested();
+  }
+
+  /** Get quantity of notifications collapsed with already pending notifications of the same binder. */
+  public long getDispatchCoalesced() {
+    return mQueue.getCoalesced();
+  }
+
+  /** Get quantity of messages posted to UI thread for delivering notifications. */
+  public long getDispatchMessages() {
+    return mQueue.getDrains();
+  }
+
+  /** Get scheduler used for messages processing. */
+  @NonNull
+  public Scheduler getScheduler() {
+    return mScheduler;
+  }
+
+  /**
+   * Replace scheduler used for messages processing. Messages already scheduled are executed by previous scheduler.
+   *
+   * @param scheduler new scheduler instance.
+   * @return this instance.
+   */
+  @NonNull
+  public BindingsManager setScheduler(@NonNull final Scheduler scheduler) {
+    mScheduler = scheduler;
+
+    final Pipeline pipeline = mPipeline;
+    if (null != pipeline) {
+      mPipeline = new Pipeline(scheduler, pipeline.getWorker());
+    }
+
+    return this;
+  }
+
+  /** Get scheduler of the split-thread data exchange, {@code null} - pipeline mode is disabled. */
+  @Nullable
+  public Scheduler getWorker() {
+    final Pipeline pipeline = mPipeline;
+
+    return (null == pipeline) ? null : pipeline.getWorker();
+  }
+
+  /**
+   * Enable or disable split-thread data exchange (pipeline mode). In pipeline mode model access, formatting, validation
+   * and ridge work is executed by worker scheduler, only view get/set is executed by manager scheduler (MAIN UI
+   * thread). Exchanges of each binder are executed in order of requests, superseded exchanges are cancelled.
+   * <p/>
+   * Keep in mind that in pipeline mode model instances, formatters and validators are accessed from worker threads.
+   *
+   * @param worker scheduler of the model side stages, {@code null} - execute exchange in caller thread.
+   * @return this instance.
+   */
+  @NonNull
+  public BindingsManager setWorker(@Nullable final Scheduler worker) {
+    mPipeline = (null == worker) ? null : new Pipeline(mScheduler, worker);
+
+    return this;
+  }
+
+  /** Get quantity of data exchanges cancelled in pipeline mode because of newer requests. */
+  public long getExchangesCancelled() {
+    final Pipeline pipeline = mPipeline;
+
+    return (null == pipeline) ? 0 : pipeline.getCancelled();
+  }
+
+  /** Get number of pending POP/PUSH actions. Only the latest action per binder is kept. */
   public int getPendingQueueSize() {
-    return mPending.size();
+    return mJournal.size();
+  }
+
+  /** Get quantity of POP/PUSH requests collapsed in 'freeze mode' with already pending actions. */
+  public long getPendingCollapsed() {
+    return mJournal.getCollapsed();
   }
 
   /**
@@ -548,23 +755,25 @@ public class BindingsManager {
       mFreezeCounter.set(0);
 
       // execute pending data exchange requests
-      if (!mPending.isEmpty()) {
-        for (Pair<Binder<?, ?>, Integer> p : mPending) {
-          // update is possible only in UI thread
-          if (View.class.isAssignableFrom(p.first.getViewType())) {
-            mDispatcher.sendMessage(mDispatcher.obtainMessage(Messages.UNFREEZE, p.second, -1, p.first));
-            continue;
-          }
-
-          // do data exchange
-          if (DO_POP == p.second) {
-            p.first.pop();
-          } else {
-            p.first.push();
-          }
+      final Map<Binder<?, ?>, Boolean> intents = mJournal.drain();
+      final Map<Binder<?, ?>, Boolean> batch = new LinkedHashMap<>();
+
+      for (final Map.Entry<Binder<?, ?>, Boolean> e : intents.entrySet()) {
+        final Binder<?, ?> binder = e.getKey();
+        final int direction = e.getValue() ? DO_POP : DO_PUSH;
+
+        // update is possible only in UI thread, pipeline takes care about threads by itself
+        if (null == mPipeline && View.class.isAssignableFrom(binder.getViewType())) {
+          batch.put(binder, e.getValue());
+          continue;
         }
 
-        mPending.clear();
+        exchange(binder, direction);
+      }
+
+      // one message for all views updates
+      if (!batch.isEmpty()) {
+        dispatch(Messages.UNFREEZE, 0, batch);
       }
     }
 
@@ -579,13 +788,46 @@ public class BindingsManager {
    */
   @UiThread
   public void associate() throws WrongConfigurationError {
-    for (Binder<?, ?> binder : mRules) {
+    for (Binder<?, ?> binder : mRules.all()) {
       binder.resolve();
     }
   }
 
 	/* [ NESTED DECLARATIONS ] ====================================================================================== */
 
+  /** Message scheduled for processing. */
+  private final class Event implements Runnable {
+    /** Message type. */
+    private final int mWhat;
+    /** Message argument. */
+    private final int mArg;
+    /** Message object. */
+    private final Object mObj;
+
+    public Event(final int what, final int arg, final Object obj) {
+      mWhat = what;
+      mArg = arg;
+      mObj = obj;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void run() {
+      if (!mIsLegacyHandler) {
+        onHandleMessage(mWhat, mArg, mObj);
+        return;
+      }
+
+      final Message msg = Message.obtain(null, mWhat, mArg, 0, mObj);
+
+      try {
+        onHandleMessage(msg);
+      } finally {
+        msg.recycle();
+      }
+    }
+  }
+
   /**
    * Lifecycle extending callback. Implement it if you want to enhance original lifecycle by new state, during which
    * binding operation is the most suitable.
@@ -0,0 +1,482 @@
+package com.artfulbits.binding;
+
+import android.support.annotation.IdRes;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.artfulbits.binding.exceptions.ConfigurationError;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexed storage of binding rules. Each binder occupies a slot, slots keep the registration order. Indexes:<br/>
+ * <ul>
+ * <li>model and view runtime instances, by identity. Only stable instances are indexed: constant instances and
+ * chains with enabled caching. Chains without caching may resolve another instance on each call, they are checked
+ * on each lookup. So lookup costs O(result) only when chains are cached, each not cached chain adds its resolving
+ * to every lookup. Indexed instances are weakly referenced, binder of the collected instance is indexed again;</li>
+ * <li>tag IDs;</li>
+ * <li>failed validation state, maintained incrementally on each binder status change.</li>
+ * </ul>
+ * Runtime instances are resolved lazily: binder is marked as 'dirty' on selectors change or invalidation and indexed
+ * again on the next lookup by model or view. Change of selectors caching mode is detected by {@link
+ * Selector#cachingVersion()}, binders are checked only when any selector changed the mode. Removed binders leave empty
+ * slots, slots are compacted when more than half of them are empty.
+ * <p/>
+ * All methods are synchronized, binders may change own status from any thread.
+ */
+/* package */ final class BindingsRegistry {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Initial quantity of slots. */
+  private static final int INITIAL_CAPACITY = 16;
+
+	/* [ MEMBERS ] =================================================================================================== */
+
+  /** Binders by slot, {@code null} - empty slot. */
+  private Binder<?, ?>[] mSlots = new Binder<?, ?>[INITIAL_CAPACITY];
+  /** Model instance indexed for slot. */
+  private WeakKey[] mModels = new WeakKey[INITIAL_CAPACITY];
+  /** View instance indexed for slot. */
+  private WeakKey[] mViews = new WeakKey[INITIAL_CAPACITY];
+  /** Quantity of used slots, including empty. */
+  private int mSize;
+  /** Quantity of registered binders. */
+  private int mCount;
+  /** Binder to slot. */
+  private final Map<Binder<?, ?>, Integer> mPositions = new IdentityHashMap<>();
+  /** Slots of binders with failed validation. */
+  private BitSet mFailed = new BitSet();
+  /** Slots that require model/view instances resolving. */
+  private BitSet mDirty = new BitSet();
+  /** Slots with not stable model instance, resolved on each lookup. */
+  private BitSet mLiveModels = new BitSet();
+  /** Slots with not stable view instance, resolved on each lookup. */
+  private BitSet mLiveViews = new BitSet();
+  /** Model instance to slots. */
+  private final Map<Object, WeakKey> mByModel = new HashMap<>();
+  /** View instance to slots. */
+  private final Map<Object, WeakKey> mByView = new HashMap<>();
+  /** Tag ID to slots. */
+  private final Map<Integer, BitSet> mByTag = new HashMap<>();
+  /** Queue of collected model and view instances. */
+  private final ReferenceQueue<Object> mCollected = new ReferenceQueue<>();
+  /** Version of selectors caching modes at last stability check. */
+  private int mCachingVersion = -1;
+
+	/* [ GETTER / SETTER METHODS ] =================================================================================== */
+
+  /** Get quantity of registered binders. */
+  public synchronized int size() {
+    return mCount;
+  }
+
+  /** Is all registered binders passed validation. */
+  public synchronized boolean isAllValid() {
+    return mFailed.isEmpty();
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  /** Register binder. Binder already registered is ignored. */
+  public synchronized void add(@NonNull final Binder<?, ?> binder) {
+    if (mPositions.containsKey(binder)) return;
+
+    ensureCapacity(mSize + 1);
+
+    final int slot = mSize++;
+    mSlots[slot] = binder;
+    mPositions.put(binder, slot);
+    mCount++;
+
+    mDirty.set(slot);
+    mFailed.set(slot, isFailed(binder));
+
+    for (final Integer id : binder.getTagIds()) {
+      tag(binder, id);
+    }
+  }
+
+  /** Unregister binder. */
+  public synchronized void remove(@NonNull final Binder<?, ?> binder) {
+    final Integer position = mPositions.remove(binder);
+    if (null == position) return;
+
+    final int slot = position;
+
+    unindex(mByModel, mModels, slot);
+    unindex(mByView, mViews, slot);
+
+    for (final BitSet bits : mByTag.values()) {
+      bits.clear(slot);
+    }
+
+    mSlots[slot] = null;
+    mFailed.clear(slot);
+    mDirty.clear(slot);
+    mLiveModels.clear(slot);
+    mLiveViews.clear(slot);
+    mCount--;
+
+    if (mSize > INITIAL_CAPACITY && mCount < mSize / 2) {
+      compact();
+    }
+  }
+
+  /** Binder selectors changed or invalidated, runtime instances should be resolved again. */
+  public synchronized void touch(@NonNull final Binder<?, ?> binder) {
+    final Integer slot = mPositions.get(binder);
+
+    if (null != slot) {
+      mDirty.set(slot);
+    }
+  }
+
+  /** Binder validation status changed. */
+  public synchronized void status(@NonNull final Binder<?, ?> binder) {
+    final Integer slot = mPositions.get(binder);
+
+    if (null != slot) {
+      mFailed.set(slot, isFailed(binder));
+    }
+  }
+
+  /** Binder received tag. */
+  public synchronized void tag(@NonNull final Binder<?, ?> binder, @IdRes final int id) {
+    final Integer slot = mPositions.get(binder);
+    if (null == slot) return;
+
+    BitSet bits = mByTag.get(id);
+
+    if (null == bits) {
+      mByTag.put(id, bits = new BitSet());
+    }
+
+    bits.set(slot);
+  }
+
+  /** Get all binders in order of registration. */
+  @NonNull
+  public synchronized List<Binder<?, ?>> all() {
+    final List<Binder<?, ?>> result = new ArrayList<>(mCount);
+
+    for (int i = 0; i < mSize; i++) {
+      if (null != mSlots[i]) {
+        result.add(mSlots[i]);
+      }
+    }
+
+    return result;
+  }
+
+  /** Get binders that interact with model instance. */
+  @NonNull
+  public synchronized List<Binder<?, ?>> byModel(@NonNull final Object model) {
+    return lookup(mByModel, mLiveModels, model, true);
+  }
+
+  /** Get binders that interact with view instance. */
+  @NonNull
+  public synchronized List<Binder<?, ?>> byView(@NonNull final Object view) {
+    return lookup(mByView, mLiveViews, view, false);
+  }
+
+  /** Get binders with specified tag ID. */
+  @NonNull
+  public synchronized List<Binder<?, ?>> byTag(@IdRes final int id) {
+    return collect(mByTag.get(id));
+  }
+
+  /** Get binders with failed validation. */
+  @NonNull
+  public synchronized List<Binder<?, ?>> failed() {
+    return collect(mFailed);
+  }
+
+  /** Get binders that passed validation. */
+  @NonNull
+  public synchronized List<Binder<?, ?>> succeeded() {
+    final List<Binder<?, ?>> result = new ArrayList<>(mCount - mFailed.cardinality());
+
+    for (int i = mFailed.nextClearBit(0); i < mSize; i = mFailed.nextClearBit(i + 1)) {
+      if (null != mSlots[i]) {
+        result.add(mSlots[i]);
+      }
+    }
+
+    return result;
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Is binder in failed validation state. */
+  private static boolean isFailed(@NonNull final Binder<?, ?> binder) {
+    return !binder.isPopOk() || !binder.isPushOk();
+  }
+
+  /** Compose list of binders from slots. */
+  @NonNull
+  private List<Binder<?, ?>> collect(@Nullable final BitSet bits) {
+    if (null == bits || bits.isEmpty()) return new ArrayList<>(0);
+
+    final List<Binder<?, ?>> result = new ArrayList<>(bits.cardinality());
+
+    for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+      result.add(mSlots[i]);
+    }
+
+    return result;
+  }
+
+  /** Find binders by runtime instance: indexed stable instances and live check of the not stable. */
+  @NonNull
+  private List<Binder<?, ?>> lookup(@NonNull final Map<Object, WeakKey> index, @NonNull final BitSet live,
+                                    @NonNull final Object instance, final boolean isModel) {
+    purge();
+    checkStability();
+    resolveDirty();
+
+    final BitSet result = new BitSet(mSize);
+    final WeakKey indexed = index.get(new LookupKey(instance));
+
+    if (null != indexed) {
+      result.or(indexed.mSlots);
+    }
+
+    for (int i = live.nextSetBit(0); i >= 0; i = live.nextSetBit(i + 1)) {
+      if (instance == runtime(mSlots[i], isModel)) {
+        result.set(i);
+      }
+    }
+
+    return collect(result);
+  }
+
+  /** Binders of collected instances are resolved again, selectors may cache another instance now. */
+  private void purge() {
+    Reference<?> ref;
+
+    while (null != (ref = mCollected.poll())) {
+      mDirty.or(((WeakKey) ref).mSlots);
+    }
+  }
+
+  /** Caching mode of the selectors may change without notification, such binders are resolved again. */
+  private void checkStability() {
+    // version is taken before the check, mode changed during the check is detected by next lookup
+    final int version = Selector.cachingVersion();
+    if (version == mCachingVersion) return;
+
+    mCachingVersion = version;
+
+    for (int i = 0; i < mSize; i++) {
+      final Binder<?, ?> binder = mSlots[i];
+      if (null == binder || mDirty.get(i)) continue;
+
+      if (binder.isModelStable() == mLiveModels.get(i) || binder.isViewStable() == mLiveViews.get(i)) {
+        mDirty.set(i);
+      }
+    }
+  }
+
+  /** Resolve runtime instances of the 'dirty' binders and update indexes. */
+  private void resolveDirty() {
+    for (int i = mDirty.nextSetBit(0); i >= 0; i = mDirty.nextSetBit(i + 1)) {
+      final Binder<?, ?> binder = mSlots[i];
+
+      unindex(mByModel, mModels, i);
+      unindex(mByView, mViews, i);
+
+      final boolean isModelStable = binder.isModelStable();
+      final boolean isViewStable = binder.isViewStable();
+      final Object model = isModelStable ? runtime(binder, true) : null;
+      final Object view = isViewStable ? runtime(binder, false) : null;
+
+      index(mByModel, mModels, i, model);
+      index(mByView, mViews, i, view);
+      mLiveModels.set(i, !isModelStable);
+      mLiveViews.set(i, !isViewStable);
+
+      // binder is not completely configured yet, try again on next lookup
+      if ((null != model || !isModelStable) && (null != view || !isViewStable)) {
+        mDirty.clear(i);
+      }
+    }
+  }
+
+  /**
+   * Extract runtime instance of the model or view. Binder with not configured or broken chain of selectors can not
+   * exchange data with any instance, so {@code null} (match nothing) is a safe answer. Such binder stays 'dirty' and
+   * is resolved again on next lookup.
+   */
+  @Nullable
+  private static Object runtime(@NonNull final Binder<?, ?> binder, final boolean isModel) {
+    try {
+      return isModel ? binder.getRuntimeModel() : binder.getRuntimeView();
+    } catch (final RuntimeException ignored) {
+      return null;
+    } catch (final ConfigurationError ignored) {
+      return null;
+    }
+  }
+
+  /** Add slot to index of instances. */
+  private void index(@NonNull final Map<Object, WeakKey> index, @NonNull final WeakKey[] keys, final int slot,
+                     @Nullable final Object instance) {
+    if (null == instance) return;
+
+    WeakKey key = index.get(new LookupKey(instance));
+
+    if (null == key) {
+      key = new WeakKey(instance, mCollected);
+      index.put(key, key);
+    }
+
+    key.mSlots.set(slot);
+    keys[slot] = key;
+  }
+
+  /** Remove slot from index of instances. Works for collected instances too, key is found by identity. */
+  private static void unindex(@NonNull final Map<Object, WeakKey> index, @NonNull final WeakKey[] keys,
+                              final int slot) {
+    final WeakKey key = keys[slot];
+    if (null == key) return;
+
+    keys[slot] = null;
+    key.mSlots.clear(slot);
+
+    if (key.mSlots.isEmpty()) {
+      index.remove(key);
+    }
+  }
+
+  /** Grow slots arrays. */
+  private void ensureCapacity(final int capacity) {
+    if (capacity <= mSlots.length) return;
+
+    final int length = Math.max(capacity, mSlots.length * 2);
+
+    mSlots = Arrays.copyOf(mSlots, length);
+    mModels = Arrays.copyOf(mModels, length);
+    mViews = Arrays.copyOf(mViews, length);
+  }
+
+  /** Remove empty slots, registration order is preserved. */
+  private void compact() {
+    final int[] map = new int[mSize];
+    int next = 0;
+
+    for (int i = 0; i < mSize; i++) {
+      if (null == mSlots[i]) {
+        map[i] = -1;
+        continue;
+      }
+
+      map[i] = next;
+      mSlots[next] = mSlots[i];
+      mModels[next] = mModels[i];
+      mViews[next] = mViews[i];
+      mPositions.put(mSlots[next], next);
+      next++;
+    }
+
+    Arrays.fill(mSlots, next, mSize, null);
+    Arrays.fill(mModels, next, mSize, null);
+    Arrays.fill(mViews, next, mSize, null);
+    mSize = next;
+
+    mFailed = remap(mFailed, map);
+    mDirty = remap(mDirty, map);
+    mLiveModels = remap(mLiveModels, map);
+    mLiveViews = remap(mLiveViews, map);
+    remapKeys(mByModel, map);
+    remapKeys(mByView, map);
+    remap(mByTag, map);
+  }
+
+  /** Move slots of all indexed instances, including collected. */
+  private void remapKeys(@NonNull final Map<Object, WeakKey> index, @NonNull final int[] map) {
+    for (final WeakKey key : index.values()) {
+      key.mSlots = remap(key.mSlots, map);
+    }
+  }
+
+  /** Move bits of all index entries to new slots. */
+  private static <K> void remap(@NonNull final Map<K, BitSet> index, @NonNull final int[] map) {
+    for (final Map.Entry<K, BitSet> e : index.entrySet()) {
+      e.setValue(remap(e.getValue(), map));
+    }
+  }
+
+  /** Move bits to new slots. */
+  @NonNull
+  private static BitSet remap(@NonNull final BitSet bits, @NonNull final int[] map) {
+    final BitSet result = new BitSet(map.length);
+
+    for (int i = bits.nextSetBit(0); i >= 0 && i < map.length; i = bits.nextSetBit(i + 1)) {
+      if (map[i] >= 0) {
+        result.set(map[i]);
+      }
+    }
+
+    return result;
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Indexed instance and its slots. Instance is weakly referenced and compared by identity. */
+  private static final class WeakKey extends WeakReference<Object> {
+    /** Identity hash code of the instance, preserved after instance collection. */
+    private final int mHash;
+    /** Slots of binders that interact with instance. */
+    BitSet mSlots = new BitSet();
+
+    public WeakKey(@NonNull final Object instance, @NonNull final ReferenceQueue<Object> queue) {
+      super(instance, queue);
+
+      mHash = System.identityHashCode(instance);
+    }
+
+    @Override
+    public int hashCode() {
+      return mHash;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) return true;
+
+      final Object instance = get();
+      return null != instance && o instanceof LookupKey && instance == ((LookupKey) o).mInstance;
+    }
+  }
+
+  /** Short living key used only for lookup. */
+  private static final class LookupKey {
+    /** Instance reference. */
+    private final Object mInstance;
+
+    public LookupKey(@NonNull final Object instance) {
+      mInstance = instance;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(mInstance);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof WeakKey && mInstance == ((WeakKey) o).get();
+    }
+  }
+}
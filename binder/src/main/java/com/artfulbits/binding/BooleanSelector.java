@@ -0,0 +1,38 @@
+package com.artfulbits.binding;
+
+import android.support.annotation.NonNull;
+
+import com.artfulbits.binding.reflection.BooleanProperty;
+
+/**
+ * Selector of the {@code boolean} property value from instance. Allows to get and set value without boxing.
+ *
+ * @param <I> the instance data type
+ */
+@SuppressWarnings("unused")
+public class BooleanSelector<I> extends Selector<I, Boolean> {
+  /* ============================================================================================================== */
+
+  /** Create a new instance of the selector. */
+  public BooleanSelector(@NonNull final I instance, @NonNull final BooleanProperty property) {
+    super(instance, property);
+  }
+
+  /* ============================================================================================================== */
+
+  /** Get property definition that should be used for data exchange. */
+  @Override
+  public BooleanProperty getProperty() {
+    return (BooleanProperty) super.getProperty();
+  }
+
+  /** Extract value from property without boxing. */
+  public boolean getBoolean() {
+    return getProperty().getBoolean(getRuntimeInstance());
+  }
+
+  /** Set value of the property without boxing. */
+  public void setBoolean(final boolean value) {
+    getProperty().setBoolean(getRuntimeInstance(), value);
+  }
+}
@@ -0,0 +1,17 @@
+package com.artfulbits.binding;
+
+/**
+ * Optional contract of the {@link Formatting} that supports only one direction of the data exchange. Binder checks
+ * directions before any view or model access, so one-way binder skips not supported exchange without reading values
+ * and without exceptions. Formatting without this contract supports both directions.
+ *
+ * @see com.artfulbits.binding.toolbox.Molds#onlyPop(Formatting)
+ * @see com.artfulbits.binding.toolbox.Molds#onlyPush(Formatting)
+ */
+public interface Directional {
+  /** Is allowed exchange in direction: View --&gt; Model. */
+  boolean canPush();
+
+  /** Is allowed exchange in direction: Model --&gt; View. */
+  boolean canPop();
+}
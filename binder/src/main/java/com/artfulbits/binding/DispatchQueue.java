@@ -0,0 +1,264 @@
+package com.artfulbits.binding;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Coalescing queue of binders change notifications. Keeps one ordered 'dirty' map of binder to the last requested
+ * direction, so repeated requests for the same binder are collapsed until the next drain and binders are delivered
+ * in order of arrival. When direction of the binder changes (model changed, than user edited the view), the latest
+ * request wins and binder moves to the end of the queue. Validation results are delivered in order of arrival, only
+ * repeats of the same pending result are collapsed, so a failure followed by a success reaches both listeners.
+ * <p/>
+ * Producers may call from any thread. Owner should schedule exactly one drain when offer method returns {@code true}
+ * and once more when drain returns {@code true}. Nested and concurrent drains are ignored, the running drain owns the
+ * queue.
+ */
+/* package */ final class DispatchQueue {
+	/* [ MEMBERS ] =================================================================================================== */
+
+  /** Guard of the pending requests. */
+  private final Object mSync = new Object();
+  /** Binders with pending data exchange: true - PUSH, false - POP. */
+  private Map<Binder<?, ?>, Boolean> mExchange = new LinkedHashMap<>();
+  /** Binders with pending validation reports, in order of arrival. */
+  private List<Binder<?, ?>> mResults = new ArrayList<>();
+  /** Pending validation reports, parallel to {@link #mResults}: true - success, false - failure. */
+  private List<Boolean> mOutcomes = new ArrayList<>();
+  /** The last pending validation report of the binder. */
+  private final Map<Binder<?, ?>, Boolean> mLastOutcome = new HashMap<>();
+  /** Pending lifecycle validation report. */
+  private boolean mValidation;
+  /** Is drain scheduled or running. */
+  private boolean mScheduled;
+  /** Is drain running. */
+  private boolean mDraining;
+
+  /** Second buffer of data exchange requests, used by drain. */
+  private Map<Binder<?, ?>, Boolean> mDrainExchange = new LinkedHashMap<>();
+  /** Second buffer of validation reports binders, used by drain. */
+  private List<Binder<?, ?>> mDrainResults = new ArrayList<>();
+  /** Second buffer of validation reports, used by drain. */
+  private List<Boolean> mDrainOutcomes = new ArrayList<>();
+
+  /** Quantity of received requests. */
+  private long mRequested;
+  /** Quantity of requests collapsed with already pending ones. */
+  private long mCoalesced;
+  /** Quantity of scheduled drains. */
+  private long mDrains;
+
+	/* [ GETTER / SETTER METHODS ] =================================================================================== */
+
+  /** Get quantity of received requests. */
+  public long getRequested() {
+    synchronized (mSync) {
+      return mRequested;
+    }
+  }
+
+  /** Get quantity of requests collapsed with already pending ones. */
+  public long getCoalesced() {
+    synchronized (mSync) {
+      return mCoalesced;
+    }
+  }
+
+  /** Get quantity of scheduled drains, each drain is one message in main looper. */
+  public long getDrains() {
+    synchronized (mSync) {
+      return mDrains;
+    }
+  }
+
+  /** Get quantity of pending requests. */
+  public int size() {
+    synchronized (mSync) {
+      return pending();
+    }
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  /** Request PUSH of the binder. Returns true - drain should be scheduled. */
+  public boolean offerPush(@NonNull final Binder<?, ?> binder) {
+    synchronized (mSync) {
+      return offer(exchange(binder, true));
+    }
+  }
+
+  /** Request POP of the binder. Returns true - drain should be scheduled. */
+  public boolean offerPop(@NonNull final Binder<?, ?> binder) {
+    synchronized (mSync) {
+      return offer(exchange(binder, false));
+    }
+  }
+
+  /** Request validation result report. Returns true - drain should be scheduled. */
+  public boolean offerResult(@NonNull final Binder<?, ?> binder, final boolean success) {
+    synchronized (mSync) {
+      final boolean isNew = !Boolean.valueOf(success).equals(mLastOutcome.put(binder, success));
+
+      if (isNew) {
+        mResults.add(binder);
+        mOutcomes.add(success);
+      }
+
+      return offer(isNew);
+    }
+  }
+
+  /** Request lifecycle validation report. Returns true - drain should be scheduled. */
+  public boolean offerValidation() {
+    synchronized (mSync) {
+      final boolean isNew = !mValidation;
+      mValidation = true;
+
+      return offer(isNew);
+    }
+  }
+
+  /**
+   * Deliver pending requests to sink. Order of delivery: data exchange requests in order of arrival, validation
+   * results in order of arrival, lifecycle validation. Requests that arrive during the drain are left for the next
+   * drain.
+   *
+   * @return true - requests arrived during the drain, owner should schedule one more drain.
+   */
+  public boolean drain(@NonNull final Sink sink) {
+    final boolean validation;
+    final boolean isRescheduled;
+
+    synchronized (mSync) {
+      // nested call from the sink or concurrent call from another thread, running drain reschedules itself
+      if (mDraining) return false;
+
+      mDraining = true;
+
+      final Map<Binder<?, ?>, Boolean> exchange = mExchange;
+      mExchange = mDrainExchange;
+      mDrainExchange = exchange;
+
+      final List<Binder<?, ?>> results = mResults;
+      mResults = mDrainResults;
+      mDrainResults = results;
+
+      final List<Boolean> outcomes = mOutcomes;
+      mOutcomes = mDrainOutcomes;
+      mDrainOutcomes = outcomes;
+
+      mLastOutcome.clear();
+      validation = mValidation;
+      mValidation = false;
+    }
+
+    try {
+      for (final Map.Entry<Binder<?, ?>, Boolean> e : mDrainExchange.entrySet()) {
+        if (e.getValue()) {
+          sink.push(e.getKey());
+        } else {
+          sink.pop(e.getKey());
+        }
+      }
+
+      for (int i = 0, len = mDrainResults.size(); i < len; i++) {
+        sink.result(mDrainResults.get(i), mDrainOutcomes.get(i));
+      }
+
+      if (validation) {
+        sink.validation();
+      }
+    } finally {
+      mDrainExchange.clear();
+      mDrainResults.clear();
+      mDrainOutcomes.clear();
+
+      synchronized (mSync) {
+        mDraining = false;
+        isRescheduled = mScheduled = pending() > 0;
+
+        if (isRescheduled) {
+          mDrains++;
+        }
+      }
+    }
+
+    return isRescheduled;
+  }
+
+  /** Drop all pending requests of the binder. */
+  public void remove(@NonNull final Binder<?, ?> binder) {
+    synchronized (mSync) {
+      mExchange.remove(binder);
+      mLastOutcome.remove(binder);
+
+      for (int i = mResults.size() - 1; i >= 0; i--) {
+        if (binder == mResults.get(i)) {
+          mResults.remove(i);
+          mOutcomes.remove(i);
+        }
+      }
+    }
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Store data exchange request. Returns true - request is not collapsed. Called under lock. */
+  private boolean exchange(@NonNull final Binder<?, ?> binder, final boolean isPush) {
+    final Boolean previous = mExchange.get(binder);
+
+    if (null != previous && previous == isPush) return false;
+
+    // the latest direction wins and takes its place in order of arrival
+    if (null != previous) {
+      mExchange.remove(binder);
+    }
+
+    mExchange.put(binder, isPush);
+
+    return true;
+  }
+
+  /** Get quantity of pending requests. Called under lock. */
+  private int pending() {
+    return mExchange.size() + mResults.size() + (mValidation ? 1 : 0);
+  }
+
+  /** Update counters, decide about drain scheduling. Called under lock. */
+  private boolean offer(final boolean isNew) {
+    mRequested++;
+
+    if (!isNew) {
+      mCoalesced++;
+    }
+
+    if (mScheduled) return false;
+
+    mScheduled = true;
+    mDrains++;
+
+    return true;
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Receiver of the drained requests. */
+  public interface Sink {
+    /** Binder view changed. */
+    void push(@NonNull final Binder<?, ?> binder);
+
+    /** Binder model changed. */
+    void pop(@NonNull final Binder<?, ?> binder);
+
+    /** Binder validation result. */
+    void result(@NonNull final Binder<?, ?> binder, final boolean success);
+
+    /** Lifecycle validation report. */
+    void validation();
+  }
+}
@@ -0,0 +1,85 @@
+package com.artfulbits.binding;
+
+import android.support.annotation.NonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Journal of data exchange requests received in 'freeze mode'. Journal keeps only the latest intent per binder, so
+ * memory is bounded by quantity of attached binders. Conflict resolution rules:<br/>
+ * <ul>
+ * <li>repeated request in the same direction is collapsed;</li>
+ * <li>PUSH after POP: PUSH wins, view keeps the newest user input and it should reach the model;</li>
+ * <li>POP after PUSH: POP wins, model changed after user input and it is the newest state.</li>
+ * </ul>
+ * Binders are replayed in order of their first request.
+ */
+/* package */ final class FreezeJournal {
+	/* [ MEMBERS ] =================================================================================================== */
+
+  /** Latest intent per binder: true - POP, false - PUSH. */
+  private Map<Binder<?, ?>, Boolean> mIntents = new LinkedHashMap<>();
+  /** Quantity of received requests. */
+  private long mRequested;
+  /** Quantity of requests collapsed with already journaled ones. */
+  private long mCollapsed;
+
+	/* [ GETTER / SETTER METHODS ] =================================================================================== */
+
+  /** Get quantity of binders with journaled intent. */
+  public synchronized int size() {
+    return mIntents.size();
+  }
+
+  /** Get quantity of received requests. */
+  public synchronized long getRequested() {
+    return mRequested;
+  }
+
+  /** Get quantity of requests collapsed with already journaled ones. */
+  public synchronized long getCollapsed() {
+    return mCollapsed;
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  /** Journal PUSH request. */
+  public synchronized void push(@NonNull final Binder<?, ?> binder) {
+    record(binder, false);
+  }
+
+  /** Journal POP request. */
+  public synchronized void pop(@NonNull final Binder<?, ?> binder) {
+    record(binder, true);
+  }
+
+  /** Drop intent of the binder. */
+  public synchronized void remove(@NonNull final Binder<?, ?> binder) {
+    mIntents.remove(binder);
+  }
+
+  /**
+   * Extract all journaled intents, journal becomes empty.
+   *
+   * @return binders in order of first request, value: true - POP, false - PUSH.
+   */
+  @NonNull
+  public synchronized Map<Binder<?, ?>, Boolean> drain() {
+    final Map<Binder<?, ?>, Boolean> result = mIntents;
+    mIntents = new LinkedHashMap<>();
+
+    return result;
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Store the latest intent, keep position of the binder. */
+  private void record(@NonNull final Binder<?, ?> binder, final boolean isPop) {
+    mRequested++;
+
+    if (null != mIntents.put(binder, isPop)) {
+      mCollapsed++;
+    }
+  }
+}
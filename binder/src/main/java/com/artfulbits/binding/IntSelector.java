@@ -0,0 +1,38 @@
+package com.artfulbits.binding;
+
+import android.support.annotation.NonNull;
+
+import com.artfulbits.binding.reflection.IntProperty;
+
+/**
+ * Selector of the {@code int} property value from instance. Allows to get and set value without boxing.
+ *
+ * @param <I> the instance data type
+ */
+@SuppressWarnings("unused")
+public class IntSelector<I> extends Selector<I, Integer> {
+  /* ============================================================================================================== */
+
+  /** Create a new instance of the selector. */
+  public IntSelector(@NonNull final I instance, @NonNull final IntProperty property) {
+    super(instance, property);
+  }
+
+  /* ============================================================================================================== */
+
+  /** Get property definition that should be used for data exchange. */
+  @Override
+  public IntProperty getProperty() {
+    return (IntProperty) super.getProperty();
+  }
+
+  /** Extract value from property without boxing. */
+  public int getInt() {
+    return getProperty().getInt(getRuntimeInstance());
+  }
+
+  /** Set value of the property without boxing. */
+  public void setInt(final int value) {
+    getProperty().setInt(getRuntimeInstance(), value);
+  }
+}
@@ -0,0 +1,354 @@
+package com.artfulbits.binding;
+
+import android.support.annotation.NonNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Split-thread executor of the binders data exchange. Only view side of the exchange is executed by main scheduler,
+ * model access, formatting, validation and ridge work is executed by worker scheduler:<br/>
+ * <ul>
+ * <li>PUSH: main (View) --&gt; worker (Formatter, Validator, Ridge, Model);</li>
+ * <li>POP: worker (Model, Ridge, Validator, Formatter) --&gt; main (View).</li>
+ * </ul>
+ * Binders with primitive properties do not allocate anything, their exchange is executed by main scheduler as one
+ * step.
+ * <p/>
+ * Guarantees per binder: exchanges are executed one by one in order of requests. Binder state (ridge cache, status)
+ * is confined to the thread of the current stage: ridge work starts after the lane check and ends before the lane is
+ * finished or handed over to asynchronous validation, both under the pipeline lock. So exchange happens-before the
+ * next one, even when stages run on different threads. Only one pending request per
+ * direction is kept, the latest request supersedes previous one. Exchange that is not started its worker stage yet is
+ * cancelled when the same direction is requested again. Exchange continued by asynchronous validation of the binder
+ * is finished only when validation result is delivered, so next exchange never overtakes it.
+ */
+/* package */ final class Pipeline {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** No exchange. */
+  private static final int NONE = 0;
+  /** Exchange in direction View --&gt; Model. */
+  private static final int PUSH = 1;
+  /** Exchange in direction Model --&gt; View. */
+  private static final int POP = 2;
+
+	/* [ MEMBERS ] =================================================================================================== */
+
+  /** Scheduler of the view stages. */
+  private final Scheduler mMain;
+  /** Scheduler of the model stages. */
+  private final Scheduler mWorker;
+  /** Exchange state per binder, only binders with active exchange are kept. Guarded by this. */
+  private final Map<Binder<?, ?>, Lane> mLanes = new IdentityHashMap<>();
+
+  /** Sequence of exchange tokens. Guarded by this. */
+  private long mSequence;
+  /** Quantity of started exchanges. */
+  private long mStarted;
+  /** Quantity of superseded exchanges. */
+  private long mCancelled;
+
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /* package */ Pipeline(@NonNull final Scheduler main, @NonNull final Scheduler worker) {
+    mMain = main;
+    mWorker = worker;
+  }
+
+	/* [ GETTER / SETTER METHODS ] =================================================================================== */
+
+  /** Get scheduler of the view stages. */
+  @NonNull
+  public Scheduler getMain() {
+    return mMain;
+  }
+
+  /** Get scheduler of the model stages. */
+  @NonNull
+  public Scheduler getWorker() {
+    return mWorker;
+  }
+
+  /** Get quantity of started exchanges. */
+  public synchronized long getStarted() {
+    return mStarted;
+  }
+
+  /** Get quantity of exchanges cancelled because of newer request. */
+  public synchronized long getCancelled() {
+    return mCancelled;
+  }
+
+  /** Get quantity of binders with active exchange. */
+  public synchronized int size() {
+    return mLanes.size();
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  /** Request exchange in direction View --&gt; Model. */
+  public void push(@NonNull final Binder<?, ?> binder) {
+    submit(binder, PUSH);
+  }
+
+  /** Request exchange in direction Model --&gt; View. */
+  public void pop(@NonNull final Binder<?, ?> binder) {
+    submit(binder, POP);
+  }
+
+  /** Cancel all pending exchanges of the binder. Stages already in progress are not interrupted. */
+  public synchronized void remove(@NonNull final Binder<?, ?> binder) {
+    final Lane lane = mLanes.remove(binder);
+
+    if (null != lane) {
+      mCancelled += Integer.bitCount(lane.mPending);
+    }
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Register request, start exchange if binder is idle. One-way binders skip not allowed direction. */
+  private void submit(@NonNull final Binder<?, ?> binder, final int direction) {
+    if (PUSH == direction ? !binder.canPush() : !binder.canPop()) return;
+
+    final long token;
+
+    synchronized (this) {
+      Lane lane = mLanes.get(binder);
+
+      if (null != lane) {
+        // active exchange in the same direction is outdated, cancel it if worker stage is not started yet
+        if (lane.mActive == direction) {
+          lane.mSuperseded = true;
+        }
+
+        if (0 != (lane.mPending & direction)) {
+          mCancelled++;
+        }
+
+        // the latest request defines order of pending exchanges
+        lane.mPending = (lane.mPending & ~direction);
+        lane.mOrder = (NONE == lane.mPending) ? direction : lane.mPending;
+        lane.mPending |= direction;
+        return;
+      }
+
+      mLanes.put(binder, lane = new Lane());
+      lane.mActive = direction;
+      token = lane.mToken = ++mSequence;
+      mStarted++;
+    }
+
+    start(binder, direction, token);
+  }
+
+  /** Execute first stage of the exchange. */
+  private void start(@NonNull final Binder<?, ?> binder, final int direction, final long token) {
+    if (PUSH == direction) {
+      mMain.schedule(new PushView(binder, token), 0);
+    } else {
+      mWorker.schedule(new PopModel(binder, token), 0);
+    }
+  }
+
+  /** Is exchange still active and not superseded by newer request. */
+  private synchronized boolean isActual(@NonNull final Binder<?, ?> binder, final long token) {
+    final Lane lane = mLanes.get(binder);
+    if (null == lane || lane.mToken != token) return false;
+
+    if (lane.mSuperseded) {
+      mCancelled++;
+      return false;
+    }
+
+    return true;
+  }
+
+  /** Is exchange still active. Exchange that passed its worker stage is finished even if it was superseded. */
+  private synchronized boolean isAlive(@NonNull final Binder<?, ?> binder, final long token) {
+    final Lane lane = mLanes.get(binder);
+
+    return null != lane && lane.mToken == token;
+  }
+
+  /** Exchange moves to another thread. Lock is released by leaving thread and acquired by continuing one. */
+  private synchronized void handOver() {
+    // synchronization only, orders binder state writes between exchange threads
+  }
+
+  /** Exchange finished, start next pending exchange of the binder. */
+  private void finish(@NonNull final Binder<?, ?> binder, final long token) {
+    final int next;
+    final long nextToken;
+
+    synchronized (this) {
+      final Lane lane = mLanes.get(binder);
+      if (null == lane || lane.mToken != token) return;
+
+      if (NONE == lane.mPending) {
+        mLanes.remove(binder);
+        return;
+      }
+
+      // two pending exchanges: first executed the one that was requested earlier
+      next = (PUSH | POP) == lane.mPending ? lane.mOrder : lane.mPending;
+
+      lane.mPending &= ~next;
+      lane.mOrder = lane.mPending;
+      lane.mActive = next;
+      lane.mSuperseded = false;
+      nextToken = lane.mToken = ++mSequence;
+      mStarted++;
+    }
+
+    start(binder, next, nextToken);
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Exchange state of one binder. */
+  private static final class Lane {
+    /** Direction of the active exchange. */
+    int mActive;
+    /** Pending directions, bit mask. */
+    int mPending;
+    /** Direction of the earliest pending exchange. */
+    int mOrder;
+    /** Identity of the active exchange. */
+    long mToken;
+    /** Active exchange is superseded by newer request in the same direction. */
+    boolean mSuperseded;
+  }
+
+  /** Stage of the exchange. Finishes the exchange on any error or when asynchronous continuation is settled. */
+  private abstract class Stage implements Runnable, Binder.Settled {
+    /** Binder in exchange. */
+    protected final Binder<?, ?> mBinder;
+    /** Identity of the exchange. */
+    protected final long mToken;
+
+    /* package */ Stage(@NonNull final Binder<?, ?> binder, final long token) {
+      mBinder = binder;
+      mToken = token;
+    }
+
+    @Override
+    public final void run() {
+      boolean isDone = true;
+
+      try {
+        isDone = execute();
+      } finally {
+        if (isDone) {
+          finish(mBinder, mToken);
+        }
+      }
+    }
+
+    /** Exchange continued by binder asynchronous validation moves to another thread. */
+    @Override
+    public final void onHandOver() {
+      handOver();
+    }
+
+    /** Exchange continued by binder asynchronous validation is finished. */
+    @Override
+    public final void onSettled() {
+      finish(mBinder, mToken);
+    }
+
+    /**
+     * Execute stage.
+     *
+     * @return true - exchange is finished, otherwise next stage is scheduled or exchange is continued by binder.
+     */
+    protected abstract boolean execute();
+  }
+
+  /** PUSH, UI thread: extract value from view. */
+  private final class PushView extends Stage {
+    /* package */ PushView(@NonNull final Binder<?, ?> binder, final long token) {
+      super(binder, token);
+    }
+
+    @Override
+    protected boolean execute() {
+      if (!isActual(mBinder, mToken)) return true;
+
+      if (mBinder.isPrimitive()) {
+        mBinder.push();
+        return true;
+      }
+
+      mWorker.schedule(new PushModel(mBinder, mToken, mBinder.pushFromView()), 0);
+      return false;
+    }
+  }
+
+  /** PUSH, worker thread: formatting, validation, ridge and model update. */
+  private final class PushModel extends Stage {
+    /** Value extracted from view. */
+    private final Object mValue;
+
+    /* package */ PushModel(@NonNull final Binder<?, ?> binder, final long token, final Object value) {
+      super(binder, token);
+      mValue = value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean execute() {
+      return !isActual(mBinder, mToken) || ((Binder<Object, ?>) mBinder).pushToModel(mValue, this);
+    }
+  }
+
+  /** POP, worker thread: model value extracting, ridge, validation and formatting. */
+  private final class PopModel extends Stage {
+    /* package */ PopModel(@NonNull final Binder<?, ?> binder, final long token) {
+      super(binder, token);
+    }
+
+    @Override
+    protected boolean execute() {
+      if (!isActual(mBinder, mToken)) return true;
+
+      if (mBinder.isPrimitive()) {
+        mMain.schedule(new PopView(mBinder, mToken, Binder.NOTHING), 0);
+        return false;
+      }
+
+      final Object value = mBinder.popFromModel(this);
+      if (Binder.NOTHING == value) return true;
+      if (Binder.DEFERRED == value) return false;
+
+      mMain.schedule(new PopView(mBinder, mToken, value), 0);
+      return false;
+    }
+  }
+
+  /** POP, UI thread: view update. Ridge already keeps the value, so stage is executed even if superseded. */
+  private final class PopView extends Stage {
+    /** Value for view, {@link Binder#NOTHING} - execute complete exchange of primitives. */
+    private final Object mValue;
+
+    /* package */ PopView(@NonNull final Binder<?, ?> binder, final long token, final Object value) {
+      super(binder, token);
+      mValue = value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean execute() {
+      if (Binder.NOTHING == mValue) {
+        if (isActual(mBinder, mToken)) {
+          mBinder.pop();
+        }
+      } else if (isAlive(mBinder, mToken)) {
+        ((Binder<Object, ?>) mBinder).popToView(mValue);
+      }
+
+      return true;
+    }
+  }
+}
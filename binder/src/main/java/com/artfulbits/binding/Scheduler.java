@@ -0,0 +1,25 @@
+package com.artfulbits.binding;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Executor of the deferred binding work: changes delivery, validation reports and lifecycle events. Allows to run
+ * binding engine on main looper, on custom executor or in deterministic virtual time (unit tests, benchmarks).
+ *
+ * @see com.artfulbits.binding.toolbox.Schedulers
+ */
+public interface Scheduler {
+  /** Get current time of the scheduler clock, in milliseconds. */
+  long now();
+
+  /**
+   * Execute task after delay.
+   *
+   * @param task  task to execute.
+   * @param delay delay in milliseconds, zero or negative - execute as soon as possible.
+   */
+  void schedule(@NonNull final Runnable task, final long delay);
+
+  /** Cancel all not executed yet schedules of the task. */
+  void cancel(@NonNull final Runnable task);
+}
@@ -1,11 +1,14 @@
 package com.artfulbits.binding;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.artfulbits.binding.exceptions.WrongConfigurationError;
 import com.artfulbits.binding.reflection.Property;
 
+import java.lang.ref.WeakReference;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Selector of the property value from instance.<br/> Responsibility:<br/> - 'Late Binding' declaration.<br/> - Allows
@@ -19,10 +22,17 @@ import java.util.Locale;
 public class Selector<I, V> implements Notifications {
   /* ============================================================================================================== */
 
+  /** Version of the caching modes of all selectors, changed on each {@link #setCaching(boolean)} mode change. */
+  private static final AtomicInteger sCachingVersion = new AtomicInteger();
+
   /** Instance of the class which we use as source/destination of data. */
   private final I mInstance;
   /** Property descriptor. */
   private final Property<V> mProperty;
+  /** Is resolved instance of the chain cached between calls. */
+  private volatile boolean mIsCaching;
+  /** Resolved instance of the chain, weakly referenced. {@code null} - not resolved yet. */
+  private volatile WeakReference<I> mCached;
 
   /* ============================================================================================================== */
 
@@ -85,17 +95,119 @@ public class Selector<I, V> implements Notifications {
     return mProperty;
   }
 
+  /** Is caching of the resolved chain enabled. */
+  public boolean isCaching() {
+    return mIsCaching;
+  }
+
+  /**
+   * Enable or disable caching of the resolved chain. When enabled, instance resolved by the chain of selectors is
+   * weakly cached and reused by all next calls until {@link #invalidate()}. Mode is applied to the whole chain.
+   *
+   * @param enabled true - cache resolved instance, otherwise resolve chain on each call.
+   * @return self instance, for chained calls.
+   */
+  @NonNull
+  public Selector<I, V> setCaching(final boolean enabled) {
+    if (mIsCaching != enabled) {
+      mIsCaching = enabled;
+      sCachingVersion.incrementAndGet();
+    }
+
+    if (mInstance instanceof Selector) {
+      ((Selector) mInstance).setCaching(enabled);
+    }
+
+    if (!enabled) {
+      mCached = null;
+    }
+
+    return this;
+  }
+
   /** Return reference on associated instance. */
   @SuppressWarnings({"unchecked"})
   public I getRuntimeInstance() {
     // late binding trick, allows to build a chain of calls
     if (mInstance instanceof Selector) {
-      return (I) ((Selector) mInstance).get();
+      if (!mIsCaching) {
+        return (I) ((Selector) mInstance).get();
+      }
+
+      final WeakReference<I> cached = mCached;
+      I instance = (null == cached) ? null : cached.get();
+
+      if (null == instance && null != (instance = (I) ((Selector) mInstance).get())) {
+        mCached = new WeakReference<>(instance);
+      }
+
+      return instance;
     }
 
     return mInstance;
   }
 
+  /** Drop cached instances of the whole chain. Next call will resolve chain again. */
+  public void invalidate() {
+    mCached = null;
+
+    if (mInstance instanceof Selector) {
+      ((Selector) mInstance).invalidate();
+    }
+  }
+
+  /** Is runtime instance stable between calls: constant instance or cached result of the chain. */
+  /* package */ boolean isStable() {
+    return !(mInstance instanceof Selector) || mIsCaching;
+  }
+
+  /**
+   * Get version of the caching modes of all selectors. Allows to detect {@link #isStable()} changes without checking
+   * each selector: version is the same - no selector changed caching mode.
+   */
+  /* package */ static int cachingVersion() {
+    return sCachingVersion.get();
+  }
+
+  /** Get quantity of selectors in the chain. */
+  /* package */ int depth() {
+    return (mInstance instanceof Selector) ? 1 + ((Selector) mInstance).depth() : 1;
+  }
+
+  /**
+   * Copy cached instances of the whole chain into array.
+   *
+   * @param to destination, should have at least {@link #depth()} items.
+   */
+  /* package */ void saveCache(@NonNull final WeakReference<?>[] to) {
+    Selector<?, ?> selector = this;
+
+    for (int i = 0; null != selector; i++) {
+      to[i] = selector.mCached;
+      selector = (selector.mInstance instanceof Selector) ? (Selector<?, ?>) selector.mInstance : null;
+    }
+  }
+
+  /**
+   * Replace cached instances of the whole chain.
+   *
+   * @param from source created by {@link #saveCache(WeakReference[])}, null - drop cached instances.
+   */
+  /* package */ void loadCache(@Nullable final WeakReference<?>[] from) {
+    Selector<?, ?> selector = this;
+
+    for (int i = 0; null != selector; i++) {
+      selector.setCached((null == from) ? null : from[i]);
+      selector = (selector.mInstance instanceof Selector) ? (Selector<?, ?>) selector.mInstance : null;
+    }
+  }
+
+  /** Replace cached instance of this selector, reference is created by the selector with the same instance type. */
+  @SuppressWarnings("unchecked")
+  private void setCached(@Nullable final WeakReference<?> cached) {
+    mCached = (WeakReference<I>) cached;
+  }
+
   /** Extract value from property. */
   public V get() {
     return getProperty().get(getRuntimeInstance());
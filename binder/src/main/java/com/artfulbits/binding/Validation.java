@@ -0,0 +1,34 @@
+package com.artfulbits.binding;
+
+import android.support.annotation.Nullable;
+
+/**
+ * Compiled validation rule. Rule is a flat predicate that reports failure as a code, without building any
+ * descriptions. Rules are created once and reused by all data exchanges of the binder.
+ *
+ * @param <T> type of the validated value (Model side).
+ * @see com.artfulbits.binding.toolbox.Rules
+ */
+public interface Validation<T> {
+  /** Code of the passed validation. */
+  int VALID = 0;
+
+  /**
+   * Validate value.
+   *
+   * @param value the instance to validate.
+   * @return {@link #VALID} or code of the failure.
+   */
+  int validate(@Nullable final T value);
+
+  /** Validation rule of primitive {@code int} values, used by binders with primitive properties without boxing. */
+  interface Ints extends Validation<Integer> {
+    /**
+     * Validate primitive value.
+     *
+     * @param value the value to validate.
+     * @return {@link #VALID} or code of the failure.
+     */
+    int validateInt(final int value);
+  }
+}
@@ -0,0 +1,13 @@
+package com.artfulbits.binding;
+
+/**
+ * Optional contract of the model values that count own modifications, in the spirit of {@code AbstractList.modCount}.
+ * Each structural or value modification should increase the version. Ridge of the versioned value detects changes by
+ * comparing instance reference and version stamp, without {@code equals()} and without keeping a copy of the value.
+ *
+ * @see com.artfulbits.binding.toolbox.Ridges#versioned()
+ */
+public interface Versioned {
+  /** Get version stamp of the instance. Changed on each modification. */
+  long getVersion();
+}
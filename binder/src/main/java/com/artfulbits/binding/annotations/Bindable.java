@@ -0,0 +1,20 @@
+package com.artfulbits.binding.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark POJO or custom View class for compile time accessors generation. Annotation processor from 'binder-compiler'
+ * module generates class {@code <Type>$$Accessors} with direct calls of all non-private getters, setters and fields.
+ * <p/>
+ * Generated accessors are used by {@link com.artfulbits.binding.reflection.Property} instead of reflection, which also
+ * makes binding safe for obfuscation.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Bindable {
+}
@@ -0,0 +1,13 @@
+package com.artfulbits.binding.reflection;
+
+/**
+ * Direct, non-reflective access to a class member. Implementations are specialized for one member of one class and
+ * normally are generated, not written by hands.
+ */
+public interface Accessor {
+  /**
+   * Invoke get or set. If args length more than zero - we invoke SET, otherwise GET. Same contract as {@link
+   * Entry#invoke(Object, Object...)}.
+   */
+  Object invoke(final Object receiver, final Object... args);
+}
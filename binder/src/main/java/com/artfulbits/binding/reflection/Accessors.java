@@ -0,0 +1,340 @@
+package com.artfulbits.binding.reflection;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Registry of compiled accessors. Accessors are specialized classes that call getter/setter or access the field
+ * directly, without {@link Method#invoke(Object, Object...)} and without boxing of the arguments into varargs.
+ * <p/>
+ * Registry is exposed as a {@link Backend} for {@link ReflectionUtils}, members without registered accessor are
+ * executed via reflection. Accessors generated at compile time (see {@link
+ * com.artfulbits.binding.annotations.Bindable}) are registered by static initializer of the {@code <Type>$$Accessors}
+ * class, which is loaded on first lookup.
+ */
+@SuppressWarnings("unused")
+public final class Accessors {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Suffix of the compile time generated classes. */
+  public static final String SUFFIX = "$$Accessors";
+
+  /** Guard that protects sRegistry updates. */
+  private static final Object sSync = new Object();
+  /** Class member key to accessor instance. */
+  private static final Map<String, Accessor> sRegistry = new HashMap<>();
+  /** Marker of the overloaded methods with the same quantity of parameters. */
+  private static final Accessor AMBIGUOUS = new Accessor() {
+    @Override
+    public Object invoke(final Object receiver, final Object... args) {
+      throw new AssertionError("ambiguous accessor");
+    }
+  };
+  /**
+   * Classes for which we already tried to load generated accessors, value - is generated class found. Classes are
+   * weakly referenced, same as in members indexes of {@link ReflectionUtils}.
+   */
+  private static final ClassCache<Boolean> sLoaded = new ClassCache<>(new ClassCache.Factory<Boolean>() {
+    @NonNull
+    @Override
+    public Boolean create(@NonNull final Class<?> type) {
+      return load(type);
+    }
+  });
+  /** Backend that resolves members to registered accessors. */
+  private static final Backend COMPILED = new Backend() {
+    @Nullable
+    @Override
+    public Entry wrap(@NonNull final Field field) {
+      // reflected field serves GET and SET, read only accessors of final fields are not applicable
+      final Accessor a = find(toKey(field.getDeclaringClass(), field.getName()));
+
+      return (null == a) ? null : new CompiledEntry(field, field.getName(), a);
+    }
+
+    @Nullable
+    @Override
+    public Entry wrap(@NonNull final Method method) {
+      final Accessor a = find(toKey(method.getDeclaringClass(), method.getName(), method.getParameterTypes()));
+
+      return (null == a) ? null : new CompiledEntry(method, method.getName(), a);
+    }
+  };
+
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /** hidden constructor. */
+  private Accessors() {
+    throw new AssertionError();
+  }
+
+  /* [ STATIC METHODS ] ============================================================================================ */
+
+  /** Get backend that resolves class members to registered accessors. */
+  @NonNull
+  public static Backend compiled() {
+    return COMPILED;
+  }
+
+  /**
+   * Register accessor of the field.
+   *
+   * @param owner class that declares the field.
+   * @param name  field name.
+   * @param a     accessor instance.
+   */
+  public static void register(@NonNull final Class<?> owner, @NonNull final String name, @NonNull final Accessor a) {
+    synchronized (sSync) {
+      sRegistry.put(toKey(owner, name), a);
+    }
+
+    // class members indexes may contain reflection entries for this member
+    ReflectionUtils.invalidate(owner);
+  }
+
+  /**
+   * Register accessor of the final field. Field is read only, lookup of setters does not resolve it.
+   *
+   * @param owner class that declares the field.
+   * @param name  field name.
+   * @param a     accessor instance.
+   */
+  public static void registerReadOnly(@NonNull final Class<?> owner, @NonNull final String name,
+                                      @NonNull final Accessor a) {
+    synchronized (sSync) {
+      sRegistry.put(toReadOnlyKey(owner, name), a);
+    }
+
+    ReflectionUtils.invalidate(owner);
+  }
+
+  /**
+   * Register accessor of the method.
+   *
+   * @param owner  class that declares the method.
+   * @param name   method name.
+   * @param params method parameters types.
+   * @param a      accessor instance.
+   */
+  public static void register(@NonNull final Class<?> owner, @NonNull final String name,
+                              @NonNull final Class<?>[] params, @NonNull final Accessor a) {
+    final String arity = toKey(owner, name, params.length);
+
+    synchronized (sSync) {
+      sRegistry.put(toKey(owner, name, params), a);
+
+      // secondary index by quantity of parameters, for properties with not exact data type
+      final Accessor known = sRegistry.get(arity);
+      sRegistry.put(arity, (null == known) ? a : AMBIGUOUS);
+    }
+
+    ReflectionUtils.invalidate(owner);
+  }
+
+  /** Drop all accessors registered for specified class. */
+  public static void unregister(@NonNull final Class<?> owner) {
+    final String prefix = owner.getName() + "#";
+
+    sLoaded.remove(owner);
+
+    synchronized (sSync) {
+      final Iterator<String> it = sRegistry.keySet().iterator();
+
+      while (it.hasNext()) {
+        if (it.next().startsWith(prefix)) {
+          it.remove();
+        }
+      }
+    }
+
+    ReflectionUtils.invalidate(owner);
+  }
+
+  /**
+   * Find registered accessor by member name and parameters, without scanning of class members. Lookup includes
+   * super classes and loads compile time generated accessors on demand.
+   *
+   * @param type   class of the instance.
+   * @param name   name of the method or field.
+   * @param params method parameters. Empty - getter or field, one parameter - setter or field.
+   * @return found entry, otherwise {@code null}.
+   */
+  @Nullable
+  public static Entry find(@NonNull final Class<?> type, @NonNull final String name,
+                           @NonNull final Class<?>... params) {
+    // only getters and setters are supported
+    if (params.length > 1) return null;
+
+    for (Class<?> c = type; null != c && Object.class != c; c = c.getSuperclass()) {
+      sLoaded.get(c);
+
+      Accessor a = find(toKey(c, name, params));
+
+      // setter may be declared with primitive or boxed argument
+      if (null == a && 1 == params.length) {
+        final Class<?> other = params[0].isPrimitive() ?
+            ReflectionUtils.boxing(params[0]) : ReflectionUtils.unboxing(params[0]);
+        a = find(toKey(c, name, new Class<?>[]{other}));
+      }
+
+      // only one method with such name and quantity of parameters
+      if (null == a) {
+        a = find(toKey(c, name, params.length));
+      }
+
+      if (null != a && AMBIGUOUS != a && isApplicable(a, params.length)) {
+        return new CompiledEntry(null, name, a);
+      }
+
+      // field can be used for GET and SET, final field only for GET
+      if (null != (a = find(toKey(c, name))) || (0 == params.length && null != (a = find(toReadOnlyKey(c, name))))) {
+        return new CompiledEntry(null, name, a);
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Extract accessor from entry.
+   *
+   * @param entry resolved class member.
+   * @return accessor instance, {@code null} - entry is executed via reflection.
+   */
+  @Nullable
+  public static Accessor unwrap(@NonNull final Entry entry) {
+    return (entry instanceof CompiledEntry) ? ((CompiledEntry) entry).mAccessor : null;
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /**
+   * Load compile time generated accessors of the class, if any. Executed once per cached class: static initializer of
+   * the generated class does registration, so repeated call after cache eviction does nothing.
+   *
+   * @return {@code true} - generated class found, otherwise {@code false}.
+   */
+  private static boolean load(@NonNull final Class<?> type) {
+    final ClassLoader loader = type.getClassLoader();
+
+    // system classes are skipped
+    if (null == loader) return false;
+
+    try {
+      Class.forName(type.getName() + SUFFIX, true, loader);
+      return true;
+    } catch (final ClassNotFoundException ignored) {
+      // no generated code for class
+    } catch (final LinkageError ignored) {
+      // generated code is not compatible with current class
+    }
+
+    return false;
+  }
+
+  /** Can accessor be used as a getter (no parameters) or as a setter (one parameter). */
+  private static boolean isApplicable(@NonNull final Accessor a, final int params) {
+    if (0 == params) return !(a instanceof IntAccessor.Setter) && !(a instanceof BooleanAccessor.Setter);
+
+    return !(a instanceof IntAccessor.Getter) && !(a instanceof BooleanAccessor.Getter);
+  }
+
+  /** Find accessor by key. */
+  @Nullable
+  private static Accessor find(@NonNull final String key) {
+    synchronized (sSync) {
+      return sRegistry.get(key);
+    }
+  }
+
+  /** Compose key for field. */
+  @NonNull
+  private static String toKey(@NonNull final Class<?> owner, @NonNull final String name) {
+    return owner.getName() + "#" + name;
+  }
+
+  /** Compose key for final field. */
+  @NonNull
+  private static String toReadOnlyKey(@NonNull final Class<?> owner, @NonNull final String name) {
+    return owner.getName() + "#" + name + "!";
+  }
+
+  /** Compose key for method by quantity of parameters. */
+  @NonNull
+  private static String toKey(@NonNull final Class<?> owner, @NonNull final String name, final int count) {
+    return owner.getName() + "#" + name + "/" + count;
+  }
+
+  /** Compose key for method. */
+  @NonNull
+  private static String toKey(@NonNull final Class<?> owner, @NonNull final String name,
+                              @NonNull final Class<?>[] params) {
+    final StringBuilder sb = new StringBuilder(64);
+    sb.append(owner.getName()).append('#').append(name).append('(');
+
+    String separator = "";
+    for (final Class<?> c : params) {
+      sb.append(separator).append(c.getName());
+      separator = ",";
+    }
+
+    return sb.append(')').toString();
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Facade for compiled accessor. */
+  private static final class CompiledEntry implements Entry {
+    /** Reflected member, used only for signatures matching. {@code null} for compile time generated entries. */
+    private final AccessibleObject mRaw;
+    /** Member name. */
+    private final String mName;
+    /** Compiled accessor. */
+    private final Accessor mAccessor;
+
+    public CompiledEntry(@Nullable final AccessibleObject raw, @NonNull final String name,
+                         @NonNull final Accessor accessor) {
+      mRaw = raw;
+      mName = name;
+      mAccessor = accessor;
+    }
+
+    @Override
+    public String getName() {
+      return mName;
+    }
+
+    @Override
+    public String getFullName() {
+      return (null == mRaw) ? mName : mRaw.toString();
+    }
+
+    @Override
+    public AccessibleObject getRawType() {
+      return mRaw;
+    }
+
+    @Override
+    public Object invoke(final Object receiver, final Object... args) {
+      return mAccessor.invoke(receiver, args);
+    }
+
+    @Override
+    public String toString() {
+      if (mRaw instanceof Method) {
+        final int length = ((Method) mRaw).getParameterTypes().length;
+        final String params = (length > 0) ? "..." : "";
+        return getName() + "(" + params + ")";
+      }
+
+      return getName();
+    }
+  }
+}
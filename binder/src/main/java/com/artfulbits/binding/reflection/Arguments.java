@@ -0,0 +1,126 @@
+package com.artfulbits.binding.reflection;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Arguments of the property getter and setter. Constant arguments are captured once, on property creation, and
+ * passed to getter as is. Setter receives constant arguments followed by the value slot: {@code map.put(key, value)},
+ * {@code list.set(index, value)}.
+ * <p/>
+ * Setter arguments array is reused between calls. If array is already in use (re-entrant or concurrent call), a new
+ * array is created, so callers never share the value slot.
+ */
+@SuppressWarnings("unused")
+public final class Arguments {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Empty array of arguments. */
+  private static final Object[] EMPTY = new Object[0];
+
+	/* [ MEMBERS ] =================================================================================================== */
+
+  /** Constant arguments. */
+  private final Object[] mBound;
+  /** Reusable setter arguments, {@code null} - array is borrowed by other call. */
+  private final AtomicReference<Object[]> mSlots;
+
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /** hidden constructor. */
+  private Arguments(@NonNull final Object[] bound) {
+    mBound = bound;
+    mSlots = new AtomicReference<>(new Object[bound.length + 1]);
+
+    System.arraycopy(bound, 0, mSlots.get(), 0, bound.length);
+  }
+
+  /* [ STATIC METHODS ] ============================================================================================ */
+
+  /** Arguments without constant part: getter without parameters, setter with one parameter. */
+  @NonNull
+  public static Arguments none() {
+    return new Arguments(EMPTY);
+  }
+
+  /**
+   * Capture constant arguments.
+   *
+   * @param bound constant arguments, array is copied.
+   * @return instance of arguments.
+   */
+  @NonNull
+  public static Arguments of(@Nullable final Object... bound) {
+    return (null == bound || 0 == bound.length) ? none() : new Arguments(bound.clone());
+  }
+
+  /* [ GETTER / SETTER METHODS ] =================================================================================== */
+
+  /** Get quantity of constant arguments. */
+  public int size() {
+    return mBound.length;
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  /** Get arguments of the getter. {@code null} - getter has no parameters. Array should not be modified. */
+  @Nullable
+  public Object[] getter() {
+    return (0 == mBound.length) ? null : mBound;
+  }
+
+  /**
+   * Get arguments of the setter. Returned array should be returned back by {@link #release(Object[])} call.
+   *
+   * @param value value placed into the last slot.
+   * @return array of constant arguments and value.
+   */
+  @NonNull
+  public Object[] acquire(@Nullable final Object value) {
+    Object[] args = mSlots.getAndSet(null);
+
+    // array is in use by other call
+    if (null == args) {
+      args = new Object[mBound.length + 1];
+      System.arraycopy(mBound, 0, args, 0, mBound.length);
+    }
+
+    args[mBound.length] = value;
+
+    return args;
+  }
+
+  /** Return setter arguments back for reuse. Value slot is cleared, so the value is not held by property. */
+  public void release(@NonNull final Object[] args) {
+    if (args.length != mBound.length + 1) return;
+
+    // array composed by other code, not ours
+    for (int i = 0; i < mBound.length; i++) {
+      if (args[i] != mBound[i]) return;
+    }
+
+    args[mBound.length] = null;
+    mSlots.compareAndSet(null, args);
+  }
+
+  /**
+   * Compose data types of setter parameters.
+   *
+   * @param type data type of the value.
+   * @return data types of constant arguments followed by value data type.
+   */
+  @NonNull
+  public Class<?>[] types(@NonNull final Class<?> type) {
+    final Class<?>[] types = new Class<?>[mBound.length + 1];
+
+    for (int i = 0; i < mBound.length; i++) {
+      types[i] = (null == mBound[i]) ? Object.class : mBound[i].getClass();
+    }
+
+    types[mBound.length] = type;
+
+    return types;
+  }
+}
@@ -0,0 +1,21 @@
+package com.artfulbits.binding.reflection;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Strategy that converts reflected class members into executable entries. Backend may return {@code null}, in that
+ * case member will be executed via reflection.
+ */
+public interface Backend {
+  /** Create entry for field access. */
+  @Nullable
+  Entry wrap(@NonNull final Field field);
+
+  /** Create entry for method call. */
+  @Nullable
+  Entry wrap(@NonNull final Method method);
+}
@@ -0,0 +1,39 @@
+package com.artfulbits.binding.reflection;
+
+/**
+ * Accessor of the {@code boolean} class member. Allows to get and set value without boxing. Generic {@link
+ * #invoke(Object, Object...)} call is redirected to primitive methods.
+ */
+public abstract class BooleanAccessor implements Accessor {
+  /** Get value. */
+  public abstract boolean getBoolean(final Object receiver);
+
+  /** Set value. */
+  public abstract void setBoolean(final Object receiver, final boolean value);
+
+  @Override
+  public Object invoke(final Object receiver, final Object... args) {
+    if (null != args && args.length > 0) {
+      setBoolean(receiver, (Boolean) args[0]);
+      return args[0];
+    }
+
+    return getBoolean(receiver);
+  }
+
+  /** Read only accessor: getter or final field. Lookup of setters never resolves it, see {@link Accessors#find}. */
+  public abstract static class Getter extends BooleanAccessor {
+    @Override
+    public final void setBoolean(final Object receiver, final boolean value) {
+      throw new UnsupportedOperationException("Read only accessor.");
+    }
+  }
+
+  /** Write only accessor: setter. Lookup of getters never resolves it, see {@link Accessors#find}. */
+  public abstract static class Setter extends BooleanAccessor {
+    @Override
+    public final boolean getBoolean(final Object receiver) {
+      throw new UnsupportedOperationException("Write only accessor.");
+    }
+  }
+}
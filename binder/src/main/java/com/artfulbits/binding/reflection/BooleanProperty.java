@@ -0,0 +1,81 @@
+package com.artfulbits.binding.reflection;
+
+import android.support.annotation.NonNull;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+
+/**
+ * Property specialized for {@code boolean} values. {@link #getBoolean(Object)} and {@link #setBoolean(Object,
+ * boolean)} do not box the value when property is resolved to a {@code boolean} field or to a compiled {@link
+ * BooleanAccessor}. Other members are executed via generic path.
+ */
+@SuppressWarnings("unused")
+public class BooleanProperty extends Property<Boolean> {
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /** Expected automatic 'get' and 'set' finding. */
+  public BooleanProperty(@NonNull final String name) {
+    super(Boolean.class, name);
+  }
+
+  /** 'get' and 'set' are explicitly defined. */
+  public BooleanProperty(@NonNull final String getName, @NonNull final String setName) {
+    super(Boolean.class, getName, setName);
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  /** Get property value without boxing. On any exception returns false. */
+  public boolean getBoolean(@NonNull final Object instance) {
+    try {
+      final Entry getter = resolveGetter(instance);
+
+      if (null != getter) {
+        final Accessor a = Accessors.unwrap(getter);
+        if (a instanceof BooleanAccessor) return ((BooleanAccessor) a).getBoolean(instance);
+
+        final AccessibleObject raw = getter.getRawType();
+        if (null == a && isBoolean(raw)) return ((Field) raw).getBoolean(instance);
+
+        return (Boolean) getter.invoke(instance, getterArguments());
+      }
+    } catch (final Exception ignored) {
+      // same contract as get(): value that can not be read (getter failed, null or wrong type) is false, errors of
+      // the configuration and of the VM are not masked
+    }
+
+    return false;
+  }
+
+  /** Set property value without boxing. On any exception returns false. */
+  public boolean setBoolean(@NonNull final Object instance, final boolean value) {
+    try {
+      final Entry setter = resolveSetter(instance);
+      if (null == setter) return false;
+
+      final Accessor a = Accessors.unwrap(setter);
+      final AccessibleObject raw = setter.getRawType();
+
+      if (a instanceof BooleanAccessor) {
+        ((BooleanAccessor) a).setBoolean(instance, value);
+      } else if (null == a && isBoolean(raw)) {
+        ((Field) raw).setBoolean(instance, value);
+      } else {
+        invokeSetter(setter, instance, value);
+      }
+    } catch (final Exception ignored) {
+      // failure is reported by result, target keeps its previous value
+      return false;
+    }
+
+    return true;
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Is member a field of {@code boolean} type. */
+  private static boolean isBoolean(final AccessibleObject raw) {
+    return raw instanceof Field && boolean.class == ((Field) raw).getType();
+  }
+}
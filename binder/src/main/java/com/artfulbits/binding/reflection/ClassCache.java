@@ -0,0 +1,254 @@
+package com.artfulbits.binding.reflection;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe cache of metadata computed per class. Semantic is close to {@code java.lang.ClassValue}:
+ * <ul>
+ * <li>lookup is lock-free;</li>
+ * <li>value is computed outside of the map and published only when completely built, so readers never see
+ * partially initialized data;</li>
+ * <li>classes are weakly referenced and values are softly referenced, so classes from unloaded class loaders can be
+ * collected;</li>
+ * <li>quantity of cached classes is bounded, the oldest entries are evicted first.</li>
+ * </ul>
+ * Limitation: cache is not an ephemeron. Value that strongly references own class (reflected members, accessors)
+ * keeps the class and its class loader alive until the value is cleared by GC under memory pressure, evicted or
+ * dropped by {@link #remove(Class)}. Owners of the class loaders should call {@link #remove(Class)} before unloading,
+ * when prompt unloading matters. Values that do not reference the class never prevent its unloading.
+ * <p/>
+ * Two threads may compute the value for the same class at the same time, only one result wins and is returned to
+ * both callers. Factory should be side effect free.
+ *
+ * @param <V> type of the cached value.
+ */
+@SuppressWarnings("unused")
+public final class ClassCache<V> {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Default capacity of the cache. */
+  public static final int DEFAULT_CAPACITY = 512;
+
+	/* [ MEMBERS ] =================================================================================================== */
+
+  /** Class key to value. */
+  private final ConcurrentMap<Object, Reference<V>> mValues = new ConcurrentHashMap<>();
+  /** Keys in order of insertion, used for eviction. */
+  private final Queue<WeakKey> mOrder = new ConcurrentLinkedQueue<>();
+  /** Queue of collected classes. */
+  private final ReferenceQueue<Class<?>> mCollected = new ReferenceQueue<>();
+  /** Values factory. */
+  private final Factory<V> mFactory;
+  /** Max quantity of cached classes. */
+  private final int mCapacity;
+
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /** Create cache with default capacity. */
+  public ClassCache(@NonNull final Factory<V> factory) {
+    this(factory, DEFAULT_CAPACITY);
+  }
+
+  /** Create cache with specified capacity. */
+  public ClassCache(@NonNull final Factory<V> factory, final int capacity) {
+    if (capacity <= 0) throw new IllegalArgumentException("Expected positive capacity.");
+
+    mFactory = factory;
+    mCapacity = capacity;
+  }
+
+  /* [ GETTER / SETTER METHODS ] =================================================================================== */
+
+  /** Get quantity of cached classes. */
+  public int size() {
+    return mValues.size();
+  }
+
+  /** Get max quantity of cached classes. */
+  public int getCapacity() {
+    return mCapacity;
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  /**
+   * Get cached value or compute it.
+   *
+   * @param type class for which we need a value.
+   * @return cached or computed value.
+   */
+  @NonNull
+  public V get(@NonNull final Class<?> type) {
+    final V cached = peek(type);
+    if (null != cached) return cached;
+
+    purge();
+
+    // build value outside of the map, publish only completely initialized instance
+    final V value = mFactory.create(type);
+    final WeakKey key = new WeakKey(type, mCollected);
+    final Reference<V> ref = new SoftReference<>(value);
+
+    while (true) {
+      final Reference<V> known = mValues.putIfAbsent(key, ref);
+
+      if (null == known) {
+        mOrder.add(key);
+        evict();
+
+        return value;
+      }
+
+      // other thread was faster
+      final V winner = known.get();
+      if (null != winner) return winner;
+
+      // value was cleared by GC, replace it
+      if (mValues.replace(key, known, ref)) return value;
+    }
+  }
+
+  /**
+   * Get cached value without computing.
+   *
+   * @param type class for which we need a value.
+   * @return cached value, otherwise {@code null}.
+   */
+  @Nullable
+  public V peek(@NonNull final Class<?> type) {
+    final Reference<V> ref = mValues.get(new LookupKey(type));
+
+    return (null == ref) ? null : ref.get();
+  }
+
+  /**
+   * Drop cached value of specified class and all its inheritors. Keys are dropped from eviction order too, otherwise
+   * stale key evicts the next value computed for the same class.
+   */
+  public void remove(@NonNull final Class<?> owner) {
+    final Iterator<WeakKey> order = mOrder.iterator();
+
+    while (order.hasNext()) {
+      final WeakKey key = order.next();
+      final Class<?> type = key.get();
+
+      if (null == type || owner.isAssignableFrom(type)) {
+        order.remove();
+        mValues.remove(key);
+      }
+    }
+
+    // entries published by concurrent get() after the order scan
+    final Iterator<Object> it = mValues.keySet().iterator();
+
+    while (it.hasNext()) {
+      final Class<?> type = ((WeakKey) it.next()).get();
+
+      if (null == type || owner.isAssignableFrom(type)) {
+        it.remove();
+      }
+    }
+  }
+
+  /** Drop all cached values. */
+  public void clear() {
+    mValues.clear();
+    mOrder.clear();
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Remove entries of collected classes. */
+  private void purge() {
+    Reference<?> ref;
+
+    while (null != (ref = mCollected.poll())) {
+      mValues.remove(ref);
+      mOrder.remove(ref);
+    }
+  }
+
+  /** Remove the oldest entries, if capacity exceeded. */
+  private void evict() {
+    while (mValues.size() > mCapacity) {
+      final WeakKey oldest = mOrder.poll();
+      if (null == oldest) break;
+
+      mValues.remove(oldest);
+    }
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Factory of the cached values. */
+  public interface Factory<V> {
+    /** Compute value for class. Called outside of any lock. */
+    @NonNull
+    V create(@NonNull final Class<?> type);
+  }
+
+  /** Key stored in the map, does not prevent class unloading. */
+  private static final class WeakKey extends WeakReference<Class<?>> {
+    /** Hash code of the class, preserved after class collection. */
+    private final int mHash;
+
+    public WeakKey(@NonNull final Class<?> type, @NonNull final ReferenceQueue<Class<?>> queue) {
+      super(type, queue);
+
+      mHash = System.identityHashCode(type);
+    }
+
+    @Override
+    public int hashCode() {
+      return mHash;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) return true;
+
+      final Class<?> type = get();
+
+      if (null == type) return false;
+      if (o instanceof LookupKey) return type == ((LookupKey) o).mType;
+      if (o instanceof WeakKey) return type == ((WeakKey) o).get();
+
+      return false;
+    }
+  }
+
+  /** Short living key used only for lookup. */
+  private static final class LookupKey {
+    /** Class reference. */
+    private final Class<?> mType;
+
+    public LookupKey(@NonNull final Class<?> type) {
+      mType = type;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(mType);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) return true;
+      if (o instanceof WeakKey) return mType == ((WeakKey) o).get();
+      if (o instanceof LookupKey) return mType == ((LookupKey) o).mType;
+
+      return false;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.artfulbits.binding.reflection;
+
+/**
+ * Accessor of the {@code int} class member. Allows to get and set value without boxing. Generic {@link
+ * #invoke(Object, Object...)} call is redirected to primitive methods.
+ */
+public abstract class IntAccessor implements Accessor {
+  /** Get value. */
+  public abstract int getInt(final Object receiver);
+
+  /** Set value. */
+  public abstract void setInt(final Object receiver, final int value);
+
+  @Override
+  public Object invoke(final Object receiver, final Object... args) {
+    if (null != args && args.length > 0) {
+      setInt(receiver, ((Number) args[0]).intValue());
+      return args[0];
+    }
+
+    return getInt(receiver);
+  }
+
+  /** Read only accessor: getter or final field. Lookup of setters never resolves it, see {@link Accessors#find}. */
+  public abstract static class Getter extends IntAccessor {
+    @Override
+    public final void setInt(final Object receiver, final int value) {
+      throw new UnsupportedOperationException("Read only accessor.");
+    }
+  }
+
+  /** Write only accessor: setter. Lookup of getters never resolves it, see {@link Accessors#find}. */
+  public abstract static class Setter extends IntAccessor {
+    @Override
+    public final int getInt(final Object receiver) {
+      throw new UnsupportedOperationException("Write only accessor.");
+    }
+  }
+}
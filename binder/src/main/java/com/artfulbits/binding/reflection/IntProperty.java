@@ -0,0 +1,81 @@
+package com.artfulbits.binding.reflection;
+
+import android.support.annotation.NonNull;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+
+/**
+ * Property specialized for {@code int} values. {@link #getInt(Object)} and {@link #setInt(Object, int)} do not box
+ * the value when property is resolved to an {@code int} field or to a compiled {@link IntAccessor}. Other members are
+ * executed via generic path with boxing.
+ */
+@SuppressWarnings("unused")
+public class IntProperty extends Property<Integer> {
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /** Expected automatic 'get' and 'set' finding. */
+  public IntProperty(@NonNull final String name) {
+    super(Integer.class, name);
+  }
+
+  /** 'get' and 'set' are explicitly defined. */
+  public IntProperty(@NonNull final String getName, @NonNull final String setName) {
+    super(Integer.class, getName, setName);
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  /** Get property value without boxing. On any exception returns zero. */
+  public int getInt(@NonNull final Object instance) {
+    try {
+      final Entry getter = resolveGetter(instance);
+
+      if (null != getter) {
+        final Accessor a = Accessors.unwrap(getter);
+        if (a instanceof IntAccessor) return ((IntAccessor) a).getInt(instance);
+
+        final AccessibleObject raw = getter.getRawType();
+        if (null == a && isInt(raw)) return ((Field) raw).getInt(instance);
+
+        return ((Number) getter.invoke(instance, getterArguments())).intValue();
+      }
+    } catch (final Exception ignored) {
+      // same contract as get(): value that can not be read (getter failed, null or wrong type) is zero, errors of
+      // the configuration and of the VM are not masked
+    }
+
+    return 0;
+  }
+
+  /** Set property value without boxing. On any exception returns false. */
+  public boolean setInt(@NonNull final Object instance, final int value) {
+    try {
+      final Entry setter = resolveSetter(instance);
+      if (null == setter) return false;
+
+      final Accessor a = Accessors.unwrap(setter);
+      final AccessibleObject raw = setter.getRawType();
+
+      if (a instanceof IntAccessor) {
+        ((IntAccessor) a).setInt(instance, value);
+      } else if (null == a && isInt(raw)) {
+        ((Field) raw).setInt(instance, value);
+      } else {
+        invokeSetter(setter, instance, value);
+      }
+    } catch (final Exception ignored) {
+      // failure is reported by result, target keeps its previous value
+      return false;
+    }
+
+    return true;
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Is member a field of {@code int} type. */
+  private static boolean isInt(final AccessibleObject raw) {
+    return raw instanceof Field && int.class == ((Field) raw).getType();
+  }
+}
@@ -0,0 +1,89 @@
+package com.artfulbits.binding.reflection;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of all class members that can be used for binding. Entries are sorted once by name and quantity of
+ * parameters, lookup by name is done via hash map of entries ranges, without binary search and without sorting.
+ * <p/>
+ * Instances are created and cached by {@link ReflectionUtils#getMembers(Class)}.
+ */
+@SuppressWarnings("unused")
+public final class Members {
+  /* [ MEMBERS ] =================================================================================================== */
+
+  /** Sorted entries. */
+  private final List<Entry> mEntries;
+  /** Name to range of entries, {@code [first, last)}. */
+  private final Map<String, int[]> mRanges;
+
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /**
+   * Create index.
+   *
+   * @param sorted entries sorted by name and quantity of parameters. Array is owned by instance after the call.
+   */
+  /* package */ Members(@NonNull final Entry[] sorted) {
+    mEntries = Collections.unmodifiableList(Arrays.asList(sorted));
+    mRanges = new HashMap<>(sorted.length * 2);
+
+    int first = 0;
+
+    for (int i = 1; i <= sorted.length; i++) {
+      if (i == sorted.length || !sorted[first].getName().equals(sorted[i].getName())) {
+        mRanges.put(sorted[first].getName(), new int[]{first, i});
+        first = i;
+      }
+    }
+  }
+
+  /* [ GETTER / SETTER METHODS ] =================================================================================== */
+
+  /** Get all entries, sorted by name. List is read-only. */
+  @NonNull
+  public List<Entry> asList() {
+    return mEntries;
+  }
+
+  /** Get quantity of entries. */
+  public int size() {
+    return mEntries.size();
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  /**
+   * Find first entry with specified name.
+   *
+   * @param name name of field or method.
+   * @return found entry, otherwise {@code null}.
+   */
+  @Nullable
+  public Entry find(@NonNull final String name) {
+    final int[] range = mRanges.get(name);
+
+    return (null == range) ? null : mEntries.get(range[0]);
+  }
+
+  /**
+   * Find entry with 100% match by name and signature.
+   *
+   * @param name   name of field or method.
+   * @param params data types of method parameters.
+   * @return found entry, otherwise {@code null}.
+   */
+  @Nullable
+  public Entry match(@NonNull final String name, @Nullable final Class<?>... params) {
+    final int[] range = mRanges.get(name);
+
+    return (null == range) ? null : ReflectionUtils.match(mEntries, range[0], range[1], params);
+  }
+}
@@ -5,8 +5,11 @@ import android.support.annotation.Nullable;
 
 import com.artfulbits.binding.exceptions.WrongConfigurationError;
 
-import java.util.List;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /** Class is responsible for accessing a specific abstract 'field' by using reflection. */
 @SuppressWarnings("unused")
@@ -19,6 +22,8 @@ public class Property<T> {
   private static final String[] KNOWN_GETTERS = new String[]{"get", "has", "is", "exceeds", "m", ""};
   /** Array of possible prefixes used for setting the value. */
   private static final String[] KNOWN_SETTERS = new String[]{"set", "m", ""};
+  /** Max quantity of receiver classes cached per property, after that property becomes megamorphic. */
+  public static final int POLYMORPHIC_LIMIT = 4;
 
 	/* [ MEMBERS ] =================================================================================================== */
 
@@ -26,10 +31,16 @@ public class Property<T> {
   private final Class<T> mType;
   /** Property name pattern. */
   private final String mName;
+  /** Constant arguments of getter and setter. */
+  private final Arguments mArguments;
   /** reference on reflected class entry used for GET operation. */
   private Entry mResolvedGet;
   /** reference on reflected class entry used for SET operation. */
   private Entry mResolvedSet;
+  /** Receiver class to resolved 'get' entry. */
+  private volatile InlineCache mGetCache = InlineCache.EMPTY;
+  /** Receiver class to resolved 'set' entry. */
+  private volatile InlineCache mSetCache = InlineCache.EMPTY;
   /** Name of found 'get' entry. */
   private String mStrictGet;
   /** Name of found 'set' entry. */
@@ -41,12 +52,20 @@ public class Property<T> {
   public Property(@NonNull final Class<T> type, @NonNull final String name) {
     mType = type;
     mName = name;
+    mArguments = Arguments.none();
   }
 
   /** 'get' and 'set' are explicitly defined. */
   public Property(@NonNull final Class<T> type, @NonNull final String getName, @NonNull final String setName) {
+    this(type, getName, setName, Arguments.none());
+  }
+
+  /** 'get' and 'set' are explicitly defined, both receive constant arguments. Setter value goes last. */
+  public Property(@NonNull final Class<T> type, @NonNull final String getName, @NonNull final String setName,
+                  @NonNull final Arguments arguments) {
     mType = type;
     mName = null;
+    mArguments = arguments;
 
     mStrictGet = getName;
     mStrictSet = setName;
@@ -117,16 +136,14 @@ public class Property<T> {
   @SuppressWarnings("unchecked")
   public T get(@NonNull final Object instance, final Object... args) {
     try {
-      if (null == mResolvedGet) {
-        mResolvedGet = extractGetter(instance);
-      }
+      final Entry getter = resolveGetter(instance);
 
-      if (null == mResolvedGet) {
+      if (null == getter) {
         throw new WrongConfigurationError("Cannot resolve GET to real method/field." +
             " Name: " + mName + ", Getter: " + mStrictGet);
       }
 
-      return (T) mResolvedGet.invoke(instance, args);
+      return (T) getter.invoke(instance, args);
     } catch (final Throwable ignored) {
       // TODO: log exception
     }
@@ -137,16 +154,14 @@ public class Property<T> {
   /** Set property value. */
   public boolean set(@NonNull final Object instance, final T value) {
     try {
-      if (null == mResolvedSet) {
-        mResolvedSet = extractSetter(instance);
-      }
+      final Entry setter = resolveSetter(instance);
 
-      if (null == mResolvedSet) {
+      if (null == setter) {
         throw new WrongConfigurationError("Cannot resolve SET to real method/field." +
             " Name: " + mName + ", Setter: " + mStrictSet);
       }
 
-      mResolvedSet.invoke(instance, setterArguments(value));
+      invokeSetter(setter, instance, value);
     } catch (final Throwable ignored) {
       // TODO: log exception
       return false;
@@ -161,26 +176,21 @@ public class Property<T> {
     final boolean isGet = isPattern || (null != mStrictGet && !NO_NAME.equals(mStrictGet));
     final boolean isSet = isPattern || (null != mStrictSet && !NO_NAME.equals(mStrictSet));
 
-    if (isGet && null == mResolvedGet) {
-      mResolvedGet = extractGetter(instance);
-    }
-
-    if (isSet && null == mResolvedSet) {
-      mResolvedSet = extractSetter(instance);
-    }
+    final Entry getter = isGet ? resolveGetter(instance) : null;
+    final Entry setter = isSet ? resolveSetter(instance) : null;
 
     // validate results
-    if (isGet && isSet && null == mResolvedGet && null == mResolvedSet) {
+    if (isGet && isSet && null == getter && null == setter) {
       throw new WrongConfigurationError("Cannot resolve GET and SET to real method(s)/field(s)." +
           " Name: " + mName + ", Getter: " + mStrictGet + ", Setter: " + mStrictSet);
     }
 
-    if (isGet && null == mResolvedGet) {
+    if (isGet && null == getter) {
       throw new WrongConfigurationError("Cannot resolve GET to real method/field." +
           " Name: " + mName + ", Getter: " + mStrictGet);
     }
 
-    if (isSet && null == mResolvedSet) {
+    if (isSet && null == setter) {
       throw new WrongConfigurationError("Cannot resolve SET to real method/field." +
           " Name: " + mName + ", Setter: " + mStrictSet);
     }
@@ -195,13 +205,13 @@ public class Property<T> {
   /** Execution arguments for 'getter'. */
   @Nullable
   protected Object[] getterArguments() {
-    return (Object[]) null;
+    return mArguments.getter();
   }
 
-  /** Execution arguments for 'setter'. */
+  /** Execution arguments for 'setter'. Default implementation reuses the array, see {@link Arguments}. */
   @NonNull
   protected Object[] setterArguments(final T value) {
-    return new Object[]{value};
+    return mArguments.acquire(value);
   }
 
   /**
@@ -212,15 +222,34 @@ public class Property<T> {
   @NonNull
   protected Class<?>[] setterToTypes() {
     final Object[] args = setterArguments(null);
-    final Class<?>[] types = new Class<?>[args.length];
 
-    types[0] = mType;
+    try {
+      final Class<?>[] types = new Class<?>[args.length];
+      final int last = args.length - 1;
+
+      // value is the last argument, all others are constants
+      for (int i = 0; i < last; i++) {
+        types[i] = (null == args[i]) ? Object.class : args[i].getClass();
+      }
 
-    for (int i = 1; i < args.length; i++) {
-      types[i] = args[i].getClass();
+      types[last] = mType;
+
+      return types;
+    } finally {
+      mArguments.release(args);
     }
+  }
+
+  /** Execute setter with value. Arguments array is returned back for reuse after the call. */
+  protected final Object invokeSetter(@NonNull final Entry setter, @NonNull final Object instance, final T value)
+      throws IllegalAccessException, InvocationTargetException {
+    final Object[] args = setterArguments(value);
 
-    return types;
+    try {
+      return setter.invoke(instance, args);
+    } finally {
+      mArguments.release(args);
+    }
   }
 
   /** Resolve 'getter' entry. */
@@ -251,6 +280,38 @@ public class Property<T> {
 
 	/* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
 
+  /** Find 'getter' for receiver class in inline cache, resolve it on cache miss. */
+  @Nullable
+  protected final Entry resolveGetter(@NonNull final Object instance) {
+    final Class<?> type = instance.getClass();
+    final InlineCache cache = mGetCache;
+
+    Entry result = cache.find(type);
+
+    if (null == result && null != (result = extractGetter(instance))) {
+      mResolvedGet = result;
+      mGetCache = cache.with(type, result);
+    }
+
+    return result;
+  }
+
+  /** Find 'setter' for receiver class in inline cache, resolve it on cache miss. */
+  @Nullable
+  protected final Entry resolveSetter(@NonNull final Object instance) {
+    final Class<?> type = instance.getClass();
+    final InlineCache cache = mSetCache;
+
+    Entry result = cache.find(type);
+
+    if (null == result && null != (result = extractSetter(instance))) {
+      mResolvedSet = result;
+      mSetCache = cache.with(type, result);
+    }
+
+    return result;
+  }
+
   /** find 'getter' using reflection. */
   @Nullable
   protected final Entry reflectGetter(@NonNull final Object instance) {
@@ -259,18 +320,21 @@ public class Property<T> {
     // if specified special NO_NAME pattern, than ignore the call
     if (NO_NAME.equals(mStrictGet)) return result;
 
-    final List<Entry> methods = ReflectionUtils.getAll(instance.getClass());
+    // compile time generated accessors, no class members scanning
+    if (null != (result = generatedGetter(instance.getClass()))) return result;
+
+    final Members members = ReflectionUtils.getMembers(instance.getClass());
 
     // explicit name defined
     if (null != mStrictGet) {
-      result = ReflectionUtils.find(methods, mStrictGet);
+      result = members.find(mStrictGet);
     }
 
     // search required
     if (null == result && null != mName) {
       for (final String prefix : KNOWN_GETTERS) {
         final String name = prefix + mName;
-        result = ReflectionUtils.find(methods, name);
+        result = members.find(name);
 
         if (null != result) {
           mStrictGet = name;
@@ -290,32 +354,166 @@ public class Property<T> {
     // if specified special NO_NAME pattern, than ignore the call
     if (NO_NAME.equals(mStrictSet)) return result;
 
-    final List<Entry> entries = ReflectionUtils.getAll(instance.getClass());
+    // compile time generated accessors, no class members scanning
+    if (null != (result = generatedSetter(instance.getClass()))) return result;
 
-    // explicit name defined
-    if (null != mStrictSet) {
-      result = ReflectionUtils.find(entries, mStrictSet);
+    final Members members = ReflectionUtils.getMembers(instance.getClass());
+
+    final Class<?>[] types = setterToTypes();
+
+    // explicit name defined, prefer exact types match for overloaded setters
+    if (null != mStrictSet && null == (result = members.match(mStrictSet, types))) {
+      result = members.find(mStrictSet);
     }
 
     // search required
     if (null == result && null != mName) {
+
       for (final String prefix : KNOWN_SETTERS) {
         final String name = prefix + mName;
-        result = ReflectionUtils.find(entries, name);
 
-        // found candidate
-        if (null != result) {
-          final Entry method = ReflectionUtils.match(entries, result, setterToTypes());
+        // found candidate with exact types match
+        if (null != (result = members.match(name, types))) {
+          mStrictSet = name;
+          break;
+        }
+      }
+    }
 
-          // and found exact types match
-          if (null != (result = method)) {
-            mStrictSet = name;
-            break;
-          }
+    return result;
+  }
+
+  /** find 'getter' in compile time generated accessors. Only getters without arguments are supported. */
+  @Nullable
+  private Entry generatedGetter(@NonNull final Class<?> type) {
+    final Object[] args = getterArguments();
+    if (null != args && args.length > 0) return null;
+
+    Entry result = null;
+
+    if (null != mStrictGet) {
+      result = Accessors.find(type, mStrictGet);
+    }
+
+    if (null == result && null != mName) {
+      for (final String prefix : KNOWN_GETTERS) {
+        final String name = prefix + mName;
+
+        if (null != (result = Accessors.find(type, name))) {
+          mStrictGet = name;
+          break;
+        }
+      }
+    }
+
+    return result;
+  }
+
+  /** find 'setter' in compile time generated accessors. Only setters with one argument are supported. */
+  @Nullable
+  private Entry generatedSetter(@NonNull final Class<?> type) {
+    final Class<?>[] types = setterToTypes();
+    if (1 != types.length) return null;
+
+    Entry result = null;
+
+    if (null != mStrictSet) {
+      result = Accessors.find(type, mStrictSet, types);
+    }
+
+    if (null == result && null != mName) {
+      for (final String prefix : KNOWN_SETTERS) {
+        final String name = prefix + mName;
+
+        if (null != (result = Accessors.find(type, name, types))) {
+          mStrictSet = name;
+          break;
         }
       }
     }
 
     return result;
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /**
+   * Polymorphic inline cache: receiver class to resolved entry. Holds up to {@link #POLYMORPHIC_LIMIT} classes in
+   * immutable arrays, first resolved class is checked first (monomorphic fast path). When limit is exceeded cache
+   * becomes megamorphic: entries go to the table shared by all properties, so each receiver class is resolved only
+   * once and receiver classes stay collectable.
+   */
+  private static final class InlineCache {
+    /** Nothing cached yet. */
+    public static final InlineCache EMPTY = new InlineCache(new Class<?>[0], new Entry[0], false);
+    /**
+     * Megamorphic entries of all properties: receiver class to entries resolved by megamorphic caches. Classes are
+     * weakly referenced, caches are weak keys, so table does not keep collected properties.
+     */
+    private static final ClassCache<Map<InlineCache, Entry>> MEGAMORPHIC =
+        new ClassCache<>(new ClassCache.Factory<Map<InlineCache, Entry>>() {
+          @NonNull
+          @Override
+          public Map<InlineCache, Entry> create(@NonNull final Class<?> type) {
+            return Collections.synchronizedMap(new WeakHashMap<InlineCache, Entry>());
+          }
+        });
+
+    /** Receiver classes. */
+    private final Class<?>[] mTypes;
+    /** Resolved entries, in sync with receiver classes. */
+    private final Entry[] mEntries;
+    /** Is cache megamorphic: classes out of arrays are kept in shared table. */
+    private final boolean mIsMegamorphic;
+
+    private InlineCache(@NonNull final Class<?>[] types, @NonNull final Entry[] entries, final boolean isMegamorphic) {
+      mTypes = types;
+      mEntries = entries;
+      mIsMegamorphic = isMegamorphic;
+    }
+
+    /** Find entry resolved for receiver class. */
+    @Nullable
+    public Entry find(@NonNull final Class<?> type) {
+      final Class<?>[] types = mTypes;
+
+      for (int i = 0; i < types.length; i++) {
+        if (type == types[i]) return mEntries[i];
+      }
+
+      if (!mIsMegamorphic) return null;
+
+      final Map<InlineCache, Entry> entries = MEGAMORPHIC.peek(type);
+      return (null == entries) ? null : entries.get(this);
+    }
+
+    /** Compose new cache with one more receiver class. Megamorphic cache is updated in place. */
+    @NonNull
+    public InlineCache with(@NonNull final Class<?> type, @NonNull final Entry entry) {
+      final int length = mTypes.length;
+
+      if (mIsMegamorphic) {
+        MEGAMORPHIC.get(type).put(this, entry);
+        return this;
+      }
+
+      // polymorphic classes stay in arrays, only new classes go to the shared table
+      if (length >= POLYMORPHIC_LIMIT) {
+        final InlineCache megamorphic = new InlineCache(mTypes, mEntries, true);
+        MEGAMORPHIC.get(type).put(megamorphic, entry);
+
+        return megamorphic;
+      }
+
+      final Class<?>[] types = new Class<?>[length + 1];
+      final Entry[] entries = new Entry[length + 1];
+
+      System.arraycopy(mTypes, 0, types, 0, length);
+      System.arraycopy(mEntries, 0, entries, 0, length);
+      types[length] = type;
+      entries[length] = entry;
+
+      return new InlineCache(types, entries, false);
+    }
   }
 }
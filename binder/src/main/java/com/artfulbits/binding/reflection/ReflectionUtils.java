@@ -8,25 +8,61 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /** Methods for manipulating classes via reflection. */
 @SuppressWarnings("unused")
 public final class ReflectionUtils {
   /* [ CONSTANTS ] ================================================================================================= */
 
-  /** Guard that protects sCache* fields updates. */
-  private static final Object sSync = new Object();
-
   /** Caching of the reflected information. Class-to-fields. */
-  private static final Map<Class<?>, List<Field>> sCacheFields = new HashMap<>();
+  private static final ClassCache<List<Field>> sCacheFields = new ClassCache<>(new ClassCache.Factory<List<Field>>() {
+    @NonNull
+    @Override
+    public List<Field> create(@NonNull final Class<?> type) {
+      return extractFields(type);
+    }
+  });
 
   /** Caching of the reflected information. Class-to-methods. */
-  private static final Map<Class<?>, List<Method>> sCacheMethods = new HashMap<>();
+  private static final ClassCache<List<Method>> sCacheMethods =
+      new ClassCache<>(new ClassCache.Factory<List<Method>>() {
+        @NonNull
+        @Override
+        public List<Method> create(@NonNull final Class<?> type) {
+          return extractMethods(type);
+        }
+      });
+
+  /** Caching of the reflected information. Class-to-members index. */
+  private static final ClassCache<Members> sCacheMembers = new ClassCache<>(new ClassCache.Factory<Members>() {
+    @NonNull
+    @Override
+    public Members create(@NonNull final Class<?> type) {
+      return extractMembers(type);
+    }
+  });
+
+  /** Backend that executes members only via reflection. */
+  private static final Backend REFLECTION = new Backend() {
+    @NonNull
+    @Override
+    public Entry wrap(@NonNull final Field field) {
+      return new FieldFacade(field);
+    }
+
+    @NonNull
+    @Override
+    public Entry wrap(@NonNull final Method method) {
+      return new MethodFacade(method);
+    }
+  };
+
+  /** Active backend. By default compiled accessors are used, with fallback to reflection. */
+  private static volatile Backend sBackend = Accessors.compiled();
 
   /* [ STATIC METHODS ] ============================================================================================ */
 
@@ -127,14 +163,28 @@ public final class ReflectionUtils {
   @Nullable
   public static Entry match(@NonNull final List<Entry> entries, final int index,
                             @Nullable final Class<?>... params) {
+    return match(entries, index, entries.size(), params);
+  }
+
+  /**
+   * Find methods with 100% match by signature in range of entries with the same name.
+   *
+   * @param entries list of entries, sorted.
+   * @param index   index of first entry, start point for search.
+   * @param end     index of the last entry (exclusive), end point for search.
+   * @param params  data types of method parameters.
+   */
+  @Nullable
+  /* package */ static Entry match(@NonNull final List<Entry> entries, final int index, final int end,
+                                   @Nullable final Class<?>... params) {
     // ignore wrong parameters
-    if (index < 0 || index > entries.size()) return null;
+    if (index < 0 || index >= end) return null;
 
     final int count = (null == params) ? 0 : params.length;
     final Entry first = entries.get(index);
     final String methodName = first.getName();
 
-    for (int i = index; i < entries.size(); i++) {
+    for (int i = index; i < end; i++) {
       final Entry candidate = entries.get(i);
 
       // end of sequence, nothing found
@@ -166,100 +216,140 @@ public final class ReflectionUtils {
   }
 
   /**
-   * Extract all inherited fields from class. Results are sorted by name.
+   * Extract all inherited fields from class. Results are sorted by name. List is read-only.
    *
    * @param type type to check
    * @return list of found fields.
    */
   @NonNull
   public static List<Field> getAllFields(@NonNull final Class<?> type) {
-    if (sCacheFields.containsKey(type)) {
-      return sCacheFields.get(type);
-    }
-
-    synchronized (sSync) {
-      // second try, after LOCK getting
-      if (sCacheFields.containsKey(type)) {
-        return sCacheFields.get(type);
-      }
-
-      final ArrayList<Field> results = new ArrayList<>();
-      sCacheFields.put(type, results);
+    return sCacheFields.get(type);
+  }
 
-      Class<?> i = type;
-      while (i != null && i != Object.class) {
-        for (final Field field : i.getDeclaredFields()) {
-          if (!field.isSynthetic()) {
-            results.add(field);
-          }
-        }
+  /**
+   * Compose list of all methods declared in class. List is read-only.
+   *
+   * @param type type to check
+   * @return list of found methods.
+   */
+  @NonNull
+  public static List<Method> getAllMethods(@NonNull final Class<?> type) {
+    return sCacheMethods.get(type);
+  }
 
-        i = i.getSuperclass();
-      }
+  /** Get list of all executables inside the class that can be used for binding. List is read-only. */
+  @NonNull
+  public static List<Entry> getAll(@NonNull final Class<?> type) {
+    return getMembers(type).asList();
+  }
 
-      Collections.sort(results, ByFieldName.INSTANCE);
+  /**
+   * Get index of all executables inside the class that can be used for binding. Index is built once per class and
+   * backend.
+   *
+   * @param type type to check
+   * @return immutable index of class members.
+   */
+  @NonNull
+  public static Members getMembers(@NonNull final Class<?> type) {
+    return sCacheMembers.get(type);
+  }
 
-      return results;
-    }
+  /** Get backend used for class members execution. */
+  @NonNull
+  public static Backend getBackend() {
+    return sBackend;
   }
 
   /**
-   * Compose list of all methods declared in class.
+   * Replace backend used for class members execution. Affects only entries resolved after the call.
    *
-   * @param type type to check
-   * @return list of found methods.
+   * @param backend new backend instance, {@code null} - use pure reflection.
    */
+  public static void setBackend(@Nullable final Backend backend) {
+    sBackend = (null == backend) ? REFLECTION : backend;
+
+    sCacheMembers.clear();
+  }
+
+  /** Drop indexes of class members for specified class and all its inheritors. */
+  /* package */ static void invalidate(@NonNull final Class<?> owner) {
+    sCacheMembers.remove(owner);
+  }
+
+  /** Get backend that executes all members via reflection. */
   @NonNull
-  public static List<Method> getAllMethods(@NonNull final Class<?> type) {
-    if (sCacheMethods.containsKey(type)) {
-      return sCacheMethods.get(type);
-    }
+  public static Backend reflection() {
+    return REFLECTION;
+  }
 
-    synchronized (sSync) {
-      // double check, it maybe already modified by other thread
-      if (sCacheMethods.containsKey(type)) {
-        return sCacheMethods.get(type);
+  /** Extract all inherited fields from class, sorted by name. */
+  @NonNull
+  private static List<Field> extractFields(@NonNull final Class<?> type) {
+    final ArrayList<Field> results = new ArrayList<>();
+
+    Class<?> i = type;
+    while (i != null && i != Object.class) {
+      for (final Field field : i.getDeclaredFields()) {
+        if (!field.isSynthetic()) {
+          results.add(field);
+        }
       }
 
-      final ArrayList<Method> results = new ArrayList<>();
-      sCacheMethods.put(type, results);
+      i = i.getSuperclass();
+    }
 
-      Class<?> i = type;
-      while (i != null && i != Object.class) {
-        for (final Method method : i.getDeclaredMethods()) {
-          if (!method.isSynthetic()) {
-            results.add(method);
-          }
-        }
+    Collections.sort(results, ByFieldName.INSTANCE);
+    results.trimToSize();
 
-        i = i.getSuperclass();
-      }
+    return Collections.unmodifiableList(results);
+  }
 
-      Collections.sort(results, ByMethodName.INSTANCE);
+  /** Extract all inherited methods from class, sorted by name and quantity of parameters. */
+  @NonNull
+  private static List<Method> extractMethods(@NonNull final Class<?> type) {
+    final ArrayList<Method> results = new ArrayList<>();
+
+    Class<?> i = type;
+    while (i != null && i != Object.class) {
+      for (final Method method : i.getDeclaredMethods()) {
+        if (!method.isSynthetic()) {
+          results.add(method);
+        }
+      }
 
-      return results;
+      i = i.getSuperclass();
     }
+
+    Collections.sort(results, ByMethodName.INSTANCE);
+    results.trimToSize();
+
+    return Collections.unmodifiableList(results);
   }
 
-  /** Get list of all executables inside the class that can be used for binding. */
+  /** Wrap all fields and methods of the class by entries and compose index. */
   @NonNull
-  public static List<Entry> getAll(@NonNull final Class<?> type) {
+  private static Members extractMembers(@NonNull final Class<?> type) {
     final List<Field> fields = getAllFields(type);
     final List<Method> methods = getAllMethods(type);
+    final Entry[] entries = new Entry[fields.size() + methods.size()];
+    final Backend backend = sBackend;
 
-    final List<Entry> results = new ArrayList<>(fields.size() + methods.size());
+    int index = 0;
 
     for (final Field f : fields) {
-      results.add(new FieldFacade(f));
+      final Entry e = backend.wrap(f);
+      entries[index++] = (null == e) ? new FieldFacade(f) : e;
     }
 
     for (final Method m : methods) {
-      results.add(new MethodFacade(m));
+      final Entry e = backend.wrap(m);
+      entries[index++] = (null == e) ? new MethodFacade(m) : e;
     }
 
-    Collections.sort(results, ByExecutableName.INSTANCE);
+    Arrays.sort(entries, ByExecutableName.INSTANCE);
 
-    return results;
+    return new Members(entries);
   }
 
   /** Compare two arrays of data types for compatibility to each other. */
@@ -412,18 +502,20 @@ public final class ReflectionUtils {
 
       // they has same name
       if (0 == result) {
+        final boolean isLeftField = lhs.getRawType() instanceof Field;
+        final boolean isRightField = rhs.getRawType() instanceof Field;
 
-        if (lhs instanceof FieldFacade && rhs instanceof MethodFacade) {
+        if (isLeftField && !isRightField) {
           final Method right = (Method) rhs.getRawType();
           final int sub = ReflectionUtils.compare(1, right.getParameterTypes().length);
 
           return (0 == sub) ? 1 : sub; // field bigger method
-        } else if (lhs instanceof MethodFacade && rhs instanceof FieldFacade) {
+        } else if (!isLeftField && isRightField) {
           final Method left = (Method) lhs.getRawType();
           final int sub = ReflectionUtils.compare(left.getParameterTypes().length, 1);
 
           return (0 == sub) ? -1 : sub; // method less field
-        } else if (lhs instanceof MethodFacade && rhs instanceof MethodFacade) {
+        } else if (!isLeftField) {
           final Method left = (Method) lhs.getRawType();
           final Method right = (Method) rhs.getRawType();
 
@@ -2,20 +2,44 @@ package com.artfulbits.binding.toolbox;
 
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.support.v7.widget.RecyclerView;
 import android.view.View;
 import android.widget.Adapter;
+import android.widget.BaseAdapter;
 
 import com.artfulbits.binding.BindingsManager;
+import com.artfulbits.binding.IntSelector;
 import com.artfulbits.binding.Selector;
+import com.artfulbits.binding.exceptions.WrongConfigurationError;
+import com.artfulbits.binding.reflection.IntProperty;
+import com.artfulbits.binding.reflection.Property;
 import com.artfulbits.binding.ui.BindingAdapter;
+import com.artfulbits.binding.ui.BindingRecyclerAdapter;
+import com.artfulbits.binding.ui.BindingRow;
 
-/** Utility class. simplify binding for data adapters. */
+/**
+ * Utility class. simplify binding for data adapters.
+ * <p/>
+ * Selectors of the current row ({@link #view(BindingsManager)}, {@link #item(BindingsManager)},
+ * {@link #position(BindingsManager)}) read {@link BindingRow} context of the adapter directly: no reflection and no
+ * allocations per row. Both {@link BindingAdapter} and {@link BindingRecyclerAdapter} managers are supported.
+ */
 public final class Adapters {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Row part: view. */
+  private static final int VIEW = 1;
+  /** Row part: item. */
+  private static final int ITEM = 2;
+
+  /* [ CONSTRUCTORS ] ============================================================================================== */
+
   /** hidden constructor. */
   private Adapters() {
     throw new AssertionError("Not for inheritance or call.");
   }
 
+	/* [ STATIC METHODS ] ============================================================================================ */
 
   /**
    * Create Facade selector that allows to access the "root" of the binding. In this
@@ -29,25 +53,48 @@ public final class Adapters {
     return new Selector<>(adapter, Models.<V>call("getInnerAdapter"));
   }
 
+  /**
+   * Create Facade selector of the row context. Selector instance is the row, value is the row view. Managers with such
+   * facade support {@link #view(BindingsManager)}, {@link #item(BindingsManager)} and
+   * {@link #position(BindingsManager)} selectors.
+   *
+   * @param row context of the row.
+   */
+  @NonNull
+  public static <V extends View> Selector<?, V> row(@NonNull final BindingRow row) {
+    // row.getBindingView()
+    return new Selector<>(row, new RowProperty<V>(VIEW, "getBindingView"));
+  }
+
   /** Get selector of current view for processing. */
   @NonNull
   public static <V extends View> Selector<?, V> view(@NonNull final BindingsManager bm) {
     // facade should allow resolving of index/position to View and Model instances
     final Selector<?, ?> facade = bm.getFacade();
-    final BindingAdapter adapter = (BindingAdapter) facade.getRuntimeInstance();
+    final BindingRow row = (BindingRow) facade.getRuntimeInstance();
 
-    //adapter.getBindingView()
-    return new Selector<>(adapter, Models.<V>call("getBindingView"));
+    // row.getBindingView()
+    return new Selector<>(row, new RowProperty<V>(VIEW, "getBindingView"));
   }
 
   /** Get selector of current item for processing. */
   @NonNull
   public static <V> Selector<?, V> item(@NonNull final BindingsManager bm) {
     final Selector<?, Integer> facade = bm.getFacade();
-    final BindingAdapter adapter = (BindingAdapter) facade.getRuntimeInstance();
+    final BindingRow row = (BindingRow) facade.getRuntimeInstance();
 
-    // adapter.getBindingItem()
-    return new Selector<>(adapter, Models.<V>call("getBindingItem"));
+    // row.getBindingItem()
+    return new Selector<>(row, new RowProperty<V>(ITEM, "getBindingItem"));
+  }
+
+  /** Get selector of current position for processing. */
+  @NonNull
+  public static IntSelector<?> position(@NonNull final BindingsManager bm) {
+    final Selector<?, ?> facade = bm.getFacade();
+    final BindingRow row = (BindingRow) facade.getRuntimeInstance();
+
+    // row.getBindingPosition()
+    return new IntSelector<>(row, new PositionProperty());
   }
 
   /**
@@ -71,4 +118,181 @@ public final class Adapters {
                                     @Nullable final BindingAdapter.Lifecycle lifecycle) {
     return new BindingAdapter(adapter, lifecycle);
   }
+
+  /**
+   * Create instance of bindings ready RecyclerView adapter with attached lifecycle.
+   *
+   * @param adapter   instance of adapter
+   * @param items     source of the items, RecyclerView adapter does not expose them.
+   * @param lifecycle instance of the lifecycle listener, can be NULL.
+   */
+  @NonNull
+  public static <VH extends RecyclerView.ViewHolder> BindingRecyclerAdapter<VH> wrap(
+      @NonNull final RecyclerView.Adapter<VH> adapter, @NonNull final BindingRecyclerAdapter.Items items,
+      @Nullable final BindingAdapter.Lifecycle lifecycle) {
+    return new BindingRecyclerAdapter<>(adapter, items, lifecycle);
+  }
+
+  /**
+   * Create receiver of the list updates that notifies RecyclerView adapter by granular notifications. Change
+   * payloads are delivered to {@link BindingRecyclerAdapter}, that pops only affected binders of the rows.
+   *
+   * @param adapter instance of adapter
+   * @see ObservableList#addObserver(Diff.Updates)
+   */
+  @NonNull
+  public static Diff.Updates updates(@NonNull final RecyclerView.Adapter<?> adapter) {
+    return new RecyclerUpdates(adapter);
+  }
+
+  /**
+   * Create receiver of the list updates that notifies legacy adapter. ListView supports only full data set change
+   * notification, rows of not changed {@link com.artfulbits.binding.Versioned} items skip the pop in
+   * {@link BindingAdapter}.
+   *
+   * @param adapter instance of adapter
+   * @see ObservableList#addObserver(Diff.Updates)
+   */
+  @NonNull
+  public static Diff.Updates updates(@NonNull final BaseAdapter adapter) {
+    return new DataSetUpdates(adapter);
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Read-only property of the adapter row context: view or item. */
+  private static final class RowProperty<T> extends Property<T> {
+    /** Row part. */
+    private final int mPart;
+
+    /* package */ RowProperty(final int part, @NonNull final String name) {
+      super(Models.<T>typeTrick(), name, Property.NO_NAME);
+
+      mPart = part;
+    }
+
+    @Override
+    public T get(@NonNull final Object instance) {
+      return get(instance, (Object[]) null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(@NonNull final Object instance, final Object... args) {
+      final BindingRow row = (BindingRow) instance;
+
+      return (T) ((VIEW == mPart) ? row.getBindingView() : row.getBindingItem());
+    }
+
+    @Override
+    public boolean set(@NonNull final Object instance, final T value) {
+      return false;
+    }
+
+    @Override
+    public void resolve(@NonNull final Object instance) throws WrongConfigurationError {
+      if (!(instance instanceof BindingRow)) {
+        throw new WrongConfigurationError("Row context is available only for adapters. Instance: " + instance);
+      }
+    }
+  }
+
+  /** Read-only property of the adapter row context: position. */
+  private static final class PositionProperty extends IntProperty {
+    /* package */ PositionProperty() {
+      super("getBindingPosition", Property.NO_NAME);
+    }
+
+    @Override
+    public int getInt(@NonNull final Object instance) {
+      return ((BindingRow) instance).getBindingPosition();
+    }
+
+    @Override
+    public Integer get(@NonNull final Object instance) {
+      return getInt(instance);
+    }
+
+    @Override
+    public Integer get(@NonNull final Object instance, final Object... args) {
+      return getInt(instance);
+    }
+
+    @Override
+    public boolean setInt(@NonNull final Object instance, final int value) {
+      return false;
+    }
+
+    @Override
+    public boolean set(@NonNull final Object instance, final Integer value) {
+      return false;
+    }
+
+    @Override
+    public void resolve(@NonNull final Object instance) throws WrongConfigurationError {
+      if (!(instance instanceof BindingRow)) {
+        throw new WrongConfigurationError("Row context is available only for adapters. Instance: " + instance);
+      }
+    }
+  }
+
+  /** Bridge of the list updates to RecyclerView adapter notifications. */
+  private static final class RecyclerUpdates implements Diff.Updates {
+    /** Notified adapter. */
+    private final RecyclerView.Adapter<?> mAdapter;
+
+    /* package */ RecyclerUpdates(@NonNull final RecyclerView.Adapter<?> adapter) {
+      mAdapter = adapter;
+    }
+
+    @Override
+    public void onInserted(final int position, final int count) {
+      mAdapter.notifyItemRangeInserted(position, count);
+    }
+
+    @Override
+    public void onRemoved(final int position, final int count) {
+      mAdapter.notifyItemRangeRemoved(position, count);
+    }
+
+    @Override
+    public void onMoved(final int fromPosition, final int toPosition) {
+      mAdapter.notifyItemMoved(fromPosition, toPosition);
+    }
+
+    @Override
+    public void onChanged(final int position, final int count, @Nullable final Object payload) {
+      mAdapter.notifyItemRangeChanged(position, count, payload);
+    }
+  }
+
+  /** Bridge of the list updates to legacy adapter notifications. */
+  private static final class DataSetUpdates implements Diff.Updates {
+    /** Notified adapter. */
+    private final BaseAdapter mAdapter;
+
+    /* package */ DataSetUpdates(@NonNull final BaseAdapter adapter) {
+      mAdapter = adapter;
+    }
+
+    @Override
+    public void onInserted(final int position, final int count) {
+      mAdapter.notifyDataSetChanged();
+    }
+
+    @Override
+    public void onRemoved(final int position, final int count) {
+      mAdapter.notifyDataSetChanged();
+    }
+
+    @Override
+    public void onMoved(final int fromPosition, final int toPosition) {
+      mAdapter.notifyDataSetChanged();
+    }
+
+    @Override
+    public void onChanged(final int position, final int count, @Nullable final Object payload) {
+      mAdapter.notifyDataSetChanged();
+    }
+  }
 }
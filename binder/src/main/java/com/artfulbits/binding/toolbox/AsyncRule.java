@@ -0,0 +1,171 @@
+package com.artfulbits.binding.toolbox;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.artfulbits.binding.Scheduler;
+import com.artfulbits.binding.Validation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Expensive validation rule that is executed asynchronously: uniqueness checks against database, checksums, large
+ * regular expressions. Binder executes the rule on worker scheduler and continues data exchange on main scheduler
+ * when result is known. Check of outdated value is cancelled when binder receives a newer value.
+ * <p/>
+ * Results are cached per value in bounded LRU, cached result is applied by binder synchronously. Call
+ * {@link #clear()} when results become outdated (for example, database content changed).
+ * <p/>
+ * Character sequences are cached by their immutable snapshot ({@code toString()}), so mutable text of the views
+ * ({@code Editable}) does not corrupt the cache. Other mutable values are validated without caching.
+ *
+ * @param <T> type of the validated value.
+ * @see Rules#async(Validation, Scheduler, Scheduler)
+ */
+@SuppressWarnings("unused")
+public final class AsyncRule<T> implements Validation<T> {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Default quantity of cached results. */
+  public static final int DEFAULT_CAPACITY = 64;
+  /** Result of the value is not known yet. */
+  public static final int UNKNOWN = Integer.MIN_VALUE;
+
+	/* [ MEMBERS ] =================================================================================================== */
+
+  /** Expensive rule. */
+  private final Validation<T> mRule;
+  /** Scheduler of the validation. */
+  private final Scheduler mWorker;
+  /** Scheduler of the data exchange continuation. */
+  private final Scheduler mMain;
+  /** Validation results in access order. Guarded by this. */
+  private final Map<Object, Integer> mResults;
+  /** Max quantity of cached results. */
+  private final int mCapacity;
+
+  /** Quantity of found results. */
+  private long mHits;
+  /** Quantity of executed validations. */
+  private long mMisses;
+
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /**
+   * Create asynchronous rule.
+   *
+   * @param rule     expensive rule, executed in worker thread.
+   * @param worker   scheduler of the validation.
+   * @param main     scheduler of the data exchange continuation, usually main looper.
+   * @param capacity max quantity of cached results.
+   */
+  public AsyncRule(@NonNull final Validation<T> rule, @NonNull final Scheduler worker, @NonNull final Scheduler main,
+                   final int capacity) {
+    if (capacity <= 0) throw new IllegalArgumentException("Capacity should be positive: " + capacity);
+
+    mRule = rule;
+    mWorker = worker;
+    mMain = main;
+    mCapacity = capacity;
+    mResults = new LinkedHashMap<Object, Integer>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Object, Integer> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+	/* [ GETTER / SETTER METHODS ] =================================================================================== */
+
+  /** Get scheduler of the validation. */
+  @NonNull
+  public Scheduler getWorker() {
+    return mWorker;
+  }
+
+  /** Get scheduler of the data exchange continuation. */
+  @NonNull
+  public Scheduler getMain() {
+    return mMain;
+  }
+
+  /** Get expensive rule. */
+  @NonNull
+  /* package */ Validation<T> getRule() {
+    return mRule;
+  }
+
+  /** Get max quantity of cached results. */
+  /* package */ int getCapacity() {
+    return mCapacity;
+  }
+
+  /** Get quantity of cached results. */
+  public synchronized int size() {
+    return mResults.size();
+  }
+
+  /** Get quantity of validations resolved from cache. */
+  public synchronized long getHits() {
+    return mHits;
+  }
+
+  /** Get quantity of executed validations. */
+  public synchronized long getMisses() {
+    return mMisses;
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  /**
+   * Get cached result without validation.
+   *
+   * @return result code or {@link #UNKNOWN}.
+   */
+  public synchronized int cached(@Nullable final T value) {
+    final Object key = MemoMold.snapshot(value);
+    if (MemoMold.NOT_CACHEABLE == key) return UNKNOWN;
+
+    final Integer code = mResults.get(key);
+
+    return (null == code) ? UNKNOWN : code;
+  }
+
+  /** Validate value in caller thread, result is cached. */
+  @Override
+  public int validate(@Nullable final T value) {
+    final Object key = MemoMold.snapshot(value);
+    if (MemoMold.NOT_CACHEABLE == key) return mRule.validate(value);
+
+    synchronized (this) {
+      final Integer code = mResults.get(key);
+
+      if (null != code) {
+        mHits++;
+        return code;
+      }
+
+      mMisses++;
+    }
+
+    // expensive part is executed without lock
+    final int code = mRule.validate(value);
+
+    synchronized (this) {
+      mResults.put(key, code);
+    }
+
+    return code;
+  }
+
+  /** Drop all cached results. */
+  public synchronized void clear() {
+    mResults.clear();
+  }
+
+  @Override
+  public String toString() {
+    return "async[" + mRule + "]";
+  }
+}
@@ -0,0 +1,549 @@
+package com.artfulbits.binding.toolbox;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.artfulbits.binding.reflection.ClassCache;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of copy strategies. Strategy is resolved once per class and cached, copy does not use Java serialization:
+ * <ul>
+ * <li>immutable types are not copied at all: boxed primitives, strings, enums and final classes with only final
+ * fields of immutable types;</li>
+ * <li>arrays, collections and maps are copied element by element. Collection instance is created by its public
+ * {@code clone()} (comparators and other settings are kept), only well known {@code java.util} collections are
+ * created by default constructor;</li>
+ * <li>classes with public {@code clone()} method are cloned, method is resolved once;</li>
+ * <li>{@link Serializable} classes are copied by serialization;</li>
+ * <li>all other instances are shared, the same as the plain reference assignment.</li>
+ * </ul>
+ * POJOs are copied field by field only on request: class implements {@link Structural} or strategy is registered by
+ * {@link #register(Class, Copier)} with {@link #fields(Class)}. Flat POJOs (fields of primitive or immutable types
+ * only) get shallow copy, all others get deep structural copy, shared references and cycles are preserved.
+ */
+@SuppressWarnings({"unchecked", "unused"})
+public final class Copiers {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Strategy for immutable instances: returns the same instance. */
+  public static final Copier<Object> IMMUTABLE = new Copier<Object>() {
+    @Override
+    public Object copy(@NonNull final Object value, @NonNull final Map<Object, Object> copies) {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return "immutable";
+    }
+  };
+
+  /** Strategy for instances that can not be copied: returns the same instance. */
+  public static final Copier<Object> SHARED = new Copier<Object>() {
+    @Override
+    public Object copy(@NonNull final Object value, @NonNull final Map<Object, Object> copies) {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return "shared";
+    }
+  };
+
+  /** Strategy based on Java serialization, the last resort. */
+  private static final Copier<Object> SERIALIZATION = new Copier<Object>() {
+    @Override
+    public Object copy(@NonNull final Object value, @NonNull final Map<Object, Object> copies) {
+      return Ridges.deepCopy((Serializable) value);
+    }
+
+    @Override
+    public String toString() {
+      return "serialization";
+    }
+  };
+
+  /** Strategy for arrays of primitives. */
+  private static final Copier<Object> PRIMITIVES_ARRAY = new Copier<Object>() {
+    @Override
+    public Object copy(@NonNull final Object value, @NonNull final Map<Object, Object> copies) {
+      final int length = Array.getLength(value);
+      final Object result = Array.newInstance(value.getClass().getComponentType(), length);
+      System.arraycopy(value, 0, result, 0, length);
+      copies.put(value, result);
+
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      return "primitives-array";
+    }
+  };
+
+  /** Strategy for arrays of objects. */
+  private static final Copier<Object> OBJECTS_ARRAY = new Copier<Object>() {
+    @Override
+    public Object copy(@NonNull final Object value, @NonNull final Map<Object, Object> copies) {
+      final Object[] source = (Object[]) value;
+      final Object[] result = Arrays.copyOf(source, source.length);
+      copies.put(value, result);
+
+      for (int i = 0; i < result.length; i++) {
+        result[i] = Copiers.copy(source[i], copies);
+      }
+
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      return "objects-array";
+    }
+  };
+
+  /** Well known immutable types. */
+  private static final Set<Class<?>> KNOWN_IMMUTABLE = new HashSet<Class<?>>(Arrays.asList(
+      String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+      Float.class, Double.class, Void.class, BigInteger.class, BigDecimal.class, Class.class, Locale.class,
+      UUID.class, Currency.class, Pattern.class));
+
+	/* [ STATIC MEMBERS ] ============================================================================================ */
+
+  /** Custom strategies. */
+  private static final ConcurrentMap<Class<?>, Copier<?>> sRegistered = new ConcurrentHashMap<>();
+
+  /** Resolved strategies. */
+  private static final ClassCache<Copier<?>> sCopiers = new ClassCache<>(new ClassCache.Factory<Copier<?>>() {
+    @NonNull
+    @Override
+    public Copier<?> create(@NonNull final Class<?> type) {
+      return resolve(type);
+    }
+  });
+
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /** hidden constructor. */
+  private Copiers() {
+    throw new AssertionError();
+  }
+
+	/* [ STATIC METHODS ] ============================================================================================ */
+
+  /**
+   * Create a copy of the instance.
+   *
+   * @param value instance to copy.
+   * @return copy of the instance, or the same instance for immutable types.
+   */
+  @Nullable
+  public static <T> T copy(@Nullable final T value) {
+    if (null == value) return null;
+
+    final Copier<Object> copier = (Copier<Object>) copier(value.getClass());
+    if (IMMUTABLE == copier || SHARED == copier) return value;
+
+    return (T) copier.copy(value, new IdentityHashMap<>());
+  }
+
+  /**
+   * Create a copy of the instance, part of the bigger copy operation. Used by custom strategies for copying nested
+   * instances.
+   *
+   * @param value  instance to copy.
+   * @param copies already copied instances of the operation, original to copy.
+   * @return copy of the instance.
+   */
+  @Nullable
+  public static <T> T copy(@Nullable final T value, @NonNull final Map<Object, Object> copies) {
+    if (null == value) return null;
+
+    final Object known = copies.get(value);
+    if (null != known) return (T) known;
+
+    return ((Copier<T>) copier(value.getClass())).copy(value, copies);
+  }
+
+  /** Get copy strategy of the class. */
+  @NonNull
+  public static Copier<?> copier(@NonNull final Class<?> type) {
+    final Copier<?> custom = sRegistered.get(type);
+
+    return (null != custom) ? custom : sCopiers.get(type);
+  }
+
+  /** Is instances of the class immutable. */
+  public static boolean isImmutable(@NonNull final Class<?> type) {
+    return IMMUTABLE == copier(type);
+  }
+
+  /** Register custom copy strategy for class. Strategy is not inherited by sub-classes. */
+  public static <T> void register(@NonNull final Class<T> type, @NonNull final Copier<? super T> copier) {
+    sRegistered.put(type, copier);
+  }
+
+  /**
+   * Create field by field copy strategy of the class. Useful for registration of classes that can not implement
+   * {@link Structural}.
+   *
+   * @throws IllegalArgumentException class has no default constructor or some field is not accessible.
+   */
+  @NonNull
+  public static <T> Copier<T> fields(@NonNull final Class<T> type) {
+    final Constructor<?> constructor = defaultConstructor(type);
+
+    if (null == constructor || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+      throw new IllegalArgumentException("Structural copy requires default constructor: " + type);
+    }
+
+    final List<Field> fields = declaredFields(type);
+    final boolean[] deep = new boolean[fields.size()];
+    boolean isFlat = true;
+
+    for (int i = 0; i < deep.length; i++) {
+      final Field f = fields.get(i);
+
+      try {
+        f.setAccessible(true);
+      } catch (final SecurityException ex) {
+        // partially copied instance is worse than no copy at all
+        throw new IllegalArgumentException("Field can not be copied: " + f, ex);
+      }
+
+      deep[i] = !f.getType().isPrimitive() && !isImmutable(f.getType(), new HashSet<Class<?>>());
+      isFlat &= !deep[i];
+    }
+
+    return (Copier<T>) new FieldsCopier(constructor, fields.toArray(new Field[fields.size()]), isFlat ? null : deep);
+  }
+
+  /** Remove custom copy strategy of the class. */
+  public static void unregister(@NonNull final Class<?> type) {
+    sRegistered.remove(type);
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Find the best strategy for the class. */
+  @NonNull
+  private static Copier<?> resolve(@NonNull final Class<?> type) {
+    if (isImmutable(type, new HashSet<Class<?>>())) return IMMUTABLE;
+
+    if (type.isArray()) {
+      return type.getComponentType().isPrimitive() ? PRIMITIVES_ARRAY : OBJECTS_ARRAY;
+    }
+
+    if (Structural.class.isAssignableFrom(type)) return fields(type);
+
+    final Method clone = (Cloneable.class.isAssignableFrom(type)) ? publicClone(type) : null;
+    final Constructor<?> constructor = isWellKnown(type) ? defaultConstructor(type) : null;
+
+    if (Collection.class.isAssignableFrom(type) && (null != clone || null != constructor)) {
+      return new CollectionCopier(clone, constructor);
+    }
+
+    if (Map.class.isAssignableFrom(type) && (null != clone || null != constructor)) {
+      return new MapCopier(clone, constructor);
+    }
+
+    if (null != clone) return new CloneCopier(clone);
+
+    if (Serializable.class.isAssignableFrom(type)) return SERIALIZATION;
+
+    return SHARED;
+  }
+
+  /**
+   * Is collection class safe for creation by default constructor: standard {@code java.util} class without
+   * comparator or other settings of the instance.
+   */
+  private static boolean isWellKnown(@NonNull final Class<?> type) {
+    return type.getName().startsWith("java.util.") && !SortedSet.class.isAssignableFrom(type) &&
+        !SortedMap.class.isAssignableFrom(type);
+  }
+
+  /** Is class immutable. Final class with final fields of immutable types. Classes in progress are immutable. */
+  private static boolean isImmutable(@NonNull final Class<?> type, @NonNull final Set<Class<?>> inProgress) {
+    if (type.isPrimitive() || type.isEnum() || KNOWN_IMMUTABLE.contains(type)) return true;
+
+    // enum constants with body are anonymous sub-classes
+    final Class<?> parent = type.getSuperclass();
+    if (null != parent && parent.isEnum()) return true;
+
+    if (type.isArray() || type.isInterface() || !Modifier.isFinal(type.getModifiers())) return false;
+
+    if (!inProgress.add(type)) return true;
+
+    for (final Field f : declaredFields(type)) {
+      if (!Modifier.isFinal(f.getModifiers())) return false;
+      if (!isImmutable(f.getType(), inProgress)) return false;
+    }
+
+    return true;
+  }
+
+  /** Get all instance fields of the class and its parents. */
+  @NonNull
+  private static List<Field> declaredFields(@NonNull final Class<?> type) {
+    final List<Field> result = new ArrayList<>();
+
+    for (Class<?> c = type; null != c && Object.class != c; c = c.getSuperclass()) {
+      for (final Field f : c.getDeclaredFields()) {
+        if (Modifier.isStatic(f.getModifiers()) || f.isSynthetic()) continue;
+
+        result.add(f);
+      }
+    }
+
+    return result;
+  }
+
+  /** Find default constructor. */
+  @Nullable
+  private static Constructor<?> defaultConstructor(@NonNull final Class<?> type) {
+    // inner classes require outer instance
+    if (null != type.getEnclosingClass() && !Modifier.isStatic(type.getModifiers())) return null;
+
+    try {
+      final Constructor<?> constructor = type.getDeclaredConstructor();
+      constructor.setAccessible(true);
+
+      return constructor;
+    } catch (final NoSuchMethodException ignored) {
+      // expected, class can not be created without arguments
+    } catch (final SecurityException ignored) {
+      // constructor is not accessible, class is handled as it has no default constructor
+    }
+
+    return null;
+  }
+
+  /** Find public clone method. */
+  @Nullable
+  private static Method publicClone(@NonNull final Class<?> type) {
+    try {
+      final Method clone = type.getMethod("clone");
+      clone.setAccessible(true);
+
+      return clone;
+    } catch (final NoSuchMethodException ignored) {
+      // expected, Cloneable marker without public clone() method
+    } catch (final SecurityException ignored) {
+      // method is not accessible, class is handled as not cloneable
+    }
+
+    return null;
+  }
+
+  /** Create clone of the instance. */
+  @NonNull
+  private static Object invokeClone(@NonNull final Method clone, @NonNull final Object value) {
+    try {
+      return clone.invoke(value);
+    } catch (final Throwable ex) {
+      throw new IllegalStateException("Can not clone instance of " + value.getClass(), ex);
+    }
+  }
+
+  /** Create new instance by default constructor. */
+  @NonNull
+  private static Object newInstance(@NonNull final Constructor<?> constructor) {
+    try {
+      return constructor.newInstance();
+    } catch (final Throwable ex) {
+      throw new IllegalStateException("Can not create instance of " + constructor.getDeclaringClass(), ex);
+    }
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Copy strategy. */
+  public interface Copier<T> {
+    /**
+     * Create copy of the instance.
+     *
+     * @param value  instance to copy.
+     * @param copies already copied instances of the operation, original to copy. Strategies that create a new
+     *               instance should register it before copying of nested instances.
+     * @return copy of the instance.
+     */
+    T copy(@NonNull final T value, @NonNull final Map<Object, Object> copies);
+  }
+
+  /**
+   * Marker of the POJO classes that allow field by field copy. Class should have default constructor, all fields
+   * should be accessible by reflection.
+   */
+  public interface Structural {
+  }
+
+  /** Copy by public {@code clone()} method. */
+  private static final class CloneCopier implements Copier<Object> {
+    /** Resolved clone method. */
+    private final Method mClone;
+
+    /* package */ CloneCopier(@NonNull final Method clone) {
+      mClone = clone;
+    }
+
+    @Override
+    public Object copy(@NonNull final Object value, @NonNull final Map<Object, Object> copies) {
+      final Object result = invokeClone(mClone, value);
+      copies.put(value, result);
+
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      return "clone";
+    }
+  }
+
+  /** Copy collection element by element. */
+  private static final class CollectionCopier implements Copier<Collection<Object>> {
+    /** Public clone method of the collection, preferred. */
+    private final Method mClone;
+    /** Default constructor of the collection. */
+    private final Constructor<?> mConstructor;
+
+    /* package */ CollectionCopier(@Nullable final Method clone, @Nullable final Constructor<?> constructor) {
+      mClone = clone;
+      mConstructor = constructor;
+    }
+
+    @Override
+    public Collection<Object> copy(@NonNull final Collection<Object> value, @NonNull final Map<Object, Object> copies) {
+      final Collection<Object> result;
+
+      if (null != mClone) {
+        // clone keeps comparator and other settings of the instance
+        result = (Collection<Object>) invokeClone(mClone, value);
+        result.clear();
+      } else {
+        result = (Collection<Object>) newInstance(mConstructor);
+      }
+
+      copies.put(value, result);
+
+      for (final Object item : value) {
+        result.add(Copiers.copy(item, copies));
+      }
+
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      return "collection";
+    }
+  }
+
+  /** Copy map entry by entry. */
+  private static final class MapCopier implements Copier<Map<Object, Object>> {
+    /** Public clone method of the map, preferred. */
+    private final Method mClone;
+    /** Default constructor of the map. */
+    private final Constructor<?> mConstructor;
+
+    /* package */ MapCopier(@Nullable final Method clone, @Nullable final Constructor<?> constructor) {
+      mClone = clone;
+      mConstructor = constructor;
+    }
+
+    @Override
+    public Map<Object, Object> copy(@NonNull final Map<Object, Object> value,
+                                    @NonNull final Map<Object, Object> copies) {
+      final Map<Object, Object> result;
+
+      if (null != mClone) {
+        // clone keeps comparator and other settings of the instance
+        result = (Map<Object, Object>) invokeClone(mClone, value);
+        result.clear();
+      } else {
+        result = (Map<Object, Object>) newInstance(mConstructor);
+      }
+
+      copies.put(value, result);
+
+      for (final Map.Entry<Object, Object> e : value.entrySet()) {
+        result.put(Copiers.copy(e.getKey(), copies), Copiers.copy(e.getValue(), copies));
+      }
+
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      return "map";
+    }
+  }
+
+  /** Copy POJO field by field. */
+  private static final class FieldsCopier implements Copier<Object> {
+    /** Default constructor of the class. */
+    private final Constructor<?> mConstructor;
+    /** All instance fields. */
+    private final Field[] mFields;
+    /** Fields that require deep copy, {@code null} - shallow copy of flat POJO. */
+    private final boolean[] mDeep;
+
+    /* package */ FieldsCopier(@NonNull final Constructor<?> constructor, @NonNull final Field[] fields,
+                               @Nullable final boolean[] deep) {
+      mConstructor = constructor;
+      mFields = fields;
+      mDeep = deep;
+    }
+
+    @Override
+    public Object copy(@NonNull final Object value, @NonNull final Map<Object, Object> copies) {
+      final Object result = newInstance(mConstructor);
+      copies.put(value, result);
+
+      try {
+        for (int i = 0; i < mFields.length; i++) {
+          final Field f = mFields[i];
+          final Object fieldValue = f.get(value);
+
+          f.set(result, (null != mDeep && mDeep[i]) ? Copiers.copy(fieldValue, copies) : fieldValue);
+        }
+      } catch (final IllegalAccessException ex) {
+        throw new IllegalStateException("Can not copy instance of " + value.getClass(), ex);
+      }
+
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      return (null == mDeep) ? "shallow" : "deep";
+    }
+  }
+}
@@ -0,0 +1,551 @@
+package com.artfulbits.binding.toolbox;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Difference of two lists as a minimal sequence of list updates: removals, moves, insertions and changes. Updates
+ * are applied one after another, each position is relative to the list state after the previous update, the same
+ * contract as RecyclerView adapter notifications.
+ * <p/>
+ * Matching items are found by Myers O(ND) algorithm in linear space (middle snake, divide and conquer), common head
+ * and tail are trimmed first, so typical small edits of long lists are cheap. Removed and inserted items that are the
+ * same item are reported as moves.
+ * <p/>
+ * Calculation does not modify lists and can be executed on worker thread, see
+ * {@link ObservableList#replace(List, Comparer, com.artfulbits.binding.Scheduler,
+ * com.artfulbits.binding.Scheduler)}.
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public final class Diff {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Operation: items removed. */
+  private static final int REMOVE = 1;
+  /** Operation: item moved. */
+  private static final int MOVE = 2;
+  /** Operation: items inserted. */
+  private static final int INSERT = 3;
+  /** Operation: items changed. */
+  private static final int CHANGE = 4;
+  /** Not matched item. */
+  private static final int NONE = -1;
+
+  /** Items are the same when they are equal, content is never changed. */
+  private static final Comparer<Object> EQUALITY = new Comparer<Object>() {
+    @Override
+    public boolean areItemsSame(final Object before, final Object after) {
+      return (null == before) ? null == after : before.equals(after);
+    }
+
+    @Override
+    public boolean areContentsSame(final Object before, final Object after) {
+      return true;
+    }
+  };
+
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /** hidden constructor. */
+  private Diff() {
+    throw new AssertionError();
+  }
+
+	/* [ STATIC METHODS ] ============================================================================================ */
+
+  /** Compare items by equals, equal items have the same content. */
+  @NonNull
+  public static <T> Comparer<T> byEquals() {
+    return (Comparer<T>) EQUALITY;
+  }
+
+  /** Calculate difference with moves detection. */
+  @NonNull
+  public static <T> Result calculate(@NonNull final List<? extends T> before, @NonNull final List<? extends T> after,
+                                     @NonNull final Comparer<? super T> comparer) {
+    return calculate(before, after, comparer, true);
+  }
+
+  /**
+   * Calculate difference.
+   *
+   * @param before      old state of the list.
+   * @param after       new state of the list.
+   * @param comparer    identity and content comparison of the items.
+   * @param detectMoves report moves instead of remove and insert of the same item. Moves detection is quadratic to
+   *                    quantity of removed and inserted items.
+   */
+  @NonNull
+  public static <T> Result calculate(@NonNull final List<? extends T> before, @NonNull final List<? extends T> after,
+                                     @NonNull final Comparer<? super T> comparer, final boolean detectMoves) {
+    final Engine engine = new Engine(before.toArray(), after.toArray(), (Comparer<Object>) comparer);
+
+    return engine.run(detectMoves);
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /**
+   * Identity and content comparison of the list items.
+   *
+   * @param <T> type of the items.
+   */
+  public abstract static class Comparer<T> {
+    /** Is it the same item, for example the same database ID. */
+    public abstract boolean areItemsSame(final T before, final T after);
+
+    /** Is content of the same item not changed. Called only for the same items. */
+    public abstract boolean areContentsSame(final T before, final T after);
+
+    /** Get payload of the change, for example key of the changed property. {@code null} - full update. */
+    @Nullable
+    public Object getChangePayload(final T before, final T after) {
+      return null;
+    }
+  }
+
+  /** Receiver of the list updates. */
+  public interface Updates {
+    /** Items inserted at position. */
+    void onInserted(final int position, final int count);
+
+    /** Items removed from position. */
+    void onRemoved(final int position, final int count);
+
+    /** Item moved from position to the new position. */
+    void onMoved(final int fromPosition, final int toPosition);
+
+    /** Items content changed. */
+    void onChanged(final int position, final int count, @Nullable final Object payload);
+  }
+
+  /** Calculated difference. Immutable, can be dispatched several times. */
+  public static final class Result {
+    /** Operations triples: type, position, count (or target position of the move). */
+    private final int[] mOps;
+    /** Quantity of used ints in operations array. */
+    private final int mLength;
+    /** Payloads of the change operations, in order of operations. */
+    private final List<Object> mPayloads;
+    /** Size of the old list. */
+    private final int mOldSize;
+    /** Size of the new list. */
+    private final int mNewSize;
+    /** Quantity of removed items. */
+    private final int mRemoved;
+    /** Quantity of moved items. */
+    private final int mMoved;
+    /** Quantity of inserted items. */
+    private final int mInserted;
+    /** Quantity of changed items. */
+    private final int mChanged;
+
+    /* package */ Result(@NonNull final Engine e) {
+      mOps = e.mOps;
+      mLength = e.mLength;
+      mPayloads = e.mPayloads;
+      mOldSize = e.mBefore.length;
+      mNewSize = e.mAfter.length;
+      mRemoved = e.mRemoved;
+      mMoved = e.mMoved;
+      mInserted = e.mInserted;
+      mChanged = e.mChanged;
+    }
+
+    /** Get size of the old list. */
+    public int getOldSize() {
+      return mOldSize;
+    }
+
+    /** Get size of the new list. */
+    public int getNewSize() {
+      return mNewSize;
+    }
+
+    /** Get quantity of removed items. */
+    public int getRemoved() {
+      return mRemoved;
+    }
+
+    /** Get quantity of moved items. */
+    public int getMoved() {
+      return mMoved;
+    }
+
+    /** Get quantity of inserted items. */
+    public int getInserted() {
+      return mInserted;
+    }
+
+    /** Get quantity of changed items. */
+    public int getChanged() {
+      return mChanged;
+    }
+
+    /** Get quantity of updates. */
+    public int size() {
+      return mLength / 3;
+    }
+
+    /** Is lists the same. */
+    public boolean isEmpty() {
+      return 0 == mLength;
+    }
+
+    /** Deliver updates to receiver, in order. */
+    public void dispatchTo(@NonNull final Updates updates) {
+      int change = 0;
+
+      for (int i = 0; i < mLength; i += 3) {
+        final int a = mOps[i + 1];
+        final int b = mOps[i + 2];
+
+        switch (mOps[i]) {
+          case REMOVE:
+            updates.onRemoved(a, b);
+            break;
+          case MOVE:
+            updates.onMoved(a, b);
+            break;
+          case INSERT:
+            updates.onInserted(a, b);
+            break;
+          default:
+            updates.onChanged(a, b, mPayloads.get(change++));
+            break;
+        }
+      }
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.US, "Diff{%d -> %d, removed=%d, moved=%d, inserted=%d, changed=%d, updates=%d}",
+          mOldSize, mNewSize, mRemoved, mMoved, mInserted, mChanged, size());
+    }
+  }
+
+  /** One calculation of the difference. */
+  private static final class Engine {
+    /** Old list items. */
+    final Object[] mBefore;
+    /** New list items. */
+    final Object[] mAfter;
+    /** Items comparison. */
+    final Comparer<Object> mComparer;
+    /** Old item index to new item index, or {@link #NONE}. */
+    final int[] mOldToNew;
+    /** New item index to old item index, or {@link #NONE}. */
+    final int[] mNewToOld;
+    /** Furthest reaching forward paths by diagonal. */
+    final int[] mForward;
+    /** Furthest reaching backward paths by diagonal. */
+    final int[] mBackward;
+    /** Offset of the zero diagonal in paths arrays. */
+    final int mOffset;
+    /** Last found middle snake: start x, start y, end x, end y. Relative to the range. */
+    final int[] mSnake = new int[4];
+
+    /** Operations triples. */
+    int[] mOps = new int[48];
+    /** Quantity of used ints in operations array. */
+    int mLength;
+    /** Payloads of the change operations. */
+    final List<Object> mPayloads = new ArrayList<>();
+
+    int mRemoved;
+    int mMoved;
+    int mInserted;
+    int mChanged;
+
+    /* package */ Engine(@NonNull final Object[] before, @NonNull final Object[] after,
+                         @NonNull final Comparer<Object> comparer) {
+      mBefore = before;
+      mAfter = after;
+      mComparer = comparer;
+      mOldToNew = new int[before.length];
+      mNewToOld = new int[after.length];
+
+      Arrays.fill(mOldToNew, NONE);
+      Arrays.fill(mNewToOld, NONE);
+
+      final int max = (before.length + after.length + 1) / 2 + 1;
+      mOffset = max + 1;
+      mForward = new int[2 * max + 3];
+      mBackward = new int[2 * max + 3];
+    }
+
+    /** Calculate difference. */
+    @NonNull
+    public Result run(final boolean detectMoves) {
+      match(0, mBefore.length, 0, mAfter.length);
+
+      final boolean[] moved = new boolean[mBefore.length];
+      if (detectMoves) {
+        pairMoves(moved);
+      }
+
+      emitRemovals();
+      emitMoves(moved);
+      emitInsertions();
+      emitChanges();
+
+      return new Result(this);
+    }
+
+    /** Is old item the same as new item. */
+    private boolean same(final int x, final int y) {
+      return mComparer.areItemsSame(mBefore[x], mAfter[y]);
+    }
+
+    /** Find matching items of the ranges: old [a0, a1), new [b0, b1). */
+    private void match(int a0, int a1, int b0, int b1) {
+      // common head and tail
+      while (a0 < a1 && b0 < b1 && same(a0, b0)) {
+        link(a0++, b0++);
+      }
+
+      while (a0 < a1 && b0 < b1 && same(a1 - 1, b1 - 1)) {
+        link(--a1, --b1);
+      }
+
+      // only insertions or only removals left
+      if (a0 == a1 || b0 == b1) return;
+
+      // head and tail differ, so edit distance is at least two and both halves are smaller
+      middleSnake(a0, a1, b0, b1);
+
+      final int x0 = mSnake[0], y0 = mSnake[1], x1 = mSnake[2], y1 = mSnake[3];
+
+      for (int i = 0, len = x1 - x0; i < len; i++) {
+        link(a0 + x0 + i, b0 + y0 + i);
+      }
+
+      match(a0, a0 + x0, b0, b0 + y0);
+      match(a0 + x1, a1, b0 + y1, b1);
+    }
+
+    /** Remember matched items. */
+    private void link(final int x, final int y) {
+      mOldToNew[x] = y;
+      mNewToOld[y] = x;
+    }
+
+    /**
+     * Find middle snake of the optimal path through the ranges: old [a0, a1), new [b0, b1). Forward and backward
+     * searches are executed simultaneously until they overlap.
+     *
+     * @return edit distance of the ranges.
+     */
+    private int middleSnake(final int a0, final int a1, final int b0, final int b1) {
+      final int n = a1 - a0;
+      final int m = b1 - b0;
+      final int delta = n - m;
+      final boolean isOdd = 0 != (delta & 1);
+      final int max = (n + m + 1) / 2;
+      final int[] forward = mForward;
+      final int[] backward = mBackward;
+      final int offset = mOffset;
+
+      forward[offset + 1] = 0;
+      backward[offset + 1] = 0;
+
+      for (int d = 0; d <= max; d++) {
+        // forward search, diagonal k = x - y
+        for (int k = -d; k <= d; k += 2) {
+          int x = (k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])) ?
+              forward[offset + k + 1] : forward[offset + k - 1] + 1;
+          int y = x - k;
+          final int sx = x, sy = y;
+
+          while (x < n && y < m && same(a0 + x, b0 + y)) {
+            x++;
+            y++;
+          }
+
+          forward[offset + k] = x;
+
+          // backward path of the same diagonal is known from previous step
+          final int c = delta - k;
+          if (isOdd && c >= 1 - d && c <= d - 1 && x + backward[offset + c] >= n) {
+            return snake(sx, sy, x, y, 2 * d - 1);
+          }
+        }
+
+        // backward search on reversed ranges, diagonal c = x - y from the end
+        for (int c = -d; c <= d; c += 2) {
+          int x = (c == -d || (c != d && backward[offset + c - 1] < backward[offset + c + 1])) ?
+              backward[offset + c + 1] : backward[offset + c - 1] + 1;
+          int y = x - c;
+          final int sx = x, sy = y;
+
+          while (x < n && y < m && same(a1 - 1 - x, b1 - 1 - y)) {
+            x++;
+            y++;
+          }
+
+          backward[offset + c] = x;
+
+          final int k = delta - c;
+          if (!isOdd && k >= -d && k <= d && x + forward[offset + k] >= n) {
+            return snake(n - x, m - y, n - sx, m - sy, 2 * d);
+          }
+        }
+      }
+
+      throw new IllegalStateException("Lists are modified during difference calculation.");
+    }
+
+    /** Store middle snake. */
+    private int snake(final int x0, final int y0, final int x1, final int y1, final int distance) {
+      mSnake[0] = x0;
+      mSnake[1] = y0;
+      mSnake[2] = x1;
+      mSnake[3] = y1;
+
+      return distance;
+    }
+
+    /** Pair removed and inserted items that are the same item. */
+    private void pairMoves(@NonNull final boolean[] moved) {
+      final int[] removed = new int[mBefore.length];
+      int count = 0;
+
+      for (int i = 0; i < mBefore.length; i++) {
+        if (NONE == mOldToNew[i]) removed[count++] = i;
+      }
+
+      for (int j = 0; j < mAfter.length && count > 0; j++) {
+        if (NONE != mNewToOld[j]) continue;
+
+        for (int r = 0; r < count; r++) {
+          final int i = removed[r];
+
+          if (same(i, j)) {
+            link(i, j);
+            moved[i] = true;
+
+            // drop paired item, keep order of others
+            System.arraycopy(removed, r + 1, removed, r, --count - r);
+            break;
+          }
+        }
+      }
+    }
+
+    /** Removals from the end, positions are not shifted by previous removals. */
+    private void emitRemovals() {
+      for (int i = mBefore.length - 1; i >= 0; i--) {
+        if (NONE != mOldToNew[i]) continue;
+
+        int start = i;
+        while (start > 0 && NONE == mOldToNew[start - 1]) {
+          start--;
+        }
+
+        add(REMOVE, start, i - start + 1);
+        mRemoved += i - start + 1;
+        i = start;
+      }
+    }
+
+    /**
+     * Moves of the paired items. List contains only kept items in old order. Each moved item is placed right after
+     * the closest preceding (in new order) item that is already in place.
+     */
+    private void emitMoves(@NonNull final boolean[] moved) {
+      final int[] current = new int[mBefore.length];
+      int size = 0;
+
+      for (int i = 0; i < mBefore.length; i++) {
+        if (NONE != mOldToNew[i]) current[size++] = mOldToNew[i];
+      }
+
+      final boolean[] placed = new boolean[mAfter.length];
+      for (int j = 0; j < mAfter.length; j++) {
+        placed[j] = NONE != mNewToOld[j] && !moved[mNewToOld[j]];
+      }
+
+      for (int j = 0; j < mAfter.length; j++) {
+        if (placed[j] || NONE == mNewToOld[j]) continue;
+
+        int from = 0;
+        while (current[from] != j) {
+          from++;
+        }
+
+        System.arraycopy(current, from + 1, current, from, size - from - 1);
+        size--;
+
+        int to = 0;
+        for (int p = 0; p < size; p++) {
+          if (placed[current[p]] && current[p] < j) to = p + 1;
+        }
+
+        System.arraycopy(current, to, current, to + 1, size - to);
+        current[to] = j;
+        size++;
+        placed[j] = true;
+
+        mMoved++;
+        if (from != to) add(MOVE, from, to);
+      }
+    }
+
+    /** Insertions in new order, all previous positions are final. */
+    private void emitInsertions() {
+      for (int j = 0; j < mAfter.length; j++) {
+        if (NONE != mNewToOld[j]) continue;
+
+        int end = j;
+        while (end + 1 < mAfter.length && NONE == mNewToOld[end + 1]) {
+          end++;
+        }
+
+        add(INSERT, j, end - j + 1);
+        mInserted += end - j + 1;
+        j = end;
+      }
+    }
+
+    /** Changes of the same items in final positions, neighbours with the same payload are joined. */
+    private void emitChanges() {
+      int start = NONE;
+      Object payload = null;
+
+      for (int j = 0; j <= mAfter.length; j++) {
+        final boolean isChanged = j < mAfter.length && NONE != mNewToOld[j] &&
+            !mComparer.areContentsSame(mBefore[mNewToOld[j]], mAfter[j]);
+        final Object current = isChanged ? mComparer.getChangePayload(mBefore[mNewToOld[j]], mAfter[j]) : null;
+
+        // close the run
+        if (NONE != start && (!isChanged || current != payload)) {
+          add(CHANGE, start, j - start);
+          mPayloads.add(payload);
+          mChanged += j - start;
+          start = NONE;
+        }
+
+        if (isChanged && NONE == start) {
+          start = j;
+          payload = current;
+        }
+      }
+    }
+
+    /** Append operation. */
+    private void add(final int type, final int a, final int b) {
+      if (mLength + 3 > mOps.length) {
+        mOps = Arrays.copyOf(mOps, mOps.length * 2);
+      }
+
+      mOps[mLength++] = type;
+      mOps[mLength++] = a;
+      mOps[mLength++] = b;
+    }
+  }
+}
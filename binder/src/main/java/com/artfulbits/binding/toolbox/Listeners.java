@@ -16,6 +16,7 @@ import android.widget.TextView;
 
 import com.artfulbits.binding.Listener;
 import com.artfulbits.binding.Notifications;
+import com.artfulbits.binding.Scheduler;
 import com.artfulbits.binding.Selector;
 
 import java.lang.ref.WeakReference;
@@ -55,6 +56,12 @@ public final class Listeners {
   private final static String EXT_KEY = "key";
   /** Action name used for timer based data exchange scheduling. */
   private final static String ACTION_TIME = "action_time_comes";
+  /** Pacing: notify after quiet period. */
+  private final static int DEBOUNCE = 0;
+  /** Pacing: notify immediately, than at most once per interval. */
+  private final static int THROTTLE = 1;
+  /** Pacing: notify after quiet period, but not later than max wait after the first change. */
+  private final static int IDLE = 2;
 
   /* [ STATIC MEMBERS ] ============================================================================================ */
 
@@ -135,6 +142,75 @@ public final class Listeners {
     return new TextWatcherListener();
   }
 
+  /**
+   * Detect string changes and raise data exchange when user stops typing.
+   *
+   * @param delay quiet period in milliseconds.
+   * @see #debounce(Listener, long)
+   */
+  @NonNull
+  public static Listener onTextChanged(@IntRange(from = 0) final long delay) {
+    return debounce(new TextWatcherListener(), delay);
+  }
+
+  /**
+   * Raise notification only after the quiet period: series of changes produce one trailing notification.
+   *
+   * @param listener source of the notifications.
+   * @param delay    quiet period in milliseconds.
+   */
+  @NonNull
+  public static Listener debounce(@NonNull final Listener listener, @IntRange(from = 0) final long delay) {
+    return debounce(listener, delay, Schedulers.main());
+  }
+
+  /** Raise notification only after the quiet period. Time is measured by scheduler clock. */
+  @NonNull
+  public static Listener debounce(@NonNull final Listener listener, @IntRange(from = 0) final long delay,
+                                  @NonNull final Scheduler scheduler) {
+    return new PacedListener(listener, scheduler, DEBOUNCE, delay, 0);
+  }
+
+  /**
+   * Raise notification on the first change immediately and than at most once per interval, the last change of the
+   * series is always delivered (leading and trailing notifications).
+   *
+   * @param listener source of the notifications.
+   * @param interval min interval between notifications in milliseconds.
+   */
+  @NonNull
+  public static Listener throttle(@NonNull final Listener listener, @IntRange(from = 0) final long interval) {
+    return throttle(listener, interval, Schedulers.main());
+  }
+
+  /** Raise notification at most once per interval. Time is measured by scheduler clock. */
+  @NonNull
+  public static Listener throttle(@NonNull final Listener listener, @IntRange(from = 0) final long interval,
+                                  @NonNull final Scheduler scheduler) {
+    return new PacedListener(listener, scheduler, THROTTLE, interval, 0);
+  }
+
+  /**
+   * Commit changes when input becomes idle. Like {@link #debounce(Listener, long)}, but continuous input is
+   * committed at least once per max wait period.
+   *
+   * @param listener source of the notifications.
+   * @param idle     quiet period in milliseconds.
+   * @param maxWait  max delay of the notification after the first not committed change, in milliseconds.
+   */
+  @NonNull
+  public static Listener onIdle(@NonNull final Listener listener, @IntRange(from = 0) final long idle,
+                                @IntRange(from = 0) final long maxWait) {
+    return onIdle(listener, idle, maxWait, Schedulers.main());
+  }
+
+  /** Commit changes when input becomes idle. Time is measured by scheduler clock. */
+  @NonNull
+  public static Listener onIdle(@NonNull final Listener listener, @IntRange(from = 0) final long idle,
+                                @IntRange(from = 0) final long maxWait, @NonNull final Scheduler scheduler) {
+    return new PacedListener(listener, scheduler, IDLE, idle, Math.max(idle, maxWait));
+  }
+
   /** Detect focus loss and raise data exchange on that. */
   @NonNull
   public static Listener onFocusLost() {
@@ -235,6 +311,112 @@ public final class Listeners {
     }
   }
 
+  /**
+   * Limits frequency of the notifications of another listener. All calls are expected on scheduler thread, usually
+   * main looper.
+   */
+  private static class PacedListener implements Listener, Notifications, Runnable {
+    /** Set of notifiers. */
+    private final Set<Notifications> mKnown = new HashSet<>();
+    /** Source of the notifications. */
+    private final Listener mInner;
+    /** Clock and timer. */
+    private final Scheduler mScheduler;
+    /** Pacing mode. */
+    private final int mMode;
+    /** Quiet period or min interval, in milliseconds. */
+    private final long mInterval;
+    /** Max delay of the idle notification, in milliseconds. */
+    private final long mMaxWait;
+    /** Is notification scheduled. */
+    private boolean mPending;
+    /** Time of the first not delivered change. */
+    private long mFirst;
+    /** Time of the last delivered notification. */
+    private long mLast = Long.MIN_VALUE;
+
+    /* package */ PacedListener(@NonNull final Listener inner, @NonNull final Scheduler scheduler, final int mode,
+                                final long interval, final long maxWait) {
+      mInner = inner;
+      mScheduler = scheduler;
+      mMode = mode;
+      mInterval = Math.max(0, interval);
+      mMaxWait = maxWait;
+    }
+
+    @Override
+    public void onChanged() {
+      final long now = mScheduler.now();
+
+      if (THROTTLE == mMode) {
+        // trailing notification is already scheduled
+        if (mPending) return;
+
+        if (Long.MIN_VALUE == mLast || now - mLast >= mInterval) {
+          run();
+        } else {
+          mPending = true;
+          mScheduler.schedule(this, mLast + mInterval - now);
+        }
+
+        return;
+      }
+
+      if (!mPending) {
+        mPending = true;
+        mFirst = now;
+      }
+
+      long delay = mInterval;
+      if (IDLE == mMode) {
+        delay = Math.min(delay, mFirst + mMaxWait - now);
+      }
+
+      // restart quiet period
+      mScheduler.cancel(this);
+      mScheduler.schedule(this, Math.max(0, delay));
+    }
+
+    /** Deliver notification. */
+    @Override
+    public void run() {
+      mPending = false;
+      mLast = mScheduler.now();
+
+      for (Notifications selector : mKnown) {
+        selector.onChanged();
+      }
+    }
+
+    @Override
+    public Listener binding(@NonNull final Selector<?, ?> instance) {
+      mInner.binding(instance);
+
+      return this;
+    }
+
+    @Override
+    public void willNotify(@NonNull final Notifications listener) {
+      if (mKnown.isEmpty()) {
+        mInner.willNotify(this);
+      }
+
+      mKnown.add(listener);
+    }
+
+    @Override
+    public void detach(@NonNull final Notifications listener) {
+      mKnown.remove(listener);
+
+      if (mKnown.isEmpty()) {
+        mInner.detach(this);
+
+        mScheduler.cancel(this);
+        mPending = false;
+      }
+    }
+  }
+
   /** Listen to focus loss of the View. */
   private static class FocusLostListener implements Listener, View.OnFocusChangeListener {
     /** Set of notifiers. */
@@ -0,0 +1,350 @@
+package com.artfulbits.binding.toolbox;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.artfulbits.binding.Directional;
+import com.artfulbits.binding.Formatting;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Formatting that memoizes results of expensive conversions: dates, currency, localized quantities. Results are
+ * kept in bounded LRU {@link Cache} keyed by formatter, direction, value and current default locale, so locale change
+ * does not return stale text.
+ * <p/>
+ * Cache can be shared by several memoizing formatters (for example all adapter rows that use the same formatter),
+ * entries of different formatters never collide.
+ * <p/>
+ * Keep in mind: wrapped formatter should be pure and return immutable results. Formatters that reuse returned
+ * instance (like {@link NumberMold}) should not be memoized. Model values used as keys should not be modified after
+ * conversion. View values are usually mutable (like {@link android.text.Editable}), so text is cached by its
+ * immutable snapshot and other mutable view values are converted without caching.
+ *
+ * @param <T> type of the view data.
+ * @param <V> type of the model data.
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public final class MemoMold<T, V> implements Formatting<T, V>, Directional {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Direction: MODEL --&gt; VIEW. */
+  private static final boolean TO_VIEW = true;
+  /** Direction: VIEW --&gt; MODEL. */
+  private static final boolean TO_MODEL = false;
+  /** Marker of the mutable value that can not be used as a key. */
+  /* package */ static final Object NOT_CACHEABLE = new Object();
+
+	/* [ MEMBERS ] =================================================================================================== */
+
+  /** Wrapped formatter. */
+  private final Formatting<T, V> mInner;
+  /** Storage of the results. */
+  private final Cache mCache;
+
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /**
+   * Create memoizing formatter.
+   *
+   * @param inner formatter that does real conversion.
+   * @param cache storage of the results, can be shared.
+   */
+  public MemoMold(@NonNull final Formatting<T, V> inner, @NonNull final Cache cache) {
+    mInner = inner;
+    mCache = cache;
+  }
+
+	/* [ GETTER / SETTER METHODS ] =================================================================================== */
+
+  /** Get wrapped formatter. */
+  @NonNull
+  public Formatting<T, V> getInner() {
+    return mInner;
+  }
+
+  /** Get storage of the results. */
+  @NonNull
+  public Cache getCache() {
+    return mCache;
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  @Override
+  public T toView(@Nullable final V value) {
+    final Key key = new Key(mInner, TO_VIEW, value);
+    final Object cached = mCache.get(key);
+    if (Cache.MISS != cached) return (T) cached;
+
+    final T result = mInner.toView(value);
+    mCache.put(key, result);
+
+    return result;
+  }
+
+  @Override
+  public V toModel(@Nullable final T value) {
+    final Object snapshot = snapshot(value);
+    if (NOT_CACHEABLE == snapshot) return mInner.toModel(value);
+
+    final Key key = new Key(mInner, TO_MODEL, snapshot);
+    final Object cached = mCache.get(key);
+    if (Cache.MISS != cached) return (V) cached;
+
+    final V result = mInner.toModel(value);
+    mCache.put(key, result);
+
+    return result;
+  }
+
+  @Override
+  public boolean canPush() {
+    return Molds.canPush(mInner);
+  }
+
+  @Override
+  public boolean canPop() {
+    return Molds.canPop(mInner);
+  }
+
+	/* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /**
+   * Get immutable key of the view value. Key that is modified after caching makes entry unreachable or returns
+   * result of the other value. Shared with {@link AsyncRule}.
+   *
+   * @return immutable key or {@link #NOT_CACHEABLE}.
+   */
+  @Nullable
+  /* package */ static Object snapshot(@Nullable final Object value) {
+    if (null == value || value instanceof String) return value;
+
+    if (value instanceof CharSequence) return value.toString();
+
+    return Copiers.isImmutable(value.getClass()) ? value : NOT_CACHEABLE;
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Calculator of the memory footprint of the cache entry. */
+  public interface Weigher {
+    /**
+     * Get weight of the entry.
+     *
+     * @param value  converted value.
+     * @param result conversion result.
+     * @return weight of the entry, at least 1.
+     */
+    int weigh(@Nullable Object value, @Nullable Object result);
+  }
+
+  /** Each entry has weight 1, cache is limited by quantity of entries. */
+  public static final Weigher ENTRIES = new Weigher() {
+    @Override
+    public int weigh(final Object value, final Object result) {
+      return 1;
+    }
+
+    @Override
+    public String toString() {
+      return "entries";
+    }
+  };
+
+  /** Entry weight is a quantity of chars in text value and text result, cache is limited by quantity of chars. */
+  public static final Weigher CHARS = new Weigher() {
+    @Override
+    public int weigh(final Object value, final Object result) {
+      return 1 + length(value) + length(result);
+    }
+
+    @Override
+    public String toString() {
+      return "chars";
+    }
+
+    private int length(final Object text) {
+      return (text instanceof CharSequence) ? ((CharSequence) text).length() : 0;
+    }
+  };
+
+  /** Bounded LRU storage of the conversion results with hit/miss statistics. Thread-safe. */
+  public static final class Cache {
+    /** Marker of the absent entry, null is a valid conversion result. */
+    /* package */ static final Object MISS = new Object();
+
+    /** Entries in access order, the least recently used is the first. Guarded by this. */
+    private final LinkedHashMap<Key, Entry> mEntries = new LinkedHashMap<>(16, 0.75f, true);
+    /** Max total weight of the entries. */
+    private final long mCapacity;
+    /** Calculator of the entry weight. */
+    private final Weigher mWeigher;
+
+    /** Total weight of the entries. */
+    private long mWeight;
+    /** Quantity of found results. */
+    private long mHits;
+    /** Quantity of not found results. */
+    private long mMisses;
+    /** Quantity of removed because of capacity entries. */
+    private long mEvictions;
+
+    /**
+     * Create cache limited by quantity of entries.
+     *
+     * @param capacity max quantity of entries.
+     */
+    public Cache(final int capacity) {
+      this(capacity, ENTRIES);
+    }
+
+    /**
+     * Create cache limited by total weight of the entries.
+     *
+     * @param capacity max total weight.
+     * @param weigher  calculator of the entry weight.
+     */
+    public Cache(final long capacity, @NonNull final Weigher weigher) {
+      if (capacity <= 0) throw new IllegalArgumentException("Capacity should be positive: " + capacity);
+
+      mCapacity = capacity;
+      mWeigher = weigher;
+    }
+
+    /** Get max total weight of the entries. */
+    public long getCapacity() {
+      return mCapacity;
+    }
+
+    /** Get total weight of the entries. */
+    public synchronized long getWeight() {
+      return mWeight;
+    }
+
+    /** Get quantity of entries. */
+    public synchronized int size() {
+      return mEntries.size();
+    }
+
+    /** Get quantity of found results. */
+    public synchronized long getHits() {
+      return mHits;
+    }
+
+    /** Get quantity of not found results. */
+    public synchronized long getMisses() {
+      return mMisses;
+    }
+
+    /** Get quantity of entries removed because of capacity. */
+    public synchronized long getEvictions() {
+      return mEvictions;
+    }
+
+    /** Remove all entries. Statistics is kept. */
+    public synchronized void clear() {
+      mEntries.clear();
+      mWeight = 0;
+    }
+
+    /** Find result, mark entry as recently used. */
+    /* package */ synchronized Object get(@NonNull final Key key) {
+      final Entry entry = mEntries.get(key);
+
+      if (null == entry) {
+        mMisses++;
+        return MISS;
+      }
+
+      mHits++;
+      return entry.mResult;
+    }
+
+    /** Store result, evict the least recently used entries if capacity is exceeded. */
+    /* package */ synchronized void put(@NonNull final Key key, @Nullable final Object result) {
+      final int weight = Math.max(1, mWeigher.weigh(key.mValue, result));
+
+      // entry that is bigger than the whole cache is not stored
+      if (weight > mCapacity) return;
+
+      final Entry previous = mEntries.put(key, new Entry(result, weight));
+      if (null != previous) {
+        mWeight -= previous.mWeight;
+      }
+
+      mWeight += weight;
+
+      final Iterator<Map.Entry<Key, Entry>> it = mEntries.entrySet().iterator();
+      while (mWeight > mCapacity && it.hasNext()) {
+        mWeight -= it.next().getValue().mWeight;
+        mEvictions++;
+        it.remove();
+      }
+    }
+
+    @Override
+    public synchronized String toString() {
+      return String.format(Locale.US, "Cache{size=%d, weight=%d/%d %s, hits=%d, misses=%d, evictions=%d}",
+          mEntries.size(), mWeight, mCapacity, mWeigher, mHits, mMisses, mEvictions);
+    }
+  }
+
+  /** Stored conversion result. */
+  private static final class Entry {
+    /** Conversion result. */
+    final Object mResult;
+    /** Entry weight. */
+    final int mWeight;
+
+    /* package */ Entry(@Nullable final Object result, final int weight) {
+      mResult = result;
+      mWeight = weight;
+    }
+  }
+
+  /** Identity of the conversion: formatter, direction, value and locale. */
+  /* package */ static final class Key {
+    /** Formatter instance. */
+    final Object mFormatter;
+    /** Direction of the conversion. */
+    final boolean mToView;
+    /** Converted value. */
+    final Object mValue;
+    /** Default locale at the moment of conversion. */
+    final Locale mLocale;
+    /** Cached hash code. */
+    final int mHash;
+
+    /* package */ Key(@NonNull final Object formatter, final boolean toView, @Nullable final Object value) {
+      mFormatter = formatter;
+      mToView = toView;
+      mValue = value;
+      mLocale = Locale.getDefault();
+
+      int hash = System.identityHashCode(formatter);
+      hash = 31 * hash + (toView ? 1 : 0);
+      hash = 31 * hash + (null == value ? 0 : value.hashCode());
+      mHash = 31 * hash + mLocale.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return mHash;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Key)) return false;
+
+      final Key key = (Key) o;
+
+      return mHash == key.mHash && mFormatter == key.mFormatter && mToView == key.mToView &&
+          mLocale.equals(key.mLocale) && (null == mValue ? null == key.mValue : mValue.equals(key.mValue));
+    }
+  }
+}
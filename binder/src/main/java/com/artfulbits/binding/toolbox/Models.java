@@ -2,7 +2,12 @@ package com.artfulbits.binding.toolbox;
 
 import android.support.annotation.NonNull;
 
+import com.artfulbits.binding.BooleanSelector;
+import com.artfulbits.binding.IntSelector;
 import com.artfulbits.binding.Selector;
+import com.artfulbits.binding.reflection.Arguments;
+import com.artfulbits.binding.reflection.BooleanProperty;
+import com.artfulbits.binding.reflection.IntProperty;
 import com.artfulbits.binding.reflection.Property;
 
 import java.util.Arrays;
@@ -25,23 +30,24 @@ public final class Models {
     return new Selector<>(instance, property);
   }
 
+  /** Selector of {@code int} property, allows data exchange without boxing. */
+  @NonNull
+  public static <I> IntSelector<I> pojo(@NonNull final I instance, @NonNull final IntProperty property) {
+    return new IntSelector<>(instance, property);
+  }
+
+  /** Selector of {@code boolean} property, allows data exchange without boxing. */
+  @NonNull
+  public static <I> BooleanSelector<I> pojo(@NonNull final I instance, @NonNull final BooleanProperty property) {
+    return new BooleanSelector<>(instance, property);
+  }
+
   @NonNull
   public static <I extends Map<String, ?>, T> Selector<I, T> map(@NonNull final I instance, @NonNull final String name) {
     /* DONE: property should know how to extract value from MAP, property name is a key */
 
     // instance.get(name); instance.put(name, value);
-    final Property<T> p = new Property<T>(Models.<T>typeTrick(), "get", "put") {
-      @Override
-      protected Object[] getterArguments() {
-        return new Object[]{name};
-      }
-
-      @NonNull
-      @Override
-      protected Object[] setterArguments(T value) {
-        return new Object[]{name, value};
-      }
-    };
+    final Property<T> p = new Property<>(Models.<T>typeTrick(), "get", "put", Arguments.of(name));
 
     return new Selector<>(instance, p);
   }
@@ -51,18 +57,7 @@ public final class Models {
     /* DONE: property should know how to extract value from LIST, property name is index/position */
 
     // instance.get(index); instance.set(index, value);
-    final Property<T> p = new Property<T>(Models.<T>typeTrick(), "get", "set") {
-      @Override
-      protected Object[] getterArguments() {
-        return new Object[]{position};
-      }
-
-      @NonNull
-      @Override
-      protected Object[] setterArguments(T value) {
-        return new Object[]{position, value};
-      }
-    };
+    final Property<T> p = new Property<>(Models.<T>typeTrick(), "get", "set", Arguments.of(position));
 
     return new Selector<>(instance, p);
   }
@@ -134,24 +129,19 @@ public final class Models {
    */
   @NonNull
   public static <T> Property<T> call(@NonNull final String method, final Object... args) {
-    return new Property<T>(Models.<T>typeTrick(), method, Property.NO_NAME) {
-      @Override
-      protected Object[] getterArguments() {
-        return args;
-      }
-    };
+    return new Property<>(Models.<T>typeTrick(), method, Property.NO_NAME, Arguments.of(args));
   }
 
   /* [ TYPED VERSIONS ] =========================================================================================== */
 
   @NonNull
-  public static Property<Integer> integer(@NonNull final String name) {
-    return new Property<>(Integer.class, name);
+  public static IntProperty integer(@NonNull final String name) {
+    return new IntProperty(name);
   }
 
   @NonNull
-  public static Property<Integer> integer(@NonNull final String getName, @NonNull final String setName) {
-    return new Property<>(Integer.class, getName, setName);
+  public static IntProperty integer(@NonNull final String getName, @NonNull final String setName) {
+    return new IntProperty(getName, setName);
   }
 
   @NonNull
@@ -185,13 +175,13 @@ public final class Models {
   }
 
   @NonNull
-  public static Property<Boolean> bool(@NonNull final String name) {
-    return new Property<>(Boolean.class, name);
+  public static BooleanProperty bool(@NonNull final String name) {
+    return new BooleanProperty(name);
   }
 
   @NonNull
-  public static Property<Boolean> bool(@NonNull final String getName, @NonNull final String setName) {
-    return new Property<>(Boolean.class, getName, setName);
+  public static BooleanProperty bool(@NonNull final String getName, @NonNull final String setName) {
+    return new BooleanProperty(getName, setName);
   }
 
   @NonNull
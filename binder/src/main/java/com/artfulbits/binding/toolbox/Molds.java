@@ -1,8 +1,9 @@
 package com.artfulbits.binding.toolbox;
 
 import android.support.annotation.NonNull;
-import android.text.TextUtils;
+import android.support.annotation.Nullable;
 
+import com.artfulbits.binding.Directional;
 import com.artfulbits.binding.Formatting;
 import com.artfulbits.binding.exceptions.OneWayBindingError;
 
@@ -41,7 +42,7 @@ public final class Molds {
   /** Reverse formatting instance. */
   @NonNull
   public static <T, V> Formatting<T, V> reverse(@NonNull final Formatting<V, T> f) {
-    return new Formatting<T, V>() {
+    return new Mold<T, V>(canPop(f), canPush(f)) {
       @Override
       public T toView(final V value) {
         return f.toModel(value);
@@ -55,11 +56,12 @@ public final class Molds {
   }
 
   /**
-   * Create one way binding - allowed only POP operation, from MODEL to VIEW. VIEW to MODEL - not allowed.
+   * Create one way binding - allowed only POP operation, from MODEL to VIEW. VIEW to MODEL - not allowed. Direction is
+   * declared by {@link Directional}, binder skips PUSH without view access.
    */
   @NonNull
   public static <T, V> Formatting<T, V> onlyPop(@NonNull final Formatting<T, V> f) {
-    return new Formatting<T, V>() {
+    return new Mold<T, V>(false, true) {
       @Override
       public T toView(final V value) {
         return f.toView(value);
@@ -73,11 +75,12 @@ public final class Molds {
   }
 
   /**
-   * Create one way binding - allowed only POP operation, from MODEL to VIEW. VIEW to MODEL - not allowed.
+   * Create one way binding - allowed only POP operation, from MODEL to VIEW. VIEW to MODEL - not allowed. Direction is
+   * declared by {@link Directional}, binder skips PUSH without view access.
    */
   @NonNull
   public static <T, V> Formatting<T, V> onlyPop(@NonNull final ToView<T, V> f) {
-    return new Formatting<T, V>() {
+    return new Mold<T, V>(false, true) {
       @Override
       public T toView(final V value) {
         return f.toView(value);
@@ -91,11 +94,12 @@ public final class Molds {
   }
 
   /**
-   * Create one way binding - allowed only PUSH operation, from VIEW to MODEL. MODEL to VIEW - not allowed.
+   * Create one way binding - allowed only PUSH operation, from VIEW to MODEL. MODEL to VIEW - not allowed. Direction is
+   * declared by {@link Directional}, binder skips POP without model access.
    */
   @NonNull
   public static <T, V> Formatting<T, V> onlyPush(@NonNull final Formatting<T, V> f) {
-    return new Formatting<T, V>() {
+    return new Mold<T, V>(true, false) {
       @Override
       public T toView(final V value) {
         throw new OneWayBindingError();
@@ -109,11 +113,12 @@ public final class Molds {
   }
 
   /**
-   * Create one way binding - allowed only PUSH operation, from VIEW to MODEL. MODEL to VIEW - not allowed.
+   * Create one way binding - allowed only PUSH operation, from VIEW to MODEL. MODEL to VIEW - not allowed. Direction is
+   * declared by {@link Directional}, binder skips POP without model access.
    */
   @NonNull
   public static <T, V> Formatting<T, V> onlyPush(@NonNull final ToModel<V, T> f) {
-    return new Formatting<T, V>() {
+    return new Mold<T, V>(true, false) {
       @Override
       public T toView(final V value) {
         throw new OneWayBindingError();
@@ -134,7 +139,7 @@ public final class Molds {
    */
   @NonNull
   public static <T, V> Formatting<T, V> join(@NonNull final ToView<T, V> v, @NonNull final ToModel<V, T> m) {
-    return new Formatting<T, V>() {
+    return new Mold<T, V>(canPush(m), canPop(v)) {
       @Override
       public V toModel(final T value) {
         return m.toModel(value);
@@ -151,7 +156,7 @@ public final class Molds {
   @NonNull
   public static <T, V, Z> Formatting<T, V> chain(@NonNull final Formatting<T, Z> outer,
                                                  @NonNull final Formatting<Z, V> inner) {
-    return new Formatting<T, V>() {
+    return new Mold<T, V>(canPush(outer) && canPush(inner), canPop(outer) && canPop(inner)) {
       @Override
       public V toModel(final T value) {
         return inner.toModel(outer.toModel(value));
@@ -164,42 +169,52 @@ public final class Molds {
     };
   }
 
-  /* [ CONCRETE IMPLEMENTATIONS ] ================================================================================== */
+  /**
+   * Is formatting allowed exchange in direction VIEW --&gt; MODEL. Formatting without {@link Directional} contract
+   * (or no formatting) allows both directions.
+   */
+  public static boolean canPush(@Nullable final Object f) {
+    return !(f instanceof Directional) || ((Directional) f).canPush();
+  }
 
-  /** Convert String to Number and vise verse. */
-  @NonNull
-  /* package */ static <T extends Number> Formatting<CharSequence, T> fromCharsToNumber(@NonNull final Class<T> type) {
-    return new Formatting<CharSequence, T>() {
-      @Override
-      public CharSequence toView(final T value) {
-        return value.toString();
-      }
+  /**
+   * Is formatting allowed exchange in direction MODEL --&gt; VIEW. Formatting without {@link Directional} contract
+   * (or no formatting) allows both directions.
+   */
+  public static boolean canPop(@Nullable final Object f) {
+    return !(f instanceof Directional) || ((Directional) f).canPop();
+  }
 
-      @Override
-      public T toModel(final CharSequence cs) {
-        String value = cs.toString();
+  /**
+   * Create formatting that memoizes conversion results in own bounded LRU cache.
+   *
+   * @param f        formatter with expensive conversion, should be pure and return immutable results.
+   * @param capacity max quantity of cached results.
+   */
+  @NonNull
+  public static <T, V> MemoMold<T, V> memoize(@NonNull final Formatting<T, V> f, final int capacity) {
+    return new MemoMold<>(f, new MemoMold.Cache(capacity));
+  }
 
-        // No value is equal to ZERO
-        if (TextUtils.isEmpty(value))
-          value = "0";
+  /**
+   * Create formatting that memoizes conversion results in provided cache. Cache can be shared by binders that use
+   * the same formatter.
+   *
+   * @param f     formatter with expensive conversion, should be pure and return immutable results.
+   * @param cache storage of the results.
+   */
+  @NonNull
+  public static <T, V> MemoMold<T, V> memoize(@NonNull final Formatting<T, V> f,
+                                              @NonNull final MemoMold.Cache cache) {
+    return new MemoMold<>(f, cache);
+  }
 
-        if (Byte.class.equals(type)) {
-          return (T) Byte.valueOf(value);
-        } else if (Short.class.equals(type)) {
-          return (T) Short.valueOf(value);
-        } else if (Integer.class.equals(type)) {
-          return (T) Integer.valueOf(value);
-        } else if (Long.class.equals(type)) {
-          return (T) Long.valueOf(value);
-        } else if (Float.class.equals(type)) {
-          return (T) Float.valueOf(value);
-        } else if (Double.class.equals(type)) {
-          return (T) Double.valueOf(value);
-        }
+  /* [ CONCRETE IMPLEMENTATIONS ] ================================================================================== */
 
-        throw new AssertionError("Unsupported type. Not implemented yet.");
-      }
-    };
+  /** Convert String to Number and vise verse. Text is parsed without intermediate strings. */
+  @NonNull
+  /* package */ static <T extends Number> NumberMold<T> fromCharsToNumber(@NonNull final Class<T> type) {
+    return new NumberMold<>(type);
   }
 
   /**  */
@@ -208,12 +223,24 @@ public final class Molds {
     return chain(fromStringToChars(), fromCharsToNumber(type));
   }
 
-  /** String to Integer. */
+  /** String to Integer. Can be used with primitive {@code int} model property without boxing. */
   @NonNull
-  public static Formatting<CharSequence, Integer> fromCharsToInteger() {
+  public static NumberMold<Integer> fromCharsToInteger() {
     return fromCharsToNumber(Integer.class);
   }
 
+  /** String to Long. */
+  @NonNull
+  public static NumberMold<Long> fromCharsToLong() {
+    return fromCharsToNumber(Long.class);
+  }
+
+  /** String to Double. */
+  @NonNull
+  public static NumberMold<Double> fromCharsToDouble() {
+    return fromCharsToNumber(Double.class);
+  }
+
   @NonNull
   public static Formatting<Integer, Boolean> fromIntegerToBoolean() {
     return new Formatting<Integer, Boolean>() {
@@ -247,5 +274,30 @@ public final class Molds {
         return value;
       }
     };
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Formatting with declared directions of the data exchange. */
+  private static abstract class Mold<T, V> implements Formatting<T, V>, Directional {
+    /** Is allowed VIEW --&gt; MODEL. */
+    private final boolean mCanPush;
+    /** Is allowed MODEL --&gt; VIEW. */
+    private final boolean mCanPop;
+
+    /* package */ Mold(final boolean canPush, final boolean canPop) {
+      mCanPush = canPush;
+      mCanPop = canPop;
+    }
+
+    @Override
+    public boolean canPush() {
+      return mCanPush;
+    }
+
+    @Override
+    public boolean canPop() {
+      return mCanPop;
+    }
   }
 }
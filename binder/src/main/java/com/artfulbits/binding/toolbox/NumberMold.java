@@ -0,0 +1,281 @@
+package com.artfulbits.binding.toolbox;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.artfulbits.binding.Formatting;
+
+/**
+ * Converter of the text to number and vise verse, designed for numeric fields that are updated on each keystroke.
+ * Number type is resolved once at construction. Text is parsed directly from {@link CharSequence} (or
+ * {@code Editable}) without intermediate strings, empty text is equal to ZERO. Number is formatted into reusable
+ * buffer.
+ * <p/>
+ * Primitive variants {@link #toInt(CharSequence)}, {@link #toLong(CharSequence)}, {@link #toDouble(CharSequence)} and
+ * {@link #toView(long)}, {@link #toView(double)} are used by binders with primitive model properties and avoid
+ * boxing completely.
+ * <p/>
+ * Keep in mind: returned by {@code toView} instance is reused and valid only till the next call. Views copy text on
+ * assignment, custom consumers should do the same. Instance is not thread-safe.
+ *
+ * @param <T> type of the number.
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public final class NumberMold<T extends Number> implements Formatting<CharSequence, T> {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Number type: byte. */
+  private static final int BYTE = 1;
+  /** Number type: short. */
+  private static final int SHORT = 2;
+  /** Number type: int. */
+  private static final int INT = 3;
+  /** Number type: long. */
+  private static final int LONG = 4;
+  /** Number type: float. */
+  private static final int FLOAT = 5;
+  /** Number type: double. */
+  private static final int DOUBLE = 6;
+
+  /** Max quantity of significant digits that is exactly represented by double. */
+  private static final int DOUBLE_EXACT_DIGITS = 15;
+  /** Max quantity of significant digits that is exactly represented by float. */
+  private static final int FLOAT_EXACT_DIGITS = 7;
+  /** Powers of ten exactly represented by double. */
+  private static final double[] POWERS = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18,
+      1e19, 1e20, 1e21, 1e22};
+  /** Powers of ten exactly represented by float. */
+  private static final float[] FLOAT_POWERS = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+	/* [ MEMBERS ] =================================================================================================== */
+
+  /** Resolved number type. */
+  private final int mKind;
+  /** Reusable buffer for formatting. */
+  private final StringBuilder mBuffer = new StringBuilder(24);
+
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /**
+   * Create converter for number type.
+   *
+   * @param type one of: Byte, Short, Integer, Long, Float, Double.
+   */
+  public NumberMold(@NonNull final Class<T> type) {
+    mKind = kind(type);
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  @Override
+  public T toModel(@Nullable final CharSequence value) {
+    switch (mKind) {
+      case BYTE:
+        return (T) Byte.valueOf((byte) parse(value, Byte.MIN_VALUE, Byte.MAX_VALUE));
+      case SHORT:
+        return (T) Short.valueOf((short) parse(value, Short.MIN_VALUE, Short.MAX_VALUE));
+      case INT:
+        return (T) Integer.valueOf(toInt(value));
+      case LONG:
+        return (T) Long.valueOf(toLong(value));
+      case FLOAT:
+        return (T) Float.valueOf(toFloat(value));
+      default:
+        return (T) Double.valueOf(toDouble(value));
+    }
+  }
+
+  @Override
+  public CharSequence toView(@Nullable final T value) {
+    if (null == value) return reset();
+
+    switch (mKind) {
+      case FLOAT:
+        return reset().append(value.floatValue());
+      case DOUBLE:
+        return reset().append(value.doubleValue());
+      default:
+        return reset().append(value.longValue());
+    }
+  }
+
+  /** Parse text as {@code int}. */
+  public int toInt(@Nullable final CharSequence value) {
+    return (int) parse(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+  }
+
+  /** Parse text as {@code long}. */
+  public long toLong(@Nullable final CharSequence value) {
+    return parse(value, Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  /** Parse text as {@code float}. */
+  public float toFloat(@Nullable final CharSequence value) {
+    if (isEmpty(value)) return 0f;
+
+    final double fast = parseFast(value, FLOAT_EXACT_DIGITS, true);
+    if (!Double.isNaN(fast)) return (float) fast;
+
+    return Float.parseFloat(value.toString());
+  }
+
+  /** Parse text as {@code double}. */
+  public double toDouble(@Nullable final CharSequence value) {
+    if (isEmpty(value)) return 0d;
+
+    final double fast = parseFast(value, DOUBLE_EXACT_DIGITS, false);
+    if (!Double.isNaN(fast)) return fast;
+
+    return Double.parseDouble(value.toString());
+  }
+
+  /** Format integer number. */
+  @NonNull
+  public CharSequence toView(final long value) {
+    return reset().append(value);
+  }
+
+  /** Format floating point number. */
+  @NonNull
+  public CharSequence toView(final double value) {
+    return (FLOAT == mKind) ? reset().append((float) value) : reset().append(value);
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Resolve number type. */
+  private static int kind(@NonNull final Class<?> type) {
+    if (Byte.class.equals(type) || byte.class.equals(type)) return BYTE;
+    if (Short.class.equals(type) || short.class.equals(type)) return SHORT;
+    if (Integer.class.equals(type) || int.class.equals(type)) return INT;
+    if (Long.class.equals(type) || long.class.equals(type)) return LONG;
+    if (Float.class.equals(type) || float.class.equals(type)) return FLOAT;
+    if (Double.class.equals(type) || double.class.equals(type)) return DOUBLE;
+
+    throw new IllegalArgumentException("Unsupported type: " + type);
+  }
+
+  /** Is text empty. Empty text is equal to ZERO. */
+  private static boolean isEmpty(@Nullable final CharSequence value) {
+    return null == value || 0 == value.length();
+  }
+
+  /** Get empty buffer. */
+  @NonNull
+  private StringBuilder reset() {
+    mBuffer.setLength(0);
+
+    return mBuffer;
+  }
+
+  /**
+   * Parse integer number in range. Rules are the same as in {@link Long#parseLong(String)}.
+   *
+   * @throws NumberFormatException wrong format or value is out of range.
+   */
+  private static long parse(@Nullable final CharSequence value, final long min, final long max) {
+    if (isEmpty(value)) return 0;
+
+    final int length = value.length();
+    final char first = value.charAt(0);
+    final boolean isNegative = ('-' == first);
+    final long limit = isNegative ? min : -max;
+    int i = ('-' == first || '+' == first) ? 1 : 0;
+
+    if (i == length) throw error(value);
+
+    // accumulate negative value, it has bigger range
+    final long multmin = limit / 10;
+    long result = 0;
+
+    for (; i < length; i++) {
+      final int digit = value.charAt(i) - '0';
+
+      if (digit < 0 || digit > 9) throw error(value);
+      if (result < multmin) throw error(value);
+
+      result *= 10;
+      if (result < limit + digit) throw error(value);
+
+      result -= digit;
+    }
+
+    return isNegative ? result : -result;
+  }
+
+  /**
+   * Parse simple decimal number: [sign] digits [. digits]. Result is exact, because mantissa and power of ten are
+   * exactly represented and division is correctly rounded.
+   *
+   * @return parsed value or NaN if text is not a simple decimal or has too many significant digits.
+   */
+  private static double parseFast(@NonNull final CharSequence value, final int maxDigits, final boolean isFloat) {
+    final int length = value.length();
+    final char first = value.charAt(0);
+    final boolean isNegative = ('-' == first);
+    int i = ('-' == first || '+' == first) ? 1 : 0;
+
+    long mantissa = 0;
+    int digits = 0;
+    int fraction = -1;
+
+    for (; i < length; i++) {
+      final char ch = value.charAt(i);
+
+      if ('.' == ch && fraction < 0) {
+        fraction = 0;
+        continue;
+      }
+
+      final int digit = ch - '0';
+      if (digit < 0 || digit > 9) return Double.NaN;
+
+      // leading zeros are not significant
+      if (0 != mantissa || 0 != digit) {
+        if (++digits > maxDigits) return Double.NaN;
+      }
+
+      mantissa = mantissa * 10 + digit;
+
+      if (fraction >= 0) {
+        fraction++;
+      }
+    }
+
+    // no digits at all
+    if (0 == digits && 0 == mantissa && !hasDigit(value)) return Double.NaN;
+
+    final int scale = Math.max(0, fraction);
+    final double result;
+
+    if (isFloat) {
+      if (scale >= FLOAT_POWERS.length) return Double.NaN;
+
+      result = (float) mantissa / FLOAT_POWERS[scale];
+    } else {
+      if (scale >= POWERS.length) return Double.NaN;
+
+      result = mantissa / POWERS[scale];
+    }
+
+    return isNegative ? -result : result;
+  }
+
+  /** Is text contains at least one digit. */
+  private static boolean hasDigit(@NonNull final CharSequence value) {
+    for (int i = 0, len = value.length(); i < len; i++) {
+      final char ch = value.charAt(i);
+
+      if (ch >= '0' && ch <= '9') return true;
+    }
+
+    return false;
+  }
+
+  /** Compose format exception. */
+  @NonNull
+  private static NumberFormatException error(@NonNull final CharSequence value) {
+    return new NumberFormatException("For input string: \"" + value + "\"");
+  }
+}
@@ -0,0 +1,261 @@
+package com.artfulbits.binding.toolbox;
+
+import android.support.annotation.NonNull;
+
+import com.artfulbits.binding.Scheduler;
+import com.artfulbits.binding.Versioned;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * List model that reports own modifications as granular updates: insertions, removals, moves and changes. Observers
+ * are usually bridges to adapters, see {@link Adapters#updates(android.support.v7.widget.RecyclerView.Adapter)}.
+ * <p/>
+ * New content of the list is applied by {@link #replace(List, Diff.Comparer)}: difference with current content is
+ * calculated and only minimal updates are reported. Large lists are compared on worker scheduler, see
+ * {@link #replace(List, Diff.Comparer, Scheduler, Scheduler)}.
+ * <p/>
+ * List is not thread safe, modify it only from main thread. Each modification increases {@link #getVersion()}.
+ *
+ * @param <E> type of the items.
+ */
+@SuppressWarnings("unused")
+public class ObservableList<E> extends AbstractList<E> implements RandomAccess, Versioned {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Lists with less items are compared synchronously. */
+  public static final int ASYNC_THRESHOLD = 1000;
+
+	/* [ MEMBERS ] =================================================================================================== */
+
+  /** Items of the list. */
+  private final ArrayList<E> mItems;
+  /** Receivers of the updates. */
+  private final List<Diff.Updates> mObservers = new ArrayList<>();
+  /** Generation of the last replace request. Pending asynchronous replaces of older generations are cancelled. */
+  private final AtomicLong mGeneration = new AtomicLong();
+  /** Modifications counter. */
+  private long mVersion;
+
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /** Create empty list. */
+  public ObservableList() {
+    mItems = new ArrayList<>();
+  }
+
+  /** Create list with initial items. */
+  public ObservableList(@NonNull final Collection<? extends E> items) {
+    mItems = new ArrayList<>(items);
+  }
+
+	/* [ GETTER / SETTER METHODS ] =================================================================================== */
+
+  /** {@inheritDoc} */
+  @Override
+  public long getVersion() {
+    return mVersion;
+  }
+
+  /** Register receiver of the updates. */
+  public void addObserver(@NonNull final Diff.Updates observer) {
+    if (!mObservers.contains(observer)) {
+      mObservers.add(observer);
+    }
+  }
+
+  /** Unregister receiver of the updates. */
+  public void removeObserver(@NonNull final Diff.Updates observer) {
+    mObservers.remove(observer);
+  }
+
+  /* [ Interface List ] ============================================================================================ */
+
+  @Override
+  public E get(final int index) {
+    return mItems.get(index);
+  }
+
+  @Override
+  public int size() {
+    return mItems.size();
+  }
+
+  @Override
+  public E set(final int index, final E element) {
+    final E old = mItems.set(index, element);
+
+    modified();
+    for (final Diff.Updates o : mObservers) {
+      o.onChanged(index, 1, null);
+    }
+
+    return old;
+  }
+
+  @Override
+  public void add(final int index, final E element) {
+    mItems.add(index, element);
+
+    modified();
+    for (final Diff.Updates o : mObservers) {
+      o.onInserted(index, 1);
+    }
+  }
+
+  @Override
+  public boolean addAll(final int index, @NonNull final Collection<? extends E> c) {
+    if (!mItems.addAll(index, c)) return false;
+
+    modified();
+    for (final Diff.Updates o : mObservers) {
+      o.onInserted(index, c.size());
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean addAll(@NonNull final Collection<? extends E> c) {
+    return addAll(mItems.size(), c);
+  }
+
+  @Override
+  public E remove(final int index) {
+    final E old = mItems.remove(index);
+
+    modified();
+    for (final Diff.Updates o : mObservers) {
+      o.onRemoved(index, 1);
+    }
+
+    return old;
+  }
+
+  @Override
+  protected void removeRange(final int fromIndex, final int toIndex) {
+    if (fromIndex >= toIndex) return;
+
+    mItems.subList(fromIndex, toIndex).clear();
+
+    modified();
+    for (final Diff.Updates o : mObservers) {
+      o.onRemoved(fromIndex, toIndex - fromIndex);
+    }
+  }
+
+  /* [ Interface ] ================================================================================================= */
+
+  /** Move item to new position. */
+  public void move(final int fromIndex, final int toIndex) {
+    if (fromIndex == toIndex) return;
+
+    mItems.add(toIndex, mItems.remove(fromIndex));
+
+    modified();
+    for (final Diff.Updates o : mObservers) {
+      o.onMoved(fromIndex, toIndex);
+    }
+  }
+
+  /**
+   * Replace content of the list, observers receive only difference of the contents.
+   *
+   * @param items    new content of the list.
+   * @param comparer identity and content comparison of the items.
+   * @return reported difference.
+   */
+  @NonNull
+  public Diff.Result replace(@NonNull final List<? extends E> items, @NonNull final Diff.Comparer<? super E> comparer) {
+    // pending asynchronous replace is outdated now
+    mGeneration.incrementAndGet();
+
+    final List<E> after = new ArrayList<>(items);
+    final Diff.Result result = Diff.calculate(mItems, after, comparer);
+
+    apply(after, result);
+
+    return result;
+  }
+
+  /**
+   * Replace content of the list, difference of the large lists is calculated on worker scheduler. Result is applied
+   * on main scheduler, newer replace cancels not applied yet one. If list is modified during calculation, difference
+   * is calculated again.
+   *
+   * @param items    new content of the list.
+   * @param comparer identity and content comparison of the items, called on worker thread.
+   * @param worker   scheduler of the calculation.
+   * @param main     scheduler of the list modification, usually main looper.
+   */
+  public void replace(@NonNull final List<? extends E> items, @NonNull final Diff.Comparer<? super E> comparer,
+                      @NonNull final Scheduler worker, @NonNull final Scheduler main) {
+    if (mItems.size() < ASYNC_THRESHOLD && items.size() < ASYNC_THRESHOLD) {
+      replace(items, comparer);
+      return;
+    }
+
+    final long generation = mGeneration.incrementAndGet();
+    final long version = mVersion;
+    final List<E> before = new ArrayList<>(mItems);
+    final List<E> after = new ArrayList<>(items);
+
+    worker.schedule(new Runnable() {
+      @Override
+      public void run() {
+        if (generation != mGeneration.get()) return;
+
+        final Diff.Result result = Diff.calculate(before, after, comparer);
+
+        main.schedule(new Runnable() {
+          @Override
+          public void run() {
+            if (generation != mGeneration.get()) return;
+
+            if (version != mVersion) {
+              replace(after, comparer, worker, main);
+            } else {
+              apply(after, result);
+            }
+          }
+        }, 0);
+      }
+    }, 0);
+  }
+
+  /** Cancel not applied yet asynchronous replace. */
+  public void cancel() {
+    mGeneration.incrementAndGet();
+  }
+
+	/* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Apply new content and report the difference. */
+  private void apply(@NonNull final List<E> after, @NonNull final Diff.Result result) {
+    if (result.isEmpty()) {
+      // the same items, keep new instances
+      Collections.copy(mItems, after);
+      return;
+    }
+
+    mItems.clear();
+    mItems.addAll(after);
+
+    modified();
+    for (final Diff.Updates o : mObservers) {
+      result.dispatchTo(o);
+    }
+  }
+
+  /** Count modification. */
+  private void modified() {
+    mVersion++;
+    modCount++;
+  }
+}
@@ -6,8 +6,7 @@ import android.text.SpannableStringBuilder;
 import android.text.SpannedString;
 
 import com.artfulbits.binding.Binder;
-import com.artfulbits.binding.Selector;
-import com.artfulbits.binding.reflection.Property;
+import com.artfulbits.binding.Versioned;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -33,37 +32,29 @@ public final class Ridges {
   /** Simplest strategy. */
   @NonNull
   public static <T> Binder.Ridge<T> simplest() {
-    return new Binder.Ridge<T>() {
-      private T mValue;
-
-      @Override
-      public boolean isChanged(final T value) {
-        if (null != mValue)
-          return !mValue.equals(value);
-
-        return null == value || !value.equals(mValue);
-      }
+    return new Simplest<>();
+  }
 
-      @Override
-      public T clone(final T value) {
-        // custom logic for CharSequence/Spanned
-        if (value instanceof CharSequence) {
-          return mValue = (T) Ridges.copy((CharSequence) value);
-        } else if (value instanceof Cloneable) {
-          return mValue = (T) Ridges.cloneable((Cloneable) value);
-        } else if (value instanceof Serializable) {
-          return mValue = (T) deepCopy((Serializable) value);
-        }
+  /**
+   * Ridge for {@link Versioned} values. Change detection compares instance reference and version stamp, O(1) for any
+   * size of the value. Ridge does not copy the value and keeps only reference on the last processed instance. Values
+   * that are not versioned are processed by {@link #simplest()} strategy.
+   */
+  @NonNull
+  public static <T> Binder.Ridge<T> versioned() {
+    return new VersionedRidge<>();
+  }
 
-        return mValue = value;
-      }
+  /** Ridge for {@code int} values, compares and keeps values without boxing. */
+  @NonNull
+  public static Binder.IntRidge integers() {
+    return new Integers();
+  }
 
-      @Override
-      public String toString() {
-        return String.format(Locale.US, "simplest@%s, last processed: %s",
-            Integer.toHexString(hashCode()), mValue);
-      }
-    };
+  /** Ridge for {@code boolean} values, compares and keeps values without boxing. */
+  @NonNull
+  public static Binder.BooleanRidge booleans() {
+    return new Booleans();
   }
 
   /** Clone CharSequence instance. */
@@ -81,18 +72,19 @@ public final class Ridges {
   }
 
   /**
-   * Create a clone from provided instance.
+   * Create a clone from provided instance. Copy strategy of the class is resolved once and cached.
    *
    * @param value instance to clone.
    * @return new instance.
+   * @see Copiers
    */
   public static <T extends Cloneable> T cloneable(@NonNull final T value) {
-    final Selector<T, ?> caller = new Selector<>(value, Models.from("clone", Property.NO_NAME));
-    return (T) caller.get();
+    return Copiers.copy(value);
   }
 
   /**
-   * Deep copy based on Serializable interface support.
+   * Deep copy based on Serializable interface support. Slow, each call serializes the instance. Prefer
+   * {@link Copiers#copy(Object)}.
    *
    * @param value instance for deep copy.
    * @return new instance.
@@ -128,5 +120,158 @@ public final class Ridges {
     }
 
     return value;
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /**
+   * Simplest strategy: values are compared by equals and copied. Ridges are {@link Copiers.Structural}, binder
+   * creates own copy of the configured ridge for each target, see {@link Binder#loadState(Binder.State)}.
+   */
+  private static final class Simplest<T> implements Binder.Ridge<T>, Copiers.Structural {
+    private T mValue;
+
+    @Override
+    public boolean isChanged(final T value) {
+      if (null != mValue)
+        return !mValue.equals(value);
+
+      return null == value || !value.equals(mValue);
+    }
+
+    @Override
+    public T clone(final T value) {
+      // custom logic for CharSequence/Spanned
+      if (value instanceof CharSequence) {
+        return mValue = (T) Ridges.copy((CharSequence) value);
+      }
+
+      // strategy is resolved once per class, immutable and unknown POJO instances are shared
+      return mValue = Copiers.copy(value);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.US, "simplest@%s, last processed: %s",
+          Integer.toHexString(hashCode()), mValue);
+    }
+  }
+
+  /** Strategy for {@link Versioned} values. */
+  private static final class VersionedRidge<T> implements Binder.Ridge<T>, Copiers.Structural {
+    /** Fallback for not versioned values. */
+    private final Binder.Ridge<T> mFallback = simplest();
+    /** Last processed versioned instance. */
+    private Versioned mValue;
+    /** Version of the last processed instance. */
+    private long mVersion;
+
+    @Override
+    public boolean isChanged(final T value) {
+      if (value instanceof Versioned) {
+        return mValue != value || mVersion != ((Versioned) value).getVersion();
+      }
+
+      return null != mValue || mFallback.isChanged(value);
+    }
+
+    @Override
+    public T clone(final T value) {
+      if (value instanceof Versioned) {
+        mValue = (Versioned) value;
+        mVersion = mValue.getVersion();
+
+        return value;
+      }
+
+      mValue = null;
+      return mFallback.clone(value);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.US, "versioned@%s, last processed: %s, version: %d",
+          Integer.toHexString(hashCode()), mValue, mVersion);
+    }
+  }
+
+  /** Strategy for {@code int} values. */
+  private static final class Integers implements Binder.IntRidge, Copiers.Structural {
+    /** Is any value processed. */
+    private boolean mHasValue;
+    /** Last processed value. */
+    private int mValue;
+
+    @Override
+    public boolean isChanged(final int value) {
+      return !mHasValue || mValue != value;
+    }
+
+    @Override
+    public int clone(final int value) {
+      mHasValue = true;
+      return mValue = value;
+    }
+
+    @Override
+    public boolean isChanged(final Integer value) {
+      return (null == value) ? mHasValue : isChanged(value.intValue());
+    }
+
+    @Override
+    public Integer clone(final Integer value) {
+      if (null == value) {
+        mHasValue = false;
+        return null;
+      }
+
+      return clone(value.intValue());
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.US, "integers@%s, last processed: %s",
+          Integer.toHexString(hashCode()), mHasValue ? String.valueOf(mValue) : "<none>");
+    }
+  }
+
+  /** Strategy for {@code boolean} values. */
+  private static final class Booleans implements Binder.BooleanRidge, Copiers.Structural {
+    /** Is any value processed. */
+    private boolean mHasValue;
+    /** Last processed value. */
+    private boolean mValue;
+
+    @Override
+    public boolean isChanged(final boolean value) {
+      return !mHasValue || mValue != value;
+    }
+
+    @Override
+    public boolean clone(final boolean value) {
+      mHasValue = true;
+      return mValue = value;
+    }
+
+    @Override
+    public boolean isChanged(final Boolean value) {
+      return (null == value) ? mHasValue : isChanged(value.booleanValue());
+    }
+
+    @Override
+    public Boolean clone(final Boolean value) {
+      if (null == value) {
+        mHasValue = false;
+        return null;
+      }
+
+      return clone(value.booleanValue());
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.US, "booleans@%s, last processed: %s",
+          Integer.toHexString(hashCode()), mHasValue ? String.valueOf(mValue) : "<none>");
+    }
   }
 }
@@ -0,0 +1,403 @@
+package com.artfulbits.binding.toolbox;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.artfulbits.binding.Scheduler;
+import com.artfulbits.binding.Validation;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Methods for construction of typical validation rules. Rules are compiled once: composition is flattened into one
+ * array of predicates that is checked with short-circuit on the first failure, 'no validation' rules are dropped,
+ * patterns are precompiled. Failures are reported by codes.
+ * <p/>
+ * Hamcrest matchers are supported by adapter {@link #from(Matcher)}.
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public final class Rules {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Failure: value is null. */
+  public static final int FAILED_NULL = 1;
+  /** Failure: number is out of range. */
+  public static final int FAILED_RANGE = 2;
+  /** Failure: text length is out of range. */
+  public static final int FAILED_LENGTH = 3;
+  /** Failure: text does not match pattern. */
+  public static final int FAILED_PATTERN = 4;
+  /** Failure: hamcrest matcher is not passed. */
+  public static final int FAILED_MATCHER = 5;
+
+  /** No validation, any value is valid. */
+  private static final Validation<Object> NONE = new Validation<Object>() {
+    @Override
+    public int validate(final Object value) {
+      return VALID;
+    }
+
+    @Override
+    public String toString() {
+      return "none";
+    }
+  };
+
+  /** Value is not null. */
+  private static final Validation<Object> NOT_NULL = new Validation<Object>() {
+    @Override
+    public int validate(final Object value) {
+      return (null == value) ? FAILED_NULL : VALID;
+    }
+
+    @Override
+    public String toString() {
+      return "notNull";
+    }
+  };
+
+  /* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /** hidden constructor. */
+  private Rules() {
+    throw new AssertionError();
+  }
+
+	/* [ STATIC METHODS ] ============================================================================================ */
+
+  /** No validation. Binder does not execute it at all. */
+  @NonNull
+  public static <T> Validation<T> none() {
+    return (Validation<T>) NONE;
+  }
+
+  /** Is rule equal to 'no validation'. */
+  public static boolean isNone(@Nullable final Validation<?> rule) {
+    return null == rule || NONE == rule;
+  }
+
+  /** Value should not be null. */
+  @NonNull
+  public static <T> Validation<T> notNull() {
+    return (Validation<T>) NOT_NULL;
+  }
+
+  /**
+   * Primitive integer should be in range, inclusive. Null value is not valid.
+   *
+   * @param min min allowed value.
+   * @param max max allowed value.
+   */
+  @NonNull
+  public static Validation.Ints range(final int min, final int max) {
+    return new Validation.Ints() {
+      @Override
+      public int validate(final Integer value) {
+        return (null == value) ? FAILED_NULL : validateInt(value);
+      }
+
+      @Override
+      public int validateInt(final int value) {
+        return (value < min || value > max) ? FAILED_RANGE : VALID;
+      }
+
+      @Override
+      public String toString() {
+        return "range[" + min + ", " + max + "]";
+      }
+    };
+  }
+
+  /**
+   * Number should be in range, inclusive. Null value and NaN are not valid.
+   *
+   * @param min min allowed value.
+   * @param max max allowed value.
+   */
+  @NonNull
+  public static <T extends Number> Validation<T> range(final double min, final double max) {
+    return new Validation<T>() {
+      @Override
+      public int validate(final T value) {
+        if (null == value) return FAILED_NULL;
+
+        final double v = value.doubleValue();
+
+        // NaN fails both comparisons
+        return (v >= min && v <= max) ? VALID : FAILED_RANGE;
+      }
+
+      @Override
+      public String toString() {
+        return "range[" + min + ", " + max + "]";
+      }
+    };
+  }
+
+  /**
+   * Text length should be in range, inclusive. Null value is not valid.
+   *
+   * @param min min allowed length.
+   * @param max max allowed length.
+   */
+  @NonNull
+  public static <T extends CharSequence> Validation<T> length(final int min, final int max) {
+    return new Validation<T>() {
+      @Override
+      public int validate(final T value) {
+        if (null == value) return FAILED_NULL;
+
+        final int length = value.length();
+
+        return (length < min || length > max) ? FAILED_LENGTH : VALID;
+      }
+
+      @Override
+      public String toString() {
+        return "length[" + min + ", " + max + "]";
+      }
+    };
+  }
+
+  /**
+   * Text should match regular expression completely. Null value is not valid.
+   *
+   * @param regex regular expression, compiled once.
+   */
+  @NonNull
+  public static <T extends CharSequence> Validation<T> pattern(@NonNull final String regex) {
+    return pattern(Pattern.compile(regex));
+  }
+
+  /**
+   * Text should match precompiled pattern completely. Null value is not valid.
+   *
+   * @param pattern compiled regular expression.
+   */
+  @NonNull
+  public static <T extends CharSequence> Validation<T> pattern(@NonNull final Pattern pattern) {
+    return new Validation<T>() {
+      /** Reusable matcher. Guarded by this. */
+      private final java.util.regex.Matcher mMatcher = pattern.matcher("");
+
+      @Override
+      public int validate(final T value) {
+        if (null == value) return FAILED_NULL;
+
+        synchronized (this) {
+          final boolean isMatched = mMatcher.reset(value).matches();
+          mMatcher.reset(""); // do not keep reference on value
+
+          return isMatched ? VALID : FAILED_PATTERN;
+        }
+      }
+
+      @Override
+      public String toString() {
+        return "pattern[" + pattern.pattern() + "]";
+      }
+    };
+  }
+
+  /**
+   * Replace failure code of the rule.
+   *
+   * @param code custom failure code, should not be equal to {@link Validation#VALID}.
+   * @param rule rule to wrap.
+   */
+  @NonNull
+  public static <T> Validation<T> code(final int code, @NonNull final Validation<T> rule) {
+    if (Validation.VALID == code) throw new IllegalArgumentException("Failure code can not be VALID.");
+
+    return new Validation<T>() {
+      @Override
+      public int validate(final T value) {
+        return (Validation.VALID == rule.validate(value)) ? Validation.VALID : code;
+      }
+
+      @Override
+      public String toString() {
+        return rule + "#" + code;
+      }
+    };
+  }
+
+  /**
+   * Compile composition of the rules. Rules are checked in provided order, first failure stops validation and its
+   * code is returned. Nested compositions are flattened, 'no validation' rules are dropped. Composition of primitive
+   * integer rules is primitive integer rule too. Composition with {@link AsyncRule} is asynchronous rule with the
+   * schedulers and capacity of the first asynchronous rule, all rules of the composition are executed on its worker.
+   */
+  @NonNull
+  @SafeVarargs
+  public static <T> Validation<T> all(@NonNull final Validation<? super T>... rules) {
+    final List<Validation<?>> flat = new ArrayList<>(rules.length);
+    for (final Validation<?> rule : rules) {
+      flatten(flat, rule);
+    }
+
+    if (flat.isEmpty()) return none();
+    if (1 == flat.size()) return (Validation<T>) flat.get(0);
+
+    // composition with expensive rule is expensive too, whole composition is executed asynchronously
+    for (final Validation<?> rule : flat) {
+      if (rule instanceof AsyncRule) {
+        final AsyncRule<?> async = (AsyncRule<?>) rule;
+
+        for (int i = 0; i < flat.size(); i++) {
+          if (flat.get(i) instanceof AsyncRule) {
+            flat.set(i, ((AsyncRule<?>) flat.get(i)).getRule());
+          }
+        }
+
+        return new AsyncRule<>((Validation<T>) compile(flat), async.getWorker(), async.getMain(),
+            async.getCapacity());
+      }
+    }
+
+    return (Validation<T>) compile(flat);
+  }
+
+  /** Compile flat list of the rules. */
+  @NonNull
+  private static Validation<?> compile(@NonNull final List<Validation<?>> flat) {
+    final Validation<Object>[] compiled = (Validation<Object>[]) flat.toArray(new Validation<?>[flat.size()]);
+
+    for (final Validation<?> rule : compiled) {
+      if (!(rule instanceof Validation.Ints)) return new All<>(compiled);
+    }
+
+    return new AllInts(compiled);
+  }
+
+  /**
+   * Adapter of the hamcrest matcher, compatibility with old style validation. Failure code is
+   * {@link #FAILED_MATCHER}. Matcher created by {@link #matcher(Validation)} is unwrapped to its rule.
+   */
+  @NonNull
+  public static <T> Validation<T> from(@NonNull final Matcher<? super T> matcher) {
+    if (matcher instanceof RuleMatcher) return ((RuleMatcher<T>) matcher).mRule;
+
+    return new Validation<T>() {
+      @Override
+      public int validate(final T value) {
+        return matcher.matches(value) ? VALID : FAILED_MATCHER;
+      }
+
+      @Override
+      public String toString() {
+        return "matcher[" + matcher + "]";
+      }
+    };
+  }
+
+  /** Adapter of the rule to hamcrest matcher, compatibility with old style validation API. */
+  @NonNull
+  public static <T> Matcher<T> matcher(@NonNull final Validation<T> rule) {
+    return new RuleMatcher<>(rule);
+  }
+
+  /**
+   * Execute expensive rule asynchronously, results are cached per value.
+   *
+   * @param rule   expensive rule, executed in worker thread.
+   * @param worker scheduler of the validation.
+   * @param main   scheduler of the data exchange continuation, usually main looper.
+   */
+  @NonNull
+  public static <T> AsyncRule<T> async(@NonNull final Validation<T> rule, @NonNull final Scheduler worker,
+                                       @NonNull final Scheduler main) {
+    return new AsyncRule<>(rule, worker, main, AsyncRule.DEFAULT_CAPACITY);
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Extract rules of the nested compositions, drop 'no validation' rules. */
+  private static void flatten(@NonNull final List<Validation<?>> flat, @Nullable final Validation<?> rule) {
+    if (isNone(rule)) return;
+
+    if (rule instanceof All) {
+      for (final Validation<?> nested : ((All<?>) rule).mRules) {
+        flatten(flat, nested);
+      }
+    } else {
+      flat.add(rule);
+    }
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Hamcrest matcher that executes the rule. */
+  private static final class RuleMatcher<T> extends BaseMatcher<T> {
+    /** Executed rule. */
+    final Validation<T> mRule;
+
+    /* package */ RuleMatcher(@NonNull final Validation<T> rule) {
+      mRule = rule;
+    }
+
+    @Override
+    public boolean matches(final Object item) {
+      return Validation.VALID == mRule.validate((T) item);
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+      description.appendText("rule ").appendValue(mRule);
+    }
+  }
+
+  /** Compiled composition of the rules. */
+  private static class All<T> implements Validation<T> {
+    /** Flat array of the rules. */
+    final Validation<Object>[] mRules;
+
+    /* package */ All(@NonNull final Validation<Object>[] rules) {
+      mRules = rules;
+    }
+
+    @Override
+    public int validate(final T value) {
+      for (final Validation<Object> rule : mRules) {
+        final int code = rule.validate(value);
+        if (VALID != code) return code;
+      }
+
+      return VALID;
+    }
+
+    @Override
+    public String toString() {
+      final StringBuilder sb = new StringBuilder("all[");
+
+      for (int i = 0; i < mRules.length; i++) {
+        sb.append(0 == i ? "" : ", ").append(mRules[i]);
+      }
+
+      return sb.append("]").toString();
+    }
+  }
+
+  /** Compiled composition of the primitive integer rules. */
+  private static final class AllInts extends All<Integer> implements Validation.Ints {
+    /* package */ AllInts(@NonNull final Validation<Object>[] rules) {
+      super(rules);
+    }
+
+    @Override
+    public int validateInt(final int value) {
+      for (final Validation<Object> rule : mRules) {
+        final int code = ((Validation.Ints) (Validation<?>) rule).validateInt(value);
+        if (VALID != code) return code;
+      }
+
+      return VALID;
+    }
+  }
+}
@@ -0,0 +1,331 @@
+package com.artfulbits.binding.toolbox;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+
+import com.artfulbits.binding.Scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Methods for construction of typical schedulers. */
+@SuppressWarnings("unused")
+public final class Schedulers {
+  /* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /** hidden constructor. */
+  private Schedulers() {
+    throw new AssertionError();
+  }
+
+	/* [ STATIC METHODS ] ============================================================================================ */
+
+  /** Scheduler that executes tasks on the main looper. Default for all bindings managers. */
+  @NonNull
+  public static Scheduler main() {
+    return looper(Looper.getMainLooper());
+  }
+
+  /** Scheduler that executes tasks on the specified looper thread. */
+  @NonNull
+  public static Scheduler looper(@NonNull final Looper looper) {
+    final Handler handler = new Handler(looper);
+
+    return new Scheduler() {
+      @Override
+      public long now() {
+        return SystemClock.uptimeMillis();
+      }
+
+      @Override
+      public void schedule(@NonNull final Runnable task, final long delay) {
+        handler.postDelayed(task, Math.max(0, delay));
+      }
+
+      @Override
+      public void cancel(@NonNull final Runnable task) {
+        handler.removeCallbacks(task);
+      }
+    };
+  }
+
+  /**
+   * Scheduler that executes tasks on executor. Executor threads are owned by caller. Keep in mind that views can be
+   * updated only from the main thread.
+   * <p/>
+   * Tasks are executed one by one in order of their due time even on multi-thread executor, like on looper thread:
+   * binders exchange state is not synchronized and relies on single-threaded execution of its stages.
+   */
+  @NonNull
+  public static Scheduler executor(@NonNull final ScheduledExecutorService executor) {
+    final Serial serial = new Serial(executor);
+
+    return new Scheduler() {
+      /** Task to its not executed yet schedules, used for cancellation. Guarded by itself. */
+      private final Map<Runnable, List<Scheduled>> mScheduled = new HashMap<>();
+
+      @Override
+      public long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+      }
+
+      @Override
+      public void schedule(@NonNull final Runnable task, final long delay) {
+        final Scheduled scheduled = new Scheduled(task, serial) {
+          @Override
+          public void execute() {
+            forget(task, this);
+            super.execute();
+          }
+        };
+
+        synchronized (mScheduled) {
+          List<Scheduled> pending = mScheduled.get(task);
+
+          if (null == pending) {
+            mScheduled.put(task, pending = new ArrayList<>(1));
+          }
+
+          pending.add(scheduled);
+        }
+
+        scheduled.mFuture = executor.schedule(scheduled, Math.max(0, delay), TimeUnit.MILLISECONDS);
+      }
+
+      @Override
+      public void cancel(@NonNull final Runnable task) {
+        final List<Scheduled> pending;
+
+        synchronized (mScheduled) {
+          pending = mScheduled.remove(task);
+        }
+
+        if (null == pending) return;
+
+        for (final Scheduled scheduled : pending) {
+          scheduled.mIsCancelled = true;
+
+          if (null != scheduled.mFuture) {
+            scheduled.mFuture.cancel(false);
+          }
+        }
+      }
+
+      /** Drop executed schedule of the task. */
+      private void forget(@NonNull final Runnable task, @NonNull final Scheduled scheduled) {
+        synchronized (mScheduled) {
+          final List<Scheduled> pending = mScheduled.get(task);
+
+          if (null != pending && pending.remove(scheduled) && pending.isEmpty()) {
+            mScheduled.remove(task);
+          }
+        }
+      }
+    };
+  }
+
+  /** Deterministic scheduler with virtual time. Tasks are executed only by explicit calls. */
+  @NonNull
+  public static Virtual virtual() {
+    return new Virtual();
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Task scheduled on executor. */
+  private static class Scheduled implements Runnable {
+    /** Wrapped task. */
+    private final Runnable mTask;
+    /** Serial execution of the scheduler tasks. */
+    private final Serial mSerial;
+    /** Result of scheduling, used for cancellation. */
+    /* package */ volatile Future<?> mFuture;
+    /** Task is cancelled after it became due. */
+    /* package */ volatile boolean mIsCancelled;
+
+    /* package */ Scheduled(@NonNull final Runnable task, @NonNull final Serial serial) {
+      mTask = task;
+      mSerial = serial;
+    }
+
+    /** Executor thread: task is due, queue it for serial execution. */
+    @Override
+    public void run() {
+      mSerial.execute(this);
+    }
+
+    /** Serial execution of the task. */
+    public void execute() {
+      if (!mIsCancelled) {
+        mTask.run();
+      }
+    }
+  }
+
+  /**
+   * Executes due tasks one by one. Thread that queues the first task executes the queue, other threads only add
+   * tasks, so each task happens-before the next one.
+   */
+  private static final class Serial implements Runnable {
+    /** Due tasks, in order of queueing. */
+    private final Queue<Scheduled> mTasks = new ConcurrentLinkedQueue<>();
+    /** Quantity of queued and not finished tasks. */
+    private final AtomicInteger mPending = new AtomicInteger();
+    /** Executor of the queue continuation after failed task. */
+    private final Executor mExecutor;
+
+    /* package */ Serial(@NonNull final Executor executor) {
+      mExecutor = executor;
+    }
+
+    /** Queue the task, execute queue if no other thread does it. */
+    public void execute(@NonNull final Scheduled task) {
+      mTasks.add(task);
+
+      if (0 == mPending.getAndIncrement()) {
+        run();
+      }
+    }
+
+    /** Execute queued tasks. */
+    @Override
+    public void run() {
+      boolean isDone = false;
+
+      try {
+        do {
+          mTasks.poll().execute();
+        } while (0 != mPending.decrementAndGet());
+
+        isDone = true;
+      } finally {
+        // failed task is finished too, rest of the queue continues in another execution
+        if (!isDone && 0 != mPending.decrementAndGet()) {
+          mExecutor.execute(this);
+        }
+      }
+    }
+  }
+
+  /**
+   * Scheduler with virtual clock. Time moves only by {@link #advance(long)} calls, tasks are executed in order of
+   * their time, tasks with the same time in order of scheduling. Designed for unit tests and headless benchmarks.
+   */
+  public static final class Virtual implements Scheduler {
+    /** Pending tasks. */
+    private final PriorityQueue<Task> mQueue = new PriorityQueue<>();
+    /** Current virtual time. */
+    private long mNow;
+    /** Sequence of scheduled tasks. */
+    private long mSequence;
+
+    /** hidden constructor. */
+    private Virtual() {
+    }
+
+    @Override
+    public synchronized long now() {
+      return mNow;
+    }
+
+    @Override
+    public synchronized void schedule(@NonNull final Runnable task, final long delay) {
+      mQueue.add(new Task(mNow + Math.max(0, delay), mSequence++, task));
+    }
+
+    @Override
+    public synchronized void cancel(@NonNull final Runnable task) {
+      final Iterator<Task> it = mQueue.iterator();
+
+      while (it.hasNext()) {
+        if (it.next().mTask == task) {
+          it.remove();
+        }
+      }
+    }
+
+    /** Get quantity of pending tasks. */
+    public synchronized int size() {
+      return mQueue.size();
+    }
+
+    /** Execute all tasks due at current time, including tasks scheduled during execution. */
+    public int runPending() {
+      return advance(0);
+    }
+
+    /**
+     * Move clock forward and execute all tasks that become due, in order of their time.
+     *
+     * @param millis time shift.
+     * @return quantity of executed tasks.
+     */
+    public int advance(final long millis) {
+      final long target;
+
+      synchronized (this) {
+        target = mNow + Math.max(0, millis);
+      }
+
+      int executed = 0;
+      Task next;
+
+      while (null != (next = poll(target))) {
+        next.mTask.run();
+        executed++;
+      }
+
+      synchronized (this) {
+        mNow = target;
+      }
+
+      return executed;
+    }
+
+    /** Extract next due task and move clock to its time. */
+    private synchronized Task poll(final long target) {
+      final Task head = mQueue.peek();
+      if (null == head || head.mTime > target) return null;
+
+      mNow = head.mTime;
+
+      return mQueue.poll();
+    }
+
+    /** Scheduled task. */
+    private static final class Task implements Comparable<Task> {
+      /** Time of execution. */
+      final long mTime;
+      /** Order of scheduling. */
+      final long mSequence;
+      /** Task instance. */
+      final Runnable mTask;
+
+      Task(final long time, final long sequence, @NonNull final Runnable task) {
+        mTime = time;
+        mSequence = sequence;
+        mTask = task;
+      }
+
+      @Override
+      public int compareTo(@NonNull final Task other) {
+        if (mTime != other.mTime) return (mTime < other.mTime) ? -1 : 1;
+
+        return (mSequence < other.mSequence) ? -1 : (mSequence == other.mSequence ? 0 : 1);
+      }
+    }
+  }
+}
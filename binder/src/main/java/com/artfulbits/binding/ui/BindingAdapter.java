@@ -8,11 +8,16 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Adapter;
 
+import com.artfulbits.binding.Binder;
 import com.artfulbits.binding.BindingsManager;
 import com.artfulbits.binding.Selector;
+import com.artfulbits.binding.Versioned;
 import com.artfulbits.binding.toolbox.Adapters;
 
-import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Wrapper over instance of Adapter. Provides access to Binding Manager instance and lifecycle.
@@ -23,12 +28,23 @@ import java.lang.ref.WeakReference;
  * 2) {@link #onCreateBinding(BindingsManager, Selector, Selector)} is a method for overriding;<br/>
  * 3) {@link #onValidationResult(BindingsManager, boolean)} - never called! but you can include it
  * into own lifecycle by direct call;<br/>
+ * <p/>
+ * Binding rules are shared by all rows, but each recycled row view keeps own binding state: ridge caches and resolved
+ * selectors follow the view through recycling. Row that shows the same {@link Versioned} item (same stable ID or the
+ * same instance) with unchanged version skips POP entirely.
+ * <p/>
+ * Context of the processed row (position, item, view) is pooled and reused, selectors created by
+ * {@link Adapters#view(BindingsManager)}, {@link Adapters#item(BindingsManager)} and
+ * {@link Adapters#position(BindingsManager)} read it directly, without reflection.
  */
 @SuppressWarnings("unused")
-public class BindingAdapter implements Adapter, BindingsManager.Lifecycle {
+public class BindingAdapter implements Adapter, BindingRow, BindingsManager.Lifecycle {
 
   /* [ CONSTANTS ] ================================================================================================= */
 
+  /** Version of the not versioned or not known item. */
+  private static final long NO_VERSION = Long.MIN_VALUE;
+
   /* [ MEMBERS ] =================================================================================================== */
 
   /** Wrapped adapter. */
@@ -37,8 +53,16 @@ public class BindingAdapter implements Adapter, BindingsManager.Lifecycle {
   private final BindingsManager mBindingsManager;
   /** Reference on lifecycle callback. */
   private final Lifecycle mLifecycle;
-  /** keep adapter context per thread. Thread ID - to - Context instance. */
-  private final BindingContext mContext = new BindingContext();
+  /** Pool of row contexts, one per nesting level of getView calls. Context of the level 0 is never cleared. */
+  private BindingContext[] mContexts = {new BindingContext()};
+  /** Nesting level of getView calls, -1 - no row is processed. */
+  private int mDepth = -1;
+  /** Binding state per recycled row view. */
+  private final Map<View, RowState> mRows = new WeakHashMap<>();
+  /** Row which state is loaded into binders. */
+  private RowState mLoaded;
+  /** Quantity of rows that skipped POP. */
+  private long mSkipped;
 
 	/* [ CONSTRUCTORS ] ============================================================================================== */
 
@@ -61,13 +85,12 @@ public class BindingAdapter implements Adapter, BindingsManager.Lifecycle {
   /* [ GETTER / SETTER METHODS ] =================================================================================== */
 
   /**
-   * Resolve adapter context with respect to multi-threading. In case if
-   * not existing context for current thread method will return reference
-   * on MAIN thread context.
+   * Resolve context of the row under the processing. Outside of {@link #getView(int, View, ViewGroup)} call returns
+   * context of the last processed row.
    */
   @NonNull
   protected final BindingContext getThreadContext() {
-    return mContext;
+    return mContexts[Math.max(0, mDepth)];
   }
 
   /** Get reference on Binding manager instance. */
@@ -81,6 +104,7 @@ public class BindingAdapter implements Adapter, BindingsManager.Lifecycle {
   }
 
   /** Get position of under the processing item. */
+  @Override
   public final int getBindingPosition() {
     return getThreadContext().mPosition;
   }
@@ -94,30 +118,33 @@ public class BindingAdapter implements Adapter, BindingsManager.Lifecycle {
 
   /** Get reference on under the processing item. */
   @Nullable
+  @Override
   public final Object getBindingItem() {
-    if (null == getThreadContext().mBindingItem) return null;
-
-    return getThreadContext().mBindingItem.get();
+    return getThreadContext().mBindingItem;
   }
 
   /** Assign item to the processing context. */
   protected final BindingAdapter setBindingItem(final Object item) {
-    getThreadContext().mBindingItem = new WeakReference<>(item);
+    getThreadContext().mBindingItem = item;
 
     return this;
   }
 
   /** Get reference on under the processing View created/reused for under the processing item. */
   @Nullable
+  @Override
   public final View getBindingView() {
-    if (null == getThreadContext().mBindingView) return null;
+    return getThreadContext().mBindingView;
+  }
 
-    return getThreadContext().mBindingView.get();
+  /** Get quantity of rows that skipped POP, because their items are not changed. */
+  public final long getSkippedPops() {
+    return mSkipped;
   }
 
   /** Assign view to the processing context. */
   protected final BindingAdapter setBindingView(final View view) {
-    getThreadContext().mBindingView = new WeakReference<>(view);
+    getThreadContext().mBindingView = view;
 
     return this;
   }
@@ -135,6 +162,16 @@ public class BindingAdapter implements Adapter, BindingsManager.Lifecycle {
     }
   }
 
+  /**
+   * Forget items shown by rows, next {@link #getView(int, View, ViewGroup)} call does POP for each row. Ridge caches
+   * are kept, so only changed values reach the views.
+   */
+  public void invalidateRows() {
+    for (final RowState row : mRows.values()) {
+      row.forget();
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public final void registerDataSetObserver(final DataSetObserver observer) {
@@ -179,20 +216,48 @@ public class BindingAdapter implements Adapter, BindingsManager.Lifecycle {
     // request wrapped adapter to create/reuse a view for us
     final View v = mAdapter.getView(position, convertView, parent);
 
-    // assign binding dependencies, define selectors context
-    this.setBindingPosition(position)
-        .setBindingItem(getItem(position))
-        .setBindingView(v);
+    final Object item = getItem(position);
+    final long id = getItemId(position);
 
-    // apply data exchange MODEL --> VIEW (POP), time to do the magic
-    getBindingsManager().pop();
+    // nested getView call (adapter inside a row) gets own context, outer context is restored on exit
+    acquireContext();
+
+    try {
+      // assign binding dependencies, define selectors context
+      this.setBindingPosition(position)
+          .setBindingItem(item)
+          .setBindingView(v);
 
-    // should we run it for all rules???
-    // can we limit/filter POP by Model instance or View instance ???
+      bindRow(v, item, id);
+    } finally {
+      releaseContext();
+    }
 
     return v;
   }
 
+  /** Apply data exchange MODEL --&gt; VIEW for the row, if its item is changed. */
+  private void bindRow(@NonNull final View v, @Nullable final Object item, final long id) {
+    RowState row = mRows.get(v);
+    if (null == row) {
+      mRows.put(v, row = new RowState());
+    }
+
+    // row shows the same item of the same version, nothing to update
+    if (row.isActual(item, id, hasStableIds())) {
+      mSkipped++;
+      return;
+    }
+
+    // binders continue with the state of this row
+    switchTo(row);
+
+    // apply data exchange MODEL --> VIEW (POP), time to do the magic
+    getBindingsManager().pop();
+
+    row.remember(item, id);
+  }
+
   /** {@inheritDoc} */
   @Override
   public final int getItemViewType(final int position) {
@@ -231,6 +296,38 @@ public class BindingAdapter implements Adapter, BindingsManager.Lifecycle {
     // reserved for inheritors
   }
 
+  /** Enter nested level of the row processing. Contexts are pooled, steady state does not allocate. */
+  private void acquireContext() {
+    if (++mDepth == mContexts.length) {
+      mContexts = Arrays.copyOf(mContexts, mDepth + 1);
+      mContexts[mDepth] = new BindingContext();
+    }
+  }
+
+  /** Leave nested level of the row processing. Nested contexts do not keep references on rows. */
+  private void releaseContext() {
+    if (mDepth > 0) {
+      mContexts[mDepth].clear();
+    }
+
+    mDepth--;
+  }
+
+  /** Store binders state into current row, load binders state of the provided row. */
+  private void switchTo(@NonNull final RowState row) {
+    if (mLoaded == row) return;
+
+    for (final Binder<?, ?> binder : getBindingsManager().getBindings()) {
+      if (null != mLoaded) {
+        binder.saveState(mLoaded.stateOf(binder));
+      }
+
+      binder.loadState(row.stateOf(binder));
+    }
+
+    mLoaded = row;
+  }
+
   /** Adjusted lifecycle for Adapters. */
   public interface Lifecycle {
     /**
@@ -246,13 +343,69 @@ public class BindingAdapter implements Adapter, BindingsManager.Lifecycle {
                          @NonNull final Selector<?, Object> getModel);
   }
 
-  /** Context for adapter. */
+  /** Context for adapter. Reusable, references are replaced on each row. */
   private static class BindingContext {
     /** Position of currently processing item. */
     public int mPosition = -1;
     /** Reference on currently processing item view. */
-    public WeakReference<View> mBindingView;
+    public View mBindingView;
     /** Reference on currently processing item instance. */
-    public WeakReference<Object> mBindingItem;
+    public Object mBindingItem;
+
+    /** Drop references on row. */
+    public void clear() {
+      mPosition = -1;
+      mBindingView = null;
+      mBindingItem = null;
+    }
+  }
+
+  /** Binding state of one recycled row view. */
+  private static final class RowState {
+    /** State of each binder. */
+    private final Map<Binder<?, ?>, Binder.State> mStates = new IdentityHashMap<>();
+    /** Shown item. Row view keeps item alive anyway, so reference is strong. */
+    private Object mItem;
+    /** ID of the shown item. */
+    private long mId;
+    /** Version of the shown item. */
+    private long mVersion = NO_VERSION;
+
+    /** Get state of the binder, create if needed. */
+    @NonNull
+    public Binder.State stateOf(@NonNull final Binder<?, ?> binder) {
+      Binder.State state = mStates.get(binder);
+
+      if (null == state) {
+        mStates.put(binder, state = new Binder.State());
+      }
+
+      return state;
+    }
+
+    /**
+     * Is row shows the same versioned item instance with the same version. Stable ID alone is not enough: new
+     * instance with the same ID and version counter may carry different content.
+     */
+    public boolean isActual(@Nullable final Object item, final long id, final boolean hasStableIds) {
+      if (NO_VERSION == mVersion || !(item instanceof Versioned)) return false;
+
+      final boolean isSame = (mItem == item) && (!hasStableIds || mId == id);
+
+      return isSame && mVersion == ((Versioned) item).getVersion();
+    }
+
+    /** Remember shown item. */
+    public void remember(@Nullable final Object item, final long id) {
+      mItem = item;
+      mId = id;
+      mVersion = (item instanceof Versioned) ? ((Versioned) item).getVersion() : NO_VERSION;
+    }
+
+    /** Forget shown item. */
+    public void forget() {
+      mItem = null;
+      mVersion = NO_VERSION;
+    }
   }
 }
@@ -0,0 +1,430 @@
+package com.artfulbits.binding.ui;
+
+import android.support.annotation.CallSuper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.artfulbits.binding.Binder;
+import com.artfulbits.binding.BindingsManager;
+import com.artfulbits.binding.R;
+import com.artfulbits.binding.Scheduler;
+import com.artfulbits.binding.Selector;
+import com.artfulbits.binding.toolbox.Adapters;
+import com.artfulbits.binding.toolbox.Schedulers;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Wrapper over instance of RecyclerView Adapter. Counterpart of the {@link BindingAdapter} for RecyclerView.
+ * <p/>
+ * Each ViewHolder owns binding manager with own binding rules, created once in
+ * {@link #onCreateViewHolder(ViewGroup, int)} by {@link #onCreateBinding(BindingsManager, Selector, Selector)}. Rules
+ * never switch between rows, so ridge caches and resolved selectors always belong to one row view.
+ * <p/>
+ * Change payloads are translated into targeted POP: binder declares keys of the changed properties it depends on by
+ * {@link #affects(Binder, Object...)}, {@code notifyItemChanged(position, key)} pops only binders of that key. Full
+ * POP is done for bind without payloads, for row that shows another item and for payloads with not declared keys.
+ * Payload can be a single key or a collection of keys.
+ * <p/>
+ * Notes for inheritors:<br/>
+ * 1) mostly all Adapter methods are 'final'. That should force keeping of adapter logic out of the class.
+ * this is a wrapper that provides Binding capabilities;<br/>
+ * 2) {@link #onCreateBinding(BindingsManager, Selector, Selector)} is a method for overriding;<br/>
+ * 3) model selectors chains should not cache instances, row item changes on rebinding;<br/>
+ *
+ * @param <VH> type of the view holder.
+ */
+@SuppressWarnings("unused")
+public class BindingRecyclerAdapter<VH extends RecyclerView.ViewHolder> extends RecyclerView.Adapter<VH>
+    implements BindingsManager.Lifecycle {
+	/* [ MEMBERS ] =================================================================================================== */
+
+  /** Wrapped adapter. */
+  private final RecyclerView.Adapter<VH> mAdapter;
+  /** Source of the items. */
+  private final Items mItems;
+  /** Reference on lifecycle callback. */
+  private final BindingAdapter.Lifecycle mLifecycle;
+  /** Scheduler of the view holders binding managers. */
+  private final Scheduler mScheduler;
+  /** Binding context of each view holder. */
+  private final Map<RecyclerView.ViewHolder, Row> mRows = new WeakHashMap<>();
+  /** Forward notifications of the wrapped adapter, payloads included. */
+  private final RecyclerView.AdapterDataObserver mForwarder = new RecyclerView.AdapterDataObserver() {
+    @Override
+    public void onChanged() {
+      notifyDataSetChanged();
+    }
+
+    @Override
+    public void onItemRangeChanged(final int positionStart, final int itemCount) {
+      notifyItemRangeChanged(positionStart, itemCount);
+    }
+
+    @Override
+    public void onItemRangeChanged(final int positionStart, final int itemCount, final Object payload) {
+      notifyItemRangeChanged(positionStart, itemCount, payload);
+    }
+
+    @Override
+    public void onItemRangeInserted(final int positionStart, final int itemCount) {
+      notifyItemRangeInserted(positionStart, itemCount);
+    }
+
+    @Override
+    public void onItemRangeRemoved(final int positionStart, final int itemCount) {
+      notifyItemRangeRemoved(positionStart, itemCount);
+    }
+
+    @Override
+    public void onItemRangeMoved(final int fromPosition, final int toPosition, final int itemCount) {
+      // RecyclerView supports moving of one item only, sequence of single moves does not reproduce block move
+      if (1 == itemCount) {
+        notifyItemMoved(fromPosition, toPosition);
+      } else {
+        notifyDataSetChanged();
+      }
+    }
+  };
+
+  /** Quantity of binds that popped all binders of the row. */
+  private long mFullPops;
+  /** Quantity of binds that popped only binders affected by payloads. */
+  private long mPartialPops;
+
+	/* [ CONSTRUCTORS ] ============================================================================================== */
+
+  /** Wrap adapter that is a source of the items. */
+  public <A extends RecyclerView.Adapter<VH> & Items> BindingRecyclerAdapter(@NonNull final A adapter) {
+    this(adapter, adapter, null);
+  }
+
+  /**
+   * Wrap adapter.
+   *
+   * @param adapter   instance of wrapped adapter.
+   * @param items     source of the items, RecyclerView adapter does not expose them.
+   * @param lifecycle instance of the lifecycle listener, can be NULL.
+   */
+  public BindingRecyclerAdapter(@NonNull final RecyclerView.Adapter<VH> adapter, @NonNull final Items items,
+                                @Nullable final BindingAdapter.Lifecycle lifecycle) {
+    this(adapter, items, Schedulers.main(), lifecycle);
+  }
+
+  /**
+   * Wrap adapter, binding managers of the view holders use custom scheduler. Allows to run bindings without UI.
+   *
+   * @param adapter   instance of wrapped adapter.
+   * @param items     source of the items, RecyclerView adapter does not expose them.
+   * @param scheduler scheduler of the view holders binding managers.
+   * @param lifecycle instance of the lifecycle listener, can be NULL.
+   */
+  public BindingRecyclerAdapter(@NonNull final RecyclerView.Adapter<VH> adapter, @NonNull final Items items,
+                                @NonNull final Scheduler scheduler,
+                                @Nullable final BindingAdapter.Lifecycle lifecycle) {
+    mAdapter = adapter;
+    mItems = items;
+    mScheduler = scheduler;
+    mLifecycle = lifecycle;
+
+    super.setHasStableIds(adapter.hasStableIds());
+    adapter.registerAdapterDataObserver(mForwarder);
+  }
+
+	/* [ STATIC METHODS ] ============================================================================================ */
+
+  /**
+   * Declare keys of the changed properties that binder depends on. Binder is popped when payload contains one of
+   * the keys.
+   *
+   * @param binder binding rule.
+   * @param keys   keys of the payloads, compared by equals.
+   * @return binder instance.
+   */
+  @NonNull
+  public static <TLeft, TRight> Binder<TLeft, TRight> affects(@NonNull final Binder<TLeft, TRight> binder,
+                                                             @NonNull final Object... keys) {
+    return binder.setTag(R.id.tag_binder_payload, Arrays.asList(keys));
+  }
+
+  /* [ GETTER / SETTER METHODS ] =================================================================================== */
+
+  /** Get reference on inner wrapped adapter. */
+  public final RecyclerView.Adapter<VH> getInnerAdapter() {
+    return mAdapter;
+  }
+
+  /** Get binding manager of the view holder. */
+  @Nullable
+  public final BindingsManager getBindingsManager(@NonNull final VH holder) {
+    final Row row = mRows.get(holder);
+
+    return (null == row) ? null : row.mManager;
+  }
+
+  /** Get quantity of binds that popped all binders of the row. */
+  public final long getFullPops() {
+    return mFullPops;
+  }
+
+  /** Get quantity of binds that popped only binders affected by payloads. */
+  public final long getPartialPops() {
+    return mPartialPops;
+  }
+
+	/* [ METHODS ] =================================================================================================== */
+
+  /** {@inheritDoc} */
+  @CallSuper
+  public void onCreateBinding(@NonNull final BindingsManager bm,
+                              @NonNull final Selector<?, View> getView,
+                              @NonNull final Selector<?, Object> getModel) {
+    // forward call to runtime extender of the lifecycle
+    if (null != mLifecycle) {
+      mLifecycle.onCreateBinding(bm, getView, getModel);
+    }
+  }
+
+	/* [ Interface RecyclerView.Adapter ] ============================================================================ */
+
+  /** {@inheritDoc} */
+  @Override
+  public final int getItemCount() {
+    return mAdapter.getItemCount();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final long getItemId(final int position) {
+    return mAdapter.getItemId(position);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int getItemViewType(final int position) {
+    return mAdapter.getItemViewType(position);
+  }
+
+  /** Create view holder by wrapped adapter and binding rules for it. */
+  @Override
+  public final VH onCreateViewHolder(final ViewGroup parent, final int viewType) {
+    final VH holder = mAdapter.onCreateViewHolder(parent, viewType);
+    final Row row = new Row(holder);
+
+    row.mManager = BindingsManager.newInstance(Adapters.row(row), mScheduler, this);
+
+    // rules are needed right now for the first bind, so no posting to main thread
+    onCreateBinding(row.mManager);
+    row.index();
+
+    mRows.put(holder, row);
+
+    return holder;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void onBindViewHolder(final VH holder, final int position) {
+    onBindViewHolder(holder, position, Collections.emptyList());
+  }
+
+  /** Implemented binding of Item to View. */
+  @Override
+  public final void onBindViewHolder(final VH holder, final int position, final List<Object> payloads) {
+    mAdapter.onBindViewHolder(holder, position, payloads);
+
+    final Row row = mRows.get(holder);
+    if (null == row) return;
+
+    final Object item = mItems.getItem(position);
+    final boolean isSameItem = (row.mItem == item);
+
+    row.mPosition = position;
+    row.mItem = item;
+
+    // apply data exchange MODEL --> VIEW (POP), only for changed properties if possible
+    final List<Binder<?, ?>> affected = isSameItem ? row.affected(payloads) : null;
+
+    if (null == affected) {
+      mFullPops++;
+      row.mManager.pop();
+    } else {
+      mPartialPops++;
+      row.mManager.pop(affected);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void onViewRecycled(final VH holder) {
+    mAdapter.onViewRecycled(holder);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean onFailedToRecycleView(final VH holder) {
+    return mAdapter.onFailedToRecycleView(holder);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void onViewAttachedToWindow(final VH holder) {
+    mAdapter.onViewAttachedToWindow(holder);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void onViewDetachedFromWindow(final VH holder) {
+    mAdapter.onViewDetachedFromWindow(holder);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void onAttachedToRecyclerView(final RecyclerView recyclerView) {
+    mAdapter.onAttachedToRecyclerView(recyclerView);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void onDetachedFromRecyclerView(final RecyclerView recyclerView) {
+    mAdapter.onDetachedFromRecyclerView(recyclerView);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p/>
+   * Override is LOCKED. Override {@link #onCreateBinding(BindingsManager, Selector, Selector)} for making
+   * customization of the class by inheritance.
+   */
+  @Override
+  public final void onCreateBinding(final BindingsManager bm) {
+    final Selector<?, View> getView = Adapters.view(bm);
+    final Selector<?, Object> getItem = Adapters.item(bm);
+
+    onCreateBinding(bm, getView, getItem);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onValidationResult(final BindingsManager bm, final boolean success) {
+    // reserved for inheritors
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Source of the items, RecyclerView adapter does not expose them. */
+  public interface Items {
+    /** Get item shown at position. */
+    Object getItem(final int position);
+  }
+
+  /** Binding context of one view holder. */
+  private static final class Row implements BindingRow {
+    /** Owner of the context. Weak, view holder is a key of the contexts map. */
+    private final WeakReference<RecyclerView.ViewHolder> mHolder;
+    /** Payload key to binders that depend on it. */
+    private final Map<Object, List<Binder<?, ?>>> mByPayload = new HashMap<>();
+    /** Reusable list of the binders affected by payloads. */
+    private final ArrayList<Binder<?, ?>> mAffected = new ArrayList<>();
+    /** Binding manager of the view holder. */
+    private BindingsManager mManager;
+    /** Position of the shown item. */
+    private int mPosition = RecyclerView.NO_POSITION;
+    /** Shown item. Row view keeps item alive anyway, so reference is strong. */
+    private Object mItem;
+
+    /* package */ Row(@NonNull final RecyclerView.ViewHolder holder) {
+      mHolder = new WeakReference<>(holder);
+    }
+
+    @Override
+    public int getBindingPosition() {
+      return mPosition;
+    }
+
+    @Nullable
+    @Override
+    public Object getBindingItem() {
+      return mItem;
+    }
+
+    @Nullable
+    @Override
+    public View getBindingView() {
+      final RecyclerView.ViewHolder holder = mHolder.get();
+
+      return (null == holder) ? null : holder.itemView;
+    }
+
+    /** Index binders by declared payload keys. */
+    public void index() {
+      for (final Binder<?, ?> binder : mManager.getBindings()) {
+        final Object keys = binder.getTag(R.id.tag_binder_payload);
+        if (!(keys instanceof Collection)) continue;
+
+        for (final Object key : (Collection<?>) keys) {
+          List<Binder<?, ?>> binders = mByPayload.get(key);
+
+          if (null == binders) {
+            mByPayload.put(key, binders = new ArrayList<>(1));
+          }
+
+          binders.add(binder);
+        }
+      }
+    }
+
+    /**
+     * Collect binders affected by payloads.
+     *
+     * @return reusable list of binders, {@code null} - full POP required.
+     */
+    @Nullable
+    public List<Binder<?, ?>> affected(@NonNull final List<Object> payloads) {
+      if (payloads.isEmpty()) return null;
+
+      mAffected.clear();
+
+      for (int i = 0, len = payloads.size(); i < len; i++) {
+        final Object payload = payloads.get(i);
+
+        if (payload instanceof Collection) {
+          for (final Object key : (Collection<?>) payload) {
+            if (!collect(key)) return null;
+          }
+        } else if (!collect(payload)) {
+          return null;
+        }
+      }
+
+      return mAffected;
+    }
+
+    /** Add binders of the key to affected. */
+    private boolean collect(@Nullable final Object key) {
+      final List<Binder<?, ?>> binders = mByPayload.get(key);
+      if (null == binders) return false;
+
+      for (int i = 0, len = binders.size(); i < len; i++) {
+        final Binder<?, ?> binder = binders.get(i);
+
+        if (!mAffected.contains(binder)) {
+          mAffected.add(binder);
+        }
+      }
+
+      return true;
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.artfulbits.binding.ui;
+
+import android.support.annotation.Nullable;
+import android.view.View;
+
+/**
+ * Context of the list row under the processing: position, item and view. Implemented by adapters wrappers, read
+ * directly by selectors of {@link com.artfulbits.binding.toolbox.Adapters}.
+ */
+public interface BindingRow {
+  /** Get position of under the processing item. */
+  int getBindingPosition();
+
+  /** Get reference on under the processing item. */
+  @Nullable
+  Object getBindingItem();
+
+  /** Get reference on under the processing View created/reused for under the processing item. */
+  @Nullable
+  View getBindingView();
+}
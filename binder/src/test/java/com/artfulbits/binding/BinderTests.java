@@ -3,22 +3,37 @@ package com.artfulbits.binding;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.artfulbits.binding.data.BindablePojo;
+import com.artfulbits.binding.data.BindablePojo$$Accessors;
 import com.artfulbits.binding.exceptions.ConfigurationError;
+import com.artfulbits.binding.reflection.PropertySimpleTypesTests;
+import com.artfulbits.binding.toolbox.AsyncRule;
+import com.artfulbits.binding.toolbox.Copiers;
 import com.artfulbits.binding.toolbox.Listeners;
 import com.artfulbits.binding.toolbox.Models;
 import com.artfulbits.binding.toolbox.Molds;
+import com.artfulbits.binding.toolbox.Rules;
+import com.artfulbits.binding.toolbox.Schedulers;
+import com.artfulbits.junit.Sampling;
 import com.artfulbits.junit.TestHolder;
 
 import org.junit.Test;
+import org.mockito.InOrder;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Observable;
 
+import static com.artfulbits.binding.Validation.VALID;
 import static com.artfulbits.binding.toolbox.Models.integer;
 import static com.artfulbits.binding.toolbox.Models.number;
 import static com.artfulbits.binding.toolbox.Models.pojo;
 import static com.artfulbits.binding.toolbox.Models.real;
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.Mockito.*;
 
 /** Unit tests for class {@link Binder}. */
@@ -433,6 +448,393 @@ public class BinderTests extends TestHolder {
     assertThat((String) bss.getTag(-2), equalTo("Dump"));
   }
 
+  @Test
+  public void test_16_Primitives_NoBoxing() throws Exception {
+    final ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+    assumeTrue(mx instanceof com.sun.management.ThreadMXBean);
+
+    final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) mx;
+    assumeTrue(allocations.isThreadAllocatedMemorySupported());
+    allocations.setThreadAllocatedMemoryEnabled(true);
+
+    // compiled accessors on one side, reflection fields on another
+    final BindablePojo view = new BindablePojo();
+    final PropertySimpleTypesTests.DummyClass model = new PropertySimpleTypesTests.DummyClass();
+    final Binder<Integer, Integer> bii = new Binder<Integer, Integer>()
+        .view(BindablePojo$$Accessors.age(view))
+        .model(pojo(model, integer("fieldInt")));
+
+    final int iterations = Sampling.ITERATIONS_XL;
+    final long threadId = Thread.currentThread().getId();
+
+    // warm up, all lazy resolving is done here
+    for (int i = 0; i < iterations; i++) {
+      view.setAge(1000 + i);
+      bii.push();
+      bii.pop();
+    }
+
+    final long before = allocations.getThreadAllocatedBytes(threadId);
+
+    for (int i = 0; i < iterations; i++) {
+      view.setAge(2000 + i); // out of Integer.valueOf() cache range
+      bii.push();
+      bii.pop();
+    }
+
+    final long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+
+    assertThat(bii.isPushOk() && bii.isPopOk(), equalTo(true));
+    assertThat(integer("fieldInt").getInt(model), equalTo(2000 + iterations - 1));
+
+    // one boxed value per iteration would be at least 16 bytes
+    assertThat(allocated, lessThan((long) iterations));
+  }
+
+  @Test
+  public void test_17_NumberMold_Primitives() throws Exception {
+    final PojoNamePin model = new PojoNamePin();
+    final PojoText view = new PojoText();
+    final Binder<CharSequence, Integer> bci = new Binder<CharSequence, Integer>()
+        .view(pojo(view, Models.<CharSequence>from("Text")))
+        .model(pojo(model, integer("Pin")))
+        .format(Molds.fromCharsToInteger());
+
+    // int model and text view exchange data without boxing
+    assertThat(bci.isPrimitive(), equalTo(true));
+
+    model.setPin(-2048);
+    bci.pop();
+
+    assertThat(view.getText().toString(), equalTo("-2048"));
+    assertThat(bci.isPopOk(), equalTo(true));
+
+    view.setText(new StringBuilder("4096"));
+    bci.push();
+
+    assertThat(model.getPin(), equalTo(4096));
+    assertThat(bci.isPushOk(), equalTo(true));
+
+    // empty text is ZERO
+    view.setText("");
+    bci.push();
+
+    assertThat(model.getPin(), equalTo(0));
+  }
+
+  @Test
+  public void test_18_OneWay_NoAccess() throws Exception {
+    final PojoNamePin model = spy(new PojoNamePin());
+    final PojoLoginPassword view = spy(new PojoLoginPassword());
+    final Binder<String, String> bss = new Binder<String, String>()
+        .view(pojo(view, Models.text("Login")))
+        .model(pojo(model, Models.text("Name")))
+        .format(Molds.onlyPop(Molds.<String, String>direct()));
+
+    assertThat(bss.canPush(), equalTo(false));
+    assertThat(bss.canPop(), equalTo(true));
+
+    // display-only binder skips PUSH without view/model reads
+    bss.push();
+
+    verify(view, never()).getLogin();
+    verify(model, never()).setName(anyString());
+    assertThat(bss.isPushOk(), equalTo(true));
+
+    model.setName("name");
+    bss.pop();
+
+    assertThat(view.getLogin(), equalTo("name"));
+  }
+
+  @Test
+  public void test_19_Rules_Primitives() throws Exception {
+    final PojoNamePin model = new PojoNamePin();
+    final PojoText view = new PojoText();
+    final Binder<CharSequence, Integer> bci = new Binder<CharSequence, Integer>()
+        .view(pojo(view, Models.<CharSequence>from("Text")))
+        .model(pojo(model, integer("Pin")))
+        .format(Molds.fromCharsToInteger())
+        .validate(Rules.range(0, 9999));
+
+    // primitive rule keeps exchange without boxing
+    assertThat(bci.isPrimitive(), equalTo(true));
+
+    view.setText("12345");
+    bci.push();
+
+    assertThat(bci.isPushOk(), equalTo(false));
+    assertThat(bci.getFailureCode(), equalTo(Rules.FAILED_RANGE));
+    assertThat(model.getPin(), equalTo(0));
+
+    view.setText("1234");
+    bci.push();
+
+    assertThat(bci.isPushOk(), equalTo(true));
+    assertThat(bci.getFailureCode(), equalTo(Validation.VALID));
+    assertThat(model.getPin(), equalTo(1234));
+
+    model.setPin(-1);
+    bci.pop();
+
+    assertThat(bci.isPopOk(), equalTo(false));
+    assertThat(view.getText().toString(), equalTo("1234"));
+
+    // rejected value is not remembered by ridge, next exchange validates it again
+    bci.validate(Rules.range(-1, 9999));
+    bci.pop();
+
+    assertThat(bci.isPopOk(), equalTo(true));
+    assertThat(view.getText().toString(), equalTo("-1"));
+
+    // no-op validation is elided
+    bci.validate(Rules.<Integer>none());
+    assertThat(bci.resolveRule(), sameInstance(Rules.<Integer>none()));
+  }
+
+  @Test
+  public void test_20_Async_Validation() throws Exception {
+    final Schedulers.Virtual worker = Schedulers.virtual();
+    final Schedulers.Virtual main = Schedulers.virtual();
+    final List<String> checked = new ArrayList<>();
+    final AsyncRule<String> unique = Rules.async(new Validation<String>() {
+      @Override
+      public int validate(final String value) {
+        checked.add(value); // expensive check, for example database lookup
+        return value.startsWith("taken") ? Rules.FAILED_MATCHER : VALID;
+      }
+    }, worker, main);
+
+    final Success ok = mock(Success.class);
+    final Failure fail = mock(Failure.class);
+    final PojoNamePin model = new PojoNamePin();
+    final PojoLoginPassword view = new PojoLoginPassword();
+    final Binder<String, String> bss = new Binder<String, String>()
+        .view(pojo(view, Models.text("Login")))
+        .model(pojo(model, Models.text("Name")))
+        .validate(unique)
+        .onSuccess(ok)
+        .onFailure(fail);
+
+    // newer value cancels not started check
+    view.setLogin("first");
+    bss.push();
+    view.setLogin("second");
+    bss.push();
+
+    assertThat(worker.runPending(), equalTo(1));
+    assertThat(checked, org.hamcrest.Matchers.contains("second"));
+    assertThat(model.getName(), nullValue());
+
+    // exchange continues in main thread
+    assertThat(main.runPending(), equalTo(1));
+    assertThat(model.getName(), equalTo("second"));
+
+    // started check is outdated by newer value, its result is dropped
+    view.setLogin("taken");
+    bss.push();
+    worker.runPending();
+    view.setLogin("third");
+    bss.push();
+
+    assertThat(main.runPending(), equalTo(0));
+    assertThat(worker.runPending(), equalTo(1));
+    assertThat(main.runPending(), equalTo(1));
+    assertThat(model.getName(), equalTo("third"));
+
+    // cached result is applied synchronously
+    view.setLogin("taken");
+    bss.push();
+
+    assertThat(worker.size() + main.size(), equalTo(0));
+    assertThat(bss.isPushOk(), equalTo(false));
+    assertThat(bss.getFailureCode(), equalTo(Rules.FAILED_MATCHER));
+    assertThat(unique.getHits(), equalTo(1L));
+
+    final InOrder order = inOrder(ok, fail);
+    order.verify(ok, times(2)).onValidationSuccess(null, bss);
+    order.verify(fail, times(1)).onValidationFailure(null, bss);
+    order.verifyNoMoreInteractions();
+  }
+
+  @Test
+  public void test_21_State_PerTarget() throws Exception {
+    final PojoRow holder = new PojoRow();
+    final PojoLoginPassword row1 = new PojoLoginPassword();
+    final PojoLoginPassword row2 = new PojoLoginPassword();
+    final PojoNamePin item1 = new PojoNamePin();
+    final PojoNamePin item2 = new PojoNamePin();
+    item1.setName("first");
+    item2.setName("second");
+
+    // one binder shared by two targets, like recycled rows of adapter
+    final Binder<String, String> bss = new Binder<String, String>()
+        .view(new Selector<>(new Selector<>(holder, Models.<PojoLoginPassword>from("View")), Models.text("Login"))
+            .setCaching(true))
+        .model(new Selector<>(new Selector<>(holder, Models.<PojoNamePin>from("Item")), Models.text("Name"))
+            .setCaching(true));
+
+    final Binder.State state1 = new Binder.State();
+    final Binder.State state2 = new Binder.State();
+
+    holder.set(row1, item1);
+    bss.loadState(state1);
+    bss.pop();
+    bss.saveState(state1);
+
+    holder.set(row2, item2);
+    bss.loadState(state2);
+    bss.pop();
+    bss.saveState(state2);
+
+    assertThat(row1.getLogin(), equalTo("first"));
+    assertThat(row2.getLogin(), equalTo("second"));
+
+    // ridge of the first target still knows its value, unchanged value is not popped again
+    row1.setLogin("edited");
+    holder.set(row1, item1);
+    bss.loadState(state1);
+    bss.pop();
+
+    assertThat(row1.getLogin(), equalTo("edited"));
+
+    // resolved selectors follow the state
+    bss.saveState(state1);
+    bss.loadState(state2);
+    item2.setName("changed");
+    bss.pop();
+
+    assertThat(row2.getLogin(), equalTo("changed"));
+    assertThat(row1.getLogin(), equalTo("edited"));
+  }
+
+  @Test
+  public void test_22_State_CustomRidge() throws Exception {
+    final PojoRow holder = new PojoRow();
+    final PojoLoginPassword row1 = new PojoLoginPassword();
+    final PojoLoginPassword row2 = new PojoLoginPassword();
+    final PojoNamePin item = new PojoNamePin();
+    item.setName("same");
+
+    final Binder<String, String> bss = new Binder<String, String>()
+        .view(new Selector<>(new Selector<>(holder, Models.<PojoLoginPassword>from("View")), Models.text("Login"))
+            .setCaching(true))
+        .model(new Selector<>(new Selector<>(holder, Models.<PojoNamePin>from("Item")), Models.text("Name"))
+            .setCaching(true))
+        .ridge(new IgnoreCaseRidge());
+
+    final Binder.State state1 = new Binder.State();
+    final Binder.State state2 = new Binder.State();
+
+    // each target receives own copy of the configured strategy, the same value is popped to both targets
+    holder.set(row1, item);
+    bss.loadState(state1);
+    bss.pop();
+    bss.saveState(state1);
+
+    holder.set(row2, item);
+    bss.loadState(state2);
+    bss.pop();
+    bss.saveState(state2);
+
+    assertThat(row1.getLogin(), equalTo("same"));
+    assertThat(row2.getLogin(), equalTo("same"));
+    assertThat(bss.resolveRidge(), instanceOf(IgnoreCaseRidge.class));
+    assertThat(state1.mRidge, not(sameInstance(state2.mRidge)));
+
+    // custom strategy is still in use
+    item.setName("SAME");
+    bss.pop();
+    assertThat(row2.getLogin(), equalTo("same"));
+
+    // strategy that can not be copied is not shared, other targets use default ridge
+    final Binder.Ridge<String> plain = new Binder.Ridge<String>() {
+      private String mValue;
+
+      @Override
+      public boolean isChanged(final String value) {
+        return null == mValue || !mValue.equals(value);
+      }
+
+      @Override
+      public String clone(final String value) {
+        return mValue = value;
+      }
+    };
+    final Binder<String, String> shared = new Binder<String, String>()
+        .view(new Selector<>(new Selector<>(holder, Models.<PojoLoginPassword>from("View")), Models.text("Login"))
+            .setCaching(true))
+        .model(new Selector<>(new Selector<>(holder, Models.<PojoNamePin>from("Item")), Models.text("Name"))
+            .setCaching(true))
+        .ridge(plain);
+
+    final Binder.State state3 = new Binder.State();
+    final Binder.State state4 = new Binder.State();
+    item.setName("plain");
+
+    holder.set(row1, item);
+    shared.loadState(state3);
+    shared.pop();
+    shared.saveState(state3);
+
+    holder.set(row2, item);
+    shared.loadState(state4);
+    shared.pop();
+    shared.saveState(state4);
+
+    assertThat(row1.getLogin(), equalTo("plain"));
+    assertThat(row2.getLogin(), equalTo("plain"));
+    assertThat(state3.mRidge, not(sameInstance((Object) plain)));
+    assertThat(state3.mRidge, not(sameInstance(state4.mRidge)));
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void test_23_Validation_Hooks() throws Exception {
+    final PojoNamePin model = new PojoNamePin();
+    final PojoLoginPassword view = new PojoLoginPassword();
+
+    // compiled rule hook
+    final Binder<String, String> rule = new Binder<String, String>() {
+      @NonNull
+      @Override
+      protected Validation<String> resolveRule() {
+        return Rules.code(42, Rules.<String>notNull());
+      }
+    }.view(pojo(view, Models.text("Login"))).model(pojo(model, Models.text("Name")));
+
+    rule.push();
+    assertThat(rule.isPushOk(), equalTo(false));
+    assertThat(rule.getFailureCode(), equalTo(42));
+
+    // old style matcher hook is still honored
+    final Binder<String, String> legacy = new Binder<String, String>() {
+      @NonNull
+      @Override
+      protected org.hamcrest.Matcher<String> resolveValidation() {
+        return org.hamcrest.Matchers.startsWith("ok");
+      }
+    }.view(pojo(view, Models.text("Login"))).model(pojo(model, Models.text("Name")));
+
+    view.setLogin("not ok");
+    legacy.push();
+    assertThat(legacy.isPushOk(), equalTo(false));
+    assertThat(legacy.getFailureCode(), equalTo(Rules.FAILED_MATCHER));
+    assertThat(model.getName(), nullValue());
+
+    view.setLogin("ok");
+    legacy.push();
+    assertThat(legacy.isPushOk(), equalTo(true));
+    assertThat(model.getName(), equalTo("ok"));
+
+    // default matcher is adapter of the configured rule
+    final Binder<String, String> plain = new Binder<String, String>()
+        .validate(Rules.<String>notNull());
+    assertThat(plain.resolveValidation().matches(null), equalTo(false));
+    assertThat(plain.resolveValidation().matches("value"), equalTo(true));
+    assertThat(plain.resolveRule(), sameInstance(Rules.<String>notNull()));
+  }
+
   /* [ NESTED DECLARATIONS ] ======================================================================================= */
 
   public static class PojoNamePin {
@@ -489,6 +891,36 @@ public class BinderTests extends TestHolder {
     }
   }
 
+  public static class PojoText {
+    private CharSequence mText;
+
+    public CharSequence getText() {
+      return mText;
+    }
+
+    public void setText(final CharSequence text) {
+      mText = text.toString(); // copy, like TextView does
+    }
+  }
+
+  public static class PojoRow {
+    private PojoLoginPassword mView;
+    private PojoNamePin mItem;
+
+    public PojoLoginPassword getView() {
+      return mView;
+    }
+
+    public PojoNamePin getItem() {
+      return mItem;
+    }
+
+    public void set(final PojoLoginPassword view, final PojoNamePin item) {
+      mView = view;
+      mItem = item;
+    }
+  }
+
   public static class PojoObserve extends Observable {
     private long mTimestampL;
 
@@ -518,4 +950,19 @@ public class BinderTests extends TestHolder {
       notifyObservers("pojotime");
     }
   }
+
+  /** Ridge that ignores case of the text, copied for each target. */
+  public static final class IgnoreCaseRidge implements Binder.Ridge<String>, Copiers.Structural {
+    private String mValue;
+
+    @Override
+    public boolean isChanged(final String value) {
+      return null == mValue || !mValue.equalsIgnoreCase(value);
+    }
+
+    @Override
+    public String clone(final String value) {
+      return mValue = value;
+    }
+  }
 }
@@ -0,0 +1,216 @@
+package com.artfulbits.binding;
+
+import com.artfulbits.benchmark.Meter;
+import com.artfulbits.binding.BinderTests.PojoObserve;
+import com.artfulbits.binding.BinderTests.PojoStringObserve;
+import com.artfulbits.binding.toolbox.Listeners;
+import com.artfulbits.binding.toolbox.Models;
+import com.artfulbits.binding.toolbox.Schedulers;
+import com.artfulbits.junit.Sampling;
+import com.artfulbits.junit.TestHolder;
+
+import org.junit.Test;
+
+import static com.artfulbits.binding.toolbox.Models.number;
+import static com.artfulbits.binding.toolbox.Models.pojo;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/** Unit tests of the {@link BindingsManager} class, executed without UI on virtual time scheduler. */
+public class BindingsManagerTests extends TestHolder {
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_Headless_Dispatch() {
+    final Schedulers.Virtual scheduler = Schedulers.virtual();
+    final PojoStringObserve view = new PojoStringObserve();
+    final PojoObserve model = new PojoObserve();
+    final BindingsManager bm = newManager(view, scheduler, mock(BindingsManager.Lifecycle.class));
+
+    newBinder(bm, view, model);
+    bm.associate();
+
+    // burst of model changes, view is not updated until scheduler executes drain
+    for (int i = 1; i <= Sampling.ITERATIONS_M; i++) {
+      model.setTimestamp(i);
+    }
+
+    assertThat(view.getTime(), nullValue());
+    assertThat(scheduler.size(), equalTo(1));
+    assertThat(bm.getDispatchRequested(), equalTo((long) Sampling.ITERATIONS_M));
+    assertThat(bm.getDispatchMessages(), equalTo(1L));
+
+    // second drain is an echo: updated view notifies own change and pushes the same value back
+    assertThat(scheduler.runPending(), equalTo(2));
+    assertThat(view.getTime(), equalTo(String.valueOf(Sampling.ITERATIONS_M)));
+    assertThat(model.getTimestamp(), equalTo((long) Sampling.ITERATIONS_M));
+  }
+
+  @Test
+  public void test_01_Lifecycle() {
+    final Schedulers.Virtual scheduler = Schedulers.virtual();
+    final BindingsManager.Lifecycle listener = mock(BindingsManager.Lifecycle.class);
+    final BindingsManager bm = newManager(new PojoStringObserve(), scheduler, listener);
+
+    assertThat(bm.getScheduler(), sameInstance((Scheduler) scheduler));
+
+    bm.doStart(this);
+    verify(listener, never()).onCreateBinding(bm);
+
+    scheduler.runPending();
+    verify(listener, times(1)).onCreateBinding(bm);
+
+    // replaced scheduler receives all new messages
+    final Schedulers.Virtual other = Schedulers.virtual();
+    bm.setScheduler(other).doStart(this);
+
+    assertThat(scheduler.size(), equalTo(0));
+    assertThat(other.size(), equalTo(1));
+  }
+
+  @Test
+  public void test_02_Dispatch_Throughput() {
+    final Meter m = getMeter();
+    m.start("Headless dispatch of model changes, bindings: " + Sampling.ITERATIONS_M);
+
+    final Schedulers.Virtual scheduler = Schedulers.virtual();
+    final PojoStringObserve facade = new PojoStringObserve();
+    final BindingsManager bm = newManager(facade, scheduler, mock(BindingsManager.Lifecycle.class));
+    final PojoObserve[] models = new PojoObserve[Sampling.ITERATIONS_M];
+
+    for (int i = 0; i < models.length; i++) {
+      models[i] = new PojoObserve();
+      newBinder(bm, new PojoStringObserve(), models[i]);
+    }
+
+    bm.associate();
+    m.skip("bindings created");
+
+    m.loop(Sampling.ITERATIONS_L, "change + drain");
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      models[i % models.length].setTimestamp(i);
+      scheduler.runPending();
+      m.recap();
+    }
+    m.unloop("change + drain");
+
+    m.loop(Sampling.ITERATIONS_S, "burst + drain");
+    for (int i = 0; i < Sampling.ITERATIONS_S; i++) {
+      for (final PojoObserve model : models) {
+        model.setTimestamp(i);
+      }
+
+      scheduler.runPending();
+      m.recap();
+    }
+    m.unloop("burst + drain");
+
+    m.finish("dispatch throughput");
+
+    // each drain of model changes produces one echo drain of view changes
+    assertThat(bm.getDispatchMessages(), equalTo(2L * (Sampling.ITERATIONS_L + Sampling.ITERATIONS_S)));
+  }
+
+  @Test
+  public void test_03_Pipeline() {
+    final Schedulers.Virtual scheduler = Schedulers.virtual();
+    final Schedulers.Virtual worker = Schedulers.virtual();
+    final PojoStringObserve view = new PojoStringObserve();
+    final PojoObserve model = new PojoObserve();
+    final BindingsManager bm = newManager(view, scheduler, mock(BindingsManager.Lifecycle.class))
+        .setWorker(worker);
+
+    newBinder(bm, view, model);
+    bm.associate();
+
+    assertThat(bm.getWorker(), sameInstance((Scheduler) worker));
+
+    // drain in main thread, model side of the exchange in worker, view update in main thread again
+    model.setTimestamp(42);
+    assertThat(scheduler.runPending(), equalTo(1));
+    assertThat(view.getTime(), nullValue());
+
+    assertThat(worker.runPending(), equalTo(1));
+    assertThat(view.getTime(), nullValue());
+
+    scheduler.runPending();
+    assertThat(view.getTime(), equalTo("42"));
+
+    // echo of the view change goes through pipeline too
+    while (scheduler.runPending() + worker.runPending() > 0) {
+      // execute all stages
+    }
+
+    assertThat(model.getTimestamp(), equalTo(42L));
+
+    // pipeline disabled, exchange executed in drain
+    bm.setWorker(null);
+    model.setTimestamp(43);
+    scheduler.runPending();
+
+    assertThat(view.getTime(), equalTo("43"));
+    assertThat(worker.size(), equalTo(0));
+  }
+
+  @Test
+  public void test_04_Freeze_Journal() {
+    final Schedulers.Virtual scheduler = Schedulers.virtual();
+    final PojoStringObserve view = new PojoStringObserve();
+    final PojoObserve model = new PojoObserve();
+    final BindingsManager bm = newManager(view, scheduler, mock(BindingsManager.Lifecycle.class));
+    final Binder<String, Long> binder = newBinder(bm, view, model);
+
+    bm.associate();
+    bm.freeze();
+
+    for (int i = 1; i <= Sampling.ITERATIONS_L; i++) {
+      model.setTimestamp(i);
+      scheduler.runPending();
+    }
+
+    // only the latest intent is kept
+    assertThat(view.getTime(), nullValue());
+    assertThat(bm.getPendingQueueSize(), equalTo(1));
+    assertThat(bm.getPendingCollapsed(), equalTo(Sampling.ITERATIONS_L - 1L));
+
+    // views are not android views, exchange executed immediately
+    bm.unfreeze();
+    assertThat(bm.getPendingQueueSize(), equalTo(0));
+    assertThat(view.getTime(), equalTo(String.valueOf(Sampling.ITERATIONS_L)));
+
+    // destroyed binder leaves the journal
+    bm.freeze().pop(binder);
+    binder.destroy();
+    assertThat(bm.getPendingQueueSize(), equalTo(0));
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Create manager without UI, facade points on provided instance. */
+  private static BindingsManager newManager(final PojoStringObserve facade, final Scheduler scheduler,
+                                            final BindingsManager.Lifecycle listener) {
+    return BindingsManager.newInstance(pojo(facade, Models.text("Time")), scheduler, listener);
+  }
+
+  /** Create binder of observable view time to observable model timestamp. */
+  private static Binder<String, Long> newBinder(final BindingsManager bm, final PojoStringObserve view,
+                                                final PojoObserve model) {
+    return bm.<String, Long>bind()
+        .view(pojo(view, Models.text("Time")))
+        .model(pojo(model, number("Timestamp")))
+        .format(new Formatting<String, Long>() {
+          @Override
+          public Long toModel(final String value) {
+            return Long.valueOf(value);
+          }
+
+          @Override
+          public String toView(final Long value) {
+            return String.valueOf(value);
+          }
+        })
+        .onView(Listeners.onObservable())
+        .onModel(Listeners.onObservable());
+  }
+}
@@ -0,0 +1,243 @@
+package com.artfulbits.binding;
+
+import com.artfulbits.benchmark.Meter;
+import com.artfulbits.binding.BinderTests.PojoLoginPassword;
+import com.artfulbits.binding.BinderTests.PojoNamePin;
+import com.artfulbits.binding.toolbox.Models;
+import com.artfulbits.junit.Sampling;
+import com.artfulbits.junit.TestHolder;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.artfulbits.binding.toolbox.Models.pojo;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/** Unit tests of the {@link BindingsRegistry} class. */
+public class BindingsRegistryTests extends TestHolder {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Tag ID used in tests. */
+  private static final int TAG_ID = -1;
+
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_Indexes() {
+    final BindingsRegistry registry = new BindingsRegistry();
+    final PojoLoginPassword shared = new PojoLoginPassword();
+    final List<PojoNamePin> views = new ArrayList<>();
+    final List<Binder<String, String>> binders = new ArrayList<>();
+
+    for (int i = 0; i < Sampling.ITERATIONS_M; i++) {
+      final PojoNamePin view = new PojoNamePin();
+      final Binder<String, String> b = newBinder(view, shared);
+
+      if (0 == i % 10) {
+        b.setTag(TAG_ID, i);
+      }
+
+      views.add(view);
+      binders.add(b);
+      registry.add(b);
+    }
+
+    assertThat(registry.size(), equalTo(Sampling.ITERATIONS_M));
+    assertThat(registry.all(), equalTo((List) binders));
+    assertThat(registry.byModel(shared), equalTo((List) binders));
+    assertThat(registry.byView(views.get(42)), contains((Binder) binders.get(42)));
+    assertThat(registry.byView(new PojoNamePin()), empty());
+    assertThat(registry.byTag(TAG_ID), hasSize(Sampling.ITERATIONS_M / 10));
+
+    // remove most of binders, slots are compacted, order and indexes stay valid
+    for (int i = 0; i < Sampling.ITERATIONS_M; i++) {
+      if (0 != i % 3) {
+        registry.remove(binders.get(i));
+      }
+    }
+
+    final List<Binder<?, ?>> all = registry.all();
+    assertThat(all, hasSize((Sampling.ITERATIONS_M + 2) / 3));
+
+    for (int i = 0; i < all.size(); i++) {
+      assertThat(all.get(i), sameInstance((Binder) binders.get(i * 3)));
+    }
+
+    assertThat(registry.byModel(shared), equalTo(all));
+    assertThat(registry.byView(views.get(42)), contains((Binder) binders.get(42)));
+    assertThat(registry.byView(views.get(43)), empty());
+    assertThat(registry.byTag(TAG_ID), hasSize(4)); // 0, 30, 60, 90
+  }
+
+  @Test
+  public void test_01_Status() {
+    final BindingsRegistry registry = new BindingsRegistry();
+    final PojoNamePin view = new PojoNamePin();
+    final PojoLoginPassword model = new PojoLoginPassword();
+
+    final Binder<String, String> ok = newBinder(new PojoNamePin(), new PojoLoginPassword());
+    final Binder<String, String> b = newBinder(view, model);
+    b.validate(containsString("-set"));
+
+    registry.add(ok);
+    registry.add(b);
+    assertThat(registry.isAllValid(), equalTo(true));
+
+    view.setName("dummy");
+    b.push();
+    registry.status(b);
+
+    assertThat(registry.isAllValid(), equalTo(false));
+    assertThat(registry.failed(), contains((Binder) b));
+    assertThat(registry.succeeded(), contains((Binder) ok));
+
+    view.setName("name-set");
+    b.push();
+    registry.status(b);
+
+    assertThat(registry.isAllValid(), equalTo(true));
+    assertThat(registry.succeeded(), hasSize(2));
+  }
+
+  @Test
+  public void test_02_Reindex() {
+    final BindingsRegistry registry = new BindingsRegistry();
+    final PojoLoginPassword first = new PojoLoginPassword();
+    final PojoLoginPassword second = new PojoLoginPassword();
+
+    final Binder<String, String> b = newBinder(new PojoNamePin(), first);
+    registry.add(b);
+    assertThat(registry.byModel(first), contains((Binder) b));
+
+    // indexes are updated only after notification
+    b.model(pojo(second, Models.text("Login")));
+    assertThat(registry.byModel(first), contains((Binder) b));
+
+    registry.touch(b);
+    assertThat(registry.byModel(first), empty());
+    assertThat(registry.byModel(second), contains((Binder) b));
+  }
+
+  @Test
+  public void test_03_NotCachedChains_ResolvedOnLookup() {
+    final BindingsRegistry registry = new BindingsRegistry();
+    final Holder holder = new Holder(new PojoLoginPassword());
+    final PojoLoginPassword first = holder.getItem();
+    final Selector<?, Object> item = pojo(holder, Models.call("getItem"));
+    final Selector<?, String> login = pojo(item, Models.text("Login"));
+
+    final Binder<String, String> b = new Binder<String, String>()
+        .view(pojo(new PojoNamePin(), Models.text("Name")))
+        .model(login);
+    registry.add(b);
+    assertThat(registry.byModel(first), contains((Binder) b));
+
+    // runtime instance changed without notification, like recycled adapter row
+    holder.mItem = new PojoLoginPassword();
+    assertThat(registry.byModel(first), empty());
+    assertThat(registry.byModel(holder.mItem), contains((Binder) b));
+
+    // caching chain is indexed, changes require invalidation
+    login.setCaching(true);
+    final PojoLoginPassword cached = holder.mItem;
+    assertThat(registry.byModel(cached), contains((Binder) b));
+
+    holder.mItem = first;
+    assertThat(registry.byModel(cached), contains((Binder) b));
+
+    login.invalidate();
+    registry.touch(b);
+    assertThat(registry.byModel(first), contains((Binder) b));
+  }
+
+  @Test
+  public void test_04_Indexed_Instances_Weak() throws Exception {
+    final BindingsRegistry registry = new BindingsRegistry();
+    final Holder holder = new Holder(new PojoLoginPassword());
+    final Selector<?, Object> item = pojo(holder, Models.call("getItem"));
+    final Selector<?, String> login = pojo(item, Models.text("Login")).setCaching(true);
+
+    final Binder<String, String> b = new Binder<String, String>()
+        .view(pojo(new PojoNamePin(), Models.text("Name")))
+        .model(login);
+    registry.add(b);
+    assertThat(registry.byModel(holder.mItem), contains((Binder) b));
+
+    // registry does not keep indexed instance, recreated model is indexed on next lookup
+    final WeakReference<PojoLoginPassword> first = new WeakReference<>(holder.mItem);
+    holder.mItem = new PojoLoginPassword();
+
+    for (int i = 0; i < 100 && null != first.get(); i++) {
+      System.gc();
+    }
+
+    assertThat(first.get(), nullValue());
+
+    // collected reference is delivered to registry asynchronously, by VM reference handler
+    List<Binder<?, ?>> found = registry.byModel(holder.mItem);
+
+    for (int i = 0; i < 100 && found.isEmpty(); i++) {
+      Thread.sleep(10);
+      found = registry.byModel(holder.mItem);
+    }
+
+    assertThat(found, contains((Binder) b));
+  }
+
+  @Test
+  public void test_05_Lookup_Performance() {
+    final Meter m = getMeter();
+    m.start("Lookup by model instance, bindings: " + Sampling.ITERATIONS_L);
+
+    final BindingsRegistry registry = new BindingsRegistry();
+    final List<PojoLoginPassword> models = new ArrayList<>();
+
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      final PojoLoginPassword model = new PojoLoginPassword();
+
+      models.add(model);
+      registry.add(newBinder(new PojoNamePin(), model));
+    }
+
+    m.skip("registry filled");
+
+    // first lookup resolves runtime instances of all binders
+    assertThat(registry.byModel(models.get(0)), hasSize(1));
+    m.skip("indexes built");
+
+    m.loop(Sampling.ITERATIONS_L, "lookup by model");
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      assertThat(registry.byModel(models.get(i)), hasSize(1));
+      m.recap();
+    }
+    m.unloop("lookup by model");
+
+    m.finish("registry lookup");
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Holder of the replaceable model instance. */
+  public static final class Holder {
+    PojoLoginPassword mItem;
+
+    public Holder(final PojoLoginPassword item) {
+      mItem = item;
+    }
+
+    public PojoLoginPassword getItem() {
+      return mItem;
+    }
+  }
+
+  /** Create binder of view name to model login. */
+  private static Binder<String, String> newBinder(final PojoNamePin view, final PojoLoginPassword model) {
+    return new Binder<String, String>()
+        .view(pojo(view, Models.text("Name")))
+        .model(pojo(model, Models.text("Login")));
+  }
+}
@@ -0,0 +1,132 @@
+package com.artfulbits.binding;
+
+import android.support.annotation.NonNull;
+
+import com.artfulbits.junit.Sampling;
+import com.artfulbits.junit.TestHolder;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/** Unit tests of the {@link DispatchQueue} class. */
+public class DispatchQueueTests extends TestHolder {
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_Coalescing() {
+    final DispatchQueue queue = new DispatchQueue();
+    final Binder<String, String> first = new Binder<>();
+    final Binder<String, String> second = new Binder<>();
+
+    // only the first request schedules the drain
+    assertThat(queue.offerPush(first), equalTo(true));
+
+    // burst of keystrokes, one request per change
+    for (int i = 0; i < Sampling.ITERATIONS_M; i++) {
+      assertThat(queue.offerPush(first), equalTo(false));
+      assertThat(queue.offerPush(second), equalTo(false));
+      assertThat(queue.offerPop(second), equalTo(false));
+    }
+
+    // the latest direction of the binder wins
+    assertThat(queue.size(), equalTo(2));
+    assertThat(queue.getRequested(), equalTo(1L + 3 * Sampling.ITERATIONS_M));
+    assertThat(queue.getCoalesced(), equalTo((long) Sampling.ITERATIONS_M));
+    assertThat(queue.getDrains(), equalTo(1L));
+
+    final RecordingSink sink = new RecordingSink();
+    assertThat(queue.drain(sink), equalTo(false));
+
+    assertThat(sink.mEvents, contains("push:" + first.hashCode(), "pop:" + second.hashCode()));
+    assertThat(queue.size(), equalTo(0));
+
+    // after drain next request schedules new drain
+    assertThat(queue.offerPop(first), equalTo(true));
+    assertThat(queue.getDrains(), equalTo(2L));
+  }
+
+  @Test
+  public void test_01_Results_InOrderOfArrival() {
+    final DispatchQueue queue = new DispatchQueue();
+    final Binder<String, String> binder = new Binder<>();
+
+    assertThat(queue.offerResult(binder, false), equalTo(true));
+    assertThat(queue.offerResult(binder, false), equalTo(false));
+    assertThat(queue.offerResult(binder, true), equalTo(false));
+    assertThat(queue.offerValidation(), equalTo(false));
+    assertThat(queue.offerValidation(), equalTo(false));
+
+    final RecordingSink sink = new RecordingSink();
+    queue.drain(sink);
+
+    // failure followed by success reaches both listeners
+    assertThat(sink.mEvents, contains("failure:" + binder.hashCode(), "success:" + binder.hashCode(), "validation"));
+    assertThat(queue.getCoalesced(), equalTo(2L));
+  }
+
+  @Test
+  public void test_02_Reentrant_And_Remove() {
+    final DispatchQueue queue = new DispatchQueue();
+    final Binder<String, String> binder = new Binder<>();
+    final Binder<String, String> removed = new Binder<>();
+
+    queue.offerPush(binder);
+    queue.offerPush(removed);
+    queue.remove(removed);
+
+    // requests raised during the drain go to the next batch, nested drain is ignored
+    final List<Boolean> scheduled = new ArrayList<>();
+    final List<Boolean> nested = new ArrayList<>();
+    final RecordingSink sink = new RecordingSink() {
+      @Override
+      public void push(@NonNull final Binder<?, ?> b) {
+        super.push(b);
+        scheduled.add(queue.offerPop(b));
+        nested.add(queue.drain(this));
+      }
+    };
+
+    assertThat(queue.drain(sink), equalTo(true));
+
+    assertThat(sink.mEvents, contains("push:" + binder.hashCode()));
+    assertThat(scheduled, contains(false));
+    assertThat(nested, contains(false));
+    assertThat(queue.size(), equalTo(1));
+    assertThat(queue.getDrains(), equalTo(2L));
+
+    assertThat(queue.drain(sink), equalTo(false));
+    assertThat(sink.mEvents, contains("push:" + binder.hashCode(), "pop:" + binder.hashCode()));
+  }
+
+  /* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Sink that records all delivered events. */
+  private static class RecordingSink implements DispatchQueue.Sink {
+    /* package */ final List<String> mEvents = new ArrayList<>();
+
+    @Override
+    public void push(@NonNull final Binder<?, ?> binder) {
+      mEvents.add("push:" + binder.hashCode());
+    }
+
+    @Override
+    public void pop(@NonNull final Binder<?, ?> binder) {
+      mEvents.add("pop:" + binder.hashCode());
+    }
+
+    @Override
+    public void result(@NonNull final Binder<?, ?> binder, final boolean success) {
+      mEvents.add((success ? "success:" : "failure:") + binder.hashCode());
+    }
+
+    @Override
+    public void validation() {
+      mEvents.add("validation");
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.artfulbits.binding;
+
+import com.artfulbits.junit.Sampling;
+import com.artfulbits.junit.TestHolder;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/** Unit tests of the {@link FreezeJournal} class. */
+public class FreezeJournalTests extends TestHolder {
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_Collapse() {
+    final FreezeJournal journal = new FreezeJournal();
+    final Binder<String, String> first = new Binder<>();
+    final Binder<String, String> second = new Binder<>();
+
+    // frozen screen receives text events
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      journal.push(first);
+      journal.pop(second);
+    }
+
+    assertThat(journal.size(), equalTo(2));
+    assertThat(journal.getRequested(), equalTo(2L * Sampling.ITERATIONS_L));
+    assertThat(journal.getCollapsed(), equalTo(2L * Sampling.ITERATIONS_L - 2));
+
+    final Map<Binder<?, ?>, Boolean> intents = journal.drain();
+    assertThat(new ArrayList<>(intents.keySet()), contains((Binder) first, second));
+    assertThat(new ArrayList<>(intents.values()), contains(false, true));
+    assertThat(journal.size(), equalTo(0));
+  }
+
+  @Test
+  public void test_01_Conflicts_LatestWins() {
+    final FreezeJournal journal = new FreezeJournal();
+    final Binder<String, String> pushThenPop = new Binder<>();
+    final Binder<String, String> popThenPush = new Binder<>();
+    final Binder<String, String> removed = new Binder<>();
+
+    journal.push(pushThenPop);
+    journal.pop(popThenPush);
+    journal.push(removed);
+    journal.pop(pushThenPop);
+    journal.push(popThenPush);
+    journal.remove(removed);
+
+    final Map<Binder<?, ?>, Boolean> intents = journal.drain();
+    assertThat(intents.size(), equalTo(2));
+    assertThat(intents.get(pushThenPop), equalTo(true));
+    assertThat(intents.get(popThenPush), equalTo(false));
+  }
+}
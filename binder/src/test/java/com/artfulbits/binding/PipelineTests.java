@@ -0,0 +1,280 @@
+package com.artfulbits.binding;
+
+import com.artfulbits.binding.BinderTests.PojoLoginPassword;
+import com.artfulbits.binding.BinderTests.PojoNamePin;
+import com.artfulbits.binding.toolbox.Models;
+import com.artfulbits.binding.toolbox.Molds;
+import com.artfulbits.binding.toolbox.Rules;
+import com.artfulbits.binding.toolbox.Schedulers;
+import com.artfulbits.junit.TestHolder;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.artfulbits.binding.toolbox.Models.pojo;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/** Unit tests of the {@link Pipeline} class. */
+public class PipelineTests extends TestHolder {
+  /* [ MEMBERS ] =================================================================================================== */
+
+  /** Scheduler of the view stages. */
+  private final Schedulers.Virtual mMain = Schedulers.virtual();
+  /** Scheduler of the model stages. */
+  private final Schedulers.Virtual mWorker = Schedulers.virtual();
+  /** Journal of executed formatting calls. */
+  private final List<String> mLog = new ArrayList<>();
+
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_Pop_Stages() {
+    final Pipeline pipeline = new Pipeline(mMain, mWorker);
+    final PojoLoginPassword view = new PojoLoginPassword();
+    final PojoNamePin model = new PojoNamePin();
+    final Binder<String, String> binder = newBinder(view, model);
+
+    model.setName("model");
+    pipeline.pop(binder);
+
+    // model side first, in worker
+    assertThat(mMain.runPending(), equalTo(0));
+    assertThat(mWorker.runPending(), equalTo(1));
+    assertThat(mLog, contains("toView:model"));
+    assertThat(view.getLogin(), nullValue());
+
+    // view side in main
+    assertThat(mMain.runPending(), equalTo(1));
+    assertThat(view.getLogin(), equalTo("model"));
+    assertThat(pipeline.size(), equalTo(0));
+  }
+
+  @Test
+  public void test_01_Push_Stages() {
+    final Pipeline pipeline = new Pipeline(mMain, mWorker);
+    final PojoLoginPassword view = new PojoLoginPassword();
+    final PojoNamePin model = new PojoNamePin();
+    final Binder<String, String> binder = newBinder(view, model);
+
+    view.setLogin("view");
+    pipeline.push(binder);
+
+    // view side first, in main
+    assertThat(mWorker.runPending(), equalTo(0));
+    assertThat(mMain.runPending(), equalTo(1));
+    assertThat(mLog, empty());
+
+    // value captured by view stage, later changes are not visible for the exchange
+    view.setLogin("changed");
+
+    assertThat(mWorker.runPending(), equalTo(1));
+    assertThat(mLog, contains("toModel:view"));
+    assertThat(model.getName(), equalTo("view"));
+  }
+
+  @Test
+  public void test_02_Supersede() {
+    final Pipeline pipeline = new Pipeline(mMain, mWorker);
+    final PojoLoginPassword view = new PojoLoginPassword();
+    final PojoNamePin model = new PojoNamePin();
+    final Binder<String, String> binder = newBinder(view, model);
+
+    model.setName("first");
+    pipeline.pop(binder);
+    model.setName("second");
+    pipeline.pop(binder);
+    model.setName("third");
+    pipeline.pop(binder);
+
+    // first exchange is outdated, second is collapsed with third
+    mWorker.runPending();
+    mMain.runPending();
+
+    assertThat(mLog, contains("toView:third"));
+    assertThat(view.getLogin(), equalTo("third"));
+    assertThat(pipeline.getStarted(), equalTo(2L));
+    assertThat(pipeline.getCancelled(), equalTo(2L));
+  }
+
+  @Test
+  public void test_03_Order() {
+    final Pipeline pipeline = new Pipeline(mMain, mWorker);
+    final PojoLoginPassword view = new PojoLoginPassword();
+    final PojoNamePin model = new PojoNamePin();
+    final Binder<String, String> binder = newBinder(view, model);
+
+    view.setLogin("view");
+    model.setName("model");
+
+    // PUSH active, POP pending, PUSH again - active is outdated, the latest PUSH goes after POP
+    pipeline.push(binder);
+    pipeline.pop(binder);
+    pipeline.push(binder);
+
+    while (mMain.runPending() + mWorker.runPending() > 0) {
+      // execute all stages
+    }
+
+    assertThat(mLog, contains("toView:model", "toModel:model"));
+    assertThat(view.getLogin(), equalTo("model"));
+    assertThat(model.getName(), equalTo("model"));
+    assertThat(pipeline.getCancelled(), equalTo(1L));
+    assertThat(pipeline.size(), equalTo(0));
+  }
+
+  @Test
+  public void test_04_Remove() {
+    final Pipeline pipeline = new Pipeline(mMain, mWorker);
+    final PojoLoginPassword view = new PojoLoginPassword();
+    final PojoNamePin model = new PojoNamePin();
+    final Binder<String, String> binder = newBinder(view, model);
+
+    model.setName("model");
+    pipeline.pop(binder);
+    mWorker.runPending();
+
+    // binder destroyed while view stage is pending
+    pipeline.remove(binder);
+    mMain.runPending();
+
+    assertThat(view.getLogin(), nullValue());
+    assertThat(pipeline.size(), equalTo(0));
+
+    // new exchange is not affected by stages of removed one
+    pipeline.pop(binder);
+    assertThat(pipeline.size(), equalTo(1));
+  }
+
+  @Test
+  public void test_05_Errors_Finish_Exchange() {
+    final Pipeline pipeline = new Pipeline(mMain, mWorker);
+    final Binder<String, String> binder = new Binder<>();
+
+    pipeline.pop(binder);
+
+    try {
+      mWorker.runPending();
+      fail("exception expected!");
+    } catch (final RuntimeException ignored) {
+      // no view, no model
+    }
+
+    // failed exchange does not block the binder
+    assertThat(pipeline.size(), equalTo(0));
+
+    pipeline.pop(binder);
+    assertThat(pipeline.size(), equalTo(1));
+    assertThat(mWorker.size(), equalTo(1));
+  }
+
+  @Test
+  public void test_06_OneWay_Skipped() {
+    final Pipeline pipeline = new Pipeline(mMain, mWorker);
+    final PojoLoginPassword view = new PojoLoginPassword();
+    final PojoNamePin model = new PojoNamePin();
+    final Binder<String, String> binder = newBinder(view, model);
+    binder.format(Molds.onlyPop(binder.resolveFormatting()));
+
+    // not allowed direction does not start exchange at all
+    pipeline.push(binder);
+
+    assertThat(pipeline.size(), equalTo(0));
+    assertThat(pipeline.getStarted(), equalTo(0L));
+    assertThat(mMain.size() + mWorker.size(), equalTo(0));
+
+    pipeline.pop(binder);
+    assertThat(pipeline.size(), equalTo(1));
+  }
+
+  @Test
+  public void test_07_AsyncValidation_KeepsOrder() {
+    final Schedulers.Virtual checks = Schedulers.virtual();
+    final Pipeline pipeline = new Pipeline(mMain, mWorker);
+    final PojoLoginPassword view = new PojoLoginPassword();
+    final PojoNamePin model = new PojoNamePin();
+    final Binder<String, String> binder = newBinder(view, model)
+        .validate(Rules.async(Rules.<String>notNull(), checks, mMain));
+
+    view.setLogin("view");
+    pipeline.push(binder);
+    pipeline.pop(binder);
+
+    assertThat(mMain.runPending(), equalTo(1));
+    assertThat(mWorker.runPending(), equalTo(1));
+
+    // PUSH waits for validation result, POP is not started yet
+    assertThat(checks.size(), equalTo(1));
+    assertThat(mWorker.size(), equalTo(0));
+    assertThat(pipeline.size(), equalTo(1));
+    assertThat(model.getName(), nullValue());
+
+    // validation result finishes PUSH and starts pending POP
+    assertThat(checks.runPending(), equalTo(1));
+    assertThat(mMain.runPending(), equalTo(1));
+    assertThat(model.getName(), equalTo("view"));
+    assertThat(mWorker.size(), equalTo(1));
+
+    mWorker.runPending();
+    mMain.runPending();
+    assertThat(pipeline.size(), equalTo(0));
+    assertThat(pipeline.getStarted(), equalTo(2L));
+  }
+
+  @Test
+  public void test_08_AsyncValidation_Failure_NotCached() {
+    final Schedulers.Virtual checks = Schedulers.virtual();
+    final Pipeline pipeline = new Pipeline(mMain, mWorker);
+    final PojoLoginPassword view = new PojoLoginPassword();
+    final PojoNamePin model = new PojoNamePin();
+    final Binder<String, String> binder = newBinder(view, model)
+        .validate(Rules.async(Rules.<String>notNull(), checks, mMain));
+
+    // invalid model value does not reach the ridge
+    pipeline.pop(binder);
+    mWorker.runPending();
+    checks.runPending();
+    mMain.runPending();
+
+    assertThat(binder.isPopOk(), equalTo(false));
+    assertThat(pipeline.size(), equalTo(0));
+    assertThat(mLog, empty());
+
+    model.setName("model");
+    pipeline.pop(binder);
+    mWorker.runPending();
+    checks.runPending();
+
+    while (mMain.runPending() + mWorker.runPending() > 0) {
+      // execute all stages
+    }
+
+    assertThat(binder.isPopOk(), equalTo(true));
+    assertThat(view.getLogin(), equalTo("model"));
+    assertThat(mLog, contains("toView:model"));
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Create binder of view login to model name, with formatting that records calls. */
+  private Binder<String, String> newBinder(final PojoLoginPassword view, final PojoNamePin model) {
+    return new Binder<String, String>()
+        .view(pojo(view, Models.text("Login")))
+        .model(pojo(model, Models.text("Name")))
+        .format(new Formatting<String, String>() {
+          @Override
+          public String toModel(final String value) {
+            mLog.add("toModel:" + value);
+            return value;
+          }
+
+          @Override
+          public String toView(final String value) {
+            mLog.add("toView:" + value);
+            return value;
+          }
+        });
+  }
+}
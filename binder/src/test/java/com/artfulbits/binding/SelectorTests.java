@@ -1,5 +1,6 @@
 package com.artfulbits.binding;
 
+import android.support.annotation.NonNull;
 import android.util.SparseArray;
 
 import com.artfulbits.binding.reflection.Property;
@@ -8,6 +9,8 @@ import com.artfulbits.junit.TestHolder;
 
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
@@ -73,6 +76,57 @@ public class SelectorTests extends TestHolder {
     assertThat(value, not(equalTo(clone)));
   }
 
+  /** Cached chain of selectors. */
+  @Test
+  public void test_03_ChainCaching() throws Exception {
+    final DummyInner di = new DummyInner();
+    di.getSubInner().setName("test");
+
+    final AtomicInteger calls = new AtomicInteger();
+    final Property<DummySubInner> subInner = new Property<DummySubInner>(DummySubInner.class, "SubInner") {
+      @Override
+      public DummySubInner get(@NonNull final Object instance) {
+        calls.incrementAndGet();
+        return super.get(instance);
+      }
+    };
+
+    final Selector<DummyInner, DummySubInner> sSub = new Selector<>(di, subInner);
+    final Selector<?, String> sName = new Selector<>(sSub, Models.text("Name"));
+
+    // by default chain is resolved on each call
+    assertThat(sName.isCaching(), equalTo(false));
+    sName.get();
+    sName.set("other");
+    assertThat(calls.get(), equalTo(2));
+
+    // caching mode is applied to the whole chain
+    sName.setCaching(true);
+    assertThat(sSub.isCaching(), equalTo(true));
+
+    calls.set(0);
+    assertThat(sName.get(), equalTo("other"));
+    sName.set("cached");
+    assertThat(sName.get(), equalTo("cached"));
+    assertThat(calls.get(), equalTo(1));
+
+    // replaced intermediate instance is visible only after invalidate
+    final DummySubInner replaced = new DummySubInner();
+    replaced.setName("replaced");
+    di.setSubInner(replaced);
+
+    assertThat(sName.get(), equalTo("cached"));
+    sName.invalidate();
+    assertThat(sName.get(), equalTo("replaced"));
+    assertThat(calls.get(), equalTo(2));
+
+    // binder and manager forward invalidation to selectors
+    final Binder<String, String> binder = new Binder<String, String>().view(sName);
+    di.setSubInner(new DummySubInner());
+    binder.invalidate();
+    assertThat(sName.getRuntimeInstance(), sameInstance(di.getSubInner()));
+  }
+
   /* [ NESTED DECLARATIONS ] ====================================================================================== */
 
   private static class DummyInner {
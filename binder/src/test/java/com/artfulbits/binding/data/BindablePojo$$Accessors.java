@@ -0,0 +1,243 @@
+// Output of binder-compiler, kept in sources: unit tests are compiled without annotation processing.
+package com.artfulbits.binding.data;
+
+import com.artfulbits.binding.BooleanSelector;
+import com.artfulbits.binding.IntSelector;
+import com.artfulbits.binding.Selector;
+import com.artfulbits.binding.reflection.Accessor;
+import com.artfulbits.binding.reflection.Accessors;
+import com.artfulbits.binding.reflection.BooleanAccessor;
+import com.artfulbits.binding.reflection.BooleanProperty;
+import com.artfulbits.binding.reflection.IntAccessor;
+import com.artfulbits.binding.reflection.IntProperty;
+import com.artfulbits.binding.reflection.Property;
+
+/** Generated by binder-compiler for {@link com.artfulbits.binding.data.BindablePojo}. Do not modify! */
+@SuppressWarnings({"unused", "unchecked", "rawtypes"})
+public final class BindablePojo$$Accessors {
+  static {
+    Accessors.register(com.artfulbits.binding.data.BindablePojo.class, "fieldStr", new Accessor() {
+      @Override
+      public Object invoke(final Object receiver, final Object... args) {
+        if (null != args && args.length > 0) {
+          return ((com.artfulbits.binding.data.BindablePojo) receiver).fieldStr = (java.lang.String) args[0];
+        }
+
+        return ((com.artfulbits.binding.data.BindablePojo) receiver).fieldStr;
+      }
+    });
+    Accessors.registerReadOnly(com.artfulbits.binding.data.BindablePojo.class, "fieldId", new Accessor() {
+      @Override
+      public Object invoke(final Object receiver, final Object... args) {
+        return ((com.artfulbits.binding.data.BindablePojo) receiver).fieldId;
+      }
+    });
+    Accessors.register(com.artfulbits.binding.data.BindablePojo.class, "getAge", new Class<?>[0], new IntAccessor.Getter() {
+      @Override
+      public int getInt(final Object receiver) {
+        return ((com.artfulbits.binding.data.BindablePojo) receiver).getAge();
+      }
+    });
+    Accessors.register(com.artfulbits.binding.data.BindablePojo.class, "setAge", new Class<?>[]{int.class}, new IntAccessor.Setter() {
+      @Override
+      public void setInt(final Object receiver, final int value) {
+        ((com.artfulbits.binding.data.BindablePojo) receiver).setAge(value);
+      }
+    });
+    Accessors.register(com.artfulbits.binding.data.BindablePojo.class, "isAdult", new Class<?>[0], new BooleanAccessor.Getter() {
+      @Override
+      public boolean getBoolean(final Object receiver) {
+        return ((com.artfulbits.binding.data.BindablePojo) receiver).isAdult();
+      }
+    });
+    Accessors.register(com.artfulbits.binding.data.BindablePojo.class, "getName", new Class<?>[0], new Accessor() {
+      @Override
+      public Object invoke(final Object receiver, final Object... args) {
+        return ((com.artfulbits.binding.data.BindablePojo) receiver).getName();
+      }
+    });
+    Accessors.register(com.artfulbits.binding.data.BindablePojo.class, "setName", new Class<?>[]{java.lang.String.class}, new Accessor() {
+      @Override
+      public Object invoke(final Object receiver, final Object... args) {
+        ((com.artfulbits.binding.data.BindablePojo) receiver).setName((java.lang.String) args[0]);
+        return args[0];
+      }
+    });
+  }
+
+  /** hidden constructor. */
+  private BindablePojo$$Accessors() {
+    throw new AssertionError();
+  }
+
+  /** Property 'age' with direct access. */
+  public static IntProperty age() {
+    return new AgeProperty();
+  }
+
+  /** Selector of property 'age'. Instance can be a model or a selector of model. */
+  public static <I> IntSelector<I> age(final I instance) {
+    return new IntSelector<>(instance, age());
+  }
+
+  /** Typed property 'age'. */
+  public static final class AgeProperty extends IntProperty {
+    public AgeProperty() {
+      super("getAge", "setAge");
+    }
+
+    @Override
+    public java.lang.Integer get(final Object instance) {
+      return ((com.artfulbits.binding.data.BindablePojo) instance).getAge();
+    }
+
+    @Override
+    public boolean set(final Object instance, final java.lang.Integer value) {
+      if (null == value) return false;
+
+      ((com.artfulbits.binding.data.BindablePojo) instance).setAge(value);
+      return true;
+    }
+
+    @Override
+    public int getInt(final Object instance) {
+      return ((com.artfulbits.binding.data.BindablePojo) instance).getAge();
+    }
+
+    @Override
+    public boolean setInt(final Object instance, final int value) {
+      ((com.artfulbits.binding.data.BindablePojo) instance).setAge(value);
+      return true;
+    }
+
+    @Override
+    public void resolve(final Object instance) {
+      // direct access, nothing to resolve
+    }
+  }
+
+  /** Property 'adult' with direct access. */
+  public static BooleanProperty adult() {
+    return new AdultProperty();
+  }
+
+  /** Selector of property 'adult'. Instance can be a model or a selector of model. */
+  public static <I> BooleanSelector<I> adult(final I instance) {
+    return new BooleanSelector<>(instance, adult());
+  }
+
+  /** Typed property 'adult'. */
+  public static final class AdultProperty extends BooleanProperty {
+    public AdultProperty() {
+      super("isAdult", "");
+    }
+
+    @Override
+    public java.lang.Boolean get(final Object instance) {
+      return ((com.artfulbits.binding.data.BindablePojo) instance).isAdult();
+    }
+
+    @Override
+    public boolean getBoolean(final Object instance) {
+      return ((com.artfulbits.binding.data.BindablePojo) instance).isAdult();
+    }
+
+    @Override
+    public void resolve(final Object instance) {
+      // direct access, nothing to resolve
+    }
+  }
+
+  /** Property 'name' with direct access. */
+  public static Property<java.lang.String> name() {
+    return new NameProperty();
+  }
+
+  /** Selector of property 'name'. Instance can be a model or a selector of model. */
+  public static <I> Selector<I, java.lang.String> name(final I instance) {
+    return new Selector<>(instance, name());
+  }
+
+  /** Typed property 'name'. */
+  public static final class NameProperty extends Property<java.lang.String> {
+    public NameProperty() {
+      super((Class) java.lang.String.class, "getName", "setName");
+    }
+
+    @Override
+    public java.lang.String get(final Object instance) {
+      return ((com.artfulbits.binding.data.BindablePojo) instance).getName();
+    }
+
+    @Override
+    public boolean set(final Object instance, final java.lang.String value) {
+      ((com.artfulbits.binding.data.BindablePojo) instance).setName(value);
+      return true;
+    }
+
+    @Override
+    public void resolve(final Object instance) {
+      // direct access, nothing to resolve
+    }
+  }
+
+  /** Property 'fieldStr' with direct access. */
+  public static Property<java.lang.String> fieldStr() {
+    return new FieldStrProperty();
+  }
+
+  /** Selector of property 'fieldStr'. Instance can be a model or a selector of model. */
+  public static <I> Selector<I, java.lang.String> fieldStr(final I instance) {
+    return new Selector<>(instance, fieldStr());
+  }
+
+  /** Typed property 'fieldStr'. */
+  public static final class FieldStrProperty extends Property<java.lang.String> {
+    public FieldStrProperty() {
+      super((Class) java.lang.String.class, "fieldStr", "fieldStr");
+    }
+
+    @Override
+    public java.lang.String get(final Object instance) {
+      return ((com.artfulbits.binding.data.BindablePojo) instance).fieldStr;
+    }
+
+    @Override
+    public boolean set(final Object instance, final java.lang.String value) {
+      ((com.artfulbits.binding.data.BindablePojo) instance).fieldStr = value;
+      return true;
+    }
+
+    @Override
+    public void resolve(final Object instance) {
+      // direct access, nothing to resolve
+    }
+  }
+
+  /** Property 'fieldId' with direct access. */
+  public static Property<java.lang.Long> fieldId() {
+    return new FieldIdProperty();
+  }
+
+  /** Selector of property 'fieldId'. Instance can be a model or a selector of model. */
+  public static <I> Selector<I, java.lang.Long> fieldId(final I instance) {
+    return new Selector<>(instance, fieldId());
+  }
+
+  /** Typed property 'fieldId'. */
+  public static final class FieldIdProperty extends Property<java.lang.Long> {
+    public FieldIdProperty() {
+      super((Class) java.lang.Long.class, "fieldId", "");
+    }
+
+    @Override
+    public java.lang.Long get(final Object instance) {
+      return ((com.artfulbits.binding.data.BindablePojo) instance).fieldId;
+    }
+
+    @Override
+    public void resolve(final Object instance) {
+      // direct access, nothing to resolve
+    }
+  }
+}
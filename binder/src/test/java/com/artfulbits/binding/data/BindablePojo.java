@@ -0,0 +1,35 @@
+package com.artfulbits.binding.data;
+
+import com.artfulbits.binding.annotations.Bindable;
+
+/** Model with compile time generated accessors. See {@link BindablePojo$$Accessors}. */
+@Bindable
+@SuppressWarnings("unused")
+public class BindablePojo {
+  public String fieldStr;
+  public final long fieldId = 1L;
+
+  private int mAge;
+  private String mName;
+
+  public int getAge() {
+    return mAge;
+  }
+
+  public BindablePojo setAge(final int age) {
+    mAge = age;
+    return this;
+  }
+
+  public boolean isAdult() {
+    return mAge >= 18;
+  }
+
+  public String getName() {
+    return mName;
+  }
+
+  public void setName(final String name) {
+    mName = name;
+  }
+}
@@ -0,0 +1,62 @@
+package com.artfulbits.binding.reflection;
+
+import com.artfulbits.junit.TestHolder;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/** Unit tests of the {@link Arguments} class. */
+public class ArgumentsTests extends TestHolder {
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_None() {
+    final Arguments args = Arguments.none();
+
+    assertThat(args.size(), equalTo(0));
+    assertThat(args.getter(), nullValue());
+    assertThat(args.types(String.class), equalTo(new Class<?>[]{String.class}));
+
+    final Object[] setter = args.acquire("value");
+    assertThat(setter, equalTo(new Object[]{"value"}));
+  }
+
+  @Test
+  public void test_01_Bound() {
+    final Object[] bound = new Object[]{"key"};
+    final Arguments args = Arguments.of(bound);
+
+    // constants are copied, getter array is the same on each call
+    bound[0] = "other";
+    assertThat(args.getter(), equalTo(new Object[]{"key"}));
+    assertThat(args.getter(), sameInstance(args.getter()));
+
+    assertThat(args.acquire(1), equalTo(new Object[]{"key", 1}));
+    assertThat(args.types(Integer.class), equalTo(new Class<?>[]{String.class, Integer.class}));
+  }
+
+  @Test
+  public void test_02_Reuse() {
+    final Arguments args = Arguments.of(0);
+
+    final Object[] first = args.acquire("first");
+
+    // array is in use, re-entrant call gets own array
+    final Object[] second = args.acquire("second");
+    assertThat(second, not(sameInstance(first)));
+    assertThat(first[1], equalTo((Object) "first"));
+
+    args.release(first);
+    assertThat(first[1], nullValue());
+
+    // released array is reused
+    assertThat(args.acquire("third"), sameInstance(first));
+
+    // foreign arrays are not accepted
+    args.release(first);
+    args.release(new Object[]{1, null});
+    assertThat(args.acquire("fourth"), sameInstance(first));
+  }
+}
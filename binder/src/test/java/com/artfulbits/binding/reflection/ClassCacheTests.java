@@ -0,0 +1,302 @@
+package com.artfulbits.binding.reflection;
+
+import android.support.annotation.NonNull;
+
+import com.artfulbits.benchmark.Meter;
+import com.artfulbits.junit.TestHolder;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/** Unit tests of the {@link ClassCache} class. */
+public class ClassCacheTests extends TestHolder {
+  /* [ CONSTANTS ] ================================================================================================= */
+
+  /** Quantity of threads used in contention tests. */
+  private static final int THREADS = 8;
+  /** Classes resolved in contention tests. */
+  private static final Class<?>[] CLASSES = new Class<?>[]{
+      com.artfulbits.binding.Binder.class, com.artfulbits.binding.BindingsManager.class,
+      com.artfulbits.binding.Selector.class, com.artfulbits.binding.toolbox.Models.class,
+      com.artfulbits.binding.toolbox.Molds.class, com.artfulbits.binding.toolbox.Ridges.class,
+      com.artfulbits.binding.toolbox.Views.class, com.artfulbits.binding.toolbox.Listeners.class,
+      com.artfulbits.binding.toolbox.Binders.class, com.artfulbits.binding.toolbox.Adapters.class,
+      com.artfulbits.binding.data.DummyClass.class, com.artfulbits.binding.data.BindablePojo.class,
+      ClassCacheTests.class, ReflectionUtilsTests.class, ReflectionUtilsTests.Dummy.class,
+      ReflectionUtilsTests.First.class, ReflectionUtilsTests.DummyOverloads.class, ReflectionUtilsTests.Overloads.class,
+      PropertySimpleTypesTests.class, PropertySimpleTypesTests.DummyClass.class, Property.class, Members.class,
+      Accessors.class, ClassCache.class
+  };
+
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_SameInstance() {
+    final AtomicInteger calls = new AtomicInteger();
+    final ClassCache<String> cache = new ClassCache<>(new CountingFactory(calls));
+
+    final String first = cache.get(String.class);
+    final String second = cache.get(String.class);
+
+    assertThat(second, sameInstance(first));
+    assertThat(calls.get(), equalTo(1));
+    assertThat(cache.peek(String.class), sameInstance(first));
+    assertThat(cache.peek(Integer.class), nullValue());
+  }
+
+  @Test
+  public void test_01_BoundedEviction() {
+    final AtomicInteger calls = new AtomicInteger();
+    final ClassCache<String> cache = new ClassCache<>(new CountingFactory(calls), 4);
+
+    for (final Class<?> c : CLASSES) {
+      cache.get(c);
+    }
+
+    assertThat(cache.size(), lessThanOrEqualTo(4));
+
+    // oldest evicted first, latest still cached
+    assertThat(cache.peek(CLASSES[0]), nullValue());
+    assertThat(cache.peek(CLASSES[CLASSES.length - 1]), notNullValue());
+  }
+
+  @Test
+  public void test_02_RemoveInheritors() {
+    final ClassCache<String> cache = new ClassCache<>(new CountingFactory(new AtomicInteger()));
+
+    cache.get(ReflectionUtilsTests.Dummy.class);
+    cache.get(ReflectionUtilsTests.First.class);
+    cache.get(String.class);
+
+    cache.remove(ReflectionUtilsTests.Dummy.class);
+
+    assertThat(cache.peek(ReflectionUtilsTests.Dummy.class), nullValue());
+    assertThat(cache.peek(ReflectionUtilsTests.First.class), nullValue());
+    assertThat(cache.peek(String.class), notNullValue());
+
+    cache.clear();
+    assertThat(cache.size(), equalTo(0));
+
+    // value computed again after removal is the newest one in eviction order
+    final ClassCache<String> bounded = new ClassCache<>(new CountingFactory(new AtomicInteger()), 2);
+    bounded.get(ReflectionUtilsTests.Dummy.class);
+    bounded.get(String.class);
+    bounded.remove(ReflectionUtilsTests.Dummy.class);
+    bounded.get(ReflectionUtilsTests.Dummy.class);
+    bounded.get(Integer.class);
+
+    assertThat(bounded.peek(ReflectionUtilsTests.Dummy.class), notNullValue());
+    assertThat(bounded.peek(Integer.class), notNullValue());
+    assertThat(bounded.peek(String.class), nullValue());
+  }
+
+  @Test
+  public void test_03_Contention() throws Exception {
+    final Meter m = getMeter();
+    m.start("Metadata cache contention, threads: " + THREADS + ", classes: " + CLASSES.length);
+
+    final AtomicInteger calls = new AtomicInteger();
+    final ClassCache<List<Method>> cache = new ClassCache<>(new ClassCache.Factory<List<Method>>() {
+      @NonNull
+      @Override
+      public List<Method> create(@NonNull final Class<?> type) {
+        calls.incrementAndGet();
+
+        return ReflectionUtils.getAllMethods(type);
+      }
+    });
+
+    final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    final CountDownLatch start = new CountDownLatch(1);
+    final List<Future<Object[]>> results = new ArrayList<>(THREADS);
+
+    try {
+      for (int t = 0; t < THREADS; t++) {
+        final int offset = t;
+
+        results.add(pool.submit(new Callable<Object[]>() {
+          @Override
+          public Object[] call() throws Exception {
+            final Object[] found = new Object[CLASSES.length * 2];
+            start.await();
+
+            // each thread starts from own class, so threads resolve distinct classes at the same time
+            for (int i = 0; i < CLASSES.length; i++) {
+              final int index = (i + offset) % CLASSES.length;
+
+              found[index] = cache.get(CLASSES[index]);
+              found[CLASSES.length + index] = ReflectionUtils.getMembers(CLASSES[index]);
+            }
+
+            return found;
+          }
+        }));
+      }
+
+      m.skip("threads ready");
+      start.countDown();
+
+      final Object[] etalon = results.get(0).get(1, TimeUnit.MINUTES);
+      for (final Future<Object[]> f : results) {
+        final Object[] found = f.get(1, TimeUnit.MINUTES);
+
+        // all threads see the same published instances
+        for (int i = 0; i < found.length; i++) {
+          assertThat(found[i], sameInstance(etalon[i]));
+        }
+      }
+
+      m.skip("all threads resolved classes");
+    } finally {
+      pool.shutdownNow();
+    }
+
+    // published lists are completely built and sorted
+    for (final Class<?> c : CLASSES) {
+      final List<Method> methods = cache.get(c);
+
+      for (int i = 1; i < methods.size(); i++) {
+        assertThat(methods.get(i - 1).getName(), lessThanOrEqualTo(methods.get(i).getName()));
+      }
+    }
+
+    assertThat(cache.size(), equalTo(CLASSES.length));
+    assertThat(calls.get(), greaterThanOrEqualTo(CLASSES.length));
+
+    m.finish("factory calls: " + calls.get());
+  }
+
+  @Test
+  public void test_04_ClassUnloading() throws Exception {
+    final ClassCache<String> cache = new ClassCache<>(new CountingFactory(new AtomicInteger()));
+    final ClassCache<Method[]> members = new ClassCache<>(new ClassCache.Factory<Method[]>() {
+      @NonNull
+      @Override
+      public Method[] create(@NonNull final Class<?> type) {
+        return type.getDeclaredMethods();
+      }
+    });
+
+    Class<?> type = new IsolatedLoader(Unloadable.class.getName()).loadClass(Unloadable.class.getName());
+    assertThat(type, not(sameInstance((Object) Unloadable.class)));
+
+    cache.get(type);
+    members.get(type);
+
+    // value with reflected members references the class, class is released only by remove
+    members.remove(type);
+
+    final WeakReference<Class<?>> unloaded = new WeakReference<Class<?>>(type);
+    type = null;
+
+    for (int i = 0; i < 100 && null != unloaded.get(); i++) {
+      System.gc();
+    }
+
+    assertThat(unloaded.get(), nullValue());
+
+    // entry of the collected class is purged on next computation, queue is filled asynchronously
+    cache.get(String.class);
+
+    for (int i = 0; i < 100 && cache.size() > 1; i++) {
+      Thread.sleep(10);
+      cache.get(Integer.class);
+      cache.remove(Integer.class);
+    }
+
+    assertThat(cache.size(), equalTo(1));
+  }
+
+  /* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Class that is loaded by {@link IsolatedLoader} and unloaded by test. */
+  public static final class Unloadable {
+    public int getValue() {
+      return 42;
+    }
+  }
+
+  /** Class loader that defines own copy of the specified class. */
+  private static final class IsolatedLoader extends ClassLoader {
+    private final String mName;
+
+    public IsolatedLoader(@NonNull final String name) {
+      super(IsolatedLoader.class.getClassLoader());
+
+      mName = name;
+    }
+
+    @Override
+    protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+      if (!mName.equals(name)) return super.loadClass(name, resolve);
+
+      synchronized (getClassLoadingLock(name)) {
+        final Class<?> known = findLoadedClass(name);
+        if (null != known) return known;
+
+        final byte[] code = read(name.replace('.', '/') + ".class");
+        return defineClass(name, code, 0, code.length);
+      }
+    }
+
+    /** Read class file from the parent class loader. */
+    private byte[] read(@NonNull final String resource) throws ClassNotFoundException {
+      final InputStream in = getParent().getResourceAsStream(resource);
+      if (null == in) throw new ClassNotFoundException(resource);
+
+      try {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[4 * 1024];
+
+        for (int read; (read = in.read(buffer)) > 0; ) {
+          out.write(buffer, 0, read);
+        }
+
+        return out.toByteArray();
+      } catch (final IOException ex) {
+        throw new ClassNotFoundException(resource, ex);
+      } finally {
+        try {
+          in.close();
+        } catch (final IOException ignored) {
+          // nothing to do
+        }
+      }
+    }
+  }
+
+
+  /** Factory that counts own calls. */
+  private static final class CountingFactory implements ClassCache.Factory<String> {
+    private final AtomicInteger mCalls;
+
+    public CountingFactory(@NonNull final AtomicInteger calls) {
+      mCalls = calls;
+    }
+
+    @NonNull
+    @Override
+    public String create(@NonNull final Class<?> type) {
+      mCalls.incrementAndGet();
+
+      return type.getName() + "#" + mCalls.get();
+    }
+  }
+}
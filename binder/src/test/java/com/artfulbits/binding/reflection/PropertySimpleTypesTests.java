@@ -1,6 +1,12 @@
 package com.artfulbits.binding.reflection;
 
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
 import com.artfulbits.benchmark.Meter;
+import com.artfulbits.binding.Selector;
+import com.artfulbits.binding.data.BindablePojo;
+import com.artfulbits.binding.data.BindablePojo$$Accessors;
 import com.artfulbits.binding.exceptions.ConfigurationError;
 import com.artfulbits.binding.toolbox.Models;
 import com.artfulbits.junit.Sampling;
@@ -8,6 +14,8 @@ import com.artfulbits.junit.TestHolder;
 
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
@@ -211,6 +219,215 @@ public class PropertySimpleTypesTests extends TestHolder {
     propertyBoolean.resolve(instance);
   }
 
+  @Test
+  public void test_13_Compiled_vs_Reflection() throws Exception {
+    final Meter m = getMeter();
+
+    m.start("Compiled accessors performance");
+
+    final DummyClass instance = new DummyClass();
+    instance.fieldStr = "#1";
+    instance.setString("#2");
+
+    // resolve reflection based properties before accessors registration
+    final Property<String> rfProperty = Models.text("fieldStr");
+    final Property<String> rsProperty = Models.text("String");
+    m.skip("warmup reflection - " + rfProperty.get(instance) + ", " + rsProperty.get(instance));
+
+    // hand-written accessors, same code expected from generator
+    Accessors.register(DummyClass.class, "fieldStr", new Accessor() {
+      @Override
+      public Object invoke(final Object receiver, final Object... args) {
+        if (null != args && args.length > 0) {
+          return ((DummyClass) receiver).fieldStr = (String) args[0];
+        }
+
+        return ((DummyClass) receiver).fieldStr;
+      }
+    });
+    Accessors.register(DummyClass.class, "getString", new Class<?>[0], new Accessor() {
+      @Override
+      public Object invoke(final Object receiver, final Object... args) {
+        return ((DummyClass) receiver).getString();
+      }
+    });
+
+    try {
+      final Property<String> cfProperty = Models.text("fieldStr");
+      final Property<String> csProperty = Models.text("String");
+      m.skip("warmup compiled - " + cfProperty.get(instance) + ", " + csProperty.get(instance));
+
+      assertThat(cfProperty.get(instance), equalTo(rfProperty.get(instance)));
+      assertThat(csProperty.get(instance), equalTo(rsProperty.get(instance)));
+
+      int checks = 0; // dummy code, for dropping optimizations
+
+      for (int j = 0; j < Sampling.ITERATIONS_S; j++) {
+        m.loop(Sampling.ITERATIONS_XXL, "Property GET - reflection method");
+        for (int i = 0; i < Sampling.ITERATIONS_XXL; i++) {
+          if (null != rsProperty.get(instance)) checks++;
+
+          m.recap();
+        }
+        m.unloop("reflection method");
+
+        m.loop(Sampling.ITERATIONS_XXL, "Property GET - compiled method");
+        for (int i = 0; i < Sampling.ITERATIONS_XXL; i++) {
+          if (null != csProperty.get(instance)) checks++;
+
+          m.recap();
+        }
+        m.unloop("compiled method");
+
+        m.loop(Sampling.ITERATIONS_XXL, "Property GET - reflection field");
+        for (int i = 0; i < Sampling.ITERATIONS_XXL; i++) {
+          if (null != rfProperty.get(instance)) checks++;
+
+          m.recap();
+        }
+        m.unloop("reflection field");
+
+        m.loop(Sampling.ITERATIONS_XXL, "Property GET - compiled field");
+        for (int i = 0; i < Sampling.ITERATIONS_XXL; i++) {
+          if (null != cfProperty.get(instance)) checks++;
+
+          m.recap();
+        }
+        m.unloop("compiled field");
+      }
+
+      m.finish("All done! " + checks);
+    } finally {
+      Accessors.unregister(DummyClass.class);
+    }
+  }
+
+  @Test
+  public void test_14_Generated_Accessors() throws Exception {
+    final BindablePojo instance = new BindablePojo();
+    instance.setAge(21);
+    instance.fieldStr = "#1";
+
+    // generated class is loaded on first lookup, members scanning is not needed
+    final Entry getter = Accessors.find(BindablePojo.class, "getAge");
+    assertThat(getter, notNullValue());
+    assertThat(getter.invoke(instance), equalTo((Object) 21));
+
+    final Property<Integer> age = Models.integer("Age");
+    assertThat(age.get(instance), equalTo(21));
+    assertThat(age.set(instance, 42), equalTo(true));
+    assertThat(instance.getAge(), equalTo(42));
+    assertThat(age.toGetterString(), equalTo("getAge"));
+
+    final Property<String> field = Models.text("fieldStr");
+    assertThat(field.set(instance, "#2"), equalTo(true));
+    assertThat(field.get(instance), equalTo("#2"));
+
+    // final field is read only, setters lookup does not resolve it
+    assertThat(Accessors.find(BindablePojo.class, "fieldId").invoke(instance), equalTo((Object) 1L));
+    assertThat(Accessors.find(BindablePojo.class, "fieldId", long.class), nullValue());
+    assertThat(BindablePojo$$Accessors.fieldId().set(instance, 2L), equalTo(false));
+
+    // primitive accessors are generated only for supported direction
+    assertThat(Accessors.unwrap(getter), instanceOf(IntAccessor.Getter.class));
+    assertThat(Accessors.unwrap(Accessors.find(BindablePojo.class, "setAge", int.class)),
+        instanceOf(IntAccessor.Setter.class));
+    assertThat(Accessors.find(BindablePojo.class, "setAge"), nullValue());
+
+    // typed properties and selectors
+    final Selector<BindablePojo, Boolean> adult = BindablePojo$$Accessors.adult(instance);
+    assertThat(adult.get(), equalTo(true));
+
+    final Property<String> name = BindablePojo$$Accessors.name();
+    assertThat(name.set(instance, "Alex"), equalTo(true));
+    assertThat(instance.getName(), equalTo("Alex"));
+    assertThat(BindablePojo$$Accessors.age().set(instance, null), equalTo(false));
+  }
+
+  @Test
+  public void test_15_Polymorphic_Receivers() {
+    final AtomicInteger resolved = new AtomicInteger();
+    final Property<String> property = new Property<String>(String.class, "String") {
+      @Nullable
+      @Override
+      protected Entry extractGetter(@NonNull final Object instance) {
+        resolved.incrementAndGet();
+        return super.extractGetter(instance);
+      }
+    };
+
+    // unrelated classes and inheritors with the same property
+    final Object[] receivers = new Object[]{
+        new DummyClass(), new ReflectionUtilsTests.Dummy(), new ReflectionUtilsTests.First(),
+        new ReflectionUtilsTests.Dummy() {
+        }, new ReflectionUtilsTests.First() {
+        }, new DummyClass() {
+        }
+    };
+
+    // more receivers than inline cache can hold, last ones resolved in megamorphic state
+    assertThat(receivers.length, greaterThan(Property.POLYMORPHIC_LIMIT));
+
+    for (int pass = 0; pass < 2; pass++) {
+      for (int i = 0; i < receivers.length; i++) {
+        final String value = "#" + pass + "." + i;
+
+        assertThat(property.set(receivers[i], value), equalTo(true));
+        assertThat(property.get(receivers[i]), equalTo(value));
+      }
+    }
+
+    // megamorphic receivers are resolved once too
+    assertThat(resolved.get(), equalTo(receivers.length));
+
+    // each receiver keeps own value, no cross-class invocation
+    assertThat(((DummyClass) receivers[0]).getString(), equalTo("#1.0"));
+    assertThat(((ReflectionUtilsTests.Dummy) receivers[1]).getString(), equalTo("#1.1"));
+    assertThat(((ReflectionUtilsTests.First) receivers[4]).getString(), equalTo("#1.4"));
+  }
+
+  @Test
+  public void test_16_Primitive_Properties() {
+    final DummyClass instance = new DummyClass();
+
+    // field, resolved via reflection
+    final IntProperty field = Models.integer("fieldInt");
+    assertThat(field.setInt(instance, 1024), equalTo(true));
+    assertThat(instance.fieldInt, equalTo(1024));
+    assertThat(field.getInt(instance), equalTo(1024));
+    assertThat(field.get(instance), equalTo(1024));
+
+    // getter and setter, executed via generic path
+    final IntProperty method = Models.integer("Integer");
+    assertThat(method.setInt(instance, 2048), equalTo(true));
+    assertThat(method.getInt(instance), equalTo(2048));
+
+    final BooleanProperty bool = Models.bool("fieldBool");
+    assertThat(bool.setBoolean(instance, true), equalTo(true));
+    assertThat(instance.fieldBool, equalTo(true));
+    assertThat(bool.getBoolean(instance), equalTo(true));
+
+    // compiled accessors
+    final BindablePojo pojo = new BindablePojo();
+    final IntProperty age = Models.integer("Age");
+    assertThat(Accessors.unwrap(Accessors.find(BindablePojo.class, "getAge")), instanceOf(IntAccessor.class));
+    assertThat(age.setInt(pojo, 4096), equalTo(true));
+    assertThat(age.getInt(pojo), equalTo(4096));
+    assertThat(Models.bool("Adult").getBoolean(pojo), equalTo(true));
+
+    // unknown member
+    assertThat(Models.integer("Unknown").getInt(instance), equalTo(0));
+    assertThat(Models.integer("Unknown").setInt(instance, 1), equalTo(false));
+
+    // member of another type, failure falls back to default value
+    instance.setString("text");
+    assertThat(Models.integer("String").getInt(instance), equalTo(0));
+    assertThat(Models.integer("String").setInt(instance, 1), equalTo(false));
+    assertThat(Models.bool("String").getBoolean(instance), equalTo(false));
+    assertThat(Models.bool("String").setBoolean(instance, true), equalTo(false));
+    assertThat(instance.getString(), equalTo("text"));
+  }
+
   /* [ NESTED DECLARATIONS ] ======================================================================================== */
 
   public enum DummyEnum {
@@ -167,6 +167,39 @@ public class ReflectionUtilsTests extends TestHolder {
     assertThat(types[5], nullValue());
   }
 
+  @Test
+  public void test_07_MembersIndex() {
+    final Members members = ReflectionUtils.getMembers(Overloads.class);
+
+    // index built once per class
+    assertThat(ReflectionUtils.getMembers(Overloads.class), sameInstance(members));
+    assertThat(ReflectionUtils.getAll(Overloads.class), sameInstance(members.asList()));
+    assertThat(members.size(), equalTo(7));
+
+    // lookup by name returns first entry in the range
+    final Entry first = members.find("setText");
+    assertThat(first, notNullValue());
+    assertThat(first, sameInstance(ReflectionUtils.find(members.asList(), "setText")));
+    assertThat(((Method) first.getRawType()).getParameterTypes(), arrayWithSize(0));
+
+    // same results as sequential search
+    final List<Entry> all = members.asList();
+    assertThat(members.match("setText", String.class), sameInstance(ReflectionUtils.match(all, first, String.class)));
+    assertThat(members.match("setText", int.class), sameInstance(ReflectionUtils.match(all, first, int.class)));
+    assertThat(members.match("setText", char[].class, int.class, int.class), notNullValue());
+    assertThat(members.match("setText", CharSequence.class, TextView.BufferType.class, boolean.class, int.class),
+        notNullValue());
+
+    // unknown names and signatures
+    assertThat(members.find("getText"), nullValue());
+    assertThat(members.match("setText", Object.class), nullValue());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void test_08_MembersImmutable() {
+    ReflectionUtils.getAll(First.class).clear();
+  }
+
   /* [ NESTED DECLARATIONS ] ======================================================================================= */
 
   @SuppressWarnings("unused")
@@ -11,7 +11,9 @@ import android.widget.TextView;
 
 import com.artfulbits.binding.BindingsManager;
 import com.artfulbits.binding.BuildConfig;
+import com.artfulbits.binding.IntSelector;
 import com.artfulbits.binding.Selector;
+import com.artfulbits.binding.Versioned;
 import com.artfulbits.binding.data.DummyClass;
 import com.artfulbits.binding.ui.BindingAdapter;
 import com.artfulbits.junit.TestHolder;
@@ -113,6 +115,110 @@ public class AdaptersTests extends TestHolder {
     assertThat(bindable.getCounter(), equalTo(1));
   }
 
+  @Test
+  public void test_02_Recycling_SkipsUnchangedRows() {
+    final Context context = RuntimeEnvironment.application;
+    final int resourceId = android.R.layout.simple_list_item_1;
+    final VersionedItem[] items = {new VersionedItem("Item #01"), new VersionedItem("Item #02")};
+    final Adapter adapter = new ArrayAdapter<>(context, resourceId, items);
+
+    final BindingAdapter bindable = Adapters.wrap(adapter, new BindingAdapter.Lifecycle() {
+      @Override
+      public void onCreateBinding(@NonNull final BindingsManager bm,
+                                  @NonNull final Selector<?, View> getView,
+                                  @NonNull final Selector<?, Object> getModel) {
+        Binders.strings(bm)
+            .view(textView(getView, android.R.id.text1))
+            .model(pojo(getModel, text("Name")));
+      }
+    });
+
+    final View row = bindable.getView(0, null, null);
+    assertThat(bindable.getSkippedPops(), equalTo(0L));
+
+    // the same item with the same version, POP is skipped
+    assertThat(bindable.getView(0, row, null), sameInstance(row));
+    assertThat(bindable.getSkippedPops(), equalTo(1L));
+
+    // recycled row shows another item
+    bindable.getView(1, row, null);
+    assertThat(bindable.getSkippedPops(), equalTo(1L));
+
+    // changed item is popped again
+    items[1].setName("Item #02 - changed");
+    bindable.getView(1, row, null);
+
+    final TextView textView = (TextView) row.findViewById(android.R.id.text1);
+    assertThat(textView.getText().toString(), equalTo("Item #02 - changed"));
+    assertThat(bindable.getSkippedPops(), equalTo(1L));
+  }
+
+  @Test
+  public void test_03_RowContext_DirectSelectors() {
+    final Context context = RuntimeEnvironment.application;
+    final int resourceId = android.R.layout.simple_list_item_1;
+    final Adapter adapter = new ArrayAdapter<>(context, resourceId, array);
+    final Selector<?, ?>[] selectors = new Selector<?, ?>[3];
+
+    final BindingAdapter bindable = Adapters.wrap(adapter, new BindingAdapter.Lifecycle() {
+      @Override
+      public void onCreateBinding(@NonNull final BindingsManager bm,
+                                  @NonNull final Selector<?, View> getView,
+                                  @NonNull final Selector<?, Object> getModel) {
+        selectors[0] = getView;
+        selectors[1] = getModel;
+        selectors[2] = Adapters.position(bm);
+
+        Binders.strings(bm)
+            .view(textView(getView, android.R.id.text1))
+            .model(pojo(getModel, text("fieldStr")));
+      }
+    });
+
+    View last = null;
+    for (int i = 0; i < array.length; i++) {
+      last = bindable.getView(i, last, null);
+
+      // selectors read the context of the processed row
+      assertThat(selectors[0].get(), sameInstance((Object) last));
+      assertThat(selectors[1].get(), sameInstance((Object) array[i]));
+      assertThat(((IntSelector<?>) selectors[2]).getInt(), equalTo(i));
+    }
+
+    // read-only context
+    ((IntSelector<?>) selectors[2]).setInt(0);
+    assertThat(bindable.getBindingPosition(), equalTo(array.length - 1));
+  }
+
+  /** Item that counts own modifications. */
+  public static final class VersionedItem implements Versioned {
+    private String mName;
+    private long mVersion;
+
+    public VersionedItem(final String name) {
+      mName = name;
+    }
+
+    public String getName() {
+      return mName;
+    }
+
+    public void setName(final String name) {
+      mName = name;
+      mVersion++;
+    }
+
+    @Override
+    public long getVersion() {
+      return mVersion;
+    }
+
+    @Override
+    public String toString() {
+      return mName;
+    }
+  }
+
   private final static class DummyAdapter extends BindingAdapter {
     private int mCounter;
 
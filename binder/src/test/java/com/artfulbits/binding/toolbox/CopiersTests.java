@@ -0,0 +1,236 @@
+package com.artfulbits.binding.toolbox;
+
+import android.support.annotation.NonNull;
+
+import com.artfulbits.benchmark.Meter;
+import com.artfulbits.binding.Binder;
+import com.artfulbits.junit.Sampling;
+import com.artfulbits.junit.TestHolder;
+
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/** Unit tests of the {@link Copiers} class. */
+public class CopiersTests extends TestHolder {
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_Immutable() {
+    assertThat(Copiers.isImmutable(String.class), equalTo(true));
+    assertThat(Copiers.isImmutable(Long.class), equalTo(true));
+    assertThat(Copiers.isImmutable(TimeUnit.class), equalTo(true));
+    assertThat(Copiers.isImmutable(Point.class), equalTo(true));
+    assertThat(Copiers.isImmutable(Flat.class), equalTo(false));
+    assertThat(Copiers.isImmutable(int[].class), equalTo(false));
+
+    final Point point = new Point(1, "one");
+    assertThat(Copiers.copy(point), sameInstance(point));
+  }
+
+  @Test
+  public void test_01_Strategies() {
+    assertThat(Copiers.copier(Flat.class).toString(), equalTo("shallow"));
+    assertThat(Copiers.copier(Node.class).toString(), equalTo("deep"));
+    assertThat(Copiers.copier(ArrayList.class).toString(), equalTo("collection"));
+    assertThat(Copiers.copier(HashMap.class).toString(), equalTo("map"));
+    assertThat(Copiers.copier(Date.class).toString(), equalTo("clone"));
+    assertThat(Copiers.copier(long[].class).toString(), equalTo("primitives-array"));
+    assertThat(Copiers.copier(NoDefaultConstructor.class).toString(), equalTo("serialization"));
+    assertThat(Copiers.copier(Thread.State.class).toString(), equalTo("immutable"));
+    assertThat(Copiers.copier(Unknown.class).toString(), equalTo("shared"));
+  }
+
+  @Test
+  public void test_02_Shallow() {
+    final Flat flat = new Flat();
+    flat.mName = "name";
+    flat.mAge = 42;
+    flat.mPoint = new Point(2, "two");
+
+    final Flat copy = Copiers.copy(flat);
+
+    assertThat(copy, not(sameInstance(flat)));
+    assertThat(copy.mName, equalTo("name"));
+    assertThat(copy.mAge, equalTo(42));
+    assertThat(copy.mPoint, sameInstance(flat.mPoint));
+  }
+
+  @Test
+  public void test_03_Deep_Cycles() {
+    final Node first = new Node("first");
+    final Node second = new Node("second");
+    first.mNext = second;
+    second.mNext = first;
+    first.mItems.add(second);
+    first.mData = new int[]{1, 2, 3};
+    second.mData = first.mData;
+
+    final Node copy = Copiers.copy(first);
+
+    assertThat(copy, not(sameInstance(first)));
+    assertThat(copy.mNext, not(sameInstance(second)));
+    assertThat(copy.mNext.mName, equalTo("second"));
+
+    // cycles and shared references are preserved inside the copy
+    assertThat(copy.mNext.mNext, sameInstance(copy));
+    assertThat(copy.mItems.get(0), sameInstance(copy.mNext));
+    assertThat(copy.mNext.mData, sameInstance(copy.mData));
+    assertThat(copy.mData, not(sameInstance(first.mData)));
+    assertThat(copy.mData[2], equalTo(3));
+  }
+
+  @Test
+  public void test_04_Registry() {
+    final Copiers.Copier<Flat> custom = new Copiers.Copier<Flat>() {
+      @Override
+      public Flat copy(@NonNull final Flat value, @NonNull final Map<Object, Object> copies) {
+        final Flat result = new Flat();
+        result.mName = "custom";
+
+        return result;
+      }
+    };
+
+    Copiers.register(Flat.class, custom);
+
+    try {
+      assertThat(Copiers.copier(Flat.class), sameInstance((Copiers.Copier) custom));
+      assertThat(Copiers.copy(new Flat()).mName, equalTo("custom"));
+    } finally {
+      Copiers.unregister(Flat.class);
+    }
+
+    assertThat(Copiers.copier(Flat.class).toString(), equalTo("shallow"));
+  }
+
+  @Test
+  public void test_05_Ridge() {
+    final Binder.Ridge<Node> ridge = Ridges.simplest();
+    final Node node = new Node("node");
+
+    assertThat(ridge.isChanged(node), equalTo(true));
+
+    final Node clone = ridge.clone(node);
+    assertThat(clone, not(sameInstance(node)));
+    assertThat(clone.mName, equalTo("node"));
+  }
+
+  @Test
+  public void test_06_SortedCollections_KeepComparator() {
+    final TreeSet<String> set = new TreeSet<>(Collections.<String>reverseOrder());
+    set.addAll(Arrays.asList("a", "b", "c"));
+    final TreeMap<String, String> map = new TreeMap<>(Collections.<String>reverseOrder());
+    map.put("a", "1");
+    map.put("b", "2");
+
+    final TreeSet<String> setCopy = Copiers.copy(set);
+    final TreeMap<String, String> mapCopy = Copiers.copy(map);
+
+    assertThat(setCopy, not(sameInstance(set)));
+    assertThat(setCopy, contains("c", "b", "a"));
+    assertThat(setCopy.comparator(), sameInstance(set.comparator()));
+    assertThat(mapCopy, not(sameInstance(map)));
+    assertThat(mapCopy.firstKey(), equalTo("b"));
+
+    // not opted-in POJO is shared, the same as plain assignment
+    final Unknown unknown = new Unknown();
+    assertThat(Copiers.copy(unknown), sameInstance(unknown));
+    assertThat(Copiers.fields(Unknown.class).copy(unknown, new HashMap<>()), not(sameInstance(unknown)));
+  }
+
+  @Test
+  public void test_07_Performance_VsSerialization() {
+    final Meter m = getMeter();
+    m.start("Copy of serializable POJO graph: serialization vs structural copy");
+
+    final Node root = new Node("root");
+    for (int i = 0; i < Sampling.ITERATIONS_S; i++) {
+      root.mItems.add(new Node("child-" + i));
+    }
+    root.mData = new int[Sampling.ITERATIONS_M];
+
+    // warm up, strategies resolving
+    Ridges.deepCopy(root);
+    Copiers.copy(root);
+    m.skip("warm up");
+
+    m.loop(Sampling.ITERATIONS_L, "serialization");
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      assertThat(Ridges.deepCopy(root), not(sameInstance(root)));
+      m.recap();
+    }
+    m.unloop("serialization");
+
+    m.loop(Sampling.ITERATIONS_L, "structural");
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      assertThat(Copiers.copy(root), not(sameInstance(root)));
+      m.recap();
+    }
+    m.unloop("structural");
+
+    m.finish("copy strategies");
+  }
+
+  /* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Immutable class. */
+  public static final class Point {
+    public final int mX;
+    public final String mLabel;
+
+    public Point(final int x, final String label) {
+      mX = x;
+      mLabel = label;
+    }
+  }
+
+  /** Flat POJO, all fields are primitive or immutable. */
+  public static class Flat implements Copiers.Structural {
+    public String mName;
+    public int mAge;
+    public Point mPoint;
+  }
+
+  /** POJO with nested mutable instances. */
+  public static class Node implements Serializable, Copiers.Structural {
+    public String mName;
+    public Node mNext;
+    public int[] mData;
+    public List<Node> mItems = new ArrayList<>();
+
+    public Node() {
+    }
+
+    public Node(final String name) {
+      mName = name;
+    }
+  }
+
+  /** POJO without opt-in to structural copy. */
+  public static class Unknown {
+    public final List<String> mItems = new ArrayList<>();
+  }
+
+  /** Serializable class without default constructor. */
+  public static class NoDefaultConstructor implements Serializable {
+    public String mValue;
+
+    public NoDefaultConstructor(final String value) {
+      mValue = value;
+    }
+  }
+}
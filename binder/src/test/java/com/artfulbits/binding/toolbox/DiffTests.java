@@ -0,0 +1,352 @@
+package com.artfulbits.binding.toolbox;
+
+import android.support.annotation.Nullable;
+
+import com.artfulbits.benchmark.Meter;
+import com.artfulbits.junit.Sampling;
+import com.artfulbits.junit.TestHolder;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/** Unit tests for {@link Diff} and {@link ObservableList} classes. */
+public class DiffTests extends TestHolder {
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_Simple() {
+    final List<String> before = Arrays.asList("a", "b", "c", "d", "e");
+    final List<String> after = Arrays.asList("a", "x", "c", "e", "f", "g");
+
+    final Diff.Result result = Diff.calculate(before, after, Diff.<String>byEquals());
+    trace(result.toString());
+
+    assertThat(result.getRemoved(), equalTo(2));
+    assertThat(result.getInserted(), equalTo(3));
+    assertThat(result.getMoved(), equalTo(0));
+    assertThat(apply(before, after, result), equalTo(after));
+
+    assertThat(Diff.calculate(before, before, Diff.<String>byEquals()).isEmpty(), equalTo(true));
+    assertThat(apply(before, Collections.<String>emptyList(), Diff.calculate(before,
+        Collections.<String>emptyList(), Diff.<String>byEquals())), empty());
+    assertThat(apply(Collections.<String>emptyList(), after, Diff.calculate(Collections.<String>emptyList(), after,
+        Diff.<String>byEquals())), equalTo(after));
+  }
+
+  @Test
+  public void test_01_Random_MinimalEdits() {
+    final Random random = new Random(42);
+
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      // small alphabet, a lot of duplicates
+      final List<String> before = randomList(random, random.nextInt(40), 4);
+      final List<String> after = randomList(random, random.nextInt(40), 4);
+
+      final Diff.Result plain = Diff.calculate(before, after, Diff.<String>byEquals(), false);
+      assertThat(apply(before, after, plain), equalTo(after));
+
+      // without moves the edit distance is optimal
+      final int distance = before.size() + after.size() - 2 * lcs(before, after);
+      assertThat(plain.getRemoved() + plain.getInserted(), equalTo(distance));
+
+      final Diff.Result moves = Diff.calculate(before, after, Diff.<String>byEquals());
+      assertThat(apply(before, after, moves), equalTo(after));
+      assertThat(moves.getRemoved() + moves.getInserted() + 2 * moves.getMoved(), equalTo(distance));
+    }
+  }
+
+  @Test
+  public void test_02_MovesAndPayloads() {
+    final List<Item> before = Arrays.asList(new Item(1, "one"), new Item(2, "two"), new Item(3, "three"),
+        new Item(4, "four"));
+    final List<Item> after = Arrays.asList(new Item(4, "four"), new Item(1, "one"), new Item(2, "TWO"),
+        new Item(3, "three"));
+
+    final Diff.Result result = Diff.calculate(before, after, ITEMS);
+    final Recorder recorder = new Recorder();
+    result.dispatchTo(recorder);
+
+    assertThat(recorder.events, contains("moved 3 -> 0", "changed 2+1 Title"));
+    assertThat(result.getMoved(), equalTo(1));
+    assertThat(result.getChanged(), equalTo(1));
+    assertThat(apply(before, after, result), equalTo(after));
+
+    // without moves detection: removal and insertion
+    final Diff.Result plain = Diff.calculate(before, after, ITEMS, false);
+    assertThat(plain.getMoved(), equalTo(0));
+    assertThat(plain.getRemoved(), equalTo(1));
+    assertThat(plain.getInserted(), equalTo(1));
+  }
+
+  @Test
+  public void test_03_ObservableList_Notifications() {
+    final ObservableList<String> list = new ObservableList<>(Arrays.asList("a", "b", "c"));
+    final Recorder recorder = new Recorder();
+    list.addObserver(recorder);
+
+    list.add("d");
+    list.remove(0);
+    list.set(0, "B");
+    list.move(2, 0);
+    list.subList(0, 2).clear();
+
+    assertThat(recorder.events, contains("inserted 3+1", "removed 0+1", "changed 0+1 null", "moved 2 -> 0",
+        "removed 0+2"));
+    assertThat(list, contains("c"));
+    assertThat(list.getVersion(), equalTo(5L));
+
+    recorder.events.clear();
+    list.replace(Arrays.asList("a", "c"), Diff.<String>byEquals());
+    assertThat(recorder.events, contains("inserted 0+1"));
+    assertThat(list.getVersion(), equalTo(6L));
+
+    // the same content, nothing to report
+    list.replace(Arrays.asList("a", "c"), Diff.<String>byEquals());
+    assertThat(list.getVersion(), equalTo(6L));
+  }
+
+  @Test
+  public void test_04_ObservableList_AsyncReplace() {
+    final Schedulers.Virtual worker = Schedulers.virtual();
+    final Schedulers.Virtual main = Schedulers.virtual();
+    final ObservableList<String> list = new ObservableList<>(randomList(new Random(1), 2000, 1000));
+    final Recorder recorder = new Recorder();
+    list.addObserver(recorder);
+
+    // small lists are compared synchronously
+    final ObservableList<String> small = new ObservableList<>(Arrays.asList("a", "b"));
+    small.replace(Collections.singletonList("b"), Diff.<String>byEquals(), worker, main);
+    assertThat(small, contains("b"));
+    assertThat(worker.size(), equalTo(0));
+
+    // newer replace cancels older one
+    final List<String> first = new ArrayList<>(list.subList(10, list.size()));
+    final List<String> second = new ArrayList<>(list.subList(0, list.size() - 10));
+    list.replace(first, Diff.<String>byEquals(), worker, main);
+    list.replace(second, Diff.<String>byEquals(), worker, main);
+
+    assertThat(worker.runPending(), equalTo(2));
+    assertThat(recorder.events, empty());
+    assertThat(main.runPending(), equalTo(1));
+    assertThat(recorder.events, contains("removed " + (list.size()) + "+10"));
+    assertThat(list, equalTo(second));
+
+    // modification during calculation restarts it
+    recorder.events.clear();
+    list.replace(first.subList(0, first.size() - 20), Diff.<String>byEquals(), worker, main);
+    worker.runPending();
+    list.add(0, "x");
+    main.runPending();
+    assertThat(list.get(0), equalTo("x"));
+
+    worker.runPending();
+    main.runPending();
+    assertThat(list, equalTo(first.subList(0, first.size() - 20)));
+  }
+
+  @Test
+  public void test_05_Performance_LargeLists() {
+    final int[] sizes = {Sampling.ITERATIONS_L, Sampling.ITERATIONS_XL, Sampling.ITERATIONS_XXL};
+    final Meter m = getMeter();
+    m.start("Diff: 1% of random edits");
+
+    final Random random = new Random(7);
+    final List<List<Item>> befores = new ArrayList<>();
+    final List<List<Item>> afters = new ArrayList<>();
+
+    for (final int size : sizes) {
+      final List<Item> before = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        before.add(new Item(i, "item-" + i));
+      }
+
+      befores.add(before);
+      afters.add(edit(random, before, size / 100));
+    }
+    m.skip("warm up");
+
+    for (int s = 0; s < sizes.length; s++) {
+      final int size = sizes[s];
+      final int iterations = Math.max(1, Sampling.ITERATIONS_S * Sampling.ITERATIONS_L / size);
+      final String name = "diff " + size + " items";
+      Diff.Result result = null;
+
+      m.loop(iterations, name);
+      for (int i = 0; i < iterations; i++) {
+        result = Diff.calculate(befores.get(s), afters.get(s), ITEMS);
+        m.recap();
+      }
+      m.unloop(name);
+
+      trace(String.valueOf(result));
+      assertThat(apply(befores.get(s), afters.get(s), result), equalTo(afters.get(s)));
+    }
+
+    m.finish("diff");
+  }
+
+	/* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Compare items by ID and title, title is the change payload. */
+  private static final Diff.Comparer<Item> ITEMS = new Diff.Comparer<Item>() {
+    @Override
+    public boolean areItemsSame(final Item before, final Item after) {
+      return before.id == after.id;
+    }
+
+    @Override
+    public boolean areContentsSame(final Item before, final Item after) {
+      return before.title.equals(after.title);
+    }
+
+    @Override
+    public Object getChangePayload(final Item before, final Item after) {
+      return "Title";
+    }
+  };
+
+  /** Apply reported updates to copy of the old list. */
+  private static <T> List<T> apply(final List<T> before, final List<T> after, final Diff.Result result) {
+    final List<T> list = new ArrayList<>(before);
+
+    result.dispatchTo(new Diff.Updates() {
+      @Override
+      public void onInserted(final int position, final int count) {
+        list.addAll(position, after.subList(position, position + count));
+      }
+
+      @Override
+      public void onRemoved(final int position, final int count) {
+        list.subList(position, position + count).clear();
+      }
+
+      @Override
+      public void onMoved(final int fromPosition, final int toPosition) {
+        list.add(toPosition, list.remove(fromPosition));
+      }
+
+      @Override
+      public void onChanged(final int position, final int count, @Nullable final Object payload) {
+        for (int i = position; i < position + count; i++) {
+          list.set(i, after.get(i));
+        }
+      }
+    });
+
+    assertThat(list.size(), equalTo(result.getNewSize()));
+    return list;
+  }
+
+  /** Length of the longest common subsequence, dynamic programming. */
+  private static int lcs(final List<String> a, final List<String> b) {
+    final int[][] table = new int[a.size() + 1][b.size() + 1];
+
+    for (int i = 1; i <= a.size(); i++) {
+      for (int j = 1; j <= b.size(); j++) {
+        table[i][j] = a.get(i - 1).equals(b.get(j - 1)) ? table[i - 1][j - 1] + 1 :
+            Math.max(table[i - 1][j], table[i][j - 1]);
+      }
+    }
+
+    return table[a.size()][b.size()];
+  }
+
+  /** Create list of random strings. */
+  private static List<String> randomList(final Random random, final int size, final int alphabet) {
+    final List<String> list = new ArrayList<>(size);
+
+    for (int i = 0; i < size; i++) {
+      list.add(String.valueOf((char) ('a' + random.nextInt(alphabet))));
+    }
+
+    return list;
+  }
+
+  /** Copy of the list with random removals, insertions, moves and changes. */
+  private static List<Item> edit(final Random random, final List<Item> source, final int edits) {
+    final List<Item> list = new ArrayList<>(source);
+    int id = source.size();
+
+    for (int i = 0; i < edits; i++) {
+      final int position = random.nextInt(list.size());
+
+      switch (i % 4) {
+        case 0:
+          list.remove(position);
+          break;
+        case 1:
+          list.add(position, new Item(id++, "new"));
+          break;
+        case 2:
+          list.add(random.nextInt(list.size()), list.remove(position));
+          break;
+        default:
+          list.set(position, new Item(list.get(position).id, "changed"));
+          break;
+      }
+    }
+
+    return list;
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Item with identity and content. */
+  public static final class Item {
+    final int id;
+    final String title;
+
+    public Item(final int id, final String title) {
+      this.id = id;
+      this.title = title;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof Item && id == ((Item) o).id && title.equals(((Item) o).title);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * id + title.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return id + ":" + title;
+    }
+  }
+
+  /** Records received updates. */
+  private static final class Recorder implements Diff.Updates {
+    final List<String> events = new ArrayList<>();
+
+    @Override
+    public void onInserted(final int position, final int count) {
+      events.add("inserted " + position + "+" + count);
+    }
+
+    @Override
+    public void onRemoved(final int position, final int count) {
+      events.add("removed " + position + "+" + count);
+    }
+
+    @Override
+    public void onMoved(final int fromPosition, final int toPosition) {
+      events.add("moved " + fromPosition + " -> " + toPosition);
+    }
+
+    @Override
+    public void onChanged(final int position, final int count, @Nullable final Object payload) {
+      events.add("changed " + position + "+" + count + " " + payload);
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.artfulbits.binding.toolbox;
+
+import android.support.annotation.NonNull;
+
+import com.artfulbits.binding.Listener;
+import com.artfulbits.binding.Notifications;
+import com.artfulbits.binding.Selector;
+import com.artfulbits.junit.Sampling;
+import com.artfulbits.junit.TestHolder;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/** Unit tests of the paced {@link Listeners}, executed on virtual time scheduler. */
+public class ListenersTests extends TestHolder {
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_Debounce_Trailing() {
+    final Schedulers.Virtual clock = Schedulers.virtual();
+    final Source source = new Source();
+    final Counter counter = new Counter(clock);
+    Listeners.debounce(source, 100, clock).willNotify(counter);
+
+    // typing with 50ms pauses, quiet period never passes
+    for (int i = 0; i < 10; i++) {
+      source.fire();
+      clock.advance(50);
+    }
+    assertThat(counter.times, empty());
+
+    clock.advance(50);
+    assertThat(counter.times, contains(550L));
+  }
+
+  @Test
+  public void test_01_Throttle_LeadingAndTrailing() {
+    final Schedulers.Virtual clock = Schedulers.virtual();
+    final Source source = new Source();
+    final Counter counter = new Counter(clock);
+    Listeners.throttle(source, 100, clock).willNotify(counter);
+
+    // changes every 30ms during 300ms
+    for (int i = 0; i < 10; i++) {
+      source.fire();
+      clock.advance(30);
+    }
+    clock.advance(100);
+
+    assertThat(counter.times, contains(0L, 100L, 200L, 300L));
+
+    // after the pause the first change is delivered immediately again
+    clock.advance(500);
+    source.fire();
+    assertThat(counter.times.get(counter.times.size() - 1), equalTo(clock.now()));
+  }
+
+  @Test
+  public void test_02_Idle_MaxWait() {
+    final Schedulers.Virtual clock = Schedulers.virtual();
+    final Source source = new Source();
+    final Counter counter = new Counter(clock);
+    Listeners.onIdle(source, 100, 250, clock).willNotify(counter);
+
+    // continuous input is committed by max wait
+    for (int i = 0; i < 20; i++) {
+      source.fire();
+      clock.advance(20);
+    }
+    assertThat(counter.times, contains(250L));
+
+    // and by idle period at the end
+    clock.advance(100);
+    assertThat(counter.times, contains(250L, 480L));
+  }
+
+  @Test
+  public void test_03_Detach_CancelsPending() {
+    final Schedulers.Virtual clock = Schedulers.virtual();
+    final Source source = new Source();
+    final Counter counter = new Counter(clock);
+    final Listener listener = Listeners.debounce(source, 100, clock);
+
+    listener.willNotify(counter);
+    assertThat(source.known, hasSize(1));
+
+    source.fire();
+    listener.detach(counter);
+
+    assertThat(source.known, empty());
+    assertThat(clock.size(), equalTo(0));
+    assertThat(clock.advance(200), equalTo(0));
+    assertThat(counter.times, empty());
+  }
+
+  @Test
+  public void test_04_BoundedFrequency() {
+    final Schedulers.Virtual clock = Schedulers.virtual();
+    final Source source = new Source();
+    final Counter debounced = new Counter(clock);
+    final Counter throttled = new Counter(clock);
+    final Counter idle = new Counter(clock);
+
+    Listeners.debounce(source, 50, clock).willNotify(debounced);
+    Listeners.throttle(source, 50, clock).willNotify(throttled);
+    Listeners.onIdle(source, 50, 200, clock).willNotify(idle);
+
+    // IME batch edits: 10 changes per millisecond during 10 seconds
+    for (int i = 0; i < Sampling.ITERATIONS_XXL; i++) {
+      source.fire();
+
+      if (0 == i % 10) clock.advance(1);
+    }
+    clock.advance(1000);
+
+    trace("debounce: " + debounced.times.size() + ", throttle: " + throttled.times.size() +
+        ", idle: " + idle.times.size());
+
+    assertThat(debounced.times, hasSize(1));
+    assertThat(throttled.times.size(), lessThanOrEqualTo(10000 / 50 + 2));
+    assertThat(idle.times.size(), lessThanOrEqualTo(10000 / 200 + 2));
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Manually fired listener. */
+  private static final class Source implements Listener {
+    final List<Notifications> known = new ArrayList<>();
+
+    void fire() {
+      for (final Notifications n : known) {
+        n.onChanged();
+      }
+    }
+
+    @Override
+    public Listener binding(@NonNull final Selector<?, ?> instance) {
+      return this;
+    }
+
+    @Override
+    public void willNotify(@NonNull final Notifications listener) {
+      known.add(listener);
+    }
+
+    @Override
+    public void detach(@NonNull final Notifications listener) {
+      known.remove(listener);
+    }
+  }
+
+  /** Records time of the notifications. */
+  private static final class Counter implements Notifications {
+    final List<Long> times = new ArrayList<>();
+    final Schedulers.Virtual clock;
+
+    Counter(final Schedulers.Virtual clock) {
+      this.clock = clock;
+    }
+
+    @Override
+    public void onChanged() {
+      times.add(clock.now());
+    }
+  }
+}
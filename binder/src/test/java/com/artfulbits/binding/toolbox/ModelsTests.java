@@ -8,7 +8,10 @@ import com.artfulbits.junit.TestHolder;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.artfulbits.binding.toolbox.Models.text;
@@ -171,4 +174,28 @@ public class ModelsTests extends TestHolder {
 
     assertThat(selector.get(), equalTo("something"));
   }
+
+  @Test
+  public void test_06_Mapping_And_ArrayList_Set() {
+    final Map<String, Object> json = new HashMap<>();
+    final Selector<?, Boolean> key = Models.map(json, "something");
+
+    final List<String> values = new ArrayList<>(Arrays.asList("first", "second"));
+    final Selector<?, String> position = Models.index(values, 1);
+
+    // constant arguments captured once, value slot reused between calls
+    for (int i = 0; i < 3; i++) {
+      final boolean value = (0 == i % 2);
+
+      key.set(value);
+      assertThat(key.get(), equalTo(value));
+      assertThat(json.get("something"), equalTo((Object) value));
+
+      position.set("value-" + i);
+      assertThat(position.get(), equalTo("value-" + i));
+    }
+
+    assertThat(json.size(), equalTo(1));
+    assertThat(values, contains("first", "value-2"));
+  }
 }
@@ -1,11 +1,17 @@
 package com.artfulbits.binding.toolbox;
 
+import com.artfulbits.benchmark.Meter;
 import com.artfulbits.binding.Formatting;
 import com.artfulbits.binding.exceptions.OneWayBindingError;
+import com.artfulbits.junit.Sampling;
 import com.artfulbits.junit.TestHolder;
 
 import org.junit.Test;
 
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static com.artfulbits.binding.toolbox.Molds.chain;
 import static com.artfulbits.binding.toolbox.Molds.fromCharsToInteger;
 import static com.artfulbits.binding.toolbox.Molds.fromIntegerToBoolean;
@@ -155,4 +161,340 @@ public class MoldsTests extends TestHolder {
     assertThat(converter.toModel(0), equalTo(false));
     assertThat(converter.toView(false), equalTo(0));
   }
+
+  @Test
+  public void test_08_NumberMold_Integers() throws Exception {
+    final NumberMold<Integer> integers = Molds.fromCharsToInteger();
+    final NumberMold<Long> longs = Molds.fromCharsToLong();
+    final NumberMold<Byte> bytes = new NumberMold<>(Byte.class);
+
+    assertThat(integers.toModel(new StringBuilder("-123")), equalTo(-123));
+    assertThat(integers.toInt("+42"), equalTo(42));
+    assertThat(integers.toInt(""), equalTo(0));
+    assertThat(integers.toInt(null), equalTo(0));
+    assertThat(integers.toInt("2147483647"), equalTo(Integer.MAX_VALUE));
+    assertThat(integers.toInt("-2147483648"), equalTo(Integer.MIN_VALUE));
+
+    assertThat(longs.toLong("9223372036854775807"), equalTo(Long.MAX_VALUE));
+    assertThat(longs.toLong("-9223372036854775808"), equalTo(Long.MIN_VALUE));
+
+    assertThat(bytes.toModel("-128"), equalTo(Byte.MIN_VALUE));
+
+    final String[] wrong = {"2147483648", "-2147483649", "12a", "-", "+", " 1", "1.0"};
+    for (final String value : wrong) {
+      try {
+        integers.toInt(value);
+        fail("exception expected for: " + value);
+      } catch (final NumberFormatException ignored) {
+        trace("expected: " + ignored.getMessage());
+      }
+    }
+
+    try {
+      bytes.toModel("128");
+      fail("exception expected!");
+    } catch (final NumberFormatException ignored) {
+      // expected
+    }
+  }
+
+  @Test
+  public void test_09_NumberMold_Decimals() throws Exception {
+    final NumberMold<Double> doubles = Molds.fromCharsToDouble();
+    final NumberMold<Float> floats = new NumberMold<>(Float.class);
+    final Random random = new Random(20161018);
+
+    final String[] samples = {"0", "-0", "0.1", "-1.5", "3.1415926", "123456789012345", "0.000001", "1e10",
+        "1.7976931348623157E308", "4.9E-324", "12345678901234567890.5", "+2.5", "5."};
+
+    for (final String value : samples) {
+      assertThat(value, doubles.toDouble(value), equalTo(Double.parseDouble(value)));
+      assertThat(value, floats.toFloat(value), equalTo(Float.parseFloat(value)));
+    }
+
+    for (int i = 0; i < Sampling.ITERATIONS_XL; i++) {
+      final String value = random.nextInt(1000000) + "." + random.nextInt(100000000);
+
+      assertThat(value, doubles.toDouble(value), equalTo(Double.parseDouble(value)));
+      assertThat(value, floats.toFloat(value), equalTo(Float.parseFloat(value)));
+    }
+
+    assertThat(doubles.toDouble(""), equalTo(0d));
+
+    try {
+      doubles.toDouble(".");
+      fail("exception expected!");
+    } catch (final NumberFormatException ignored) {
+      // expected
+    }
+  }
+
+  @Test
+  public void test_10_NumberMold_Formatting() throws Exception {
+    final NumberMold<Integer> integers = Molds.fromCharsToInteger();
+    final NumberMold<Float> floats = new NumberMold<>(Float.class);
+
+    final CharSequence first = integers.toView(2048);
+    assertThat(first.toString(), equalTo("2048"));
+
+    // buffer is reused
+    final CharSequence second = integers.toView(-1L);
+    assertThat(second, sameInstance(first));
+    assertThat(second.toString(), equalTo("-1"));
+
+    assertThat(floats.toView(1.1f).toString(), equalTo("1.1"));
+    assertThat(floats.toView(1.1d).toString(), equalTo("1.1"));
+    assertThat(integers.toView((Integer) null).length(), equalTo(0));
+
+    try {
+      new NumberMold<>(java.math.BigDecimal.class);
+      fail("exception expected!");
+    } catch (final IllegalArgumentException ignored) {
+      // expected
+    }
+  }
+
+  @Test
+  public void test_11_NumberMold_Performance() {
+    final Meter m = getMeter();
+    m.start("Text to number: String based conversion vs direct CharSequence parsing");
+
+    final NumberMold<Integer> mold = Molds.fromCharsToInteger();
+    final CharSequence[] texts = new CharSequence[Sampling.ITERATIONS_M];
+    for (int i = 0; i < texts.length; i++) {
+      texts[i] = new StringBuilder().append(i * 7919 - 100000); // Editable-like input
+    }
+    m.skip("warm up");
+
+    long total = 0;
+
+    m.loop(Sampling.ITERATIONS_L, "strings");
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      for (final CharSequence text : texts) {
+        total += Integer.valueOf(text.toString());
+        total += text.toString().length();
+      }
+      m.recap();
+    }
+    m.unloop("strings");
+
+    long direct = 0;
+
+    m.loop(Sampling.ITERATIONS_L, "direct");
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      for (final CharSequence text : texts) {
+        direct += mold.toInt(text);
+        direct += mold.toView(mold.toInt(text)).length();
+      }
+      m.recap();
+    }
+    m.unloop("direct");
+
+    m.finish("number molds");
+
+    assertThat(direct, equalTo(total));
+  }
+
+  @Test
+  public void test_12_Memoize() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoMold<String, Integer> memo = Molds.memoize(counting(calls), 2);
+
+    assertThat(memo.toView(1), equalTo("#1"));
+    assertThat(memo.toView(1), equalTo("#1"));
+    assertThat(memo.toModel("#1"), equalTo(1));
+    assertThat(memo.toView(null), equalTo("#null"));
+    assertThat(memo.toView(null), equalTo("#null"));
+
+    // toView(1) x1, toModel x1, toView(null) x1
+    assertThat(calls.get(), equalTo(3));
+    assertThat(memo.getCache().getHits(), equalTo(2L));
+    assertThat(memo.getCache().getMisses(), equalTo(3L));
+
+    // capacity 2: toView(1) is the least recently used and evicted
+    assertThat(memo.getCache().size(), equalTo(2));
+    assertThat(memo.getCache().getEvictions(), equalTo(1L));
+
+    memo.toView(1);
+    assertThat(calls.get(), equalTo(4));
+
+    trace(memo.getCache().toString());
+  }
+
+  @Test
+  public void test_13_Memoize_Weight() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoMold.Cache cache = new MemoMold.Cache(10, MemoMold.CHARS);
+    final MemoMold<String, Integer> memo = Molds.memoize(counting(calls), cache);
+
+    memo.toView(1); // "#1": 1 + 2 chars
+    memo.toView(2); // "#2": 1 + 2 chars
+    memo.toView(123); // "#123": 1 + 4 chars, evicts "#1"
+
+    assertThat(cache.getWeight(), equalTo(8L));
+    assertThat(cache.size(), equalTo(2));
+
+    // result bigger than the whole cache is not stored
+    memo.toView(1234567890);
+    assertThat(cache.size(), equalTo(2));
+    assertThat(cache.getWeight(), equalTo(8L));
+
+    cache.clear();
+    assertThat(cache.getWeight(), equalTo(0L));
+  }
+
+  @Test
+  public void test_14_Memoize_Shared() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final AtomicInteger others = new AtomicInteger();
+    final Formatting<String, Integer> formatter = counting(calls);
+    final MemoMold.Cache shared = new MemoMold.Cache(Sampling.ITERATIONS_M);
+
+    // two binders with the same formatter share results
+    final MemoMold<String, Integer> first = Molds.memoize(formatter, shared);
+    final MemoMold<String, Integer> second = Molds.memoize(formatter, shared);
+    // another formatter never gets foreign results
+    final MemoMold<String, Integer> another = Molds.memoize(counting(others), shared);
+
+    first.toView(10);
+    second.toView(10);
+    another.toView(10);
+
+    assertThat(calls.get(), equalTo(1));
+    assertThat(others.get(), equalTo(1));
+
+    // locale is a part of the key
+    final Locale locale = Locale.getDefault();
+    try {
+      Locale.setDefault(Locale.GERMANY.equals(locale) ? Locale.US : Locale.GERMANY);
+      first.toView(10);
+    } finally {
+      Locale.setDefault(locale);
+    }
+
+    assertThat(calls.get(), equalTo(2));
+  }
+
+  @Test
+  public void test_15_Memoize_Performance() {
+    final Meter m = getMeter();
+    m.start("Expensive formatting: direct vs memoized");
+
+    final Formatting<String, Double> currency = new Formatting<String, Double>() {
+      @Override
+      public String toView(final Double value) {
+        return String.format(Locale.US, "%,.2f USD", value);
+      }
+
+      @Override
+      public Double toModel(final String value) {
+        throw new UnsupportedOperationException();
+      }
+    };
+    final MemoMold<String, Double> memo = Molds.memoize(currency, Sampling.ITERATIONS_M);
+
+    // recycled adapter rows show the same values again and again
+    final Double[] values = new Double[Sampling.ITERATIONS_S * 5];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i * 1000.25;
+    }
+    m.skip("warm up");
+
+    m.loop(Sampling.ITERATIONS_L, "direct");
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      for (final Double value : values) {
+        currency.toView(value);
+      }
+      m.recap();
+    }
+    m.unloop("direct");
+
+    m.loop(Sampling.ITERATIONS_L, "memoized");
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      for (final Double value : values) {
+        memo.toView(value);
+      }
+      m.recap();
+    }
+    m.unloop("memoized");
+
+    m.finish("memoize");
+
+    assertThat(memo.getCache().getMisses(), equalTo((long) values.length));
+  }
+
+  @Test
+  public void test_16_Directional() throws Exception {
+    final Formatting<String, Integer> both = chain(fromStringToChars(), fromCharsToInteger());
+    final Formatting<String, Integer> pop = onlyPop(both);
+    final Formatting<String, Integer> push = onlyPush(both);
+
+    assertThat(Molds.canPush(both) && Molds.canPop(both), equalTo(true));
+    assertThat(Molds.canPush(null) && Molds.canPop(null), equalTo(true));
+
+    assertThat(Molds.canPush(pop), equalTo(false));
+    assertThat(Molds.canPop(pop), equalTo(true));
+    assertThat(Molds.canPush(push), equalTo(true));
+    assertThat(Molds.canPop(push), equalTo(false));
+
+    // composition keeps restrictions, reverse swaps directions
+    final Formatting<Integer, String> reversed = reverse(pop);
+    assertThat(Molds.canPush(reversed), equalTo(true));
+    assertThat(Molds.canPop(reversed), equalTo(false));
+
+    final Formatting<String, Integer> chained = chain(Molds.<String, String>direct(), pop);
+    assertThat(Molds.canPush(chained), equalTo(false));
+    assertThat(Molds.canPop(chained), equalTo(true));
+
+    final Formatting<String, Integer> memo = Molds.memoize(push, Sampling.ITERATIONS_S);
+    assertThat(Molds.canPush(memo), equalTo(true));
+    assertThat(Molds.canPop(memo), equalTo(false));
+  }
+
+  @Test
+  public void test_17_Memoize_MutableViewValues() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoMold<CharSequence, Integer> memo = Molds.memoize(new Formatting<CharSequence, Integer>() {
+      @Override
+      public CharSequence toView(final Integer value) {
+        calls.incrementAndGet();
+        return String.valueOf(value);
+      }
+
+      @Override
+      public Integer toModel(final CharSequence value) {
+        calls.incrementAndGet();
+        return Integer.valueOf(value.toString());
+      }
+    }, Sampling.ITERATIONS_S);
+
+    // editable text is modified in place after conversion
+    final StringBuilder editable = new StringBuilder("12");
+    assertThat(memo.toModel(editable), equalTo(12));
+
+    editable.append('3');
+    assertThat(memo.toModel(editable), equalTo(123));
+
+    // the same text in another instance is resolved from cache
+    assertThat(memo.toModel(new StringBuilder("12")), equalTo(12));
+    assertThat(memo.toModel("123"), equalTo(123));
+    assertThat(calls.get(), equalTo(2));
+  }
+
+  /** Formatter that counts conversions. */
+  private static Formatting<String, Integer> counting(final AtomicInteger calls) {
+    return new Formatting<String, Integer>() {
+      @Override
+      public String toView(final Integer value) {
+        calls.incrementAndGet();
+        return "#" + value;
+      }
+
+      @Override
+      public Integer toModel(final String value) {
+        calls.incrementAndGet();
+        return Integer.valueOf(value.substring(1));
+      }
+    };
+  }
 }
@@ -0,0 +1,231 @@
+package com.artfulbits.binding.toolbox;
+
+import com.artfulbits.benchmark.Meter;
+import com.artfulbits.binding.Validation;
+import com.artfulbits.junit.Sampling;
+import com.artfulbits.junit.TestHolder;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.artfulbits.binding.Validation.VALID;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/** Unit tests for {@link Rules} class. */
+public class RulesTests extends TestHolder {
+
+  @Test
+  public void test_00_Simple() {
+    assertThat(Rules.<String>none().validate(null), equalTo(VALID));
+    assertThat(Rules.notNull().validate(null), equalTo(Rules.FAILED_NULL));
+    assertThat(Rules.notNull().validate("value"), equalTo(VALID));
+
+    final Validation.Ints ints = Rules.range(1, 10);
+    assertThat(ints.validateInt(1), equalTo(VALID));
+    assertThat(ints.validateInt(10), equalTo(VALID));
+    assertThat(ints.validateInt(11), equalTo(Rules.FAILED_RANGE));
+    assertThat(ints.validate(null), equalTo(Rules.FAILED_NULL));
+
+    final Validation<Double> doubles = Rules.range(0.5, 1.5);
+    assertThat(doubles.validate(1.0), equalTo(VALID));
+    assertThat(doubles.validate(Double.NaN), equalTo(Rules.FAILED_RANGE));
+
+    final Validation<String> length = Rules.length(2, 4);
+    assertThat(length.validate("ab"), equalTo(VALID));
+    assertThat(length.validate("abcde"), equalTo(Rules.FAILED_LENGTH));
+
+    final Validation<CharSequence> pattern = Rules.pattern("[a-z]+-set");
+    assertThat(pattern.validate("value-set"), equalTo(VALID));
+    assertThat(pattern.validate(new StringBuilder("value-set!")), equalTo(Rules.FAILED_PATTERN));
+  }
+
+  @Test
+  public void test_01_Compile() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Validation<String> counting = new Validation<String>() {
+      @Override
+      public int validate(final String value) {
+        calls.incrementAndGet();
+        return VALID;
+      }
+    };
+
+    final Validation<String> inner = Rules.all(Rules.<String>notNull(), Rules.<String>length(1, 3));
+    final Validation<String> rule = Rules.all(Rules.<String>none(), inner, counting);
+
+    // nested composition is flattened
+    assertThat(rule.toString(), equalTo("all[notNull, length[1, 3], " + counting + "]"));
+
+    // first failure stops validation
+    assertThat(rule.validate(null), equalTo(Rules.FAILED_NULL));
+    assertThat(rule.validate("abcd"), equalTo(Rules.FAILED_LENGTH));
+    assertThat(calls.get(), equalTo(0));
+
+    assertThat(rule.validate("abc"), equalTo(VALID));
+    assertThat(calls.get(), equalTo(1));
+
+    // degenerated compositions
+    assertThat(Rules.isNone(Rules.<String>all(Rules.<String>none())), equalTo(true));
+    assertThat(Rules.all(Rules.<String>none(), counting), sameInstance(counting));
+
+    // primitive composition stays primitive
+    final Validation<Integer> ints = Rules.all(Rules.range(0, 100), Rules.range(10, 20));
+    assertThat(ints, instanceOf(Validation.Ints.class));
+    assertThat(((Validation.Ints) ints).validateInt(30), equalTo(Rules.FAILED_RANGE));
+    assertThat(((Validation.Ints) ints).validateInt(15), equalTo(VALID));
+  }
+
+  @Test
+  public void test_02_Codes_And_Hamcrest() {
+    final Validation<String> coded = Rules.code(100, Rules.<String>length(0, 1));
+    assertThat(coded.validate("a"), equalTo(VALID));
+    assertThat(coded.validate("ab"), equalTo(100));
+
+    final Validation<String> adapter = Rules.from(allOf(notNullValue(), containsString("-set")));
+    assertThat(adapter.validate("value-set"), equalTo(VALID));
+    assertThat(adapter.validate("value"), equalTo(Rules.FAILED_MATCHER));
+
+    try {
+      Rules.code(VALID, coded);
+      fail("exception expected!");
+    } catch (final IllegalArgumentException ignored) {
+      // expected
+    }
+  }
+
+  @Test
+  public void test_03_Performance_VsHamcrest() {
+    final Meter m = getMeter();
+    m.start("Validation: hamcrest matchers vs compiled rules");
+
+    final Matcher<String> matcher = allOf(notNullValue(), containsString("-set"), not(isEmptyString()));
+    final Validation<String> rule = Rules.all(Rules.<String>notNull(), Rules.<String>pattern(".*-set.*"),
+        Rules.<String>length(1, Integer.MAX_VALUE));
+
+    final String[] values = new String[Sampling.ITERATIONS_M];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (0 == i % 2) ? "value-" + i + "-set" : "value-" + i;
+    }
+    m.skip("warm up");
+
+    int matched = 0;
+
+    m.loop(Sampling.ITERATIONS_L, "hamcrest");
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      for (final String value : values) {
+        matched += matcher.matches(value) ? 1 : 0;
+      }
+      m.recap();
+    }
+    m.unloop("hamcrest");
+
+    int valid = 0;
+
+    m.loop(Sampling.ITERATIONS_L, "compiled");
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      for (final String value : values) {
+        valid += (VALID == rule.validate(value)) ? 1 : 0;
+      }
+      m.recap();
+    }
+    m.unloop("compiled");
+
+    m.finish("validation");
+
+    assertThat(valid, equalTo(matched));
+  }
+
+  @Test
+  public void test_04_Async_Cache() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Schedulers.Virtual scheduler = Schedulers.virtual();
+    final AsyncRule<String> rule = new AsyncRule<>(Rules.code(7, new Validation<String>() {
+      @Override
+      public int validate(final String value) {
+        calls.incrementAndGet();
+        return (null == value) ? Rules.FAILED_NULL : VALID;
+      }
+    }), scheduler, scheduler, 2);
+
+    assertThat(rule.cached("a"), equalTo(AsyncRule.UNKNOWN));
+    assertThat(rule.validate("a"), equalTo(VALID));
+    assertThat(rule.validate(null), equalTo(7));
+    assertThat(rule.cached("a"), equalTo(VALID));
+    assertThat(rule.cached(null), equalTo(7));
+    assertThat(calls.get(), equalTo(2));
+
+    // capacity 2: the least recently used result is dropped
+    rule.validate("b");
+    assertThat(rule.size(), equalTo(2));
+    assertThat(rule.cached("a"), equalTo(AsyncRule.UNKNOWN));
+
+    rule.clear();
+    assertThat(rule.size(), equalTo(0));
+  }
+
+  @Test
+  public void test_05_Async_Composition() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Schedulers.Virtual worker = Schedulers.virtual();
+    final Schedulers.Virtual main = Schedulers.virtual();
+    final AsyncRule<String> unique = Rules.async(new Validation<String>() {
+      @Override
+      public int validate(final String value) {
+        calls.incrementAndGet();
+        return "taken".equals(value) ? Rules.FAILED_MATCHER : VALID;
+      }
+    }, worker, main);
+
+    // composition with expensive rule stays asynchronous
+    final Validation<String> rule = Rules.all(Rules.<String>notNull(), unique);
+    assertThat(rule, instanceOf(AsyncRule.class));
+
+    final AsyncRule<String> async = (AsyncRule<String>) rule;
+    assertThat(async.getWorker(), sameInstance((Object) worker));
+    assertThat(async.getMain(), sameInstance((Object) main));
+    assertThat(async.cached("taken"), equalTo(AsyncRule.UNKNOWN));
+
+    // all rules of the composition are checked in order
+    assertThat(async.validate(null), equalTo(Rules.FAILED_NULL));
+    assertThat(async.validate("taken"), equalTo(Rules.FAILED_MATCHER));
+    assertThat(async.validate("free"), equalTo(VALID));
+    assertThat(calls.get(), equalTo(2));
+  }
+
+  @Test
+  public void test_06_Async_MutableValues() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Schedulers.Virtual scheduler = Schedulers.virtual();
+    final AsyncRule<Object> rule = new AsyncRule<>(new Validation<Object>() {
+      @Override
+      public int validate(final Object value) {
+        calls.incrementAndGet();
+        return String.valueOf(value).startsWith("a") ? VALID : Rules.FAILED_MATCHER;
+      }
+    }, scheduler, scheduler, 8);
+
+    // text is cached by snapshot, modification after validation does not change cached result
+    final StringBuilder text = new StringBuilder("abc");
+    assertThat(rule.validate(text), equalTo(VALID));
+
+    text.setCharAt(0, 'x');
+    assertThat(rule.cached(text), equalTo(AsyncRule.UNKNOWN));
+    assertThat(rule.validate(text), equalTo(Rules.FAILED_MATCHER));
+    assertThat(rule.cached("abc"), equalTo(VALID));
+    assertThat(rule.cached("xbc"), equalTo(Rules.FAILED_MATCHER));
+
+    // other mutable values are validated without caching
+    final List<String> list = new ArrayList<>(Collections.singletonList("a"));
+    assertThat(rule.validate(list), equalTo(Rules.FAILED_MATCHER));
+    assertThat(rule.validate(list), equalTo(Rules.FAILED_MATCHER));
+    assertThat(rule.cached(list), equalTo(AsyncRule.UNKNOWN));
+    assertThat(calls.get(), equalTo(4));
+    assertThat(rule.size(), equalTo(2));
+  }
+}
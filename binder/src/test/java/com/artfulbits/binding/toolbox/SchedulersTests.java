@@ -0,0 +1,182 @@
+package com.artfulbits.binding.toolbox;
+
+import com.artfulbits.binding.Scheduler;
+import com.artfulbits.junit.Sampling;
+import com.artfulbits.junit.TestHolder;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/** Unit tests of the {@link Schedulers} class. */
+public class SchedulersTests extends TestHolder {
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_Virtual_Order() {
+    final Schedulers.Virtual scheduler = Schedulers.virtual();
+    final List<String> log = new ArrayList<>();
+
+    scheduler.schedule(record(log, "c", scheduler), 20);
+    scheduler.schedule(record(log, "a", scheduler), 0);
+    scheduler.schedule(record(log, "b1", scheduler), 10);
+    scheduler.schedule(record(log, "b2", scheduler), 10);
+
+    assertThat(scheduler.runPending(), equalTo(1));
+    assertThat(log, contains("a@0"));
+
+    assertThat(scheduler.advance(15), equalTo(2));
+    assertThat(log, contains("a@0", "b1@10", "b2@10"));
+    assertThat(scheduler.now(), equalTo(15L));
+
+    assertThat(scheduler.advance(100), equalTo(1));
+    assertThat(log, contains("a@0", "b1@10", "b2@10", "c@20"));
+    assertThat(scheduler.now(), equalTo(115L));
+  }
+
+  @Test
+  public void test_01_Virtual_Cancel_And_Reentrance() {
+    final Schedulers.Virtual scheduler = Schedulers.virtual();
+    final List<String> log = new ArrayList<>();
+    final Runnable cancelled = record(log, "cancelled", scheduler);
+
+    scheduler.schedule(cancelled, 5);
+    scheduler.schedule(cancelled, 10);
+    scheduler.schedule(new Runnable() {
+      @Override
+      public void run() {
+        // task scheduled during execution with zero delay is executed in the same pass
+        scheduler.schedule(record(log, "nested", scheduler), 0);
+      }
+    }, 0);
+
+    scheduler.cancel(cancelled);
+    assertThat(scheduler.size(), equalTo(1));
+
+    assertThat(scheduler.advance(20), equalTo(2));
+    assertThat(log, contains("nested@0"));
+  }
+
+  @Test
+  public void test_02_Executor() throws Exception {
+    final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    try {
+      final Scheduler scheduler = Schedulers.executor(executor);
+      final CountDownLatch done = new CountDownLatch(1);
+      final List<String> log = new ArrayList<>();
+      final Runnable cancelled = record(log, "cancelled", scheduler);
+
+      scheduler.schedule(cancelled, 200);
+      scheduler.cancel(cancelled);
+      scheduler.schedule(new Runnable() {
+        @Override
+        public void run() {
+          done.countDown();
+        }
+      }, 0);
+
+      assertThat(done.await(1, TimeUnit.SECONDS), equalTo(true));
+
+      executor.shutdown();
+      assertThat(executor.awaitTermination(1, TimeUnit.SECONDS), equalTo(true));
+      assertThat(log, empty());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void test_03_Executor_Serial() throws Exception {
+    final ScheduledExecutorService executor = Executors.newScheduledThreadPool(4);
+
+    try {
+      final Scheduler scheduler = Schedulers.executor(executor);
+      final CountDownLatch done = new CountDownLatch(Sampling.ITERATIONS_L);
+      final AtomicInteger active = new AtomicInteger();
+      final AtomicInteger overlaps = new AtomicInteger();
+      final int[] counter = new int[1];
+
+      for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+        final boolean isFailure = (0 == i % 100);
+
+        scheduler.schedule(new Runnable() {
+          @Override
+          public void run() {
+            if (0 != active.getAndIncrement()) overlaps.incrementAndGet();
+
+            counter[0]++; // not synchronized, relies on serial execution
+            active.decrementAndGet();
+            done.countDown();
+
+            // failed task does not stop the queue
+            if (isFailure) throw new IllegalStateException("expected");
+          }
+        }, 0);
+      }
+
+      assertThat(done.await(5, TimeUnit.SECONDS), equalTo(true));
+      assertThat(overlaps.get(), equalTo(0));
+      assertThat(counter[0], equalTo(Sampling.ITERATIONS_L));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void test_04_Executor_CancelAllSchedules() throws Exception {
+    final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    try {
+      final Scheduler scheduler = Schedulers.executor(executor);
+      final CountDownLatch executed = new CountDownLatch(2);
+      final Runnable task = new Runnable() {
+        @Override
+        public void run() {
+          executed.countDown();
+        }
+      };
+
+      // the earliest schedule is executed, all later schedules are cancelled, not only the latest one
+      scheduler.schedule(task, 0);
+      scheduler.schedule(task, 200);
+      scheduler.schedule(task, 300);
+
+      for (int i = 0; i < 100 && 2 == executed.getCount(); i++) {
+        Thread.sleep(10);
+      }
+
+      scheduler.cancel(task);
+
+      Thread.sleep(500);
+      assertThat(executed.getCount(), equalTo(1L));
+
+      // new schedule of the cancelled task is executed
+      scheduler.schedule(task, 0);
+      assertThat(executed.await(1, TimeUnit.SECONDS), equalTo(true));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Create task that records own name and time of execution. */
+  private static Runnable record(final List<String> log, final String name, final Scheduler scheduler) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        log.add(name + "@" + scheduler.now());
+      }
+    };
+  }
+}
@@ -1,13 +1,18 @@
 package com.artfulbits.binding.toolbox;
 
+import com.artfulbits.benchmark.Meter;
+import com.artfulbits.binding.Binder;
 import com.artfulbits.binding.Selector;
+import com.artfulbits.binding.Versioned;
 import com.artfulbits.binding.reflection.Entry;
 import com.artfulbits.binding.reflection.Property;
 import com.artfulbits.binding.reflection.ReflectionUtils;
+import com.artfulbits.junit.Sampling;
 import com.artfulbits.junit.TestHolder;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.Matchers.*;
@@ -78,6 +83,71 @@ public class SpecialCasesTests extends TestHolder {
     assertThat(lines[5], containsString("mDestination(class java.lang.Object, boolean)"));
   }
 
+  @Test
+  public void test_02_VersionedRidge() {
+    final Binder.Ridge<Object> ridge = Ridges.versioned();
+    final Tracks tracks = new Tracks();
+
+    assertThat(ridge.isChanged(tracks), equalTo(true));
+    assertThat(ridge.clone(tracks), sameInstance((Object) tracks));
+    assertThat(ridge.isChanged(tracks), equalTo(false));
+
+    // in-place modification is detected without copy of the value
+    tracks.add("track");
+    assertThat(ridge.isChanged(tracks), equalTo(true));
+    ridge.clone(tracks);
+
+    // other instance with the same version is a change too
+    assertThat(ridge.isChanged(new Tracks()), equalTo(true));
+
+    // not versioned values processed by simplest strategy
+    assertThat(ridge.isChanged("text"), equalTo(true));
+    ridge.clone("text");
+    assertThat(ridge.isChanged("text"), equalTo(false));
+    assertThat(ridge.isChanged(tracks), equalTo(true));
+  }
+
+  @Test
+  public void test_03_VersionedRidge_Performance() {
+    final Meter m = getMeter();
+    m.start("Change detection of list with " + Sampling.ITERATIONS_XL + " items: equals() vs version stamp");
+
+    final Tracks tracks = new Tracks();
+    for (int i = 0; i < Sampling.ITERATIONS_XL; i++) {
+      tracks.add("track-" + i);
+    }
+
+    final Binder.Ridge<Object> simplest = Ridges.simplest();
+    final Binder.Ridge<Object> versioned = Ridges.versioned();
+    simplest.clone(tracks);
+    versioned.clone(tracks);
+    m.skip("ridges initialized");
+
+    m.loop(Sampling.ITERATIONS_L, "equals");
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      assertThat(simplest.isChanged(tracks), equalTo(false));
+      m.recap();
+    }
+    m.unloop("equals");
+
+    m.loop(Sampling.ITERATIONS_L, "version");
+    for (int i = 0; i < Sampling.ITERATIONS_L; i++) {
+      assertThat(versioned.isChanged(tracks), equalTo(false));
+      m.recap();
+    }
+    m.unloop("version");
+
+    m.finish("versioned ridge");
+  }
+
+  /** List that counts own modifications. */
+  public static class Tracks extends ArrayList<String> implements Versioned {
+    @Override
+    public long getVersion() {
+      return modCount;
+    }
+  }
+
   public static class BoxedFields {
     public Long mLongBoxed;
     public Object mDestination;
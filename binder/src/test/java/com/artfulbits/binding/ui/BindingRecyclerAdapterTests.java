@@ -0,0 +1,251 @@
+package com.artfulbits.binding.ui;
+
+import android.support.annotation.NonNull;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.artfulbits.binding.BindingsManager;
+import com.artfulbits.binding.Selector;
+import com.artfulbits.binding.toolbox.Models;
+import com.artfulbits.binding.toolbox.Schedulers;
+import com.artfulbits.junit.TestHolder;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.artfulbits.binding.toolbox.Models.pojo;
+import static com.artfulbits.binding.toolbox.Models.text;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/** Unit tests of the {@link BindingRecyclerAdapter} class, executed without UI on virtual time scheduler. */
+public class BindingRecyclerAdapterTests extends TestHolder {
+  /* [ TESTS ] ===================================================================================================== */
+
+  @Test
+  public void test_00_Payloads_PopOnlyAffectedBinders() {
+    final Person first = new Person("John", "Kyiv");
+    final Person second = new Person("Jane", "Lviv");
+    final BindingRecyclerAdapter<Holder> adapter = newAdapter(new Persons(Arrays.asList(first, second)));
+
+    final Holder holder = adapter.onCreateViewHolder(null, 0);
+    assertThat(adapter.getBindingsManager(holder), notNullValue());
+
+    // first bind pops everything
+    adapter.onBindViewHolder(holder, 0);
+    assertThat(holder.target.getName(), equalTo("John"));
+    assertThat(holder.target.getCity(), equalTo("Kyiv"));
+    assertThat(adapter.getFullPops(), equalTo(1L));
+
+    // payload pops only binders of the changed property
+    first.reset();
+    first.mName = "John Doe";
+    adapter.onBindViewHolder(holder, 0, Collections.<Object>singletonList("Name"));
+
+    assertThat(holder.target.getName(), equalTo("John Doe"));
+    assertThat(first.mNameReads, equalTo(1));
+    assertThat(first.mCityReads, equalTo(0));
+    assertThat(adapter.getPartialPops(), equalTo(1L));
+
+    // collection of keys and several payloads
+    first.reset();
+    adapter.onBindViewHolder(holder, 0, Arrays.<Object>asList(Collections.singletonList("City"), "Name"));
+    assertThat(first.mNameReads, equalTo(1));
+    assertThat(first.mCityReads, equalTo(1));
+    assertThat(adapter.getPartialPops(), equalTo(2L));
+
+    // not declared key, full pop
+    adapter.onBindViewHolder(holder, 0, Collections.<Object>singletonList("Unknown"));
+    assertThat(adapter.getFullPops(), equalTo(2L));
+
+    // recycled holder shows another item, full pop even with payload
+    adapter.onBindViewHolder(holder, 1, Collections.<Object>singletonList("Name"));
+    assertThat(holder.target.getName(), equalTo("Jane"));
+    assertThat(holder.target.getCity(), equalTo("Lviv"));
+    assertThat(adapter.getFullPops(), equalTo(3L));
+  }
+
+  @Test
+  public void test_01_HolderScopedManagers() {
+    final Persons persons = new Persons(Arrays.asList(new Person("John", "Kyiv"), new Person("Jane", "Lviv")));
+    final BindingRecyclerAdapter<Holder> adapter = newAdapter(persons);
+
+    final Holder a = adapter.onCreateViewHolder(null, 0);
+    final Holder b = adapter.onCreateViewHolder(null, 0);
+    assertThat(adapter.getBindingsManager(a), not(sameInstance(adapter.getBindingsManager(b))));
+
+    adapter.onBindViewHolder(a, 0);
+    adapter.onBindViewHolder(b, 1);
+
+    assertThat(a.target.getName(), equalTo("John"));
+    assertThat(b.target.getName(), equalTo("Jane"));
+  }
+
+  @Test
+  public void test_02_ForwardNotifications() {
+    final Persons persons = new Persons(Collections.singletonList(new Person("John", "Kyiv")));
+    final BindingRecyclerAdapter<Holder> adapter = newAdapter(persons);
+    final RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+
+    adapter.registerAdapterDataObserver(observer);
+
+    persons.notifyItemChanged(0, "Name");
+    persons.notifyItemInserted(1);
+
+    verify(observer).onItemRangeChanged(0, 1, "Name");
+    verify(observer).onItemRangeInserted(1, 1);
+    assertThat(adapter.getItemCount(), equalTo(1));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void test_03_ForwardMoves() {
+    final RecyclerView.Adapter<Holder> source = mock(RecyclerView.Adapter.class);
+    final Persons persons = new Persons(Collections.singletonList(new Person("John", "Kyiv")));
+    final BindingRecyclerAdapter<Holder> adapter = new BindingRecyclerAdapter<>(source, persons,
+        Schedulers.virtual(), null);
+    final RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+
+    final ArgumentCaptor<RecyclerView.AdapterDataObserver> forwarder =
+        ArgumentCaptor.forClass(RecyclerView.AdapterDataObserver.class);
+    verify(source).registerAdapterDataObserver(forwarder.capture());
+    adapter.registerAdapterDataObserver(observer);
+
+    // single item move is forwarded as is
+    forwarder.getValue().onItemRangeMoved(0, 3, 1);
+    verify(observer).onItemRangeMoved(0, 3, 1);
+
+    // block move can not be expressed by moves of one item
+    forwarder.getValue().onItemRangeMoved(0, 3, 2);
+    verify(observer).onChanged();
+    verifyNoMoreInteractions(observer);
+  }
+
+  /* [ IMPLEMENTATION & HELPERS ] ================================================================================== */
+
+  /** Create adapter with name and city binders. */
+  private static BindingRecyclerAdapter<Holder> newAdapter(final Persons persons) {
+    return new BindingRecyclerAdapter<>(persons, persons, Schedulers.virtual(), new BindingAdapter.Lifecycle() {
+      @Override
+      public void onCreateBinding(@NonNull final BindingsManager bm,
+                                  @NonNull final Selector<?, View> getView,
+                                  @NonNull final Selector<?, Object> getModel) {
+        // row view keeps target in tag
+        final Selector<?, Object> target = pojo(getView, Models.call("getTag"));
+
+        BindingRecyclerAdapter.affects(bm.bind(pojo(target, text("Name")), pojo(getModel, text("Name"))), "Name");
+        BindingRecyclerAdapter.affects(bm.bind(pojo(target, text("City")), pojo(getModel, text("City"))), "City");
+      }
+    });
+  }
+
+	/* [ NESTED DECLARATIONS ] ======================================================================================= */
+
+  /** Model that counts reads of the properties. */
+  public static final class Person {
+    String mName;
+    String mCity;
+    int mNameReads;
+    int mCityReads;
+
+    public Person(final String name, final String city) {
+      mName = name;
+      mCity = city;
+    }
+
+    public String getName() {
+      mNameReads++;
+      return mName;
+    }
+
+    public void setName(final String name) {
+      mName = name;
+    }
+
+    public String getCity() {
+      mCityReads++;
+      return mCity;
+    }
+
+    public void setCity(final String city) {
+      mCity = city;
+    }
+
+    void reset() {
+      mNameReads = 0;
+      mCityReads = 0;
+    }
+  }
+
+  /** Row 'view' target. */
+  public static final class Target {
+    private String mName;
+    private String mCity;
+
+    public String getName() {
+      return mName;
+    }
+
+    public void setName(final String name) {
+      mName = name;
+    }
+
+    public String getCity() {
+      return mCity;
+    }
+
+    public void setCity(final String city) {
+      mCity = city;
+    }
+  }
+
+  /** View holder with mocked item view. */
+  public static final class Holder extends RecyclerView.ViewHolder {
+    final Target target;
+
+    public Holder(final View itemView, final Target target) {
+      super(itemView);
+
+      this.target = target;
+    }
+  }
+
+  /** Wrapped adapter, source of the items. */
+  public static final class Persons extends RecyclerView.Adapter<Holder> implements BindingRecyclerAdapter.Items {
+    private final List<Person> mItems;
+
+    public Persons(final List<Person> items) {
+      mItems = items;
+    }
+
+    @Override
+    public Holder onCreateViewHolder(final ViewGroup parent, final int viewType) {
+      final Target target = new Target();
+      final View view = mock(View.class);
+      when(view.getTag()).thenReturn(target);
+
+      return new Holder(view, target);
+    }
+
+    @Override
+    public void onBindViewHolder(final Holder holder, final int position) {
+      // all data exchange is done by binding
+    }
+
+    @Override
+    public int getItemCount() {
+      return mItems.size();
+    }
+
+    @Override
+    public Object getItem(final int position) {
+      return mItems.get(position);
+    }
+  }
+}